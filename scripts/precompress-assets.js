@@ -0,0 +1,56 @@
+const fs = require('fs');
+const path = require('path');
+const zlib = require('zlib');
+
+// Precompress static assets so Spring's EncodedResourceResolver can serve .br/.gz variants
+const staticDir = path.join(
+  __dirname,
+  '..',
+  'src',
+  'main',
+  'resources',
+  'static'
+);
+
+const COMPRESSIBLE = new Set(['.css', '.js', '.svg', '.json', '.txt', '.xml']);
+const MIN_SIZE_BYTES = 1024;
+
+function collectFiles(dir) {
+  return fs.readdirSync(dir, { withFileTypes: true }).flatMap((entry) => {
+    const fullPath = path.join(dir, entry.name);
+    if (entry.isDirectory()) {
+      return collectFiles(fullPath);
+    }
+    return COMPRESSIBLE.has(path.extname(entry.name)) ? [fullPath] : [];
+  });
+}
+
+function compress(file) {
+  const source = fs.readFileSync(file);
+  if (source.length < MIN_SIZE_BYTES) {
+    return false;
+  }
+
+  const gzip = zlib.gzipSync(source, { level: zlib.constants.Z_BEST_COMPRESSION });
+  const brotli = zlib.brotliCompressSync(source, {
+    params: {
+      [zlib.constants.BROTLI_PARAM_MODE]: zlib.constants.BROTLI_MODE_TEXT,
+      [zlib.constants.BROTLI_PARAM_QUALITY]: zlib.constants.BROTLI_MAX_QUALITY,
+      [zlib.constants.BROTLI_PARAM_SIZE_HINT]: source.length
+    }
+  });
+
+  fs.writeFileSync(`${file}.gz`, gzip);
+  fs.writeFileSync(`${file}.br`, brotli);
+  console.log(`  ${path.relative(staticDir, file)}: ${source.length} B -> gz ${gzip.length} B, br ${brotli.length} B`);
+  return true;
+}
+
+try {
+  const files = collectFiles(staticDir);
+  const compressed = files.filter(compress).length;
+  console.log(`✓ Precompressed ${compressed} static asset(s)`);
+} catch (error) {
+  console.error('✗ Failed to precompress static assets:', error.message);
+  process.exit(1);
+}
@@ -0,0 +1,23 @@
+package pl.klastbit.lexpage.application.article;
+
+import pl.klastbit.lexpage.application.article.command.BatchArticleCommand;
+import pl.klastbit.lexpage.application.article.dto.BatchArticleResultDto;
+
+import java.util.List;
+
+/**
+ * Use case for publishing, archiving, unpublishing or deleting several articles at once.
+ * Inbound port in Hexagonal Architecture.
+ */
+public interface BatchArticleUseCase {
+
+    /**
+     * Applies the action to every listed article in one transaction.
+     * Articles that are missing or whose status does not allow the action are reported
+     * as failed; the others are changed.
+     *
+     * @param command Action and article IDs
+     * @return One result per distinct article ID, in request order
+     */
+    List<BatchArticleResultDto> execute(BatchArticleCommand command);
+}
@@ -0,0 +1,19 @@
+package pl.klastbit.lexpage.application.article;
+
+import pl.klastbit.lexpage.application.article.dto.ArticleTransferRecord;
+
+import java.util.function.Consumer;
+
+/**
+ * Use case for exporting all articles.
+ * Inbound port in Hexagonal Architecture.
+ */
+public interface ExportArticlesUseCase {
+
+    /**
+     * Streams all non-deleted articles ordered by ID.
+     *
+     * @param consumer Receives each article while the export runs
+     */
+    void execute(Consumer<ArticleTransferRecord> consumer);
+}
@@ -0,0 +1,19 @@
+package pl.klastbit.lexpage.application.article;
+
+import pl.klastbit.lexpage.application.article.dto.ArticleFacetsDto;
+import pl.klastbit.lexpage.domain.article.ArticleSearchCriteria;
+
+/**
+ * Use case for counting articles per filter value (faceted search).
+ * Inbound port in Hexagonal Architecture.
+ */
+public interface GetArticleFacetsUseCase {
+
+    /**
+     * Counts the articles matching the criteria per status, author, SEO keyword and creation month.
+     *
+     * @param criteria Filters of the current article list
+     * @return Facet counts for the filtered articles
+     */
+    ArticleFacetsDto execute(ArticleSearchCriteria criteria);
+}
@@ -0,0 +1,21 @@
+package pl.klastbit.lexpage.application.article;
+
+import pl.klastbit.lexpage.application.article.dto.ArticleDetailDto;
+
+import java.util.List;
+
+/**
+ * Use case for retrieving the most recently published articles with full content.
+ * Used by syndication feeds (RSS/Atom).
+ * Inbound port in Hexagonal Architecture.
+ */
+public interface GetLatestPublishedArticlesUseCase {
+
+    /**
+     * Retrieves the newest published articles ordered by publication date (newest first).
+     *
+     * @param limit Maximum number of articles
+     * @return Article details including rendered HTML content
+     */
+    List<ArticleDetailDto> execute(int limit);
+}
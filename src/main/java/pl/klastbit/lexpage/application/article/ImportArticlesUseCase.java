@@ -0,0 +1,24 @@
+package pl.klastbit.lexpage.application.article;
+
+import pl.klastbit.lexpage.application.article.dto.ArticleImportResultDto;
+import pl.klastbit.lexpage.application.article.dto.ArticleTransferRecord;
+
+import java.util.Iterator;
+import java.util.UUID;
+
+/**
+ * Use case for importing many articles at once.
+ * Inbound port in Hexagonal Architecture.
+ */
+public interface ImportArticlesUseCase {
+
+    /**
+     * Imports all valid records as new articles in one transaction.
+     * Invalid records are skipped; taken slugs get a suffix.
+     *
+     * @param records    Records to import, consumed once
+     * @param importedBy ID of the user who becomes the author of the imported articles
+     * @return Import counts
+     */
+    ArticleImportResultDto execute(Iterator<ArticleTransferRecord> records, UUID importedBy);
+}
@@ -0,0 +1,16 @@
+package pl.klastbit.lexpage.application.article;
+
+/**
+ * Use case for computing search lexemes of articles that do not have them yet.
+ * Inbound port in Hexagonal Architecture.
+ */
+public interface IndexArticlesForSearchUseCase {
+
+    /**
+     * Indexes up to {@code batchSize} articles without search lexemes in one transaction.
+     *
+     * @param batchSize Maximum number of articles to index
+     * @return Number of indexed articles; less than {@code batchSize} when none are left
+     */
+    int execute(int batchSize);
+}
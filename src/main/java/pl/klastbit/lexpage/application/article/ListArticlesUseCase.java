@@ -3,9 +3,12 @@ package pl.klastbit.lexpage.application.article;
 import org.springframework.data.domain.Pageable;
 import pl.klastbit.lexpage.application.article.dto.ArticleListItemDto;
 import pl.klastbit.lexpage.application.article.dto.PageDto;
+import pl.klastbit.lexpage.domain.article.ArticleSearchCriteria;
 import pl.klastbit.lexpage.domain.article.ArticleStatus;
 import pl.klastbit.lexpage.domain.user.UserId;
 
+import java.util.List;
+
 /**
  * Use case for listing articles with filtering, sorting, and pagination.
  * Inbound port in Hexagonal Architecture.
@@ -14,6 +17,7 @@ public interface ListArticlesUseCase {
 
     /**
      * Lists articles with optional filtering by status, author, and keyword.
+     * Shortcut for {@link #search(ArticleSearchCriteria, Pageable)}.
      *
      * @param status   Optional status filter (DRAFT, PUBLISHED, ARCHIVED)
      * @param authorId Optional author ID filter
@@ -27,4 +31,24 @@ public interface ListArticlesUseCase {
             String keyword,
             Pageable pageable
     );
+
+    /**
+     * Lists articles matching all given filters (status, author, full-text keyword, creation date
+     * range and SEO keywords) with a single query. When a keyword finds (almost) nothing, the search
+     * is repeated tolerant of typos and the results are ranked by similarity instead of the given sort.
+     *
+     * @param criteria Filters
+     * @param pageable Pagination and sorting parameters (sortable fields: createdAt, publishedAt)
+     * @return Page of article list items
+     * @throws IllegalArgumentException if the sort is not supported
+     */
+    PageDto<ArticleListItemDto> search(ArticleSearchCriteria criteria, Pageable pageable);
+
+    /**
+     * Loads several non-deleted articles by ID with one query.
+     *
+     * @param ids Article IDs
+     * @return Found articles in the order of the given IDs; missing IDs are skipped
+     */
+    List<ArticleListItemDto> findByIds(List<Long> ids);
 }
@@ -0,0 +1,32 @@
+package pl.klastbit.lexpage.application.article;
+
+import pl.klastbit.lexpage.application.article.dto.ScheduledPublicationDto;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Use case driving scheduled publications: lists upcoming ones and publishes those that are due.
+ * Inbound port in Hexagonal Architecture.
+ */
+public interface PublishScheduledArticlesUseCase {
+
+    /**
+     * Publishes all given articles whose scheduled time is not after {@code asOf}, in one transaction.
+     * Articles that were rescheduled, cancelled or published in the meantime are skipped.
+     *
+     * @param articleIds IDs of articles expected to be due
+     * @param asOf       scheduled time being fired
+     * @return IDs of articles that were published
+     */
+    List<Long> execute(Collection<Long> articleIds, LocalDateTime asOf);
+
+    /**
+     * Lists scheduled publications up to the given time (including overdue ones), earliest first.
+     *
+     * @param until upper bound of the scheduled time
+     * @return scheduled publications
+     */
+    List<ScheduledPublicationDto> findUpcoming(LocalDateTime until);
+}
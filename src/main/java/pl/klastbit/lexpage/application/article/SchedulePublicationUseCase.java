@@ -0,0 +1,29 @@
+package pl.klastbit.lexpage.application.article;
+
+import pl.klastbit.lexpage.application.article.dto.ArticleDetailDto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Use case for scheduling an article to be published at a given time.
+ * Inbound port in Hexagonal Architecture.
+ */
+public interface SchedulePublicationUseCase {
+
+    /**
+     * Schedules (or reschedules) publication of a draft or archived article.
+     *
+     * @param articleId ID of the article to schedule
+     * @param publishAt future time the article goes live
+     * @return Scheduled article details
+     */
+    ArticleDetailDto execute(Long articleId, LocalDateTime publishAt);
+
+    /**
+     * Cancels the scheduled publication of an article, if any.
+     *
+     * @param articleId ID of the article
+     * @return Article details
+     */
+    ArticleDetailDto cancel(Long articleId);
+}
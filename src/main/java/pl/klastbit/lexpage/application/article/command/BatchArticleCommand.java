@@ -0,0 +1,20 @@
+package pl.klastbit.lexpage.application.article.command;
+
+import java.util.List;
+
+/**
+ * Command for applying one status action to several articles at once.
+ * Immutable command object (Record) following CQRS pattern.
+ */
+public record BatchArticleCommand(
+        Action action,
+        List<Long> articleIds
+) {
+
+    public enum Action {
+        PUBLISH,
+        ARCHIVE,
+        UNPUBLISH,
+        DELETE
+    }
+}
@@ -20,6 +20,7 @@ public record ArticleDetailDto(
         String authorId,
         String authorName,
         LocalDateTime publishedAt,
+        LocalDateTime scheduledPublishAt,
         String metaTitle,
         String metaDescription,
         String ogImageUrl,
@@ -58,6 +59,7 @@ public record ArticleDetailDto(
                 article.getAuthorId() != null ? article.getAuthorId().userid().toString() : null,
                 authorName,
                 article.getPublishedAt(),
+                article.getScheduledPublishAt(),
                 article.getMetaTitle(),
                 article.getMetaDescription(),
                 article.getOgImageUrl(),
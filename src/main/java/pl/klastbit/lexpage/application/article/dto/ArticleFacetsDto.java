@@ -0,0 +1,32 @@
+package pl.klastbit.lexpage.application.article.dto;
+
+import java.util.List;
+
+/**
+ * DTO with article counts per filter value for the current filters.
+ * Immutable data transfer object (Record) for read operations.
+ *
+ * @param total    Number of matching articles
+ * @param statuses Counts per status
+ * @param authors  Counts per author (value is the author ID, label the username)
+ * @param keywords Counts per SEO keyword
+ * @param months   Counts per creation month (yyyy-MM), newest first
+ */
+public record ArticleFacetsDto(
+        long total,
+        List<FacetValue> statuses,
+        List<FacetValue> authors,
+        List<FacetValue> keywords,
+        List<FacetValue> months
+) {
+
+    /**
+     * Single filter value with the number of matching articles.
+     */
+    public record FacetValue(
+            String value,
+            String label,
+            long count
+    ) {
+    }
+}
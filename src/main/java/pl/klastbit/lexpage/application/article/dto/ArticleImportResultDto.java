@@ -0,0 +1,18 @@
+package pl.klastbit.lexpage.application.article.dto;
+
+/**
+ * DTO with the outcome of a bulk article import.
+ * Immutable data transfer object (Record).
+ *
+ * @param received     Number of records read from the input
+ * @param imported     Number of articles created
+ * @param skipped      Number of invalid records that were not imported
+ * @param renamedSlugs Number of imported articles whose slug was taken and got a suffix
+ */
+public record ArticleImportResultDto(
+        long received,
+        long imported,
+        long skipped,
+        long renamedSlugs
+) {
+}
@@ -0,0 +1,15 @@
+package pl.klastbit.lexpage.application.article.dto;
+
+/**
+ * Validated and completed import record together with its search lexemes, as handed to the store.
+ * The lexemes are computed by the application (PolishTextAnalyzer), so imported articles are
+ * searchable right away, without waiting for the indexing job.
+ *
+ * @param article       Completed record (valid, with a slug)
+ * @param searchLexemes Lexemes of the title and content
+ */
+public record ArticleImportRow(
+        ArticleTransferRecord article,
+        String searchLexemes
+) {
+}
@@ -0,0 +1,42 @@
+package pl.klastbit.lexpage.application.article.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Article as written by the export and read by the bulk import (one NDJSON line).
+ * Immutable data transfer object (Record).
+ * <p>
+ * IDs and authors are not transferred: imported articles get new IDs and the importing user
+ * as author.
+ *
+ * @param title           Article title
+ * @param slug            URL slug (generated from the title when empty)
+ * @param content         Article content
+ * @param excerpt         Short summary
+ * @param status          DRAFT, PUBLISHED or ARCHIVED (DRAFT when empty)
+ * @param publishedAt     Publication time
+ * @param metaTitle       SEO meta title
+ * @param metaDescription SEO meta description
+ * @param ogImageUrl      Open Graph image URL
+ * @param canonicalUrl    Canonical URL
+ * @param keywords        SEO keywords
+ * @param createdAt       Creation time (import time when empty)
+ * @param updatedAt       Last modification time (creation time when empty)
+ */
+public record ArticleTransferRecord(
+        String title,
+        String slug,
+        String content,
+        String excerpt,
+        String status,
+        LocalDateTime publishedAt,
+        String metaTitle,
+        String metaDescription,
+        String ogImageUrl,
+        String canonicalUrl,
+        List<String> keywords,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,29 @@
+package pl.klastbit.lexpage.application.article.dto;
+
+import pl.klastbit.lexpage.domain.article.Article;
+import pl.klastbit.lexpage.domain.article.ArticleStatus;
+
+/**
+ * DTO with the outcome of a batch action for a single article.
+ * Immutable data transfer object (Record).
+ *
+ * @param articleId Article ID from the request
+ * @param success   Whether the action was applied
+ * @param status    Article status after the action (null if the article was not found)
+ * @param error     Reason the action was not applied (null on success)
+ */
+public record BatchArticleResultDto(
+        Long articleId,
+        boolean success,
+        ArticleStatus status,
+        String error
+) {
+
+    public static BatchArticleResultDto succeeded(Article article) {
+        return new BatchArticleResultDto(article.getId(), true, article.getStatus(), null);
+    }
+
+    public static BatchArticleResultDto failed(Long articleId, ArticleStatus status, String error) {
+        return new BatchArticleResultDto(articleId, false, status, error);
+    }
+}
@@ -0,0 +1,13 @@
+package pl.klastbit.lexpage.application.article.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Minimal reference to a published article (URL + last modification), used for crawler-facing
+ * outputs such as sitemaps. Read directly from the database without loading the aggregate.
+ */
+public record PublishedArticleRef(
+        String slug,
+        LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,15 @@
+package pl.klastbit.lexpage.application.article.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Aggregate information about all published articles.
+ *
+ * @param count        number of published articles
+ * @param lastModified most recent updatedAt among published articles (null when there are none)
+ */
+public record PublishedArticlesSummary(
+        long count,
+        LocalDateTime lastModified
+) {
+}
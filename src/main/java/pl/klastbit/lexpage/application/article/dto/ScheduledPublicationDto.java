@@ -0,0 +1,15 @@
+package pl.klastbit.lexpage.application.article.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * An article waiting for its scheduled publication.
+ *
+ * @param articleId          article ID
+ * @param scheduledPublishAt time the article goes live
+ */
+public record ScheduledPublicationDto(
+        Long articleId,
+        LocalDateTime scheduledPublishAt
+) {
+}
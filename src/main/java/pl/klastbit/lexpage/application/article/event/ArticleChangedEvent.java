@@ -0,0 +1,42 @@
+package pl.klastbit.lexpage.application.article.event;
+
+import pl.klastbit.lexpage.domain.article.Article;
+
+/**
+ * Application event published by article use cases after a state change.
+ * Consumed by read-side caches and derived artifacts (rendered pages, feeds, sitemaps),
+ * typically via {@code @TransactionalEventListener} so only committed changes are observed.
+ *
+ * @param articleId    changed article ID
+ * @param slug         current article slug
+ * @param previousSlug slug before the change (differs from slug only when an update renamed it)
+ * @param changeType   kind of change
+ */
+public record ArticleChangedEvent(
+        Long articleId,
+        String slug,
+        String previousSlug,
+        ChangeType changeType
+) {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        PUBLISHED,
+        UNPUBLISHED,
+        ARCHIVED,
+        DELETED,
+        /**
+         * Derived media (e.g. the generated Open Graph image) changed; article content did not.
+         */
+        MEDIA_UPDATED
+    }
+
+    public static ArticleChangedEvent of(Article article, ChangeType changeType) {
+        return new ArticleChangedEvent(article.getId(), article.getSlug(), article.getSlug(), changeType);
+    }
+
+    public static ArticleChangedEvent updated(Article article, String previousSlug) {
+        return new ArticleChangedEvent(article.getId(), article.getSlug(), previousSlug, ChangeType.UPDATED);
+    }
+}
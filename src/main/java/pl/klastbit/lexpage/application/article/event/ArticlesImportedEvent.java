@@ -0,0 +1,15 @@
+package pl.klastbit.lexpage.application.article.event;
+
+/**
+ * Application event published after a bulk import added articles.
+ * Stands in for one {@link ArticleChangedEvent} per imported article: consumers drop or rebuild
+ * everything instead of handling thousands of single changes.
+ *
+ * @param importedCount  number of imported articles
+ * @param publishedCount number of imported articles that are already published
+ */
+public record ArticlesImportedEvent(
+        long importedCount,
+        long publishedCount
+) {
+}
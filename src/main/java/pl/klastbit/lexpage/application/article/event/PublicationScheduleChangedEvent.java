@@ -0,0 +1,17 @@
+package pl.klastbit.lexpage.application.article.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Application event published when an article's scheduled publication time is set, moved or cancelled.
+ * Consumed by the publication scheduler; public read models are unaffected until the article goes live,
+ * so no {@link ArticleChangedEvent} accompanies it.
+ *
+ * @param articleId          article ID
+ * @param scheduledPublishAt new publication time, or null when the schedule was cancelled
+ */
+public record PublicationScheduleChangedEvent(
+        Long articleId,
+        LocalDateTime scheduledPublishAt
+) {
+}
@@ -0,0 +1,111 @@
+package pl.klastbit.lexpage.application.article.usecase;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import pl.klastbit.lexpage.application.article.BatchArticleUseCase;
+import pl.klastbit.lexpage.application.article.command.BatchArticleCommand;
+import pl.klastbit.lexpage.application.article.command.BatchArticleCommand.Action;
+import pl.klastbit.lexpage.application.article.dto.BatchArticleResultDto;
+import pl.klastbit.lexpage.application.article.event.ArticleChangedEvent;
+import pl.klastbit.lexpage.application.article.event.ArticleChangedEvent.ChangeType;
+import pl.klastbit.lexpage.domain.article.Article;
+import pl.klastbit.lexpage.domain.article.ArticleRepository;
+import pl.klastbit.lexpage.domain.article.ArticleStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of BatchArticleUseCase.
+ * Loads and locks all articles with one query, checks the transition of each one with the domain
+ * rules and writes the allowed ones with a single set-based UPDATE.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class BatchArticleUseCaseImpl implements BatchArticleUseCase {
+
+    private final ArticleRepository articleRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public List<BatchArticleResultDto> execute(BatchArticleCommand command) {
+        List<Long> articleIds = List.copyOf(new LinkedHashSet<>(command.articleIds()));
+        log.info("Applying {} to {} article(s)", command.action(), articleIds.size());
+
+        // Locked until commit, so the checked statuses cannot change before the UPDATE
+        Map<Long, Article> articles = articleRepository.findAllByIdInForUpdate(articleIds).stream()
+                .collect(Collectors.toMap(Article::getId, Function.identity()));
+
+        // One publication time for the whole batch, so the single UPDATE stores the domain value
+        LocalDateTime publishedAt = LocalDateTime.now();
+        List<BatchArticleResultDto> results = new ArrayList<>(articleIds.size());
+        List<Article> changed = new ArrayList<>();
+        for (Long articleId : articleIds) {
+            Article article = articles.get(articleId);
+            if (article == null) {
+                results.add(BatchArticleResultDto.failed(articleId, null, "Article not found with ID: " + articleId));
+                continue;
+            }
+            ArticleStatus previousStatus = article.getStatus();
+            try {
+                apply(command.action(), article, publishedAt);
+            } catch (IllegalStateException e) {
+                results.add(BatchArticleResultDto.failed(articleId, previousStatus, e.getMessage()));
+                continue;
+            }
+            changed.add(article);
+            results.add(BatchArticleResultDto.succeeded(article));
+        }
+
+        if (!changed.isEmpty()) {
+            write(command.action(), changed);
+            ChangeType changeType = changeType(command.action());
+            changed.forEach(article -> eventPublisher.publishEvent(ArticleChangedEvent.of(article, changeType)));
+        }
+
+        log.info("Applied {} to {} of {} article(s)", command.action(), changed.size(), articleIds.size());
+        return results;
+    }
+
+    private static void apply(Action action, Article article, LocalDateTime publishedAt) {
+        switch (action) {
+            case PUBLISH -> article.publish(publishedAt);
+            case ARCHIVE -> article.archive();
+            case UNPUBLISH -> article.unpublish();
+            case DELETE -> article.softDelete();
+        }
+    }
+
+    /**
+     * Writes the transitions applied to the articles. The publication time is taken from the
+     * published articles (shared by the batch), so the stored value matches the results and events.
+     */
+    private void write(Action action, List<Article> articles) {
+        List<Long> articleIds = articles.stream().map(Article::getId).toList();
+        switch (action) {
+            case PUBLISH -> articleRepository.publishAll(articleIds, articles.getFirst().getPublishedAt());
+            case ARCHIVE -> articleRepository.archiveAll(articleIds);
+            case UNPUBLISH -> articleRepository.unpublishAll(articleIds);
+            case DELETE -> articleRepository.softDeleteAll(articleIds);
+        }
+    }
+
+    private static ChangeType changeType(Action action) {
+        return switch (action) {
+            case PUBLISH -> ChangeType.PUBLISHED;
+            case ARCHIVE -> ChangeType.ARCHIVED;
+            case UNPUBLISH -> ChangeType.UNPUBLISHED;
+            case DELETE -> ChangeType.DELETED;
+        };
+    }
+}
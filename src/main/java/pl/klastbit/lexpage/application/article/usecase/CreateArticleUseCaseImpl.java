@@ -2,14 +2,17 @@ package pl.klastbit.lexpage.application.article.usecase;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import pl.klastbit.lexpage.application.article.CreateArticleUseCase;
 import pl.klastbit.lexpage.application.article.command.CreateArticleCommand;
 import pl.klastbit.lexpage.application.article.dto.ArticleDetailDto;
+import pl.klastbit.lexpage.application.article.event.ArticleChangedEvent;
 import pl.klastbit.lexpage.application.user.ports.UserRepository;
 import pl.klastbit.lexpage.domain.article.Article;
 import pl.klastbit.lexpage.domain.article.ArticleRepository;
+import pl.klastbit.lexpage.domain.article.PolishTextAnalyzer;
 import pl.klastbit.lexpage.domain.user.UserId;
 
 import java.text.Normalizer;
@@ -26,6 +29,7 @@ public class CreateArticleUseCaseImpl implements CreateArticleUseCase {
 
     private final ArticleRepository articleRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public ArticleDetailDto execute(CreateArticleCommand command) {
@@ -59,8 +63,12 @@ public class CreateArticleUseCaseImpl implements CreateArticleUseCase {
                 command.authorId()
         );
 
+        // Stemmed lexemes feed the search vector, so inflected forms of a word match each other
+        article.indexForSearch(PolishTextAnalyzer.analyzeArticle(article.getTitle(), article.getContent()));
+
         Article savedArticle = articleRepository.save(article);
         log.info("Article created successfully with ID: {}", savedArticle.getId());
+        eventPublisher.publishEvent(ArticleChangedEvent.of(savedArticle, ArticleChangedEvent.ChangeType.CREATED));
 
         // Fetch real user names from UserRepository
         String authorName = getUsernameById(savedArticle.getAuthorId());
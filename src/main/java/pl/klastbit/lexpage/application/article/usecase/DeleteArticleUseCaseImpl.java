@@ -2,16 +2,18 @@ package pl.klastbit.lexpage.application.article.usecase;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import pl.klastbit.lexpage.application.article.DeleteArticleUseCase;
+import pl.klastbit.lexpage.application.article.event.ArticleChangedEvent;
 import pl.klastbit.lexpage.domain.article.Article;
 import pl.klastbit.lexpage.domain.article.ArticleRepository;
 import pl.klastbit.lexpage.domain.article.exception.ArticleNotFoundException;
 
 /**
  * Implementation of DeleteArticleUseCase.
- * Performs soft delete on an article by setting deletedAt timestamp.
+ * Performs soft delete on an article by setting deletedAt timestamp with a single UPDATE.
  */
 @Service
 @RequiredArgsConstructor
@@ -20,6 +22,7 @@ import pl.klastbit.lexpage.domain.article.exception.ArticleNotFoundException;
 public class DeleteArticleUseCaseImpl implements DeleteArticleUseCase {
 
     private final ArticleRepository articleRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public void execute(Long articleId) {
@@ -29,8 +32,9 @@ public class DeleteArticleUseCaseImpl implements DeleteArticleUseCase {
                 .orElseThrow(() -> new ArticleNotFoundException(articleId));
 
         article.softDelete();
-        articleRepository.save(article);
+        articleRepository.delete(article);
 
         log.info("Article soft deleted successfully with ID: {}", articleId);
+        eventPublisher.publishEvent(ArticleChangedEvent.of(article, ArticleChangedEvent.ChangeType.DELETED));
     }
 }
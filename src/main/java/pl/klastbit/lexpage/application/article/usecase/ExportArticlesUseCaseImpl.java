@@ -0,0 +1,30 @@
+package pl.klastbit.lexpage.application.article.usecase;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import pl.klastbit.lexpage.application.article.ExportArticlesUseCase;
+import pl.klastbit.lexpage.application.article.dto.ArticleTransferRecord;
+import pl.klastbit.lexpage.application.ports.ArticleTransferStore;
+
+import java.util.function.Consumer;
+
+/**
+ * Implementation of ExportArticlesUseCase.
+ * Streams articles straight from the store's cursor; nothing is collected in memory.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class ExportArticlesUseCaseImpl implements ExportArticlesUseCase {
+
+    private final ArticleTransferStore articleTransferStore;
+
+    @Override
+    public void execute(Consumer<ArticleTransferRecord> consumer) {
+        log.info("Exporting articles");
+        articleTransferStore.forEachArticle(consumer);
+    }
+}
@@ -0,0 +1,66 @@
+package pl.klastbit.lexpage.application.article.usecase;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import pl.klastbit.lexpage.application.article.GetArticleFacetsUseCase;
+import pl.klastbit.lexpage.application.article.dto.ArticleFacetsDto;
+import pl.klastbit.lexpage.application.article.dto.ArticleFacetsDto.FacetValue;
+import pl.klastbit.lexpage.application.user.ports.UserRepository;
+import pl.klastbit.lexpage.domain.article.ArticleFacets;
+import pl.klastbit.lexpage.domain.article.ArticleRepository;
+import pl.klastbit.lexpage.domain.article.ArticleSearchCriteria;
+import pl.klastbit.lexpage.domain.user.User;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Implementation of GetArticleFacetsUseCase.
+ * All counts come from a single repository call; only author usernames are looked up on top.
+ * Like the listing, a keyword with fewer than {@value ListArticlesUseCaseImpl#MIN_FULL_TEXT_HITS} full-text
+ * matches is counted over the typo-tolerant matches instead, so the facets describe the listed articles.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class GetArticleFacetsUseCaseImpl implements GetArticleFacetsUseCase {
+
+    private final ArticleRepository articleRepository;
+    private final UserRepository userRepository;
+
+    @Override
+    public ArticleFacetsDto execute(ArticleSearchCriteria criteria) {
+        log.info("Counting article facets for: {}", criteria);
+
+        ArticleFacets facets = articleRepository.facets(criteria);
+        if (criteria.keyword() != null && facets.total() < ListArticlesUseCaseImpl.MIN_FULL_TEXT_HITS) {
+            facets = articleRepository.facetsSimilar(criteria);
+        }
+
+        List<FacetValue> statuses = toValues(facets.statuses(), Enum::name, Enum::name);
+        List<FacetValue> authors = toValues(
+                facets.authors(),
+                authorId -> authorId.userid().toString(),
+                authorId -> userRepository.findById(authorId).map(User::getUsername).orElse("Unknown User")
+        );
+        List<FacetValue> keywords = toValues(facets.keywords(), Function.identity(), Function.identity());
+        List<FacetValue> months = toValues(facets.months(), YearMonth::toString, YearMonth::toString);
+
+        return new ArticleFacetsDto(facets.total(), statuses, authors, keywords, months);
+    }
+
+    private static <T> List<FacetValue> toValues(
+            Map<T, Long> counts,
+            Function<T, String> value,
+            Function<T, String> label
+    ) {
+        return counts.entrySet().stream()
+                .map(entry -> new FacetValue(value.apply(entry.getKey()), label.apply(entry.getKey()), entry.getValue()))
+                .toList();
+    }
+}
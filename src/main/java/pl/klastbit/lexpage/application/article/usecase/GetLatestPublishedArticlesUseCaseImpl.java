@@ -0,0 +1,70 @@
+package pl.klastbit.lexpage.application.article.usecase;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import pl.klastbit.lexpage.application.article.GetLatestPublishedArticlesUseCase;
+import pl.klastbit.lexpage.application.article.dto.ArticleDetailDto;
+import pl.klastbit.lexpage.application.user.ports.UserRepository;
+import pl.klastbit.lexpage.domain.article.Article;
+import pl.klastbit.lexpage.domain.article.ArticleRepository;
+import pl.klastbit.lexpage.domain.article.ArticleStatus;
+import pl.klastbit.lexpage.domain.user.UserId;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementation of GetLatestPublishedArticlesUseCase.
+ * Retrieves newest published articles; user names are resolved once per distinct user.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class GetLatestPublishedArticlesUseCaseImpl implements GetLatestPublishedArticlesUseCase {
+
+    private final ArticleRepository articleRepository;
+    private final UserRepository userRepository;
+
+    @Override
+    public List<ArticleDetailDto> execute(int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        log.info("Fetching {} latest published articles", limit);
+
+        PageRequest pageable = PageRequest.of(0, limit, Sort.by(Sort.Direction.DESC, "publishedAt"));
+        List<Article> articles = articleRepository
+                .findAllByStatusAndDeletedAtIsNull(ArticleStatus.PUBLISHED, pageable)
+                .getContent();
+
+        Map<UserId, String> usernames = new HashMap<>();
+        return articles.stream()
+                .map(article -> ArticleDetailDto.from(
+                        article,
+                        usernames.computeIfAbsent(article.getAuthorId(), this::getUsernameById),
+                        usernames.computeIfAbsent(article.getCreatedBy(), this::getUsernameById),
+                        usernames.computeIfAbsent(article.getUpdatedBy(), this::getUsernameById)
+                ))
+                .toList();
+    }
+
+    /**
+     * Fetches username by user ID from UserRepository.
+     * Returns "Unknown User" if user not found.
+     */
+    private String getUsernameById(UserId userId) {
+        if (userId == null) {
+            return "Unknown User";
+        }
+
+        return userRepository.findById(userId)
+                .map(user -> user.getUsername())
+                .orElse("Unknown User");
+    }
+}
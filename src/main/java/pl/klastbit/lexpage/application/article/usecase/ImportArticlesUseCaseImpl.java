@@ -0,0 +1,188 @@
+package pl.klastbit.lexpage.application.article.usecase;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import pl.klastbit.lexpage.application.article.ImportArticlesUseCase;
+import pl.klastbit.lexpage.application.article.dto.ArticleImportResultDto;
+import pl.klastbit.lexpage.application.article.dto.ArticleImportRow;
+import pl.klastbit.lexpage.application.article.dto.ArticleTransferRecord;
+import pl.klastbit.lexpage.application.article.event.ArticlesImportedEvent;
+import pl.klastbit.lexpage.application.ports.ArticleTransferStore;
+import pl.klastbit.lexpage.domain.article.ArticleStatus;
+import pl.klastbit.lexpage.domain.article.PolishTextAnalyzer;
+import pl.klastbit.lexpage.domain.user.UserId;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.StreamSupport;
+
+/**
+ * Implementation of ImportArticlesUseCase.
+ * Validates and completes records on the fly and hands them to the store, which writes them
+ * set-based; records are never collected in memory. Search lexemes are computed here, like on
+ * create and update. One {@link ArticlesImportedEvent} replaces the per-article change events.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class ImportArticlesUseCaseImpl implements ImportArticlesUseCase {
+
+    // Leaves room for the suffix the store appends to taken slugs (column holds 255 characters)
+    private static final int MAX_SLUG_LENGTH = 240;
+    private static final Pattern VALID_SLUG = Pattern.compile("[a-z0-9]+(-[a-z0-9]+)*");
+    private static final String FALLBACK_SLUG = "artykul";
+
+    private final ArticleTransferStore articleTransferStore;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public ArticleImportResultDto execute(Iterator<ArticleTransferRecord> records, UUID importedBy) {
+        log.info("Importing articles for user: {}", importedBy);
+
+        LocalDateTime now = LocalDateTime.now();
+        AtomicLong skipped = new AtomicLong();
+        AtomicLong published = new AtomicLong();
+        Iterator<ArticleImportRow> validRows = StreamSupport
+                .stream(Spliterators.spliteratorUnknownSize(records, Spliterator.ORDERED), false)
+                .<ArticleImportRow>mapMulti((record, downstream) ->
+                        complete(record, now, downstream, skipped, published))
+                .iterator();
+
+        ArticleImportResultDto stored = articleTransferStore.importAll(validRows, UserId.of(importedBy));
+        ArticleImportResultDto result = new ArticleImportResultDto(
+                stored.received() + skipped.get(),
+                stored.imported(),
+                skipped.get(),
+                stored.renamedSlugs()
+        );
+        log.info("Imported {} of {} article(s), {} skipped, {} slug(s) renamed",
+                result.imported(), result.received(), result.skipped(), result.renamedSlugs());
+
+        if (result.imported() > 0) {
+            eventPublisher.publishEvent(new ArticlesImportedEvent(result.imported(), published.get()));
+        }
+        return result;
+    }
+
+    // ==================== Helper Methods ====================
+
+    private void complete(
+            ArticleTransferRecord record,
+            LocalDateTime now,
+            Consumer<ArticleImportRow> downstream,
+            AtomicLong skipped,
+            AtomicLong published
+    ) {
+        String problem = validate(record);
+        if (problem != null) {
+            log.debug("Skipping imported article '{}': {}", record.title(), problem);
+            skipped.incrementAndGet();
+            return;
+        }
+
+        ArticleStatus status = isBlank(record.status()) ? ArticleStatus.DRAFT : ArticleStatus.valueOf(record.status());
+        LocalDateTime publishedAt = record.publishedAt() == null && status == ArticleStatus.PUBLISHED
+                ? now
+                : record.publishedAt();
+        if (status == ArticleStatus.PUBLISHED) {
+            published.incrementAndGet();
+        }
+
+        ArticleTransferRecord completed = new ArticleTransferRecord(
+                record.title(),
+                resolveSlug(record),
+                record.content(),
+                record.excerpt(),
+                status.name(),
+                publishedAt,
+                record.metaTitle(),
+                record.metaDescription(),
+                record.ogImageUrl(),
+                record.canonicalUrl(),
+                record.keywords(),
+                record.createdAt(),
+                record.updatedAt()
+        );
+        downstream.accept(new ArticleImportRow(
+                completed,
+                PolishTextAnalyzer.analyzeArticle(completed.title(), completed.content())
+        ));
+    }
+
+    /**
+     * Checks the constraints of the articles table, so a single bad record cannot fail the whole import.
+     *
+     * @return description of the first problem, or null if the record is valid
+     */
+    private String validate(ArticleTransferRecord record) {
+        if (isBlank(record.title()) || record.title().length() > 255) {
+            return "title must be 1-255 characters";
+        }
+        if (isBlank(record.content())) {
+            return "content is required";
+        }
+        if (exceeds(record.excerpt(), 500) || exceeds(record.metaTitle(), 60)
+                || exceeds(record.metaDescription(), 160)
+                || exceeds(record.ogImageUrl(), 500) || exceeds(record.canonicalUrl(), 500)) {
+            return "field too long";
+        }
+        if (!isBlank(record.status())) {
+            try {
+                ArticleStatus.valueOf(record.status());
+            } catch (IllegalArgumentException e) {
+                return "unknown status " + record.status();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Keeps a well-formed slug from the record, otherwise generates one from the title.
+     */
+    private String resolveSlug(ArticleTransferRecord record) {
+        String slug = record.slug();
+        if (slug == null || !VALID_SLUG.matcher(slug).matches()) {
+            slug = generateSlug(record.title());
+        }
+        if (slug.isEmpty()) {
+            slug = FALLBACK_SLUG;
+        }
+        return slug.length() > MAX_SLUG_LENGTH
+                ? slug.substring(0, MAX_SLUG_LENGTH).replaceAll("-$", "")
+                : slug;
+    }
+
+    /**
+     * Generates URL-friendly slug from title.
+     * Handles Polish characters transliteration.
+     */
+    private String generateSlug(String title) {
+        String normalized = Normalizer.normalize(title, Normalizer.Form.NFD);
+        String withoutDiacritics = normalized.replaceAll("\\p{M}", "");
+
+        return withoutDiacritics.toLowerCase()
+                .replaceAll("[^a-z0-9\\s-]", "")
+                .replaceAll("\\s+", "-")
+                .replaceAll("-+", "-")
+                .replaceAll("^-|-$", "");
+    }
+
+    private static boolean exceeds(String value, int maxLength) {
+        return value != null && value.length() > maxLength;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
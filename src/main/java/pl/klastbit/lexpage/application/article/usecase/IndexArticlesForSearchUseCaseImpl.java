@@ -0,0 +1,43 @@
+package pl.klastbit.lexpage.application.article.usecase;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import pl.klastbit.lexpage.application.article.IndexArticlesForSearchUseCase;
+import pl.klastbit.lexpage.domain.article.Article;
+import pl.klastbit.lexpage.domain.article.ArticleRepository;
+import pl.klastbit.lexpage.domain.article.PolishTextAnalyzer;
+
+import java.util.List;
+
+/**
+ * Implementation of IndexArticlesForSearchUseCase.
+ * Covers articles that did not go through create/update: those stored before search lexemes
+ * existed and bulk imports.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class IndexArticlesForSearchUseCaseImpl implements IndexArticlesForSearchUseCase {
+
+    private final ArticleRepository articleRepository;
+
+    @Override
+    public int execute(int batchSize) {
+        List<Article> articles = articleRepository.findAllWithoutSearchLexemes(batchSize);
+
+        for (Article article : articles) {
+            articleRepository.updateSearchLexemes(
+                    article.getId(),
+                    PolishTextAnalyzer.analyzeArticle(article.getTitle(), article.getContent())
+            );
+        }
+
+        if (!articles.isEmpty()) {
+            log.info("Indexed {} article(s) for search", articles.size());
+        }
+        return articles.size();
+    }
+}
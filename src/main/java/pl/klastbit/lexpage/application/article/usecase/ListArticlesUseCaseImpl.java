@@ -12,17 +12,24 @@ import pl.klastbit.lexpage.application.article.dto.PageDto;
 import pl.klastbit.lexpage.application.user.ports.UserRepository;
 import pl.klastbit.lexpage.domain.article.Article;
 import pl.klastbit.lexpage.domain.article.ArticleRepository;
+import pl.klastbit.lexpage.domain.article.ArticleSearchCriteria;
 import pl.klastbit.lexpage.domain.article.ArticleStatus;
 import pl.klastbit.lexpage.domain.user.User;
 import pl.klastbit.lexpage.domain.user.UserId;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * Implementation of ListArticlesUseCase.
- * Lists articles with optional filtering, sorting, and pagination.
+ * Lists articles with optional filtering, sorting, and pagination; all filters are combined
+ * into one repository query. A keyword search with fewer than {@value #MIN_FULL_TEXT_HITS} full-text
+ * hits is repeated typo-tolerant, ranked by similarity.
  */
 @Service
 @RequiredArgsConstructor
@@ -30,6 +37,9 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class ListArticlesUseCaseImpl implements ListArticlesUseCase {
 
+    // Shared with GetArticleFacetsUseCaseImpl, so facets count the same matches as the listing
+    static final int MIN_FULL_TEXT_HITS = 3;
+
     private final ArticleRepository articleRepository;
     private final UserRepository userRepository;
 
@@ -40,46 +50,62 @@ public class ListArticlesUseCaseImpl implements ListArticlesUseCase {
             String keyword,
             Pageable pageable
     ) {
-        log.info("Listing articles with status: {}, authorId: {}, keyword: {}", status, authorId, keyword);
-
-        Page<Article> articlesPage;
-
-        // Apply filters based on parameters
-        if (status != null && authorId != null) {
-            articlesPage = articleRepository.findAllByStatusAndAuthorIdAndDeletedAtIsNull(
-                    status, authorId, pageable
-            );
-        } else if (status != null) {
-            articlesPage = articleRepository.findAllByStatusAndDeletedAtIsNull(status, pageable);
-        } else if (authorId != null) {
-            articlesPage = articleRepository.findAllByAuthorIdAndDeletedAtIsNull(authorId, pageable);
-        } else if (keyword != null && !keyword.isBlank()) {
-            articlesPage = articleRepository.searchByKeywordAndDeletedAtIsNull(keyword, pageable);
-        } else {
-            articlesPage = articleRepository.findAllByDeletedAtIsNull(pageable);
+        return search(ArticleSearchCriteria.of(status, authorId, keyword), pageable);
+    }
+
+    @Override
+    public PageDto<ArticleListItemDto> search(ArticleSearchCriteria criteria, Pageable pageable) {
+        log.info("Listing articles matching: {}", criteria);
+
+        Page<Article> articlesPage = articleRepository.search(criteria, pageable);
+        if (criteria.keyword() != null && articlesPage.getTotalElements() < MIN_FULL_TEXT_HITS) {
+            // Almost no hits usually means a misspelled term; the similarity search is slower, so it runs only then
+            log.info("Full-text search found {} article(s), retrying with similarity search", articlesPage.getTotalElements());
+            articlesPage = articleRepository.searchSimilar(criteria, pageable);
         }
 
+        Map<UserId, String> authorNames = findAuthorNames(articlesPage.getContent());
+
+        // Map domain entities to DTOs using the username map
+        Page<ArticleListItemDto> dtoPage = articlesPage.map(article -> {
+            String authorName = authorNames.getOrDefault(article.getAuthorId(), "Unknown User");
+            return ArticleListItemDto.from(article, authorName);
+        });
+
+        return PageDto.from(dtoPage);
+    }
+
+    @Override
+    public List<ArticleListItemDto> findByIds(List<Long> ids) {
+        log.info("Loading {} article(s) by ID", ids.size());
+
+        Map<Long, Article> articles = articleRepository.findAllByIdInAndDeletedAtIsNull(ids).stream()
+                .collect(Collectors.toMap(Article::getId, Function.identity()));
+        Map<UserId, String> authorNames = findAuthorNames(articles.values());
+
+        return ids.stream()
+                .distinct()
+                .map(articles::get)
+                .filter(Objects::nonNull)
+                .map(article -> ArticleListItemDto.from(
+                        article, authorNames.getOrDefault(article.getAuthorId(), "Unknown User")))
+                .toList();
+    }
+
+    private Map<UserId, String> findAuthorNames(Collection<Article> articles) {
         // Collect all unique author IDs from the articles
-        Set<UserId> authorIds = articlesPage.getContent().stream()
+        Set<UserId> authorIds = articles.stream()
                 .map(Article::getAuthorId)
                 .filter(id -> id != null)
                 .collect(Collectors.toSet());
 
         // Batch fetch all users to avoid N+1 queries
-        Map<UserId, String> authorNames = authorIds.stream()
+        return authorIds.stream()
                 .collect(Collectors.toMap(
                         id -> id,
                         id -> userRepository.findById(id)
                                 .map(User::getUsername)
                                 .orElse("Unknown User")
                 ));
-
-        // Map domain entities to DTOs using the username map
-        Page<ArticleListItemDto> dtoPage = articlesPage.map(article -> {
-            String authorName = authorNames.getOrDefault(article.getAuthorId(), "Unknown User");
-            return ArticleListItemDto.from(article, authorName);
-        });
-
-        return PageDto.from(dtoPage);
     }
 }
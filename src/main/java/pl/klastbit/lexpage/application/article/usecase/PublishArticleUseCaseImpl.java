@@ -2,13 +2,16 @@ package pl.klastbit.lexpage.application.article.usecase;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import pl.klastbit.lexpage.application.article.PublishArticleUseCase;
 import pl.klastbit.lexpage.application.article.dto.ArticleDetailDto;
+import pl.klastbit.lexpage.application.article.event.ArticleChangedEvent;
 import pl.klastbit.lexpage.application.user.ports.UserRepository;
 import pl.klastbit.lexpage.domain.article.Article;
 import pl.klastbit.lexpage.domain.article.ArticleRepository;
+import pl.klastbit.lexpage.domain.article.ArticleStatus;
 import pl.klastbit.lexpage.domain.article.exception.ArticleNotFoundException;
 import pl.klastbit.lexpage.domain.user.UserId;
 
@@ -24,6 +27,7 @@ public class PublishArticleUseCaseImpl implements PublishArticleUseCase {
 
     private final ArticleRepository articleRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public ArticleDetailDto execute(Long articleId) {
@@ -32,18 +36,21 @@ public class PublishArticleUseCaseImpl implements PublishArticleUseCase {
         Article article = articleRepository.findByIdAndDeletedAtIsNull(articleId)
                 .orElseThrow(() -> new ArticleNotFoundException(articleId));
 
+        ArticleStatus previousStatus = article.getStatus();
+
         // Domain method handles business rules and throws IllegalStateException if already published
         article.publish();
-        Article publishedArticle = articleRepository.save(article);
+        articleRepository.transitionStatus(article, previousStatus);
 
         log.info("Article published successfully with ID: {}", articleId);
+        eventPublisher.publishEvent(ArticleChangedEvent.of(article, ArticleChangedEvent.ChangeType.PUBLISHED));
 
         // Fetch real user names from UserRepository
-        String authorName = getUsernameById(publishedArticle.getAuthorId());
-        String createdByName = getUsernameById(publishedArticle.getCreatedBy());
-        String updatedByName = getUsernameById(publishedArticle.getUpdatedBy());
+        String authorName = getUsernameById(article.getAuthorId());
+        String createdByName = getUsernameById(article.getCreatedBy());
+        String updatedByName = getUsernameById(article.getUpdatedBy());
 
-        return ArticleDetailDto.from(publishedArticle, authorName, createdByName, updatedByName);
+        return ArticleDetailDto.from(article, authorName, createdByName, updatedByName);
     }
 
     /**
@@ -0,0 +1,81 @@
+package pl.klastbit.lexpage.application.article.usecase;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import pl.klastbit.lexpage.application.article.PublishScheduledArticlesUseCase;
+import pl.klastbit.lexpage.application.article.dto.ScheduledPublicationDto;
+import pl.klastbit.lexpage.application.article.event.ArticleChangedEvent;
+import pl.klastbit.lexpage.domain.article.Article;
+import pl.klastbit.lexpage.domain.article.ArticleRepository;
+import pl.klastbit.lexpage.domain.article.ArticleStatus;
+import pl.klastbit.lexpage.domain.article.exception.InvalidArticleStatusTransitionException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Implementation of PublishScheduledArticlesUseCase.
+ * <p>
+ * Articles due at the same moment are published in a single transaction, so they go live together
+ * and the after-commit listeners (page caches, feeds, sitemap, static export) run once per batch
+ * rather than once per article. An article that no longer meets publication requirements keeps
+ * its status and loses its schedule instead of failing the whole batch.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class PublishScheduledArticlesUseCaseImpl implements PublishScheduledArticlesUseCase {
+
+    private final ArticleRepository articleRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public List<Long> execute(Collection<Long> articleIds, LocalDateTime asOf) {
+        List<Long> published = new ArrayList<>();
+        for (Long articleId : articleIds) {
+            Optional<Article> found = articleRepository.findByIdAndDeletedAtIsNull(articleId);
+            if (found.isEmpty() || !found.get().isPublicationDue(asOf)) {
+                log.debug("Skipping scheduled publication of article {}: no longer due", articleId);
+                continue;
+            }
+            Article article = found.get();
+            ArticleStatus previousStatus = article.getStatus();
+            try {
+                article.publish();
+            } catch (IllegalStateException e) {
+                log.warn("Scheduled publication of article {} cancelled: {}", articleId, e.getMessage());
+                article.cancelScheduledPublication();
+                articleRepository.update(article);
+                continue;
+            }
+            try {
+                articleRepository.transitionStatus(article, previousStatus);
+            } catch (InvalidArticleStatusTransitionException e) {
+                log.debug("Skipping scheduled publication of article {}: {}", articleId, e.getMessage());
+                continue;
+            }
+            eventPublisher.publishEvent(ArticleChangedEvent.of(article, ArticleChangedEvent.ChangeType.PUBLISHED));
+            published.add(articleId);
+        }
+
+        if (!published.isEmpty()) {
+            log.info("Published {} scheduled article(s): {}", published.size(), published);
+        }
+        return published;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ScheduledPublicationDto> findUpcoming(LocalDateTime until) {
+        return articleRepository.findScheduledForPublicationUntil(until).stream()
+                .map(article -> new ScheduledPublicationDto(article.getId(), article.getScheduledPublishAt()))
+                .toList();
+    }
+}
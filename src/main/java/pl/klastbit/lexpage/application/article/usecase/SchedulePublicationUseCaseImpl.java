@@ -0,0 +1,86 @@
+package pl.klastbit.lexpage.application.article.usecase;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import pl.klastbit.lexpage.application.article.SchedulePublicationUseCase;
+import pl.klastbit.lexpage.application.article.dto.ArticleDetailDto;
+import pl.klastbit.lexpage.application.article.event.PublicationScheduleChangedEvent;
+import pl.klastbit.lexpage.application.user.ports.UserRepository;
+import pl.klastbit.lexpage.domain.article.Article;
+import pl.klastbit.lexpage.domain.article.ArticleRepository;
+import pl.klastbit.lexpage.domain.article.exception.ArticleNotFoundException;
+import pl.klastbit.lexpage.domain.user.UserId;
+
+import java.time.LocalDateTime;
+
+/**
+ * Implementation of SchedulePublicationUseCase.
+ * Stores the publication time on the article and notifies the scheduler after commit.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class SchedulePublicationUseCaseImpl implements SchedulePublicationUseCase {
+
+    private final ArticleRepository articleRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public ArticleDetailDto execute(Long articleId, LocalDateTime publishAt) {
+        log.info("Scheduling publication of article with ID: {} at {}", articleId, publishAt);
+
+        Article article = articleRepository.findByIdAndDeletedAtIsNull(articleId)
+                .orElseThrow(() -> new ArticleNotFoundException(articleId));
+
+        // Domain method validates status, publication requirements and that the time is in the future
+        article.schedulePublication(publishAt);
+        Article scheduledArticle = articleRepository.save(article);
+
+        eventPublisher.publishEvent(new PublicationScheduleChangedEvent(articleId, publishAt));
+        return toDto(scheduledArticle);
+    }
+
+    @Override
+    public ArticleDetailDto cancel(Long articleId) {
+        log.info("Cancelling scheduled publication of article with ID: {}", articleId);
+
+        Article article = articleRepository.findByIdAndDeletedAtIsNull(articleId)
+                .orElseThrow(() -> new ArticleNotFoundException(articleId));
+
+        if (article.getScheduledPublishAt() == null) {
+            return toDto(article);
+        }
+        article.cancelScheduledPublication();
+        Article savedArticle = articleRepository.save(article);
+
+        eventPublisher.publishEvent(new PublicationScheduleChangedEvent(articleId, null));
+        return toDto(savedArticle);
+    }
+
+    private ArticleDetailDto toDto(Article article) {
+        String authorName = getUsernameById(article.getAuthorId());
+        String createdByName = getUsernameById(article.getCreatedBy());
+        String updatedByName = getUsernameById(article.getUpdatedBy());
+
+        return ArticleDetailDto.from(article, authorName, createdByName, updatedByName);
+    }
+
+    /**
+     * Fetches username by user ID from UserRepository.
+     * Returns "Unknown User" if user not found.
+     */
+    private String getUsernameById(UserId userId) {
+        if (userId == null) {
+            return "Unknown User";
+        }
+
+        return userRepository.findById(userId)
+                .map(user -> user.getUsername())
+                .orElse("Unknown User");
+    }
+}
@@ -2,14 +2,17 @@ package pl.klastbit.lexpage.application.article.usecase;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import pl.klastbit.lexpage.application.article.UpdateArticleUseCase;
 import pl.klastbit.lexpage.application.article.command.UpdateArticleCommand;
 import pl.klastbit.lexpage.application.article.dto.ArticleDetailDto;
+import pl.klastbit.lexpage.application.article.event.ArticleChangedEvent;
 import pl.klastbit.lexpage.application.user.ports.UserRepository;
 import pl.klastbit.lexpage.domain.article.Article;
 import pl.klastbit.lexpage.domain.article.ArticleRepository;
+import pl.klastbit.lexpage.domain.article.PolishTextAnalyzer;
 import pl.klastbit.lexpage.domain.article.exception.ArticleNotFoundException;
 import pl.klastbit.lexpage.domain.user.UserId;
 
@@ -27,6 +30,7 @@ public class UpdateArticleUseCaseImpl implements UpdateArticleUseCase {
 
     private final ArticleRepository articleRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public ArticleDetailDto execute(UpdateArticleCommand command) {
@@ -35,6 +39,8 @@ public class UpdateArticleUseCaseImpl implements UpdateArticleUseCase {
         Article article = articleRepository.findByIdAndDeletedAtIsNull(command.id())
                 .orElseThrow(() -> new ArticleNotFoundException(command.id()));
 
+        String previousSlug = article.getSlug();
+
         // Regenerate slug if title changed
         String newSlug = generateSlug(command.title());
         if (!article.getTitle().equals(command.title())) {
@@ -66,8 +72,12 @@ public class UpdateArticleUseCaseImpl implements UpdateArticleUseCase {
                 command.updatedBy()
         );
 
+        // Title or content may have changed
+        article.indexForSearch(PolishTextAnalyzer.analyzeArticle(article.getTitle(), article.getContent()));
+
         Article updatedArticle = articleRepository.save(article);
         log.info("Article updated successfully with ID: {}", updatedArticle.getId());
+        eventPublisher.publishEvent(ArticleChangedEvent.updated(updatedArticle, previousSlug));
 
         // Fetch real user names from UserRepository
         String authorName = getUsernameById(updatedArticle.getAuthorId());
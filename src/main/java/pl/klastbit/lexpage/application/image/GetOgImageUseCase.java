@@ -0,0 +1,17 @@
+package pl.klastbit.lexpage.application.image;
+
+import java.util.Optional;
+
+/**
+ * Use case for resolving the generated Open Graph preview image of an article.
+ */
+public interface GetOgImageUseCase {
+
+    /**
+     * Retrieves the public URL of the current generated preview.
+     *
+     * @param articleId article ID
+     * @return site-relative URL, or empty if no preview was generated yet
+     */
+    Optional<String> execute(Long articleId);
+}
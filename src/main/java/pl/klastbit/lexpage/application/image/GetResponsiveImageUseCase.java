@@ -0,0 +1,19 @@
+package pl.klastbit.lexpage.application.image;
+
+import pl.klastbit.lexpage.application.image.dto.ResponsiveImageDto;
+
+import java.util.Optional;
+
+/**
+ * Use case for resolving the variants of an uploaded image for responsive markup (srcset).
+ */
+public interface GetResponsiveImageUseCase {
+
+    /**
+     * Retrieves variants of an uploaded image.
+     *
+     * @param contentHash SHA-256 hash of the original
+     * @return responsive image data, or empty if no such image is stored
+     */
+    Optional<ResponsiveImageDto> execute(String contentHash);
+}
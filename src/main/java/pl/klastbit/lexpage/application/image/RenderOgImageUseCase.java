@@ -0,0 +1,17 @@
+package pl.klastbit.lexpage.application.image;
+
+/**
+ * Use case for generating the Open Graph preview image of a published article.
+ * Meant to run in the background, never on the request path.
+ */
+public interface RenderOgImageUseCase {
+
+    /**
+     * Renders and stores the preview of an article if it is published and its preview changed.
+     * Previous previews of the article are removed.
+     *
+     * @param articleId article ID
+     * @return true if a new preview was stored
+     */
+    boolean execute(Long articleId);
+}
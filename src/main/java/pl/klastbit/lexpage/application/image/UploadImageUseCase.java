@@ -0,0 +1,22 @@
+package pl.klastbit.lexpage.application.image;
+
+import pl.klastbit.lexpage.application.image.command.UploadImageCommand;
+import pl.klastbit.lexpage.application.image.dto.UploadedImageDto;
+
+/**
+ * Use case for uploading an article image.
+ * Stores the original and generates resized variants.
+ */
+public interface UploadImageUseCase {
+
+    /**
+     * Uploads an image for an article.
+     *
+     * @param command upload data
+     * @return stored original and variants
+     * @throws pl.klastbit.lexpage.domain.article.exception.ArticleNotFoundException if article not found
+     * @throws pl.klastbit.lexpage.application.image.exception.InvalidImageException if the file is not a supported image
+     * @throws pl.klastbit.lexpage.application.image.exception.ImageProcessingException if variants cannot be generated
+     */
+    UploadedImageDto execute(UploadImageCommand command);
+}
@@ -0,0 +1,13 @@
+package pl.klastbit.lexpage.application.image.command;
+
+/**
+ * Command for uploading an article image.
+ * Immutable command object (Record) following CQRS pattern.
+ */
+public record UploadImageCommand(
+        Long articleId,
+        String originalFileName,
+        byte[] data,
+        String altText
+) {
+}
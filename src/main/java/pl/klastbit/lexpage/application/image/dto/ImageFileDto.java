@@ -0,0 +1,17 @@
+package pl.klastbit.lexpage.application.image.dto;
+
+import pl.klastbit.lexpage.domain.image.ImageVariant;
+
+/**
+ * DTO for one stored file of an uploaded image.
+ */
+public record ImageFileDto(
+        Long id,
+        ImageVariant variant,
+        String mimeType,
+        String url,
+        int width,
+        int height,
+        long fileSize
+) {
+}
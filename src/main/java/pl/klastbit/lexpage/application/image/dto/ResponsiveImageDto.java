@@ -0,0 +1,23 @@
+package pl.klastbit.lexpage.application.image.dto;
+
+/**
+ * DTO with data for responsive image markup.
+ *
+ * @param src         default source (card variant when available)
+ * @param width       intrinsic width of {@code src}
+ * @param height      intrinsic height of {@code src}
+ * @param srcset      srcset of JPEG/PNG variants ({@code url 320w, ...})
+ * @param webpSrcset  srcset of WebP variants, or null when none were generated
+ */
+public record ResponsiveImageDto(
+        String src,
+        int width,
+        int height,
+        String srcset,
+        String webpSrcset
+) {
+
+    public boolean hasWebp() {
+        return webpSrcset != null;
+    }
+}
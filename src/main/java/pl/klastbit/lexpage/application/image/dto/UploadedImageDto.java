@@ -0,0 +1,17 @@
+package pl.klastbit.lexpage.application.image.dto;
+
+import java.util.List;
+
+/**
+ * DTO for an uploaded image with all its stored files.
+ *
+ * @param contentHash SHA-256 hash of the original (identifies the upload)
+ * @param url         URL of the original
+ * @param files       original and generated variants
+ */
+public record UploadedImageDto(
+        String contentHash,
+        String url,
+        List<ImageFileDto> files
+) {
+}
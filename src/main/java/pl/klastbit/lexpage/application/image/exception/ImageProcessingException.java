@@ -0,0 +1,18 @@
+package pl.klastbit.lexpage.application.image.exception;
+
+/**
+ * Exception thrown when image variants cannot be generated or stored.
+ * This can happen due to:
+ * - image worker pool saturation
+ * - processing timeout
+ * - storage I/O errors
+ */
+public class ImageProcessingException extends RuntimeException {
+    public ImageProcessingException(String message) {
+        super(message);
+    }
+
+    public ImageProcessingException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
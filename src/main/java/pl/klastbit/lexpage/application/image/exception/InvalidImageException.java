@@ -0,0 +1,15 @@
+package pl.klastbit.lexpage.application.image.exception;
+
+/**
+ * Exception thrown when an uploaded file is not a supported image
+ * (unknown format, corrupt data or too many pixels).
+ */
+public class InvalidImageException extends RuntimeException {
+    public InvalidImageException(String message) {
+        super(message);
+    }
+
+    public InvalidImageException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,31 @@
+package pl.klastbit.lexpage.application.image.usecase;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import pl.klastbit.lexpage.application.image.GetOgImageUseCase;
+import pl.klastbit.lexpage.application.ports.ImageStorage;
+import pl.klastbit.lexpage.domain.image.Image;
+import pl.klastbit.lexpage.domain.image.ImageRepository;
+import pl.klastbit.lexpage.domain.image.ImageVariant;
+
+import java.util.Optional;
+
+/**
+ * Implementation of GetOgImageUseCase.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class GetOgImageUseCaseImpl implements GetOgImageUseCase {
+
+    private final ImageRepository imageRepository;
+    private final ImageStorage imageStorage;
+
+    @Override
+    public Optional<String> execute(Long articleId) {
+        return imageRepository.findLatestByArticleIdAndVariant(articleId, ImageVariant.OG)
+                .map(Image::getFilePath)
+                .map(imageStorage::publicUrl);
+    }
+}
@@ -0,0 +1,89 @@
+package pl.klastbit.lexpage.application.image.usecase;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import pl.klastbit.lexpage.application.image.GetResponsiveImageUseCase;
+import pl.klastbit.lexpage.application.image.dto.ResponsiveImageDto;
+import pl.klastbit.lexpage.application.ports.ImageStorage;
+import pl.klastbit.lexpage.domain.image.Image;
+import pl.klastbit.lexpage.domain.image.ImageFormat;
+import pl.klastbit.lexpage.domain.image.ImageRepository;
+import pl.klastbit.lexpage.domain.image.ImageVariant;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of GetResponsiveImageUseCase.
+ * Builds srcset values from the resized variants; the card variant is the default source.
+ * Images without variants fall back to the original.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class GetResponsiveImageUseCaseImpl implements GetResponsiveImageUseCase {
+
+    private final ImageRepository imageRepository;
+    private final ImageStorage imageStorage;
+
+    @Override
+    public Optional<ResponsiveImageDto> execute(String contentHash) {
+        List<Image> images = imageRepository.findByContentHash(contentHash);
+        if (images.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<Image> resized = images.stream()
+                .filter(image -> image.getVariant() != ImageVariant.ORIGINAL)
+                .toList();
+        List<Image> fallback = resized.stream()
+                .filter(image -> image.getFormat() != ImageFormat.WEBP)
+                .toList();
+        List<Image> webp = resized.stream()
+                .filter(image -> image.getFormat() == ImageFormat.WEBP)
+                .toList();
+
+        Image src = fallback.stream()
+                .filter(image -> image.getVariant() == ImageVariant.CARD)
+                .findFirst()
+                .or(() -> fallback.stream().max(Comparator.comparingInt(Image::getWidth)))
+                .orElseGet(() -> images.stream()
+                        .filter(image -> image.getVariant() == ImageVariant.ORIGINAL)
+                        .findFirst()
+                        .orElse(images.getFirst()));
+
+        return Optional.of(new ResponsiveImageDto(
+                imageStorage.publicUrl(src.getFilePath()),
+                src.getWidth(),
+                src.getHeight(),
+                srcset(fallback),
+                srcset(webp)
+        ));
+    }
+
+    /**
+     * Builds a width-descriptor srcset; files shared by several uploads appear once.
+     */
+    private String srcset(List<Image> images) {
+        if (images.isEmpty()) {
+            return null;
+        }
+        Map<Integer, String> byWidth = images.stream()
+                .collect(Collectors.toMap(
+                        Image::getWidth,
+                        image -> imageStorage.publicUrl(image.getFilePath()),
+                        (first, second) -> first,
+                        TreeMap::new
+                ));
+        return byWidth.entrySet().stream()
+                .map(entry -> entry.getValue() + " " + entry.getKey() + "w")
+                .collect(Collectors.joining(", "));
+    }
+}
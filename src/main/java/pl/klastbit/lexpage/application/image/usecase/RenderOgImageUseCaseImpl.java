@@ -0,0 +1,88 @@
+package pl.klastbit.lexpage.application.image.usecase;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+import pl.klastbit.lexpage.application.article.event.ArticleChangedEvent;
+import pl.klastbit.lexpage.application.image.RenderOgImageUseCase;
+import pl.klastbit.lexpage.application.ports.ImageStorage;
+import pl.klastbit.lexpage.application.ports.OgImageRenderer;
+import pl.klastbit.lexpage.application.user.ports.UserRepository;
+import pl.klastbit.lexpage.domain.article.Article;
+import pl.klastbit.lexpage.domain.article.ArticleRepository;
+import pl.klastbit.lexpage.domain.article.ArticleStatus;
+import pl.klastbit.lexpage.domain.image.ContentHash;
+import pl.klastbit.lexpage.domain.image.Image;
+import pl.klastbit.lexpage.domain.image.ImageFormat;
+import pl.klastbit.lexpage.domain.image.ImageRepository;
+import pl.klastbit.lexpage.domain.image.ImageVariant;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Implementation of RenderOgImageUseCase.
+ * <p>
+ * Rendering is deterministic, so an unchanged title and author produce the same content hash and
+ * nothing is stored. A new preview replaces the previous one and publishes a MEDIA_UPDATED event,
+ * which refreshes cached pages carrying the og:image meta tag.
+ * <p>
+ * Like image uploads, only the image rows are written in a transaction: rendering and PNG encoding
+ * would otherwise hold a pooled connection for the whole job.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RenderOgImageUseCaseImpl implements RenderOgImageUseCase {
+
+    private final ArticleRepository articleRepository;
+    private final UserRepository userRepository;
+    private final ImageRepository imageRepository;
+    private final ImageStorage imageStorage;
+    private final OgImageRenderer ogImageRenderer;
+    private final TransactionOperations transactionOperations;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public boolean execute(Long articleId) {
+        Optional<Article> found = articleRepository.findByIdAndDeletedAtIsNull(articleId);
+        if (found.isEmpty() || found.get().getStatus() != ArticleStatus.PUBLISHED) {
+            log.debug("Article {} is not published, skipping OG image", articleId);
+            return false;
+        }
+        Article article = found.get();
+
+        String authorName = article.getAuthorId() == null ? null : userRepository.findById(article.getAuthorId())
+                .map(user -> user.getUsername())
+                .orElse(null);
+        byte[] png = ogImageRenderer.render(article.getTitle(), authorName);
+        String contentHash = ContentHash.of(png);
+        if (!imageRepository.findByArticleIdAndContentHash(articleId, contentHash).isEmpty()) {
+            log.debug("OG image of article {} is up to date", articleId);
+            return false;
+        }
+
+        String key = imageStorage.store(contentHash, ImageVariant.OG, ImageFormat.PNG, png);
+        Image image = Image.createForArticle(
+                articleId,
+                contentHash,
+                ImageVariant.OG,
+                key.substring(key.lastIndexOf('/') + 1),
+                key,
+                png.length,
+                ImageFormat.PNG,
+                OgImageRenderer.WIDTH,
+                OgImageRenderer.HEIGHT,
+                article.getTitle()
+        );
+        transactionOperations.executeWithoutResult(status -> {
+            imageRepository.saveAll(List.of(image));
+            imageRepository.deleteByArticleIdAndVariantExcept(articleId, ImageVariant.OG, contentHash);
+            eventPublisher.publishEvent(ArticleChangedEvent.of(article, ArticleChangedEvent.ChangeType.MEDIA_UPDATED));
+        });
+        log.info("Stored OG image {} for article {}", contentHash, articleId);
+        return true;
+    }
+}
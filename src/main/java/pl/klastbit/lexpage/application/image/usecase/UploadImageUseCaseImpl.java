@@ -0,0 +1,172 @@
+package pl.klastbit.lexpage.application.image.usecase;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+import pl.klastbit.lexpage.application.article.event.ArticleChangedEvent;
+import pl.klastbit.lexpage.application.image.UploadImageUseCase;
+import pl.klastbit.lexpage.application.image.command.UploadImageCommand;
+import pl.klastbit.lexpage.application.image.dto.ImageFileDto;
+import pl.klastbit.lexpage.application.image.dto.UploadedImageDto;
+import pl.klastbit.lexpage.application.ports.ImageProcessor;
+import pl.klastbit.lexpage.application.ports.ImageStorage;
+import pl.klastbit.lexpage.application.ports.ImageWorkerPool;
+import pl.klastbit.lexpage.domain.article.Article;
+import pl.klastbit.lexpage.domain.article.ArticleRepository;
+import pl.klastbit.lexpage.domain.article.exception.ArticleNotFoundException;
+import pl.klastbit.lexpage.domain.image.ContentHash;
+import pl.klastbit.lexpage.domain.image.Image;
+import pl.klastbit.lexpage.domain.image.ImageFormat;
+import pl.klastbit.lexpage.domain.image.ImageRepository;
+import pl.klastbit.lexpage.domain.image.ImageVariant;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Implementation of UploadImageUseCase.
+ * <p>
+ * The original is stored under its SHA-256 hash; re-uploading the same file for the same
+ * article returns the already stored image. Variants (thumb, card, full - never upscaled) are
+ * generated in parallel on the bounded image worker pool, in the original's format family
+ * (JPEG, or PNG to keep transparency) and additionally as WebP when a WebP encoder is available.
+ * The upload is decoded once, on the pool as well, and all variants are scaled from the decoded image;
+ * request threads never hold a decoded bitmap. The request waits for its variants, so the returned
+ * URLs are immediately usable in srcset.
+ * <p>
+ * Only saving the image rows runs in a transaction (processing would hold a connection for seconds);
+ * it publishes a MEDIA_UPDATED event, so cached pages pick up the new image once the rows are committed.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UploadImageUseCaseImpl implements UploadImageUseCase {
+
+    private static final List<ImageVariant> RESIZED_VARIANTS =
+            List.of(ImageVariant.THUMB, ImageVariant.CARD, ImageVariant.FULL);
+
+    private final ArticleRepository articleRepository;
+    private final ImageRepository imageRepository;
+    private final ImageStorage imageStorage;
+    private final ImageProcessor imageProcessor;
+    private final ImageWorkerPool imageWorkerPool;
+    private final TransactionOperations transactionOperations;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public UploadedImageDto execute(UploadImageCommand command) {
+        if (command.data() == null || command.data().length == 0) {
+            throw new IllegalArgumentException("Image file cannot be empty");
+        }
+        log.info("Uploading image for article {} ({} bytes)", command.articleId(), command.data().length);
+
+        Article article = articleRepository.findByIdAndDeletedAtIsNull(command.articleId())
+                .orElseThrow(() -> new ArticleNotFoundException(command.articleId()));
+
+        ImageProcessor.ImageInfo info = imageProcessor.inspect(command.data());
+        String contentHash = ContentHash.of(command.data());
+
+        List<Image> existing = imageRepository.findByArticleIdAndContentHash(command.articleId(), contentHash);
+        if (!existing.isEmpty()) {
+            log.info("Image {} already stored for article {}", contentHash, command.articleId());
+            return toDto(contentHash, existing);
+        }
+
+        String originalKey = imageStorage.store(contentHash, ImageVariant.ORIGINAL, info.format(), command.data());
+        List<Image> images = new ArrayList<>();
+        images.add(Image.createForArticle(
+                command.articleId(),
+                contentHash,
+                ImageVariant.ORIGINAL,
+                command.originalFileName() != null ? command.originalFileName() : fileName(originalKey),
+                originalKey,
+                command.data().length,
+                info.format(),
+                info.width(),
+                info.height(),
+                command.altText()
+        ));
+        images.addAll(generateVariants(command, contentHash, info));
+
+        List<Image> saved = transactionOperations.execute(status -> {
+            List<Image> stored = imageRepository.saveAll(images);
+            eventPublisher.publishEvent(ArticleChangedEvent.of(article, ArticleChangedEvent.ChangeType.MEDIA_UPDATED));
+            return stored;
+        });
+        log.info("Stored image {} with {} variants for article {}", contentHash, saved.size() - 1, command.articleId());
+        return toDto(contentHash, saved);
+    }
+
+    private List<Image> generateVariants(UploadImageCommand command, String contentHash, ImageProcessor.ImageInfo info) {
+        ImageFormat fallbackFormat = info.format() == ImageFormat.PNG ? ImageFormat.PNG : ImageFormat.JPEG;
+        List<ImageFormat> formats = imageProcessor.canWrite(ImageFormat.WEBP)
+                ? List.of(fallbackFormat, ImageFormat.WEBP)
+                : List.of(fallbackFormat);
+
+        // The decoded bitmap is the large allocation, so decoding is a pool job as well: uploads wait
+        // in the bounded queue as compressed bytes and a saturated pool rejects them before decoding
+        ImageProcessor.DecodedImage decoded = imageWorkerPool.runAll(
+                List.<Supplier<ImageProcessor.DecodedImage>>of(() -> imageProcessor.decode(command.data()))
+        ).getFirst();
+        List<Supplier<Image>> tasks = new ArrayList<>();
+        int previousWidth = 0;
+        for (ImageVariant variant : RESIZED_VARIANTS) {
+            int width = Math.min(variant.getMaxWidth(), info.width());
+            if (width == previousWidth) {
+                break; // original is narrower than this tier, larger tiers would be identical
+            }
+            previousWidth = width;
+            for (ImageFormat format : formats) {
+                tasks.add(() -> createVariant(command, contentHash, decoded, variant, width, format));
+            }
+        }
+        return imageWorkerPool.runAll(tasks);
+    }
+
+    private Image createVariant(UploadImageCommand command, String contentHash, ImageProcessor.DecodedImage decoded,
+                                ImageVariant variant, int width, ImageFormat format) {
+        ImageProcessor.ProcessedImage processed = decoded.resize(width, format);
+        String key = imageStorage.store(contentHash, variant, format, processed.data());
+        return Image.createForArticle(
+                command.articleId(),
+                contentHash,
+                variant,
+                fileName(key),
+                key,
+                processed.data().length,
+                format,
+                processed.width(),
+                processed.height(),
+                command.altText()
+        );
+    }
+
+    private UploadedImageDto toDto(String contentHash, List<Image> images) {
+        List<ImageFileDto> files = images.stream()
+                .sorted(Comparator.comparing(Image::getVariant).thenComparing(Image::getFormat))
+                .map(image -> new ImageFileDto(
+                        image.getId(),
+                        image.getVariant(),
+                        image.getFormat().getMimeType(),
+                        imageStorage.publicUrl(image.getFilePath()),
+                        image.getWidth(),
+                        image.getHeight(),
+                        image.getFileSize()
+                ))
+                .toList();
+        String originalUrl = files.stream()
+                .filter(file -> file.variant() == ImageVariant.ORIGINAL)
+                .map(ImageFileDto::url)
+                .findFirst()
+                .orElse(null);
+        return new UploadedImageDto(contentHash, originalUrl, files);
+    }
+
+    private static String fileName(String key) {
+        return key.substring(key.lastIndexOf('/') + 1);
+    }
+}
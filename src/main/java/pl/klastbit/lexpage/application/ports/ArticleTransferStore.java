@@ -0,0 +1,38 @@
+package pl.klastbit.lexpage.application.ports;
+
+import pl.klastbit.lexpage.application.article.dto.ArticleImportResultDto;
+import pl.klastbit.lexpage.application.article.dto.ArticleImportRow;
+import pl.klastbit.lexpage.application.article.dto.ArticleTransferRecord;
+import pl.klastbit.lexpage.domain.user.UserId;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+/**
+ * Outbound port for bulk export and import of articles.
+ * Infrastructure layer provides the implementation.
+ * <p>
+ * Both directions stream: exported rows are pushed to the consumer while the cursor is open,
+ * imported records are pulled from the iterator while they are written, so neither side holds
+ * the whole data set in memory.
+ */
+public interface ArticleTransferStore {
+
+    /**
+     * Streams all non-deleted articles ordered by ID.
+     *
+     * @param consumer receives each row while the cursor is open
+     */
+    void forEachArticle(Consumer<ArticleTransferRecord> consumer);
+
+    /**
+     * Inserts all records as new articles in the current transaction.
+     * Records must be valid and have a slug; slugs already taken (by existing articles or earlier
+     * records) get a suffix. The lexemes are stored as given.
+     *
+     * @param rows       records to import with their search lexemes, consumed once
+     * @param importedBy author of the imported articles
+     * @return counts of received, imported and renamed records (skipped is always 0)
+     */
+    ArticleImportResultDto importAll(Iterator<ArticleImportRow> rows, UserId importedBy);
+}
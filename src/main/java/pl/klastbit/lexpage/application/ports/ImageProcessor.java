@@ -0,0 +1,47 @@
+package pl.klastbit.lexpage.application.ports;
+
+import pl.klastbit.lexpage.domain.image.ImageFormat;
+
+/**
+ * Outbound port for decoding, resizing and encoding images.
+ * Infrastructure layer provides the implementation.
+ */
+public interface ImageProcessor {
+
+    /**
+     * Reads format and dimensions without decoding pixel data.
+     *
+     * @throws pl.klastbit.lexpage.application.image.exception.InvalidImageException if the data is not a supported image
+     */
+    ImageInfo inspect(byte[] data);
+
+    /**
+     * Decodes pixel data once, so all variants of an upload are produced from the same decoded image.
+     *
+     * @throws pl.klastbit.lexpage.application.image.exception.InvalidImageException if the data is not a supported image
+     */
+    DecodedImage decode(byte[] data);
+
+    /**
+     * Whether images can be encoded in the given format.
+     */
+    boolean canWrite(ImageFormat format);
+
+    /**
+     * Decoded image; may be resized from several threads at once.
+     */
+    interface DecodedImage {
+
+        /**
+         * Scales the image down to at most {@code maxWidth} pixels wide (keeping aspect ratio)
+         * and encodes it in the given format.
+         */
+        ProcessedImage resize(int maxWidth, ImageFormat format);
+    }
+
+    record ImageInfo(ImageFormat format, int width, int height) {
+    }
+
+    record ProcessedImage(byte[] data, ImageFormat format, int width, int height) {
+    }
+}
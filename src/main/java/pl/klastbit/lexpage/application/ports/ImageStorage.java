@@ -0,0 +1,26 @@
+package pl.klastbit.lexpage.application.ports;
+
+import pl.klastbit.lexpage.domain.image.ImageFormat;
+import pl.klastbit.lexpage.domain.image.ImageVariant;
+
+/**
+ * Outbound port for the content-addressed image file store.
+ * Infrastructure layer provides the implementation.
+ * <p>
+ * Files are addressed by the content hash of the original upload, so a stored file never
+ * changes and can be cached indefinitely by clients.
+ */
+public interface ImageStorage {
+
+    /**
+     * Stores a file unless a file with the same key already exists.
+     *
+     * @return storage key (relative path) of the file
+     */
+    String store(String contentHash, ImageVariant variant, ImageFormat format, byte[] data);
+
+    /**
+     * Returns the public URL of a stored file.
+     */
+    String publicUrl(String key);
+}
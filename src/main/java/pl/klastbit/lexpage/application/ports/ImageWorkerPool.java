@@ -0,0 +1,20 @@
+package pl.klastbit.lexpage.application.ports;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Outbound port for the bounded pool running CPU-heavy image jobs.
+ * Infrastructure layer provides the implementation.
+ */
+public interface ImageWorkerPool {
+
+    /**
+     * Runs the tasks in parallel and waits for all of them.
+     *
+     * @return task results in task order
+     * @throws pl.klastbit.lexpage.application.image.exception.ImageProcessingException if the pool is
+     *         saturated, the jobs time out or a job fails with a checked exception
+     */
+    <T> List<T> runAll(List<Supplier<T>> tasks);
+}
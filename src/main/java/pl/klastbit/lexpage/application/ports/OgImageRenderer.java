@@ -0,0 +1,20 @@
+package pl.klastbit.lexpage.application.ports;
+
+/**
+ * Outbound port rendering Open Graph preview images (1200x630 PNG) for social shares.
+ * Infrastructure layer provides the implementation.
+ */
+public interface OgImageRenderer {
+
+    int WIDTH = 1200;
+    int HEIGHT = 630;
+
+    /**
+     * Renders a preview card.
+     *
+     * @param title      article title
+     * @param authorName author shown under the title
+     * @return PNG-encoded image of {@link #WIDTH}x{@link #HEIGHT} pixels
+     */
+    byte[] render(String title, String authorName);
+}
@@ -0,0 +1,37 @@
+package pl.klastbit.lexpage.application.ports;
+
+import pl.klastbit.lexpage.application.article.dto.PublishedArticleRef;
+import pl.klastbit.lexpage.application.article.dto.PublishedArticlesSummary;
+
+import java.util.function.Consumer;
+
+/**
+ * Outbound port for streaming read access to published articles.
+ * Infrastructure layer provides the implementation.
+ * <p>
+ * Rows are pushed to the consumer one by one while the underlying cursor is open,
+ * so arbitrarily large result sets are processed in constant memory.
+ */
+public interface PublishedArticleCatalog {
+
+    /**
+     * Returns count and last modification time of published, non-deleted articles.
+     */
+    PublishedArticlesSummary summary();
+
+    /**
+     * Streams published articles ordered by ID.
+     *
+     * @param offset   number of rows to skip
+     * @param limit    maximum number of rows
+     * @param consumer receives each row while the cursor is open
+     */
+    void forEachPublished(long offset, int limit, Consumer<PublishedArticleRef> consumer);
+
+    /**
+     * Streams all published articles in blog listing order (newest publication first).
+     *
+     * @param consumer receives each row while the cursor is open
+     */
+    void forEachPublishedNewestFirst(Consumer<PublishedArticleRef> consumer);
+}
@@ -22,6 +22,7 @@ public class Article {
     private ArticleStatus status;
     private UserId authorId;
     private LocalDateTime publishedAt;
+    private LocalDateTime scheduledPublishAt;
 
     // SEO fields
     private String metaTitle;
@@ -30,6 +31,9 @@ public class Article {
     private String canonicalUrl;
     private List<String> keywords;
 
+    // Full-text search (set by indexForSearch, not loaded from the database)
+    private String searchLexemes;
+
     // Audit
     private UserId createdBy;
     private UserId updatedBy;
@@ -87,6 +91,7 @@ public class Article {
             ArticleStatus status,
             UserId authorId,
             LocalDateTime publishedAt,
+            LocalDateTime scheduledPublishAt,
             String metaTitle,
             String metaDescription,
             String ogImageUrl,
@@ -107,6 +112,7 @@ public class Article {
         article.status = status;
         article.authorId = authorId;
         article.publishedAt = publishedAt;
+        article.scheduledPublishAt = scheduledPublishAt;
         article.metaTitle = metaTitle;
         article.metaDescription = metaDescription;
         article.ogImageUrl = ogImageUrl;
@@ -125,6 +131,14 @@ public class Article {
      * Business rule: Only DRAFT or ARCHIVED articles can be published.
      */
     public void publish() {
+        publish(LocalDateTime.now());
+    }
+
+    /**
+     * Publishes the article with the given publication time, so articles published together share it.
+     * Business rule: Only DRAFT or ARCHIVED articles can be published.
+     */
+    public void publish(LocalDateTime publishedAt) {
         if (status == ArticleStatus.PUBLISHED) {
             throw new IllegalStateException("Article is already published");
         }
@@ -132,10 +146,46 @@ public class Article {
         validatePublicationRequirements();
 
         this.status = ArticleStatus.PUBLISHED;
-        this.publishedAt = LocalDateTime.now();
+        this.publishedAt = publishedAt;
+        this.scheduledPublishAt = null;
+        this.updatedAt = publishedAt;
+    }
+
+    /**
+     * Schedules automatic publication at the given time.
+     * Business rule: Only DRAFT or ARCHIVED articles meeting publication requirements can be scheduled,
+     * and only for a future time. Rescheduling replaces the previous time.
+     */
+    public void schedulePublication(LocalDateTime publishAt) {
+        Objects.requireNonNull(publishAt, "Publication time cannot be null");
+        if (status == ArticleStatus.PUBLISHED) {
+            throw new IllegalStateException("Article is already published");
+        }
+        if (!publishAt.isAfter(LocalDateTime.now())) {
+            throw new IllegalArgumentException("Publication time must be in the future");
+        }
+
+        validatePublicationRequirements();
+
+        this.scheduledPublishAt = publishAt;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * Cancels a scheduled publication, if any.
+     */
+    public void cancelScheduledPublication() {
+        this.scheduledPublishAt = null;
         this.updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * Checks if a scheduled publication is due at the given time.
+     */
+    public boolean isPublicationDue(LocalDateTime now) {
+        return scheduledPublishAt != null && status != ArticleStatus.PUBLISHED && !scheduledPublishAt.isAfter(now);
+    }
+
     /**
      * Archives the article.
      * Business rule: Only PUBLISHED articles can be archived.
@@ -199,6 +249,13 @@ public class Article {
         this.updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * Sets the search lexemes of the current title and content (see {@link PolishTextAnalyzer}).
+     */
+    public void indexForSearch(String searchLexemes) {
+        this.searchLexemes = searchLexemes;
+    }
+
     /**
      * Soft deletes the article.
      */
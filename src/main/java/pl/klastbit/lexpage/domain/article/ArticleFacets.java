@@ -0,0 +1,35 @@
+package pl.klastbit.lexpage.domain.article;
+
+import pl.klastbit.lexpage.domain.user.UserId;
+
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Article counts per facet value for one set of search criteria.
+ * An article with several SEO keywords is counted once under each of them.
+ * The maps keep the given iteration order.
+ *
+ * @param total    number of matching articles
+ * @param statuses count per status, most frequent first
+ * @param authors  count per author, most frequent first
+ * @param keywords count per SEO keyword, most frequent first
+ * @param months   count per creation month, newest first
+ */
+public record ArticleFacets(
+        long total,
+        Map<ArticleStatus, Long> statuses,
+        Map<UserId, Long> authors,
+        Map<String, Long> keywords,
+        Map<YearMonth, Long> months
+) {
+
+    public ArticleFacets {
+        statuses = Collections.unmodifiableMap(new LinkedHashMap<>(statuses));
+        authors = Collections.unmodifiableMap(new LinkedHashMap<>(authors));
+        keywords = Collections.unmodifiableMap(new LinkedHashMap<>(keywords));
+        months = Collections.unmodifiableMap(new LinkedHashMap<>(months));
+    }
+}
@@ -2,8 +2,10 @@ package pl.klastbit.lexpage.domain.article;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import pl.klastbit.lexpage.domain.user.UserId;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -21,6 +23,57 @@ public interface ArticleRepository {
      */
     Article save(Article article);
 
+    /**
+     * Writes changes of an existing article without reading the saved state back.
+     * Use instead of {@link #save(Article)} when the caller does not need the returned article.
+     *
+     * @param article Existing article to update
+     */
+    void update(Article article);
+
+    /**
+     * Writes a status transition of an existing article (status, publication and schedule times)
+     * without rewriting its content. The row is changed only while it is still in the expected status.
+     *
+     * @param article        Article after the transition
+     * @param expectedStatus Status the article had when it was loaded
+     * @throws pl.klastbit.lexpage.domain.article.exception.InvalidArticleStatusTransitionException
+     *         if the article was changed or deleted concurrently
+     */
+    void transitionStatus(Article article, ArticleStatus expectedStatus);
+
+    /**
+     * Publishes several articles with one statement, without rewriting their content; clears their
+     * publication schedules. The caller checks the transitions beforehand (see {@link #findAllByIdInForUpdate}).
+     *
+     * @param ids         Article IDs
+     * @param publishedAt Publication time set by the domain transition
+     */
+    void publishAll(Collection<Long> ids, LocalDateTime publishedAt);
+
+    /**
+     * Moves several articles back to draft with one statement and clears their publication time.
+     * The caller checks the transitions beforehand (see {@link #findAllByIdInForUpdate}).
+     *
+     * @param ids Article IDs
+     */
+    void unpublishAll(Collection<Long> ids);
+
+    /**
+     * Archives several articles with one statement; their publication time is kept.
+     * The caller checks the transitions beforehand (see {@link #findAllByIdInForUpdate}).
+     *
+     * @param ids Article IDs
+     */
+    void archiveAll(Collection<Long> ids);
+
+    /**
+     * Soft deletes several articles with one statement.
+     *
+     * @param ids Article IDs
+     */
+    void softDeleteAll(Collection<Long> ids);
+
     /**
      * Finds an article by ID (including soft-deleted).
      *
@@ -38,20 +91,29 @@ public interface ArticleRepository {
     Optional<Article> findByIdAndDeletedAtIsNull(Long id);
 
     /**
-     * Finds all articles with pagination (including soft-deleted).
+     * Finds non-deleted articles by IDs with one query. Missing IDs are skipped.
      *
-     * @param pageable Pagination parameters
-     * @return Page of articles
+     * @param ids Article IDs
+     * @return Found articles, in no particular order
      */
-    Page<Article> findAll(Pageable pageable);
+    List<Article> findAllByIdInAndDeletedAtIsNull(Collection<Long> ids);
 
     /**
-     * Finds all non-deleted articles with pagination.
+     * Finds non-deleted articles by IDs and locks their rows until the end of the transaction,
+     * so their status cannot change between the check and the write.
+     *
+     * @param ids Article IDs
+     * @return Found articles, in no particular order
+     */
+    List<Article> findAllByIdInForUpdate(Collection<Long> ids);
+
+    /**
+     * Finds all articles with pagination (including soft-deleted).
      *
      * @param pageable Pagination parameters
-     * @return Page of non-deleted articles
+     * @return Page of articles
      */
-    Page<Article> findAllByDeletedAtIsNull(Pageable pageable);
+    Page<Article> findAll(Pageable pageable);
 
     /**
      * Finds all non-deleted articles by status with pagination.
@@ -63,39 +125,48 @@ public interface ArticleRepository {
     Page<Article> findAllByStatusAndDeletedAtIsNull(ArticleStatus status, Pageable pageable);
 
     /**
-     * Finds all non-deleted articles by author with pagination.
+     * Finds non-deleted articles matching all given criteria with a single query.
      *
-     * @param authorId Author user ID
-     * @param pageable Pagination parameters
-     * @return Page of articles by the author
+     * @param criteria Filters
+     * @param pageable Pagination parameters; sorting only by {@link ArticleSortKey} properties
+     * @return Page of matching articles
+     * @throws IllegalArgumentException if the sort is not supported
      */
-    Page<Article> findAllByAuthorIdAndDeletedAtIsNull(UserId authorId, Pageable pageable);
+    Page<Article> search(ArticleSearchCriteria criteria, Pageable pageable);
 
     /**
-     * Finds all non-deleted articles by status and author with pagination.
+     * Typo-tolerant variant of {@link #search(ArticleSearchCriteria, Pageable)}: the keyword also
+     * matches articles whose title or excerpt contains similar words (trigram similarity).
+     * Full-text matches come first, the rest is ranked by similarity; the sort of the pageable is ignored.
      *
-     * @param status   Article status
-     * @param authorId Author user ID
+     * @param criteria Filters with a keyword
      * @param pageable Pagination parameters
-     * @return Page of articles matching the criteria
+     * @return Page of matching articles
+     * @throws IllegalArgumentException if the criteria have no keyword
      */
-    Page<Article> findAllByStatusAndAuthorIdAndDeletedAtIsNull(
-            ArticleStatus status,
-            UserId authorId,
-            Pageable pageable
-    );
+    Page<Article> searchSimilar(ArticleSearchCriteria criteria, Pageable pageable);
 
     /**
-     * Searches non-deleted articles by keyword (full-text search in title and content).
+     * Counts non-deleted articles matching the criteria per status, author, SEO keyword and
+     * creation month with a single query.
      *
-     * @param keyword  Search keyword
-     * @param pageable Pagination parameters
-     * @return Page of articles matching the keyword
+     * @param criteria Filters (the same as for {@link #search(ArticleSearchCriteria, Pageable)})
+     * @return Counts per facet value
      */
-    Page<Article> searchByKeywordAndDeletedAtIsNull(String keyword, Pageable pageable);
+    ArticleFacets facets(ArticleSearchCriteria criteria);
 
     /**
-     * Deletes an article (hard delete).
+     * Facet counts over the matches of {@link #searchSimilar(ArticleSearchCriteria, Pageable)}, for
+     * listings that fell back to the typo-tolerant search.
+     *
+     * @param criteria Filters with a keyword
+     * @return Counts per facet value
+     * @throws IllegalArgumentException if the criteria have no keyword
+     */
+    ArticleFacets facetsSimilar(ArticleSearchCriteria criteria);
+
+    /**
+     * Soft deletes an article with one statement; the loaded state is not written.
      *
      * @param article Article to delete
      */
@@ -117,4 +188,30 @@ public interface ArticleRepository {
      * @return Optional containing the article if found and matching criteria
      */
     Optional<Article> findBySlugAndStatusAndDeletedAtIsNull(String slug, ArticleStatus status);
+
+    /**
+     * Finds non-deleted, not yet published articles scheduled for publication up to the given time,
+     * ordered by scheduled time.
+     *
+     * @param until Latest scheduled publication time (inclusive)
+     * @return Scheduled articles
+     */
+    List<Article> findScheduledForPublicationUntil(LocalDateTime until);
+
+    /**
+     * Finds non-deleted articles that have no search lexemes yet (created before lexemes existed
+     * or bulk-imported), ordered by ID.
+     *
+     * @param limit Maximum number of articles
+     * @return Articles to index
+     */
+    List<Article> findAllWithoutSearchLexemes(int limit);
+
+    /**
+     * Stores the search lexemes of an article without rewriting the rest of it.
+     *
+     * @param id            Article ID
+     * @param searchLexemes Lexemes of the title and content
+     */
+    void updateSearchLexemes(Long id, String searchLexemes);
 }
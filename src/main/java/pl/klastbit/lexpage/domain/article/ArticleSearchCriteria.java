@@ -0,0 +1,42 @@
+package pl.klastbit.lexpage.domain.article;
+
+import pl.klastbit.lexpage.domain.user.UserId;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Filters for listing non-deleted articles; all given filters apply together.
+ *
+ * @param status      Optional status
+ * @param authorId    Optional author
+ * @param keyword     Optional full-text query over title and content
+ * @param createdFrom Optional lower bound of creation time (inclusive)
+ * @param createdTo   Optional upper bound of creation time (exclusive)
+ * @param keywords    SEO keywords; an article matches when it has at least one of them (empty = no filter)
+ */
+public record ArticleSearchCriteria(
+        ArticleStatus status,
+        UserId authorId,
+        String keyword,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo,
+        List<String> keywords
+) {
+
+    public ArticleSearchCriteria {
+        keyword = keyword == null || keyword.isBlank() ? null : keyword.trim();
+        keywords = keywords == null ? List.of() : keywords.stream()
+                .filter(value -> value != null && !value.isBlank())
+                .map(String::trim)
+                .distinct()
+                .toList();
+        if (createdFrom != null && createdTo != null && !createdFrom.isBefore(createdTo)) {
+            throw new IllegalArgumentException("createdFrom must be before createdTo");
+        }
+    }
+
+    public static ArticleSearchCriteria of(ArticleStatus status, UserId authorId, String keyword) {
+        return new ArticleSearchCriteria(status, authorId, keyword, null, null, List.of());
+    }
+}
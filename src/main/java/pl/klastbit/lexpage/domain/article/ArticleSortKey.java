@@ -0,0 +1,35 @@
+package pl.klastbit.lexpage.domain.article;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Fields article lists can be sorted by, in either direction.
+ * Only fields backed by an index are listed, so no listing has to sort the whole table.
+ */
+public enum ArticleSortKey {
+    CREATED_AT("createdAt"),
+    PUBLISHED_AT("publishedAt");
+
+    private final String property;
+
+    ArticleSortKey(String property) {
+        this.property = property;
+    }
+
+    public String property() {
+        return property;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the property is not sortable
+     */
+    public static ArticleSortKey fromProperty(String property) {
+        return Arrays.stream(values())
+                .filter(key -> key.property.equals(property))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported sort field: " + property
+                        + " (allowed: " + Arrays.stream(values()).map(ArticleSortKey::property)
+                        .collect(Collectors.joining(", ")) + ")"));
+    }
+}
@@ -0,0 +1,63 @@
+package pl.klastbit.lexpage.domain.article;
+
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Extracts the readable text of article content, which is stored as editor HTML.
+ * <p>
+ * Tags are replaced by spaces (script and style bodies and comments are dropped with them) and
+ * character references are decoded afterwards, so an escaped {@code &lt;} never starts a tag.
+ * Numeric references and the named ones the editor writes (Latin-1, Polish letters, typography)
+ * are decoded; any other named reference becomes a space.
+ */
+final class HtmlText {
+
+    private static final Pattern NON_TEXT = Pattern.compile(
+            "<!--.*?-->|<(script|style)\\b[^>]*>.*?</\\1\\s*>", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+    private static final Pattern TAG = Pattern.compile("<[^>]*>");
+    private static final Pattern REFERENCE = Pattern.compile("&(#[0-9]{1,7}|#[xX][0-9a-fA-F]{1,6}|[a-zA-Z][a-zA-Z0-9]*);");
+
+    private static final Map<String, String> NAMED_REFERENCES = Map.ofEntries(
+            Map.entry("amp", "&"), Map.entry("lt", "<"), Map.entry("gt", ">"),
+            Map.entry("quot", "\""), Map.entry("apos", "'"), Map.entry("nbsp", " "),
+            Map.entry("oacute", "ó"), Map.entry("Oacute", "Ó"),
+            Map.entry("aogon", "ą"), Map.entry("Aogon", "Ą"), Map.entry("eogon", "ę"), Map.entry("Eogon", "Ę"),
+            Map.entry("cacute", "ć"), Map.entry("Cacute", "Ć"), Map.entry("nacute", "ń"), Map.entry("Nacute", "Ń"),
+            Map.entry("sacute", "ś"), Map.entry("Sacute", "Ś"), Map.entry("zacute", "ź"), Map.entry("Zacute", "Ź"),
+            Map.entry("zdot", "ż"), Map.entry("Zdot", "Ż"), Map.entry("lstrok", "ł"), Map.entry("Lstrok", "Ł"),
+            Map.entry("auml", "ä"), Map.entry("ouml", "ö"), Map.entry("uuml", "ü"), Map.entry("szlig", "ß"),
+            Map.entry("eacute", "é"), Map.entry("egrave", "è"), Map.entry("aacute", "á"), Map.entry("ccedil", "ç"),
+            Map.entry("sect", "§"), Map.entry("para", "¶"), Map.entry("deg", "°"), Map.entry("shy", ""),
+            Map.entry("ndash", "–"), Map.entry("mdash", "—"), Map.entry("hellip", "…"),
+            Map.entry("bdquo", "„"), Map.entry("ldquo", "“"), Map.entry("rdquo", "”"),
+            Map.entry("lsquo", "‘"), Map.entry("rsquo", "’"), Map.entry("laquo", "«"), Map.entry("raquo", "»")
+    );
+
+    private HtmlText() {
+    }
+
+    /**
+     * Converts HTML into plain text.
+     *
+     * @param html HTML fragment (may be null)
+     * @return Text without markup, or null for null input
+     */
+    static String plainText(String html) {
+        if (html == null) {
+            return null;
+        }
+        String text = TAG.matcher(NON_TEXT.matcher(html).replaceAll(" ")).replaceAll(" ");
+        return REFERENCE.matcher(text).replaceAll(reference -> Matcher.quoteReplacement(decode(reference.group(1))));
+    }
+
+    private static String decode(String reference) {
+        if (reference.charAt(0) != '#') {
+            return NAMED_REFERENCES.getOrDefault(reference, " ");
+        }
+        boolean hex = reference.length() > 1 && (reference.charAt(1) == 'x' || reference.charAt(1) == 'X');
+        int codePoint = Integer.parseInt(reference.substring(hex ? 2 : 1), hex ? 16 : 10);
+        return Character.isValidCodePoint(codePoint) ? Character.toString(codePoint) : " ";
+    }
+}
@@ -0,0 +1,151 @@
+package pl.klastbit.lexpage.domain.article;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Normalizes Polish text into search lexemes, so inflected forms of a word match each other
+ * ("umowa", "umowy", "umowie", "umów" all become "umow").
+ * <p>
+ * A light stemmer: the longest inflectional suffix is stripped as long as at least
+ * {@value #MIN_STEM_LENGTH} characters remain, then diacritics are folded. Consonant alternations
+ * ("sąd" / "sądzie") and the mobile e ("najem" / "najmu") are not handled. Articles and search
+ * queries must go through the same analyzer, otherwise their lexemes do not match; articles go
+ * through {@link #analyzeArticle(String, String)}, which drops their markup first.
+ */
+public final class PolishTextAnalyzer {
+
+    private static final int MIN_STEM_LENGTH = 3;
+
+    private static final Pattern WORD = Pattern.compile("[\\p{L}\\p{N}]+");
+
+    // Longest first, so "ie" is stripped before "e" and "ych" before "y"
+    private static final List<String> SUFFIXES = Stream.of(
+                    // verbal nouns and abstract nouns
+                    "aniach", "eniach", "aniami", "eniami", "aniem", "eniem", "ania", "enia", "aniu", "eniu",
+                    "anie", "enie", "ościach", "ościami", "ością", "ościom", "ości", "ość",
+                    // verbs
+                    "owała", "owało", "owali", "owały", "ować", "ował", "ują", "uje",
+                    // adjectives
+                    "owego", "owemu", "owych", "owymi", "ego", "emu", "ych", "ymi", "ich", "imi", "ej", "ym", "im",
+                    // nouns
+                    "ach", "ami", "iem", "owi", "om", "ów", "em", "ie",
+                    // single-letter endings
+                    "ą", "ę", "a", "e", "i", "o", "u", "y", "ć"
+            )
+            .sorted(Comparator.comparingInt(String::length).reversed())
+            .toList();
+
+    private PolishTextAnalyzer() {
+    }
+
+    /**
+     * Converts texts into space-separated lexemes for indexing.
+     *
+     * @param texts Texts to analyze; nulls are skipped
+     * @return Lexemes in text order (empty if there are no words)
+     */
+    public static String analyze(String... texts) {
+        StringBuilder lexemes = new StringBuilder();
+        for (String text : texts) {
+            if (text == null) {
+                continue;
+            }
+            Matcher word = WORD.matcher(text);
+            while (word.find()) {
+                if (!lexemes.isEmpty()) {
+                    lexemes.append(' ');
+                }
+                lexemes.append(stem(word.group()));
+            }
+        }
+        return lexemes.toString();
+    }
+
+    /**
+     * Converts an article into lexemes for indexing. The content is editor HTML: only its text is
+     * analyzed, so tag names, attributes and character references do not become lexemes.
+     *
+     * @param title   Article title
+     * @param content Article content (HTML)
+     * @return Lexemes of the title and the content text
+     */
+    public static String analyzeArticle(String title, String content) {
+        return analyze(title, HtmlText.plainText(content));
+    }
+
+    /**
+     * Converts a search query in {@code websearch_to_tsquery} syntax into lexemes. Words are stemmed
+     * like in {@link #analyze(String...)}; quotes, a leading {@code -} and {@code or} keep their meaning.
+     *
+     * @param query User query
+     * @return Query over lexemes
+     */
+    public static String analyzeQuery(String query) {
+        StringBuilder analyzed = new StringBuilder();
+        Matcher word = WORD.matcher(query);
+        int last = 0;
+        while (word.find()) {
+            appendOperators(analyzed, query.substring(last, word.start()), last == 0);
+            analyzed.append(stem(word.group()));
+            last = word.end();
+        }
+        appendOperators(analyzed, query.substring(last), last == 0);
+        return analyzed.toString().replaceAll("\\s+", " ").trim();
+    }
+
+    /**
+     * Stems a single word: lower-cases it, strips the longest inflectional suffix and folds diacritics.
+     */
+    static String stem(String word) {
+        String lower = word.toLowerCase(Locale.ROOT);
+        for (String suffix : SUFFIXES) {
+            if (lower.endsWith(suffix) && lower.length() - suffix.length() >= MIN_STEM_LENGTH) {
+                lower = lower.substring(0, lower.length() - suffix.length());
+                break;
+            }
+        }
+        return fold(lower);
+    }
+
+    /**
+     * Keeps the characters of a separator that are websearch operators: whitespace, quotes and a minus
+     * starting a token. Any other punctuation becomes a space ("e-mail" is two words, not a negation).
+     */
+    private static void appendOperators(StringBuilder analyzed, String separator, boolean queryStart) {
+        boolean tokenStart = queryStart;
+        for (char c : separator.toCharArray()) {
+            if (Character.isWhitespace(c) || c == '"') {
+                analyzed.append(c == '"' ? '"' : ' ');
+                tokenStart = true;
+            } else if (c == '-' && tokenStart) {
+                analyzed.append(c);
+            } else {
+                analyzed.append(' ');
+                tokenStart = false;
+            }
+        }
+    }
+
+    private static String fold(String word) {
+        StringBuilder folded = new StringBuilder(word.length());
+        for (char c : word.toCharArray()) {
+            folded.append(switch (c) {
+                case 'ą' -> 'a';
+                case 'ć' -> 'c';
+                case 'ę' -> 'e';
+                case 'ł' -> 'l';
+                case 'ń' -> 'n';
+                case 'ó' -> 'o';
+                case 'ś' -> 's';
+                case 'ź', 'ż' -> 'z';
+                default -> c;
+            });
+        }
+        return folded.toString();
+    }
+}
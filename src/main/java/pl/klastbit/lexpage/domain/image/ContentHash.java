@@ -0,0 +1,22 @@
+package pl.klastbit.lexpage.domain.image;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Content address of stored image files (lowercase hex SHA-256).
+ */
+public final class ContentHash {
+
+    private ContentHash() {
+    }
+
+    public static String of(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package pl.klastbit.lexpage.domain.image;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Image Domain Entity.
+ * One stored file of an uploaded image: the original or one of its resized variants.
+ * All files of one upload share the SHA-256 content hash of the original.
+ */
+@Getter
+public class Image {
+
+    public static final String ENTITY_TYPE_ARTICLE = "article";
+
+    private Long id;
+    private String entityType;
+    private Long entityId;
+    private String contentHash;
+    private ImageVariant variant;
+    private String fileName;
+    private String filePath;
+    private long fileSize;
+    private ImageFormat format;
+    private int width;
+    private int height;
+    private String altText;
+    private int displayOrder;
+    private LocalDateTime createdAt;
+
+    private Image() {}
+
+    /**
+     * Factory method for a newly stored file attached to an article.
+     */
+    public static Image createForArticle(
+            Long articleId,
+            String contentHash,
+            ImageVariant variant,
+            String fileName,
+            String filePath,
+            long fileSize,
+            ImageFormat format,
+            int width,
+            int height,
+            String altText
+    ) {
+        if (fileSize <= 0) {
+            throw new IllegalArgumentException("File size must be positive");
+        }
+        Image image = new Image();
+        image.entityType = ENTITY_TYPE_ARTICLE;
+        image.entityId = Objects.requireNonNull(articleId, "Article ID cannot be null");
+        image.contentHash = Objects.requireNonNull(contentHash, "Content hash cannot be null");
+        image.variant = Objects.requireNonNull(variant, "Variant cannot be null");
+        image.fileName = Objects.requireNonNull(fileName, "File name cannot be null");
+        image.filePath = Objects.requireNonNull(filePath, "File path cannot be null");
+        image.fileSize = fileSize;
+        image.format = Objects.requireNonNull(format, "Format cannot be null");
+        image.width = width;
+        image.height = height;
+        image.altText = altText;
+        image.createdAt = LocalDateTime.now();
+        return image;
+    }
+
+    /**
+     * Factory method to reconstruct an existing image from database.
+     * Used by infrastructure layer mappers. No business validation applied.
+     */
+    public static Image ofExisting(
+            Long id,
+            String entityType,
+            Long entityId,
+            String contentHash,
+            ImageVariant variant,
+            String fileName,
+            String filePath,
+            long fileSize,
+            ImageFormat format,
+            int width,
+            int height,
+            String altText,
+            int displayOrder,
+            LocalDateTime createdAt
+    ) {
+        Image image = new Image();
+        image.id = id;
+        image.entityType = entityType;
+        image.entityId = entityId;
+        image.contentHash = contentHash;
+        image.variant = variant;
+        image.fileName = fileName;
+        image.filePath = filePath;
+        image.fileSize = fileSize;
+        image.format = format;
+        image.width = width;
+        image.height = height;
+        image.altText = altText;
+        image.displayOrder = displayOrder;
+        image.createdAt = createdAt;
+        return image;
+    }
+}
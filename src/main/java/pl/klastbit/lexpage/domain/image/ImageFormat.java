@@ -0,0 +1,41 @@
+package pl.klastbit.lexpage.domain.image;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Image encodings handled by the image pipeline.
+ */
+public enum ImageFormat {
+    JPEG("image/jpeg", "jpg"),
+    PNG("image/png", "png"),
+    WEBP("image/webp", "webp");
+
+    private final String mimeType;
+    private final String extension;
+
+    ImageFormat(String mimeType, String extension) {
+        this.mimeType = mimeType;
+        this.extension = extension;
+    }
+
+    public String getMimeType() {
+        return mimeType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public static Optional<ImageFormat> fromMimeType(String mimeType) {
+        return Arrays.stream(values())
+                .filter(format -> format.mimeType.equalsIgnoreCase(mimeType))
+                .findFirst();
+    }
+
+    public static Optional<ImageFormat> fromExtension(String extension) {
+        return Arrays.stream(values())
+                .filter(format -> format.extension.equalsIgnoreCase(extension))
+                .findFirst();
+    }
+}
@@ -0,0 +1,36 @@
+package pl.klastbit.lexpage.domain.image;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository port interface for stored images.
+ * Part of domain layer - defines contract without implementation details.
+ */
+public interface ImageRepository {
+
+    /**
+     * Saves all given image files.
+     */
+    List<Image> saveAll(List<Image> images);
+
+    /**
+     * Finds all stored files (original and variants) of one upload, across all entities.
+     */
+    List<Image> findByContentHash(String contentHash);
+
+    /**
+     * Finds stored files of one upload attached to an article.
+     */
+    List<Image> findByArticleIdAndContentHash(Long articleId, String contentHash);
+
+    /**
+     * Finds the newest stored file of the given variant attached to an article.
+     */
+    Optional<Image> findLatestByArticleIdAndVariant(Long articleId, ImageVariant variant);
+
+    /**
+     * Soft deletes files of the given variant attached to an article, except those with the given hash.
+     */
+    void deleteByArticleIdAndVariantExcept(Long articleId, ImageVariant variant, String keptContentHash);
+}
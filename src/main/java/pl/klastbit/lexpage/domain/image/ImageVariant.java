@@ -0,0 +1,26 @@
+package pl.klastbit.lexpage.domain.image;
+
+/**
+ * Stored renditions of an image.
+ * Resized variants are never wider than the original; OG is a generated 1200x630 social preview.
+ */
+public enum ImageVariant {
+    ORIGINAL(0),
+    THUMB(320),
+    CARD(640),
+    FULL(1280),
+    OG(1200);
+
+    private final int maxWidth;
+
+    ImageVariant(int maxWidth) {
+        this.maxWidth = maxWidth;
+    }
+
+    /**
+     * Target width in pixels; 0 for the original.
+     */
+    public int getMaxWidth() {
+        return maxWidth;
+    }
+}
@@ -1,28 +1,46 @@
 package pl.klastbit.lexpage.infrastructure.adapters.ai;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.model.ChatModel;
 import org.springframework.ai.chat.prompt.Prompt;
 import org.springframework.ai.converter.BeanOutputConverter;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Component;
 import pl.klastbit.lexpage.application.article.dto.AIGeneratedContentDto;
 import pl.klastbit.lexpage.application.article.exception.AIGenerationException;
 import pl.klastbit.lexpage.application.ports.ArticleAIPort;
 import pl.klastbit.lexpage.infrastructure.adapters.ai.service.MarkdownToHtmlConverter;
+import pl.klastbit.lexpage.infrastructure.config.AIProperties;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Spring AI adapter implementation for ArticleAIPort.
  * Integrates with OpenRouter API to generate article content using AI.
+ * <p>
+ * Concurrent calls are limited by a semaphore rather than a thread pool, so waiting
+ * callers park cheaply when running on virtual threads.
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class SpringAIArticleAdapter implements ArticleAIPort {
 
-    private final ChatModel chatModel;
+    private final ObjectProvider<ChatModel> chatModel;
     private final MarkdownToHtmlConverter markdownConverter;
+    private final Semaphore permits;
+    private final Duration acquireTimeout;
+
+    public SpringAIArticleAdapter(ObjectProvider<ChatModel> chatModel,
+                                  MarkdownToHtmlConverter markdownConverter,
+                                  AIProperties aiProperties) {
+        this.chatModel = chatModel;
+        this.markdownConverter = markdownConverter;
+        this.permits = new Semaphore(aiProperties.getMaxConcurrentRequests(), true);
+        this.acquireTimeout = aiProperties.getAcquireTimeout();
+    }
 
     private static final String SYSTEM_PROMPT = """
         You are a professional Polish content writer.
@@ -47,13 +65,14 @@ public class SpringAIArticleAdapter implements ArticleAIPort {
     public AIGeneratedContentDto generateArticleContent(String userPrompt) {
         log.info("Generating article with AI. Prompt length: {}", userPrompt.length());
 
+        acquirePermit();
         try {
             var outputConverter = new BeanOutputConverter<>(AIResponse.class);
             String format = outputConverter.getFormat();
             String fullPrompt = SYSTEM_PROMPT + "\n\nUser request: " + userPrompt +
                 "\n\nFormat: " + format;
 
-            String response = chatModel.call(new Prompt(fullPrompt))
+            String response = chatModel.getObject().call(new Prompt(fullPrompt))
                 .getResult()
                 .getOutput()
                 .getText();
@@ -78,6 +97,19 @@ public class SpringAIArticleAdapter implements ArticleAIPort {
         } catch (Exception e) {
             log.error("Unexpected error during AI generation", e);
             throw new AIGenerationException("AI generation failed: " + e.getMessage(), e);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void acquirePermit() {
+        try {
+            if (!permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new AIGenerationException("AI service is busy, please try again later");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AIGenerationException("AI generation interrupted", e);
         }
     }
 
@@ -7,10 +7,18 @@ import org.springframework.ai.openai.api.OpenAiApi;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+import pl.klastbit.lexpage.infrastructure.config.AIProperties;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
 
 /**
  * Spring AI configuration for OpenRouter integration.
  * Manually configures ChatModel bean with OpenRouter endpoint.
+ * The bean is lazy - it is built on the first AI generation request, not during startup.
  */
 @Configuration
 public class SpringAIConfiguration {
@@ -31,10 +39,18 @@ public class SpringAIConfiguration {
     private Integer maxTokens;
 
     @Bean
-    public ChatModel chatModel() {
+    @Lazy
+    public ChatModel chatModel(AIProperties aiProperties) {
+        // JDK HttpClient blocks by parking, so a slow completion only holds a (virtual) thread
+        var requestFactory = new JdkClientHttpRequestFactory(HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .build());
+        requestFactory.setReadTimeout(aiProperties.getReadTimeout());
+
         // Use OpenAiApi builder
         var api = OpenAiApi.builder()
             .baseUrl(baseUrl)
+            .restClientBuilder(RestClient.builder().requestFactory(requestFactory))
             .apiKey(() -> apiKey)
             .completionsPath("/chat/completions")  // baseUrl already contains /api/v1
             .embeddingsPath("/embeddings")          // baseUrl already contains /api/v1
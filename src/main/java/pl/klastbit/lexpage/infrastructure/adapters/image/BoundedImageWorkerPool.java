@@ -0,0 +1,83 @@
+package pl.klastbit.lexpage.infrastructure.adapters.image;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+import pl.klastbit.lexpage.application.image.exception.ImageProcessingException;
+import pl.klastbit.lexpage.application.ports.ImageWorkerPool;
+import pl.klastbit.lexpage.infrastructure.config.ImageProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Fixed-size implementation of ImageWorkerPool.
+ * <p>
+ * Resizing is CPU and memory heavy, so it runs on a small fixed pool with a bounded queue
+ * instead of on request threads. When the queue is full, new jobs are rejected and the upload
+ * fails fast with 503 rather than piling up decoded images in memory.
+ * The pool is deliberately not exposed as an {@code Executor} bean, so it cannot replace
+ * the application task executor.
+ * Infrastructure layer in Hexagonal Architecture (Outbound Adapter).
+ */
+@Component
+@Slf4j
+public class BoundedImageWorkerPool implements ImageWorkerPool, DisposableBean {
+
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+
+    public BoundedImageWorkerPool(ImageProperties properties) {
+        this.executor = new ThreadPoolExecutor(
+                properties.getWorkerThreads(),
+                properties.getWorkerThreads(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                Thread.ofPlatform().name("image-worker-", 0).factory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.timeout = properties.getProcessingTimeout();
+    }
+
+    @Override
+    public <T> List<T> runAll(List<Supplier<T>> tasks) {
+        List<CompletableFuture<T>> futures = new ArrayList<>(tasks.size());
+        try {
+            for (Supplier<T> task : tasks) {
+                futures.add(CompletableFuture.supplyAsync(task, executor));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                    .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            log.warn("Image worker pool saturated ({} queued)", executor.getQueue().size());
+            throw new ImageProcessingException("Image processing queue is full, try again later", e);
+        } catch (TimeoutException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw new ImageProcessingException("Image processing timed out after " + timeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ImageProcessingException("Image processing interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new ImageProcessingException("Image processing failed", e.getCause());
+        }
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,164 @@
+package pl.klastbit.lexpage.infrastructure.adapters.image;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import pl.klastbit.lexpage.application.image.exception.ImageProcessingException;
+import pl.klastbit.lexpage.application.image.exception.InvalidImageException;
+import pl.klastbit.lexpage.application.ports.ImageProcessor;
+import pl.klastbit.lexpage.domain.image.ImageFormat;
+import pl.klastbit.lexpage.infrastructure.config.ImageProperties;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Locale;
+
+/**
+ * Java2D / ImageIO implementation of ImageProcessor port.
+ * <p>
+ * Reads and writes JPEG, PNG and WebP (the WebP ImageIO plugin is a runtime dependency). An upload
+ * is decoded once and every variant is scaled from that image. Downscaling halves the image with
+ * bilinear interpolation until close to the target, which keeps quality close to bicubic at a
+ * fraction of the cost. JPEG output is flattened on a white background. Should the WebP plugin
+ * fail to load on a platform, {@link #canWrite} reports false and only JPEG/PNG variants are produced.
+ * Infrastructure layer in Hexagonal Architecture (Outbound Adapter).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class Java2DImageProcessor implements ImageProcessor {
+
+    private final ImageProperties properties;
+
+    @Override
+    public ImageInfo inspect(byte[] data) {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(data))) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) {
+                throw new InvalidImageException("Unsupported image format");
+            }
+            ImageReader reader = readers.next();
+            try {
+                ImageFormat format = formatOf(reader.getFormatName());
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > properties.getMaxPixels()) {
+                    throw new InvalidImageException("Image too large: " + width + "x" + height);
+                }
+                return new ImageInfo(format, width, height);
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            throw new InvalidImageException("Unreadable image", e);
+        }
+    }
+
+    @Override
+    public DecodedImage decode(byte[] data) {
+        BufferedImage source;
+        try {
+            source = ImageIO.read(new ByteArrayInputStream(data));
+        } catch (IOException e) {
+            throw new InvalidImageException("Unreadable image", e);
+        }
+        if (source == null) {
+            throw new InvalidImageException("Unsupported image format");
+        }
+        // Variants only read the source pixels, so they can be scaled in parallel
+        return (maxWidth, format) -> resize(source, maxWidth, format);
+    }
+
+    @Override
+    public boolean canWrite(ImageFormat format) {
+        return ImageIO.getImageWritersByMIMEType(format.getMimeType()).hasNext();
+    }
+
+    private ProcessedImage resize(BufferedImage source, int maxWidth, ImageFormat format) {
+        BufferedImage scaled = scale(source, maxWidth, format != ImageFormat.JPEG);
+        try {
+            return new ProcessedImage(encode(scaled, format), format, scaled.getWidth(), scaled.getHeight());
+        } catch (IOException e) {
+            throw new ImageProcessingException("Failed to resize image", e);
+        }
+    }
+
+    private static BufferedImage scale(BufferedImage source, int maxWidth, boolean keepAlpha) {
+        int targetWidth = Math.min(maxWidth, source.getWidth());
+        int targetHeight = Math.max(1, (int) Math.round((double) source.getHeight() * targetWidth / source.getWidth()));
+        int type = keepAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            BufferedImage next = new BufferedImage(width, height, type);
+            Graphics2D graphics = next.createGraphics();
+            try {
+                if (!keepAlpha) {
+                    graphics.setColor(Color.WHITE);
+                    graphics.fillRect(0, 0, width, height);
+                }
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = next;
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    private byte[] encode(BufferedImage image, ImageFormat format) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByMIMEType(format.getMimeType());
+        if (!writers.hasNext()) {
+            throw new ImageProcessingException("No encoder available for " + format.getMimeType());
+        }
+        ImageWriter writer = writers.next();
+        var buffer = new ByteArrayOutputStream(Math.max(1024, image.getWidth() * image.getHeight() / 8));
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(buffer)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (format != ImageFormat.PNG && param.canWriteCompressed()) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                if (param.getCompressionType() == null && param.getCompressionTypes().length > 0) {
+                    param.setCompressionType(param.getCompressionTypes()[0]);
+                }
+                param.setCompressionQuality(properties.getJpegQuality());
+            }
+            if (format == ImageFormat.JPEG && param.canWriteProgressive()) {
+                param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return buffer.toByteArray();
+    }
+
+    private static ImageFormat formatOf(String formatName) {
+        return switch (formatName.toLowerCase(Locale.ROOT)) {
+            case "jpeg", "jpg" -> ImageFormat.JPEG;
+            case "png" -> ImageFormat.PNG;
+            case "webp" -> ImageFormat.WEBP;
+            default -> throw new InvalidImageException("Unsupported image format: " + formatName);
+        };
+    }
+}
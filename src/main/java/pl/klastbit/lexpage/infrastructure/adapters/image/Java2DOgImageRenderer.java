@@ -0,0 +1,148 @@
+package pl.klastbit.lexpage.infrastructure.adapters.image;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import pl.klastbit.lexpage.application.image.exception.ImageProcessingException;
+import pl.klastbit.lexpage.application.ports.OgImageRenderer;
+import pl.klastbit.lexpage.infrastructure.config.SiteProperties;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Headless Java2D implementation of OgImageRenderer port.
+ * <p>
+ * Draws the site brand, the wrapped article title (font shrinks for long titles, at most four lines)
+ * and the author on a gradient in the site's primary colours. Output is deterministic for the same
+ * input, which lets callers skip storing unchanged previews.
+ * Infrastructure layer in Hexagonal Architecture (Outbound Adapter).
+ */
+@Component
+@RequiredArgsConstructor
+public class Java2DOgImageRenderer implements OgImageRenderer {
+
+    private static final Color BACKGROUND_TOP = new Color(0x082f49);     // primary-950
+    private static final Color BACKGROUND_BOTTOM = new Color(0x075985);  // primary-800
+    private static final Color ACCENT = new Color(0xcc2251);             // burgundy-600
+    private static final Color MUTED_TEXT = new Color(0xbae6fd);         // primary-200
+
+    private static final int PADDING = 80;
+    private static final int MAX_TITLE_LINES = 4;
+    private static final int[] TITLE_FONT_SIZES = {68, 60, 52, 46};
+
+    private final SiteProperties siteProperties;
+
+    @Override
+    public byte[] render(String title, String authorName) {
+        BufferedImage image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            g.setRenderingHint(RenderingHints.KEY_FRACTIONALMETRICS, RenderingHints.VALUE_FRACTIONALMETRICS_ON);
+
+            g.setPaint(new GradientPaint(0, 0, BACKGROUND_TOP, WIDTH, HEIGHT, BACKGROUND_BOTTOM));
+            g.fillRect(0, 0, WIDTH, HEIGHT);
+            g.setColor(ACCENT);
+            g.fillRect(0, HEIGHT - 16, WIDTH, 16);
+
+            g.setColor(Color.WHITE);
+            g.setFont(new Font(Font.SANS_SERIF, Font.BOLD, 36));
+            g.drawString(siteProperties.getTitle(), PADDING, PADDING + 20);
+
+            drawTitle(g, title);
+
+            g.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 30));
+            g.setColor(MUTED_TEXT);
+            int footerBaseline = HEIGHT - PADDING + 10;
+            if (authorName != null && !authorName.isBlank()) {
+                g.drawString(authorName, PADDING, footerBaseline);
+            }
+            String host = host();
+            g.drawString(host, WIDTH - PADDING - g.getFontMetrics().stringWidth(host), footerBaseline);
+        } finally {
+            g.dispose();
+        }
+        return encode(image);
+    }
+
+    private void drawTitle(Graphics2D g, String title) {
+        int maxWidth = WIDTH - 2 * PADDING;
+        List<String> lines = List.of();
+        for (int size : TITLE_FONT_SIZES) {
+            g.setFont(new Font(Font.SANS_SERIF, Font.BOLD, size));
+            lines = wrap(title, g.getFontMetrics(), maxWidth);
+            if (lines.size() <= MAX_TITLE_LINES - 1) {
+                break;
+            }
+        }
+        if (lines.size() > MAX_TITLE_LINES) {
+            lines = new ArrayList<>(lines.subList(0, MAX_TITLE_LINES));
+            lines.set(MAX_TITLE_LINES - 1, ellipsize(lines.get(MAX_TITLE_LINES - 1), g.getFontMetrics(), maxWidth));
+        }
+
+        FontMetrics metrics = g.getFontMetrics();
+        int lineHeight = (int) (metrics.getHeight() * 1.1);
+        int blockHeight = lineHeight * lines.size();
+        int y = (HEIGHT - blockHeight) / 2 + metrics.getAscent();
+        g.setColor(Color.WHITE);
+        for (String line : lines) {
+            g.drawString(line, PADDING, y);
+            y += lineHeight;
+        }
+    }
+
+    private static List<String> wrap(String text, FontMetrics metrics, int maxWidth) {
+        List<String> lines = new ArrayList<>();
+        StringBuilder line = new StringBuilder();
+        for (String word : text.trim().split("\\s+")) {
+            String candidate = line.isEmpty() ? word : line + " " + word;
+            if (metrics.stringWidth(candidate) <= maxWidth || line.isEmpty()) {
+                line.setLength(0);
+                line.append(candidate);
+            } else {
+                lines.add(line.toString());
+                line.setLength(0);
+                line.append(word);
+            }
+        }
+        if (!line.isEmpty()) {
+            lines.add(line.toString());
+        }
+        return lines;
+    }
+
+    private static String ellipsize(String line, FontMetrics metrics, int maxWidth) {
+        String text = line;
+        while (!text.isEmpty() && metrics.stringWidth(text + "…") > maxWidth) {
+            text = text.substring(0, text.length() - 1);
+        }
+        return text.stripTrailing() + "…";
+    }
+
+    private String host() {
+        String host = URI.create(siteProperties.getBaseUrl()).getHost();
+        return host != null ? host : siteProperties.getBaseUrl();
+    }
+
+    private static byte[] encode(BufferedImage image) {
+        try {
+            ByteArrayOutputStream output = new ByteArrayOutputStream(64 * 1024);
+            ImageIO.write(image, "png", output);
+            return output.toByteArray();
+        } catch (IOException e) {
+            throw new ImageProcessingException("Failed to encode OG image", e);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package pl.klastbit.lexpage.infrastructure.adapters.image;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import pl.klastbit.lexpage.application.image.exception.ImageProcessingException;
+import pl.klastbit.lexpage.application.ports.ImageStorage;
+import pl.klastbit.lexpage.domain.image.ImageFormat;
+import pl.klastbit.lexpage.domain.image.ImageVariant;
+import pl.klastbit.lexpage.infrastructure.config.ImageProperties;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Locale;
+
+/**
+ * Local file system implementation of ImageStorage port.
+ * <p>
+ * Layout: {@code {storage-dir}/{ab}/{cd}/{hash}.{ext}} for originals and
+ * {@code {storage-dir}/{ab}/{cd}/{hash}-{variant}.{ext}} for variants, where {@code ab} and
+ * {@code cd} are the first two byte pairs of the hash (keeps directories small).
+ * Files are written to a temporary file and atomically renamed; an existing key is never rewritten.
+ * Infrastructure layer in Hexagonal Architecture (Outbound Adapter).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LocalImageStorage implements ImageStorage {
+
+    public static final String PUBLIC_PATH = "/media/";
+
+    private final ImageProperties properties;
+
+    @Override
+    public String store(String contentHash, ImageVariant variant, ImageFormat format, byte[] data) {
+        String key = key(contentHash, variant, format);
+        Path target = root().resolve(key);
+        if (Files.exists(target)) {
+            return key;
+        }
+
+        try {
+            Files.createDirectories(target.getParent());
+            Path temp = Files.createTempFile(target.getParent(), ".upload-", ".tmp");
+            try {
+                Files.write(temp, data);
+                try {
+                    Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temp, target);
+                }
+            } catch (FileAlreadyExistsException e) {
+                // Stored concurrently by another upload of the same content.
+                log.debug("Image file {} already stored", key);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            throw new ImageProcessingException("Failed to store image file " + key, e);
+        }
+        return key;
+    }
+
+    @Override
+    public String publicUrl(String key) {
+        return PUBLIC_PATH + key;
+    }
+
+    private Path root() {
+        return properties.getStorageDir().toAbsolutePath().normalize();
+    }
+
+    private static String key(String contentHash, ImageVariant variant, ImageFormat format) {
+        if (!contentHash.matches("[0-9a-f]{64}")) {
+            throw new IllegalArgumentException("Invalid content hash: " + contentHash);
+        }
+        String name = variant == ImageVariant.ORIGINAL
+                ? contentHash
+                : contentHash + "-" + variant.name().toLowerCase(Locale.ROOT);
+        return contentHash.substring(0, 2) + "/" + contentHash.substring(2, 4) + "/" + name + "." + format.getExtension();
+    }
+}
@@ -0,0 +1,178 @@
+package pl.klastbit.lexpage.infrastructure.adapters.image;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import pl.klastbit.lexpage.application.article.ListArticlesUseCase;
+import pl.klastbit.lexpage.application.article.dto.ArticleListItemDto;
+import pl.klastbit.lexpage.application.article.dto.PageDto;
+import pl.klastbit.lexpage.application.article.event.ArticleChangedEvent;
+import pl.klastbit.lexpage.application.article.event.ArticlesImportedEvent;
+import pl.klastbit.lexpage.application.image.GetOgImageUseCase;
+import pl.klastbit.lexpage.application.image.RenderOgImageUseCase;
+import pl.klastbit.lexpage.domain.article.ArticleStatus;
+import pl.klastbit.lexpage.infrastructure.config.ImageProperties;
+
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Renders Open Graph previews in the background after articles are published or updated.
+ * <p>
+ * Jobs run on a single thread with a bounded queue, so a burst of edits cannot take CPU from
+ * request handling; requests for an article already waiting are coalesced and requests beyond
+ * the queue capacity are dropped (the next update or backfill renders them). A bulk import
+ * publishes no per-article events, so published imports are picked up by a backfill instead.
+ * Previews are never rendered on the request path - until one exists, pages use the article's
+ * own og image, if any.
+ */
+@Component
+@Slf4j
+public class OgImageRenderQueue implements DisposableBean {
+
+    private static final int BACKFILL_PAGE_SIZE = 100;
+
+    private final RenderOgImageUseCase renderOgImageUseCase;
+    private final GetOgImageUseCase getOgImageUseCase;
+    private final ListArticlesUseCase listArticlesUseCase;
+    private final ImageProperties properties;
+    private final ThreadPoolExecutor executor;
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean backfillPending = new AtomicBoolean();
+
+    public OgImageRenderQueue(
+            RenderOgImageUseCase renderOgImageUseCase,
+            GetOgImageUseCase getOgImageUseCase,
+            ListArticlesUseCase listArticlesUseCase,
+            ImageProperties properties
+    ) {
+        this.renderOgImageUseCase = renderOgImageUseCase;
+        this.getOgImageUseCase = getOgImageUseCase;
+        this.listArticlesUseCase = listArticlesUseCase;
+        this.properties = properties;
+        this.executor = new ThreadPoolExecutor(
+                1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getOgRenderQueueCapacity()),
+                Thread.ofPlatform().name("og-image").daemon().factory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        if (event.changeType() == ArticleChangedEvent.ChangeType.PUBLISHED
+                || event.changeType() == ArticleChangedEvent.ChangeType.UPDATED) {
+            enqueue(event.articleId());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onArticlesImported(ArticlesImportedEvent event) {
+        if (event.publishedCount() > 0) {
+            scheduleBackfill();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (properties.isOgBackfillOnStartup()) {
+            scheduleBackfill();
+        }
+    }
+
+    /**
+     * Schedules rendering of an article's preview unless it is already waiting.
+     */
+    public void enqueue(Long articleId) {
+        if (!pending.add(articleId)) {
+            return;
+        }
+        boolean submitted = submit(() -> {
+            pending.remove(articleId);
+            render(articleId);
+        });
+        if (!submitted) {
+            pending.remove(articleId);
+        }
+    }
+
+    /**
+     * Schedules a backfill unless one is already waiting; a waiting backfill covers later imports too.
+     */
+    private void scheduleBackfill() {
+        if (!backfillPending.compareAndSet(false, true)) {
+            return;
+        }
+        boolean submitted = submit(() -> {
+            backfillPending.set(false);
+            try {
+                backfill();
+            } catch (RuntimeException e) {
+                log.error("OG image backfill failed", e);
+            }
+        });
+        if (!submitted) {
+            backfillPending.set(false);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private boolean submit(Runnable job) {
+        try {
+            executor.execute(job);
+            return true;
+        } catch (RejectedExecutionException e) {
+            log.warn("OG image queue full, dropping render request");
+            return false;
+        }
+    }
+
+    private void render(Long articleId) {
+        try {
+            renderOgImageUseCase.execute(articleId);
+        } catch (RuntimeException e) {
+            log.error("Failed to render OG image for article {}", articleId, e);
+        }
+    }
+
+    /**
+     * Renders previews of published articles that have none yet, newest first.
+     * Runs as a single job, so it never floods the queue.
+     */
+    private void backfill() {
+        int page = 0;
+        int rendered = 0;
+        PageDto<ArticleListItemDto> articles;
+        do {
+            articles = listArticlesUseCase.execute(ArticleStatus.PUBLISHED, null, null,
+                    PageRequest.of(page++, BACKFILL_PAGE_SIZE, Sort.by(Sort.Direction.DESC, "publishedAt")));
+            for (ArticleListItemDto article : articles.content()) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+                if (getOgImageUseCase.execute(article.id()).isEmpty()) {
+                    render(article.id());
+                    rendered++;
+                }
+            }
+        } while (page < articles.page().totalPages());
+        if (rendered > 0) {
+            log.info("Rendered {} missing OG images", rendered);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package pl.klastbit.lexpage.infrastructure.adapters.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Properties;
+
+/**
+ * Opens connections to the primary (spring.datasource.*) outside every connection pool.
+ * <p>
+ * Meant for sessions kept for the lifetime of the application, such as LISTEN or a session-level
+ * advisory lock: their session state never travels back into a pool with the connection, and they
+ * do not occupy pool slots sized for request work. Each connection is tagged with an application
+ * name, so it can be told apart in {@code pg_stat_activity}.
+ */
+@Component
+@RequiredArgsConstructor
+public class DedicatedConnectionFactory {
+
+    private final DataSourceProperties properties;
+
+    public Connection open(String applicationName) throws SQLException {
+        Properties info = new Properties();
+        String username = properties.determineUsername();
+        if (username != null) {
+            info.setProperty("user", username);
+        }
+        String password = properties.determinePassword();
+        if (password != null) {
+            info.setProperty("password", password);
+        }
+        info.setProperty("ApplicationName", applicationName);
+        return DriverManager.getConnection(properties.determineUrl(), info);
+    }
+}
@@ -0,0 +1,35 @@
+package pl.klastbit.lexpage.infrastructure.adapters.persistence.bulkhead;
+
+/**
+ * Workloads that get a connection pool of their own, so saturation of one cannot starve the others.
+ */
+public enum Bulkhead {
+
+    /**
+     * Anonymous page views: blog, feeds, sitemap, media.
+     */
+    PUBLIC_READ("public-read"),
+
+    /**
+     * The admin panel, login and the management API.
+     */
+    ADMIN("admin"),
+
+    /**
+     * Scheduled jobs, async tasks, listeners and anything else running outside a web request.
+     */
+    BACKGROUND("background");
+
+    private final String poolName;
+
+    Bulkhead(String poolName) {
+        this.poolName = poolName;
+    }
+
+    /**
+     * Name of the connection pool, also used as the 'pool' tag of its metrics.
+     */
+    public String poolName() {
+        return poolName;
+    }
+}
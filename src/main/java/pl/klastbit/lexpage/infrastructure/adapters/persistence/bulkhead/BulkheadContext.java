@@ -0,0 +1,28 @@
+package pl.klastbit.lexpage.infrastructure.adapters.persistence.bulkhead;
+
+/**
+ * Holds the bulkhead of the work running on the current thread.
+ * <p>
+ * Web requests get theirs assigned on entry; threads that never set one (schedulers, async
+ * executors, lifecycle threads) belong to {@link Bulkhead#BACKGROUND}.
+ */
+public final class BulkheadContext {
+
+    private static final ThreadLocal<Bulkhead> CURRENT = new ThreadLocal<>();
+
+    private BulkheadContext() {
+    }
+
+    public static Bulkhead current() {
+        Bulkhead bulkhead = CURRENT.get();
+        return bulkhead != null ? bulkhead : Bulkhead.BACKGROUND;
+    }
+
+    public static void set(Bulkhead bulkhead) {
+        CURRENT.set(bulkhead);
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+}
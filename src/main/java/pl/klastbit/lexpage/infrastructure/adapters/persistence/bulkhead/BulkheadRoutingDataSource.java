@@ -0,0 +1,17 @@
+package pl.klastbit.lexpage.infrastructure.adapters.persistence.bulkhead;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * Hands out connections from the pool of the current thread's {@link Bulkhead}.
+ * <p>
+ * Each pool has its own size and timeouts, so a flood of public traffic exhausts only the
+ * public pool - admin requests and background jobs keep getting connections.
+ */
+public class BulkheadRoutingDataSource extends AbstractRoutingDataSource {
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return BulkheadContext.current();
+    }
+}
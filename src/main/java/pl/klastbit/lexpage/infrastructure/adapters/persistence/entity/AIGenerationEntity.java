@@ -18,7 +18,8 @@ import pl.klastbit.lexpage.domain.ai.GenerationStatus;
 public class AIGenerationEntity extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ai_generations_id_seq")
+    @SequenceGenerator(name = "ai_generations_id_seq", sequenceName = "ai_generations_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
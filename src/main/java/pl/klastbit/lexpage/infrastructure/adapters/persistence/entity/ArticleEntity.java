@@ -26,7 +26,8 @@ import java.time.LocalDateTime;
 public class ArticleEntity extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "articles_id_seq")
+    @SequenceGenerator(name = "articles_id_seq", sequenceName = "articles_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "title", nullable = false)
@@ -52,6 +53,9 @@ public class ArticleEntity extends BaseEntity {
     @Column(name = "published_at")
     private LocalDateTime publishedAt;
 
+    @Column(name = "scheduled_publish_at")
+    private LocalDateTime scheduledPublishAt;
+
     // SEO Fields
     @Column(name = "meta_title", length = 60)
     private String metaTitle;
@@ -69,6 +73,10 @@ public class ArticleEntity extends BaseEntity {
     @Column(name = "keywords", columnDefinition = "text[]")
     private String[] keywords;
 
+    // Stemmed title and content; the search vector is built from it when present
+    @Column(name = "search_lexemes", columnDefinition = "TEXT")
+    private String searchLexemes;
+
     // Full-text search vector (managed by database trigger)
     @Column(name = "search_vector", columnDefinition = "tsvector", insertable = false, updatable = false)
     private String searchVector;
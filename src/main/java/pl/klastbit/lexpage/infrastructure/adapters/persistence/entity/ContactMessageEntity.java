@@ -21,7 +21,8 @@ import java.math.BigDecimal;
 public class ContactMessageEntity extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "contact_messages_id_seq")
+    @SequenceGenerator(name = "contact_messages_id_seq", sequenceName = "contact_messages_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "first_name", nullable = false, length = 100)
@@ -4,10 +4,12 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import pl.klastbit.lexpage.domain.image.ImageVariant;
 
 /**
  * JPA Entity for images table.
  * Implements polymorphic relationships to articles and services.
+ * Each row is one stored file; variants of an upload share the content hash of the original.
  */
 @Entity
 @Table(name = "images")
@@ -17,7 +19,8 @@ import lombok.Setter;
 public class ImageEntity extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "images_id_seq")
+    @SequenceGenerator(name = "images_id_seq", sequenceName = "images_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "entity_type", nullable = false, length = 50)
@@ -26,6 +29,13 @@ public class ImageEntity extends BaseEntity {
     @Column(name = "entity_id", nullable = false)
     private Long entityId;
 
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "variant", nullable = false, length = 20)
+    private ImageVariant variant = ImageVariant.ORIGINAL;
+
     @Column(name = "file_name", nullable = false)
     private String fileName;
 
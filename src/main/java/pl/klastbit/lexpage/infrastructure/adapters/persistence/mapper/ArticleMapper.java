@@ -41,6 +41,7 @@ public class ArticleMapper {
                 entity.getStatus(),
                 getAuthorId(entity),
                 entity.getPublishedAt(),
+                entity.getScheduledPublishAt(),
                 entity.getMetaTitle(),
                 entity.getMetaDescription(),
                 entity.getOgImageUrl(),
@@ -73,6 +74,7 @@ public class ArticleMapper {
         entity.setExcerpt(domain.getExcerpt());
         entity.setStatus(domain.getStatus());
         entity.setPublishedAt(domain.getPublishedAt());
+        entity.setScheduledPublishAt(domain.getScheduledPublishAt());
 
         // SEO fields
         entity.setMetaTitle(domain.getMetaTitle());
@@ -80,6 +82,7 @@ public class ArticleMapper {
         entity.setOgImageUrl(domain.getOgImageUrl());
         entity.setCanonicalUrl(domain.getCanonicalUrl());
         entity.setKeywords(listToArray(domain.getKeywords()));
+        entity.setSearchLexemes(domain.getSearchLexemes());
 
         // Audit fields - note: UserEntity references need to be set separately
         // by the repository or service layer, as we only have IDs in domain
@@ -108,6 +111,7 @@ public class ArticleMapper {
         entity.setExcerpt(domain.getExcerpt());
         entity.setStatus(domain.getStatus());
         entity.setPublishedAt(domain.getPublishedAt());
+        entity.setScheduledPublishAt(domain.getScheduledPublishAt());
 
         // SEO fields
         entity.setMetaTitle(domain.getMetaTitle());
@@ -115,6 +119,10 @@ public class ArticleMapper {
         entity.setOgImageUrl(domain.getOgImageUrl());
         entity.setCanonicalUrl(domain.getCanonicalUrl());
         entity.setKeywords(listToArray(domain.getKeywords()));
+        // Lexemes are not loaded into the domain; keep the stored ones unless the article was re-indexed
+        if (domain.getSearchLexemes() != null) {
+            entity.setSearchLexemes(domain.getSearchLexemes());
+        }
 
         // Update timestamps
         entity.setUpdatedAt(domain.getUpdatedAt());
@@ -0,0 +1,73 @@
+package pl.klastbit.lexpage.infrastructure.adapters.persistence.mapper;
+
+import org.springframework.stereotype.Component;
+import pl.klastbit.lexpage.domain.image.Image;
+import pl.klastbit.lexpage.domain.image.ImageFormat;
+import pl.klastbit.lexpage.infrastructure.adapters.persistence.entity.ImageEntity;
+
+/**
+ * Mapper between Image domain entity and ImageEntity persistence entity.
+ * Part of the infrastructure layer (Hexagonal Architecture outbound adapter).
+ */
+@Component
+public class ImageMapper {
+
+    /**
+     * Maps ImageEntity (JPA) to Image (domain).
+     *
+     * @param entity JPA entity from database
+     * @return Domain entity
+     */
+    public Image toDomain(ImageEntity entity) {
+        if (entity == null) {
+            return null;
+        }
+
+        return Image.ofExisting(
+                entity.getId(),
+                entity.getEntityType(),
+                entity.getEntityId(),
+                entity.getContentHash(),
+                entity.getVariant(),
+                entity.getFileName(),
+                entity.getFilePath(),
+                entity.getFileSize(),
+                ImageFormat.fromMimeType(entity.getMimeType()).orElse(null),
+                entity.getWidth() != null ? entity.getWidth() : 0,
+                entity.getHeight() != null ? entity.getHeight() : 0,
+                entity.getAltText(),
+                entity.getDisplayOrder() != null ? entity.getDisplayOrder() : 0,
+                entity.getCreatedAt()
+        );
+    }
+
+    /**
+     * Maps Image (domain) to ImageEntity (JPA).
+     *
+     * @param domain Domain entity
+     * @return JPA entity for database persistence
+     */
+    public ImageEntity toEntity(Image domain) {
+        if (domain == null) {
+            return null;
+        }
+
+        ImageEntity entity = new ImageEntity();
+        entity.setId(domain.getId());
+        entity.setEntityType(domain.getEntityType());
+        entity.setEntityId(domain.getEntityId());
+        entity.setContentHash(domain.getContentHash());
+        entity.setVariant(domain.getVariant());
+        entity.setFileName(domain.getFileName());
+        entity.setFilePath(domain.getFilePath());
+        entity.setFileSize(domain.getFileSize());
+        entity.setMimeType(domain.getFormat().getMimeType());
+        entity.setWidth(domain.getWidth());
+        entity.setHeight(domain.getHeight());
+        entity.setAltText(domain.getAltText());
+        entity.setDisplayOrder(domain.getDisplayOrder());
+        entity.setCreatedAt(domain.getCreatedAt());
+
+        return entity;
+    }
+}
@@ -0,0 +1,79 @@
+package pl.klastbit.lexpage.infrastructure.adapters.persistence.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import pl.klastbit.lexpage.application.article.event.ArticleChangedEvent;
+import pl.klastbit.lexpage.domain.article.ArticleFacets;
+import pl.klastbit.lexpage.domain.article.ArticleSearchCriteria;
+import pl.klastbit.lexpage.infrastructure.invalidation.InvalidatableCache;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounded LRU cache of facet counts, keyed by the search criteria (the filter signature) and
+ * whether the keyword was matched typo-tolerant.
+ * Any article change can move counts of any filter, so every committed change clears the cache.
+ * A generation counter prevents storing counts computed before an invalidation.
+ */
+@Component
+@Slf4j
+public class ArticleFacetCache implements InvalidatableCache {
+
+    private final Map<Key, ArticleFacets> entries;
+    private final AtomicLong generation = new AtomicLong();
+
+    public ArticleFacetCache(@Value("${app.facet-cache.max-entries:500}") int maxEntries) {
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, ArticleFacets> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    /**
+     * Returns cached counts for the criteria or computes and stores them.
+     *
+     * @param similar whether the counts are over the typo-tolerant matches
+     */
+    public ArticleFacets get(ArticleSearchCriteria criteria, boolean similar, Supplier<ArticleFacets> loader) {
+        Key key = new Key(criteria, similar);
+        ArticleFacets cached = entries.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        long loadGeneration = generation.get();
+        ArticleFacets facets = loader.get();
+        if (loadGeneration == generation.get()) {
+            entries.put(key, facets);
+        }
+        return facets;
+    }
+
+    @Override
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    @Override
+    public void invalidate(ArticleChangedEvent event) {
+        log.debug("Article {} {}, clearing facet cache", event.articleId(), event.changeType());
+        invalidateAll();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        invalidate(event);
+    }
+
+    private record Key(ArticleSearchCriteria criteria, boolean similar) {
+    }
+}
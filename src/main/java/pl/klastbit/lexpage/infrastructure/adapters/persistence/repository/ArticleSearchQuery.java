@@ -0,0 +1,168 @@
+package pl.klastbit.lexpage.infrastructure.adapters.persistence.repository;
+
+import org.springframework.data.domain.Sort;
+import pl.klastbit.lexpage.domain.article.ArticleSearchCriteria;
+import pl.klastbit.lexpage.domain.article.ArticleSortKey;
+import pl.klastbit.lexpage.domain.article.PolishTextAnalyzer;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Native SQL for an article listing: every filter of the criteria becomes one predicate of a
+ * single statement with named parameters.
+ * <p>
+ * Each predicate and sort key is written so an index can serve it:
+ * <ul>
+ *   <li>status / author combined with the sort - partial b-tree indexes on
+ *       {@code (status|author_id, created_at|published_at, id)} over non-deleted rows</li>
+ *   <li>keyword - {@code search_vector @@ websearch_to_tsquery(...)} on the GIN index; the query is
+ *       stemmed with {@link PolishTextAnalyzer} like the indexed lexemes</li>
+ *   <li>keywords array - {@code keywords && ARRAY[...]} on the GIN index</li>
+ *   <li>similar keyword ({@link #similar}) - trigram operators on the pg_trgm GIN indexes of the title
+ *       and of title + excerpt</li>
+ * </ul>
+ * The ID is appended to every sort as a tie-breaker, so offset pagination stays stable when
+ * many rows share a timestamp (e.g. after a bulk import).
+ */
+final class ArticleSearchQuery {
+
+    // Lexemes are already stemmed in Java, the database only splits them on whitespace
+    static final String TEXT_SEARCH_CONFIG = "simple";
+
+    private static final String FULL_TEXT_MATCH =
+            "a.search_vector @@ websearch_to_tsquery('" + TEXT_SEARCH_CONFIG + "', :keyword)";
+
+    // Must match the expression of idx_articles_title_excerpt_trgm for the index to be used
+    private static final String TITLE_EXCERPT = "(a.title || ' ' || COALESCE(a.excerpt, ''))";
+
+    private static final Map<ArticleSortKey, String> SORT_COLUMNS = Map.of(
+            ArticleSortKey.CREATED_AT, "a.created_at",
+            ArticleSortKey.PUBLISHED_AT, "a.published_at"
+    );
+
+    private final String where;
+    private final String orderBy;
+    private final Map<String, Object> parameters;
+
+    private ArticleSearchQuery(String where, String orderBy, Map<String, Object> parameters) {
+        this.where = where;
+        this.orderBy = orderBy;
+        this.parameters = parameters;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the sort uses a field other than an {@link ArticleSortKey}
+     *                                  or more than one field
+     */
+    static ArticleSearchQuery of(ArticleSearchCriteria criteria, Sort sort) {
+        return build(criteria, false, orderBy(sort));
+    }
+
+    /**
+     * Typo-tolerant variant of the keyword search: besides full-text matches, articles whose title is
+     * similar to the keyword or whose title/excerpt contains a word similar to one of its words match
+     * too (pg_trgm {@code %} and {@code <%} on trigram GIN indexes). Full-text matches come first,
+     * the rest ranked by similarity.
+     *
+     * @throws IllegalArgumentException if the criteria have no keyword
+     */
+    static ArticleSearchQuery similar(ArticleSearchCriteria criteria) {
+        if (criteria.keyword() == null) {
+            throw new IllegalArgumentException("Similarity search requires a keyword");
+        }
+        return build(criteria, true, "(" + FULL_TEXT_MATCH + ") DESC, GREATEST(similarity(a.title, :term),"
+                + " word_similarity(:term, " + TITLE_EXCERPT + ")) DESC, a.id DESC");
+    }
+
+    private static ArticleSearchQuery build(ArticleSearchCriteria criteria, boolean similar, String orderBy) {
+        List<String> predicates = new ArrayList<>();
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        predicates.add("a.deleted_at IS NULL");
+
+        if (criteria.status() != null) {
+            predicates.add("a.status = :status");
+            parameters.put("status", criteria.status().name());
+        }
+        if (criteria.authorId() != null) {
+            predicates.add("a.author_id = :authorId");
+            parameters.put("authorId", criteria.authorId().userid());
+        }
+        if (criteria.keyword() != null) {
+            parameters.put("keyword", PolishTextAnalyzer.analyzeQuery(criteria.keyword()));
+            if (similar) {
+                // Trigrams are compared on the words as typed; stemming would only lose letters
+                predicates.add("(" + FULL_TEXT_MATCH + " OR a.title % :term OR :term <% " + TITLE_EXCERPT + ")");
+                parameters.put("term", criteria.keyword());
+            } else {
+                predicates.add(FULL_TEXT_MATCH);
+            }
+        }
+        if (criteria.createdFrom() != null) {
+            predicates.add("a.created_at >= :createdFrom");
+            parameters.put("createdFrom", criteria.createdFrom());
+        }
+        if (criteria.createdTo() != null) {
+            predicates.add("a.created_at < :createdTo");
+            parameters.put("createdTo", criteria.createdTo());
+        }
+        if (!criteria.keywords().isEmpty()) {
+            // One parameter per element; an array-typed parameter binds differently per driver and version
+            List<String> elements = new ArrayList<>();
+            for (int i = 0; i < criteria.keywords().size(); i++) {
+                elements.add(":tag" + i);
+                parameters.put("tag" + i, criteria.keywords().get(i));
+            }
+            predicates.add("a.keywords && CAST(ARRAY[" + String.join(", ", elements) + "] AS text[])");
+        }
+
+        return new ArticleSearchQuery(String.join(" AND ", predicates), orderBy, parameters);
+    }
+
+    String selectSql() {
+        return "SELECT a.* FROM articles a WHERE " + where + " ORDER BY " + orderBy;
+    }
+
+    String countSql() {
+        return "SELECT COUNT(*) FROM articles a WHERE " + where;
+    }
+
+    /**
+     * Counts per status, author, SEO keyword and creation month plus the total, in one pass over
+     * the matching rows. Unnesting the keywords repeats an article once per keyword, so articles are
+     * counted by distinct ID. {@code GROUPING(...)} is 0 for the column a row is grouped by.
+     * <p>
+     * Columns: status, author ID (text), keyword, month (YYYY-MM), count, and the four grouping flags.
+     */
+    String facetSql() {
+        return "SELECT a.status, CAST(a.author_id AS text), kw.keyword,"
+                + " to_char(date_trunc('month', a.created_at), 'YYYY-MM'), COUNT(DISTINCT a.id),"
+                + " GROUPING(a.status), GROUPING(a.author_id), GROUPING(kw.keyword),"
+                + " GROUPING(date_trunc('month', a.created_at))"
+                + " FROM articles a LEFT JOIN LATERAL unnest(a.keywords) AS kw(keyword) ON TRUE"
+                + " WHERE " + where
+                + " GROUP BY GROUPING SETS ((a.status), (a.author_id), (kw.keyword),"
+                + " (date_trunc('month', a.created_at)), ())"
+                + " ORDER BY COUNT(DISTINCT a.id) DESC";
+    }
+
+    Map<String, Object> parameters() {
+        return parameters;
+    }
+
+    private static String orderBy(Sort sort) {
+        List<Sort.Order> orders = sort.toList();
+        if (orders.size() > 1) {
+            throw new IllegalArgumentException("Articles can be sorted by one field only");
+        }
+        if (orders.isEmpty()) {
+            return "a.created_at DESC, a.id DESC";
+        }
+        Sort.Order order = orders.getFirst();
+        ArticleSortKey key = ArticleSortKey.fromProperty(order.getProperty());
+        String direction = order.isDescending() ? "DESC" : "ASC";
+        return SORT_COLUMNS.get(key) + " " + direction + ", a.id " + direction;
+    }
+}
@@ -0,0 +1,62 @@
+package pl.klastbit.lexpage.infrastructure.adapters.persistence.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import pl.klastbit.lexpage.domain.image.Image;
+import pl.klastbit.lexpage.domain.image.ImageRepository;
+import pl.klastbit.lexpage.domain.image.ImageVariant;
+import pl.klastbit.lexpage.infrastructure.adapters.persistence.entity.ImageEntity;
+import pl.klastbit.lexpage.infrastructure.adapters.persistence.mapper.ImageMapper;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Adapter implementation of ImageRepository port.
+ * Bridges domain layer with JPA infrastructure.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ImageRepositoryAdapter implements ImageRepository {
+
+    private final JpaImageRepository jpaRepository;
+    private final ImageMapper mapper;
+
+    @Override
+    public List<Image> saveAll(List<Image> images) {
+        List<ImageEntity> entities = images.stream().map(mapper::toEntity).toList();
+        List<ImageEntity> savedEntities = jpaRepository.saveAll(entities);
+        log.debug("Saved {} ImageEntity rows", savedEntities.size());
+        return savedEntities.stream().map(mapper::toDomain).toList();
+    }
+
+    @Override
+    public List<Image> findByContentHash(String contentHash) {
+        return jpaRepository.findAllByContentHashAndDeletedAtIsNull(contentHash).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<Image> findByArticleIdAndContentHash(Long articleId, String contentHash) {
+        return jpaRepository.findAllByEntityTypeAndEntityIdAndContentHashAndDeletedAtIsNull(
+                        Image.ENTITY_TYPE_ARTICLE, articleId, contentHash).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public Optional<Image> findLatestByArticleIdAndVariant(Long articleId, ImageVariant variant) {
+        return jpaRepository.findFirstByEntityTypeAndEntityIdAndVariantAndDeletedAtIsNullOrderByIdDesc(
+                        Image.ENTITY_TYPE_ARTICLE, articleId, variant)
+                .map(mapper::toDomain);
+    }
+
+    @Override
+    public void deleteByArticleIdAndVariantExcept(Long articleId, ImageVariant variant, String keptContentHash) {
+        int deleted = jpaRepository.softDeleteVariantsExcept(Image.ENTITY_TYPE_ARTICLE, articleId, variant, keptContentHash);
+        log.debug("Soft deleted {} {} images of article {}", deleted, variant, articleId);
+    }
+}
@@ -0,0 +1,267 @@
+package pl.klastbit.lexpage.infrastructure.adapters.persistence.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import pl.klastbit.lexpage.application.article.dto.ArticleImportResultDto;
+import pl.klastbit.lexpage.application.article.dto.ArticleImportRow;
+import pl.klastbit.lexpage.application.article.dto.ArticleTransferRecord;
+import pl.klastbit.lexpage.application.ports.ArticleTransferStore;
+import pl.klastbit.lexpage.domain.user.UserId;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * JDBC implementation of ArticleTransferStore port.
+ * <p>
+ * Export reads with a server-side cursor (read-only transaction with a fetch size), like
+ * JdbcPublishedArticleCatalog. Import streams the records with {@code COPY ... FROM STDIN} through
+ * the pgjdbc CopyManager into a temporary staging table, then resolves slugs and inserts the
+ * articles with a few set-based statements. The lexemes computed by the application are staged
+ * with the records; the search vector is filled from them by the insert trigger within the same
+ * INSERT ... SELECT. There is one round trip per statement, not per article.
+ * Infrastructure layer in Hexagonal Architecture (Outbound Adapter).
+ */
+@Repository
+@Slf4j
+public class JdbcArticleTransferStore implements ArticleTransferStore {
+
+    private static final int FETCH_SIZE = 1000;
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private static final String EXPORT_SQL = """
+            SELECT title, slug, content, excerpt, status, published_at, meta_title, meta_description,
+                   og_image_url, canonical_url, keywords, created_at, updated_at
+            FROM articles
+            WHERE deleted_at IS NULL
+            ORDER BY id
+            """;
+
+    private static final String CREATE_STAGING_SQL = """
+            CREATE TEMPORARY TABLE article_import (
+                line_no BIGINT PRIMARY KEY,
+                title TEXT,
+                slug TEXT,
+                content TEXT,
+                excerpt TEXT,
+                status TEXT,
+                published_at TIMESTAMP,
+                meta_title TEXT,
+                meta_description TEXT,
+                og_image_url TEXT,
+                canonical_url TEXT,
+                keywords TEXT[],
+                created_at TIMESTAMP,
+                updated_at TIMESTAMP,
+                search_lexemes TEXT,
+                renamed BOOLEAN NOT NULL DEFAULT FALSE
+            ) ON COMMIT DROP
+            """;
+
+    private static final String COPY_SQL = """
+            COPY article_import (line_no, title, slug, content, excerpt, status, published_at, meta_title,
+                                 meta_description, og_image_url, canonical_url, keywords, created_at, updated_at,
+                                 search_lexemes)
+            FROM STDIN (FORMAT csv)
+            """;
+
+    // Temporary tables are never auto-analyzed; without statistics the joins below are planned blind
+    private static final String PREPARE_STAGING_SQL = """
+            CREATE INDEX ON article_import (slug);
+            ANALYZE article_import
+            """;
+
+    // Every occurrence of a slug except the first one in the file, and any slug already in use,
+    // gets the unique line number as suffix
+    private static final String RENAME_TAKEN_SLUGS_SQL = """
+            UPDATE article_import i
+            SET slug = i.slug || '-' || i.line_no, renamed = TRUE
+            WHERE EXISTS (SELECT 1 FROM articles a WHERE a.slug = i.slug)
+               OR EXISTS (SELECT 1 FROM article_import o WHERE o.slug = i.slug AND o.line_no < i.line_no)
+            """;
+
+    // A suffixed slug may still collide with a slug that happened to end in the same number
+    private static final String RENAME_REMAINING_CONFLICTS_SQL = """
+            UPDATE article_import i
+            SET slug = i.slug || '-' || substr(md5(random()::text), 1, 6)
+            WHERE i.renamed
+              AND (EXISTS (SELECT 1 FROM articles a WHERE a.slug = i.slug)
+                   OR EXISTS (SELECT 1 FROM article_import o WHERE o.slug = i.slug AND o.line_no <> i.line_no))
+            """;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO articles (title, slug, content, excerpt, status, published_at, meta_title, meta_description,
+                                  og_image_url, canonical_url, keywords, search_lexemes, author_id, created_by,
+                                  updated_by, created_at, updated_at)
+            SELECT title, slug, content, excerpt, status, published_at, meta_title, meta_description,
+                   og_image_url, canonical_url, keywords, search_lexemes, ?, ?, ?,
+                   COALESCE(created_at, NOW()), COALESCE(updated_at, created_at, NOW())
+            FROM article_import
+            ORDER BY line_no
+            """;
+
+    private static final String COUNT_RENAMED_SQL = "SELECT COUNT(*) FROM article_import WHERE renamed";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcArticleTransferStore(DataSource dataSource) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachArticle(Consumer<ArticleTransferRecord> consumer) {
+        log.debug("Streaming articles for export");
+        jdbcTemplate.query(EXPORT_SQL, rs -> {
+            consumer.accept(new ArticleTransferRecord(
+                    rs.getString(1),
+                    rs.getString(2),
+                    rs.getString(3),
+                    rs.getString(4),
+                    rs.getString(5),
+                    toLocalDateTime(rs.getTimestamp(6)),
+                    rs.getString(7),
+                    rs.getString(8),
+                    rs.getString(9),
+                    rs.getString(10),
+                    toList(rs.getArray(11)),
+                    toLocalDateTime(rs.getTimestamp(12)),
+                    toLocalDateTime(rs.getTimestamp(13))
+            ));
+        });
+    }
+
+    @Override
+    @Transactional
+    public ArticleImportResultDto importAll(Iterator<ArticleImportRow> rows, UserId importedBy) {
+        jdbcTemplate.execute(CREATE_STAGING_SQL);
+        long received = copyToStaging(rows);
+        log.debug("Staged {} article(s) for import", received);
+        if (received == 0) {
+            return new ArticleImportResultDto(0, 0, 0, 0);
+        }
+
+        jdbcTemplate.execute(PREPARE_STAGING_SQL);
+        jdbcTemplate.update(RENAME_TAKEN_SLUGS_SQL);
+        jdbcTemplate.update(RENAME_REMAINING_CONFLICTS_SQL);
+        int imported = jdbcTemplate.update(INSERT_SQL, importedBy.userid(), importedBy.userid(), importedBy.userid());
+        Long renamed = jdbcTemplate.queryForObject(COUNT_RENAMED_SQL, Long.class);
+
+        return new ArticleImportResultDto(received, imported, 0, renamed != null ? renamed : 0);
+    }
+
+    /**
+     * Streams the rows as CSV into the staging table over the transaction's connection.
+     *
+     * @return number of copied rows
+     */
+    private long copyToStaging(Iterator<ArticleImportRow> rows) {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL);
+            PGCopyOutputStream out = new PGCopyOutputStream(copyIn, COPY_BUFFER_SIZE);
+            long lineNo = 0;
+            try {
+                Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+                while (rows.hasNext()) {
+                    writer.write(csvRow(++lineNo, rows.next()));
+                }
+                writer.flush();
+                out.endCopy();
+            } finally {
+                if (out.isActive()) {
+                    out.cancelCopy();
+                }
+            }
+            return lineNo;
+        } catch (SQLException | IOException e) {
+            throw new DataAccessResourceFailureException("Failed to copy imported articles", e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    /**
+     * Encodes a row in the column order of {@code COPY_SQL}.
+     * Unquoted empty fields are read as NULL by PostgreSQL, quoted ones as empty strings.
+     */
+    static String csvRow(long lineNo, ArticleImportRow row) {
+        ArticleTransferRecord record = row.article();
+        return String.join(",",
+                Long.toString(lineNo),
+                csv(record.title()),
+                csv(record.slug()),
+                csv(record.content()),
+                csv(record.excerpt()),
+                csv(record.status()),
+                csv(record.publishedAt()),
+                csv(record.metaTitle()),
+                csv(record.metaDescription()),
+                csv(record.ogImageUrl()),
+                csv(record.canonicalUrl()),
+                csv(arrayLiteral(record.keywords())),
+                csv(record.createdAt()),
+                csv(record.updatedAt()),
+                csv(row.searchLexemes())
+        ) + "\n";
+    }
+
+    private static String csv(LocalDateTime value) {
+        return value != null ? value.toString() : "";
+    }
+
+    private static String csv(String value) {
+        return value != null ? "\"" + value.replace("\"", "\"\"") + "\"" : "";
+    }
+
+    /**
+     * Formats a list as a PostgreSQL array literal with every element quoted.
+     */
+    private static String arrayLiteral(List<String> values) {
+        if (values == null) {
+            return null;
+        }
+        StringBuilder literal = new StringBuilder("{");
+        for (String value : values) {
+            if (literal.length() > 1) {
+                literal.append(',');
+            }
+            if (value == null) {
+                literal.append("NULL");
+            } else {
+                literal.append('"').append(value.replace("\\", "\\\\").replace("\"", "\\\"")).append('"');
+            }
+        }
+        return literal.append('}').toString();
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    private static List<String> toList(Array array) throws SQLException {
+        return array != null ? Arrays.asList((String[]) array.getArray()) : null;
+    }
+}
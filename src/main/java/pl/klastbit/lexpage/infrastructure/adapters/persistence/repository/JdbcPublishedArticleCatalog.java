@@ -0,0 +1,92 @@
+package pl.klastbit.lexpage.infrastructure.adapters.persistence.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import pl.klastbit.lexpage.application.article.dto.PublishedArticleRef;
+import pl.klastbit.lexpage.application.article.dto.PublishedArticlesSummary;
+import pl.klastbit.lexpage.application.ports.PublishedArticleCatalog;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.util.function.Consumer;
+
+/**
+ * JDBC implementation of PublishedArticleCatalog port.
+ * Reads (slug, updated_at) pairs with a server-side cursor: the query runs inside a read-only
+ * transaction (autocommit off) with a fetch size, which makes the PostgreSQL driver fetch rows
+ * in batches instead of buffering the whole result. No entities are materialized.
+ * Infrastructure layer in Hexagonal Architecture (Outbound Adapter).
+ */
+@Repository
+@Slf4j
+public class JdbcPublishedArticleCatalog implements PublishedArticleCatalog {
+
+    private static final int FETCH_SIZE = 1000;
+
+    private static final String SUMMARY_SQL = """
+            SELECT COUNT(*), MAX(updated_at)
+            FROM articles
+            WHERE status = 'PUBLISHED' AND deleted_at IS NULL
+            """;
+
+    private static final String PUBLISHED_REFS_SQL = """
+            SELECT slug, updated_at
+            FROM articles
+            WHERE status = 'PUBLISHED' AND deleted_at IS NULL
+            ORDER BY id
+            OFFSET ? LIMIT ?
+            """;
+
+    private static final String PUBLISHED_REFS_NEWEST_FIRST_SQL = """
+            SELECT slug, updated_at
+            FROM articles
+            WHERE status = 'PUBLISHED' AND deleted_at IS NULL
+            ORDER BY published_at DESC
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcPublishedArticleCatalog(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PublishedArticlesSummary summary() {
+        return jdbcTemplate.queryForObject(SUMMARY_SQL, (rs, rowNum) -> {
+            Timestamp lastModified = rs.getTimestamp(2);
+            return new PublishedArticlesSummary(
+                    rs.getLong(1),
+                    lastModified != null ? lastModified.toLocalDateTime() : null
+            );
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachPublished(long offset, int limit, Consumer<PublishedArticleRef> consumer) {
+        log.debug("Streaming published articles: offset={}, limit={}", offset, limit);
+        jdbcTemplate.query(PUBLISHED_REFS_SQL, refHandler(consumer), offset, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachPublishedNewestFirst(Consumer<PublishedArticleRef> consumer) {
+        log.debug("Streaming published articles newest first");
+        jdbcTemplate.query(PUBLISHED_REFS_NEWEST_FIRST_SQL, refHandler(consumer));
+    }
+
+    private static RowCallbackHandler refHandler(Consumer<PublishedArticleRef> consumer) {
+        return rs -> {
+            Timestamp updatedAt = rs.getTimestamp(2);
+            consumer.accept(new PublishedArticleRef(
+                    rs.getString(1),
+                    updatedAt != null ? updatedAt.toLocalDateTime() : null
+            ));
+        };
+    }
+}
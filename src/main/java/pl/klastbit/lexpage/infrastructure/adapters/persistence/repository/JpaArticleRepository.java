@@ -1,19 +1,35 @@
 package pl.klastbit.lexpage.infrastructure.adapters.persistence.repository;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 import pl.klastbit.lexpage.domain.article.Article;
+import pl.klastbit.lexpage.domain.article.ArticleFacets;
 import pl.klastbit.lexpage.domain.article.ArticleRepository;
+import pl.klastbit.lexpage.domain.article.ArticleSearchCriteria;
 import pl.klastbit.lexpage.domain.article.ArticleStatus;
+import pl.klastbit.lexpage.domain.article.exception.InvalidArticleStatusTransitionException;
 import pl.klastbit.lexpage.domain.user.UserId;
 import pl.klastbit.lexpage.infrastructure.adapters.persistence.entity.ArticleEntity;
 import pl.klastbit.lexpage.infrastructure.adapters.persistence.entity.UserEntity;
 import pl.klastbit.lexpage.infrastructure.adapters.persistence.mapper.ArticleMapper;
 
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
 
 /**
  * JPA implementation of ArticleRepository port.
@@ -28,28 +44,62 @@ public class JpaArticleRepository implements ArticleRepository {
     private final SpringDataArticleRepository springDataRepository;
     private final SpringDataUserRepository userRepository;
     private final ArticleMapper articleMapper;
+    private final EntityManager entityManager;
+    private final ArticleFacetCache facetCache;
 
     @Override
     public Article save(Article article) {
         log.debug("Saving article: {}", article.getId());
+        return articleMapper.toDomain(write(article));
+    }
 
-        ArticleEntity entity;
-
+    @Override
+    public void update(Article article) {
+        log.debug("Updating article: {}", article.getId());
         if (article.getId() == null) {
-            // New article - create new entity
-            entity = articleMapper.toEntity(article);
-            setUserReferencesFromDomain(entity, article);
-        } else {
-            // Update existing article
-            entity = springDataRepository.findById(article.getId())
-                    .orElseThrow(() -> new IllegalArgumentException("Article not found: " + article.getId()));
-            articleMapper.updateEntity(entity, article);
-            // Update only updatedBy reference
-            setUpdatedByReference(entity, article.getUpdatedBy());
+            throw new IllegalArgumentException("Cannot update an article without ID");
         }
+        write(article);
+    }
+
+    @Override
+    public void transitionStatus(Article article, ArticleStatus expectedStatus) {
+        log.debug("Changing status of article {} from {} to {}", article.getId(), expectedStatus, article.getStatus());
+        int updated = springDataRepository.transitionStatus(
+                article.getId(),
+                expectedStatus,
+                article.getStatus(),
+                article.getPublishedAt(),
+                article.getScheduledPublishAt()
+        );
+        if (updated == 0) {
+            throw new InvalidArticleStatusTransitionException(
+                    "Article " + article.getId() + " is no longer " + expectedStatus + ", it was changed concurrently");
+        }
+    }
+
+    @Override
+    public void publishAll(Collection<Long> ids, LocalDateTime publishedAt) {
+        log.debug("Publishing articles {} at {}", ids, publishedAt);
+        springDataRepository.publishAll(ids, publishedAt);
+    }
 
-        ArticleEntity savedEntity = springDataRepository.save(entity);
-        return articleMapper.toDomain(savedEntity);
+    @Override
+    public void unpublishAll(Collection<Long> ids) {
+        log.debug("Unpublishing articles {}", ids);
+        springDataRepository.unpublishAll(ids);
+    }
+
+    @Override
+    public void archiveAll(Collection<Long> ids) {
+        log.debug("Archiving articles {}", ids);
+        springDataRepository.archiveAll(ids);
+    }
+
+    @Override
+    public void softDeleteAll(Collection<Long> ids) {
+        log.debug("Deleting articles: {}", ids);
+        springDataRepository.softDeleteAllById(ids);
     }
 
     @Override
@@ -67,16 +117,25 @@ public class JpaArticleRepository implements ArticleRepository {
     }
 
     @Override
-    public Page<Article> findAll(Pageable pageable) {
-        log.debug("Finding all articles with pageable: {}", pageable);
-        return springDataRepository.findAll(pageable)
-                .map(articleMapper::toDomain);
+    public List<Article> findAllByIdInAndDeletedAtIsNull(Collection<Long> ids) {
+        log.debug("Finding non-deleted articles by ids: {}", ids);
+        return springDataRepository.findAllByIdInAndDeletedAtIsNull(ids).stream()
+                .map(articleMapper::toDomain)
+                .toList();
     }
 
     @Override
-    public Page<Article> findAllByDeletedAtIsNull(Pageable pageable) {
-        log.debug("Finding all non-deleted articles with pageable: {}", pageable);
-        return springDataRepository.findAllByDeletedAtIsNull(pageable)
+    public List<Article> findAllByIdInForUpdate(Collection<Long> ids) {
+        log.debug("Locking non-deleted articles by ids: {}", ids);
+        return springDataRepository.findAllByIdInForUpdate(ids).stream()
+                .map(articleMapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public Page<Article> findAll(Pageable pageable) {
+        log.debug("Finding all articles with pageable: {}", pageable);
+        return springDataRepository.findAll(pageable)
                 .map(articleMapper::toDomain);
     }
 
@@ -88,42 +147,48 @@ public class JpaArticleRepository implements ArticleRepository {
     }
 
     @Override
-    public Page<Article> findAllByAuthorIdAndDeletedAtIsNull(UserId authorId, Pageable pageable) {
-        log.debug("Finding articles by authorId: {} with pageable: {}", authorId, pageable);
-        // Note: SpringDataArticleRepository uses UserEntity, so we need to pass UUID
-        return springDataRepository.findAllByAuthor_IdAndDeletedAtIsNull(
-                        authorId.userid(), pageable
-                )
-                .map(articleMapper::toDomain);
+    public Page<Article> search(ArticleSearchCriteria criteria, Pageable pageable) {
+        log.debug("Searching articles by {} with pageable: {}", criteria, pageable);
+        return findPage(ArticleSearchQuery.of(criteria, pageable.getSort()), pageable);
     }
 
     @Override
-    public Page<Article> findAllByStatusAndAuthorIdAndDeletedAtIsNull(
-            ArticleStatus status,
-            UserId authorId,
-            Pageable pageable
-    ) {
-        log.debug("Finding articles by status: {} and authorId: {} with pageable: {}",
-                status, authorId, pageable);
-        return springDataRepository.findAllByStatusAndAuthor_IdAndDeletedAtIsNull(
-                        status, authorId.userid(), pageable
-                )
-                .map(articleMapper::toDomain);
+    public Page<Article> searchSimilar(ArticleSearchCriteria criteria, Pageable pageable) {
+        log.debug("Searching articles similar to {} with pageable: {}", criteria, pageable);
+        return findPage(ArticleSearchQuery.similar(criteria), pageable);
     }
 
     @Override
-    public Page<Article> searchByKeywordAndDeletedAtIsNull(String keyword, Pageable pageable) {
-        log.debug("Searching articles by keyword: {} with pageable: {}", keyword, pageable);
-        return springDataRepository.searchByKeyword(keyword, pageable)
-                .map(articleMapper::toDomain);
+    public ArticleFacets facets(ArticleSearchCriteria criteria) {
+        return facetCache.get(criteria, false, () -> {
+            log.debug("Counting article facets for {}", criteria);
+            return countFacets(ArticleSearchQuery.of(criteria, Sort.unsorted()));
+        });
+    }
+
+    @Override
+    public ArticleFacets facetsSimilar(ArticleSearchCriteria criteria) {
+        ArticleSearchQuery query = ArticleSearchQuery.similar(criteria);
+        return facetCache.get(criteria, true, () -> {
+            log.debug("Counting article facets similar to {}", criteria);
+            return countFacets(query);
+        });
+    }
+
+    private ArticleFacets countFacets(ArticleSearchQuery query) {
+        Query select = entityManager.createNativeQuery(query.facetSql());
+        query.parameters().forEach(select::setParameter);
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = select.getResultList();
+        return toFacets(rows);
     }
 
     @Override
     public void delete(Article article) {
         log.debug("Deleting article: {}", article.getId());
-        ArticleEntity entity = springDataRepository.findById(article.getId())
-                .orElseThrow(() -> new IllegalArgumentException("Article not found: " + article.getId()));
-        springDataRepository.delete(entity);
+        if (springDataRepository.softDeleteById(article.getId()) == 0) {
+            throw new IllegalArgumentException("Article not found: " + article.getId());
+        }
     }
 
     @Override
@@ -139,8 +204,108 @@ public class JpaArticleRepository implements ArticleRepository {
                 .map(articleMapper::toDomain);
     }
 
+    @Override
+    public List<Article> findScheduledForPublicationUntil(LocalDateTime until) {
+        log.debug("Finding articles scheduled for publication until: {}", until);
+        return springDataRepository
+                .findAllByScheduledPublishAtLessThanEqualAndStatusNotAndDeletedAtIsNullOrderByScheduledPublishAtAsc(
+                        until, ArticleStatus.PUBLISHED)
+                .stream()
+                .map(articleMapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<Article> findAllWithoutSearchLexemes(int limit) {
+        return springDataRepository.findAllWithoutSearchLexemes(limit).stream()
+                .map(articleMapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public void updateSearchLexemes(Long id, String searchLexemes) {
+        springDataRepository.updateSearchLexemes(id, searchLexemes);
+    }
+
     // ==================== Private Helper Methods ====================
 
+    private Page<Article> findPage(ArticleSearchQuery query, Pageable pageable) {
+        Query select = entityManager.createNativeQuery(query.selectSql(), ArticleEntity.class);
+        query.parameters().forEach(select::setParameter);
+        if (pageable.isPaged()) {
+            select.setFirstResult(Math.toIntExact(pageable.getOffset()));
+            select.setMaxResults(pageable.getPageSize());
+        }
+        @SuppressWarnings("unchecked")
+        List<Article> content = ((List<ArticleEntity>) select.getResultList()).stream()
+                .map(articleMapper::toDomain)
+                .toList();
+
+        // The count runs only when the page alone does not tell the total
+        return PageableExecutionUtils.getPage(content, pageable, () -> {
+            Query count = entityManager.createNativeQuery(query.countSql());
+            query.parameters().forEach(count::setParameter);
+            return ((Number) count.getSingleResult()).longValue();
+        });
+    }
+
+    /**
+     * Sorts the rows of {@code ArticleSearchQuery.facetSql()} into facets by their grouping flags.
+     */
+    private static ArticleFacets toFacets(List<Object[]> rows) {
+        long total = 0;
+        Map<ArticleStatus, Long> statuses = new LinkedHashMap<>();
+        Map<UserId, Long> authors = new LinkedHashMap<>();
+        Map<String, Long> keywords = new LinkedHashMap<>();
+        Map<YearMonth, Long> months = new TreeMap<>(Comparator.reverseOrder());
+        for (Object[] row : rows) {
+            long count = ((Number) row[4]).longValue();
+            if (isGroupedBy(row[5])) {
+                statuses.put(ArticleStatus.valueOf((String) row[0]), count);
+            } else if (isGroupedBy(row[6])) {
+                authors.put(UserId.of(UUID.fromString((String) row[1])), count);
+            } else if (isGroupedBy(row[7])) {
+                // Articles without keywords form a NULL group
+                if (row[2] != null) {
+                    keywords.put((String) row[2], count);
+                }
+            } else if (isGroupedBy(row[8])) {
+                months.put(YearMonth.parse((String) row[3]), count);
+            } else {
+                total = count;
+            }
+        }
+        return new ArticleFacets(total, statuses, authors, keywords, months);
+    }
+
+    private static boolean isGroupedBy(Object groupingFlag) {
+        return ((Number) groupingFlag).intValue() == 0;
+    }
+
+    /**
+     * Copies the article onto its entity and saves it.
+     * An existing article is normally already managed by the current transaction (the use case
+     * loaded it), so the lookup is served from the persistence context without a query.
+     */
+    private ArticleEntity write(Article article) {
+        ArticleEntity entity;
+
+        if (article.getId() == null) {
+            // New article - create new entity
+            entity = articleMapper.toEntity(article);
+            setUserReferencesFromDomain(entity, article);
+        } else {
+            // Update existing article
+            entity = springDataRepository.findById(article.getId())
+                    .orElseThrow(() -> new IllegalArgumentException("Article not found: " + article.getId()));
+            articleMapper.updateEntity(entity, article);
+            // Update only updatedBy reference
+            setUpdatedByReference(entity, article.getUpdatedBy());
+        }
+
+        return springDataRepository.save(entity);
+    }
+
     /**
      * Sets UserEntity references on ArticleEntity from domain Article.
      */
@@ -161,13 +326,13 @@ public class JpaArticleRepository implements ArticleRepository {
     }
 
     /**
-     * Loads UserEntity by UserId.
+     * Returns a UserEntity reference by UserId without loading the user.
+     * Only the foreign key is written; a missing user fails on the FK constraint at flush.
      */
     private UserEntity loadUserEntity(UserId userId) {
         if (userId == null) {
             return null;
         }
-        return userRepository.findById(userId.userid())
-                .orElseThrow(() -> new IllegalArgumentException("User not found: " + userId.userid()));
+        return userRepository.getReferenceById(userId.userid());
     }
 }
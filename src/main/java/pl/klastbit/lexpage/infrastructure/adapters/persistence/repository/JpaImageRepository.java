@@ -0,0 +1,47 @@
+package pl.klastbit.lexpage.infrastructure.adapters.persistence.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import pl.klastbit.lexpage.domain.image.ImageVariant;
+import pl.klastbit.lexpage.infrastructure.adapters.persistence.entity.ImageEntity;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Spring Data JPA repository for ImageEntity.
+ * Infrastructure concern - not exposed to domain.
+ */
+@Repository
+public interface JpaImageRepository extends JpaRepository<ImageEntity, Long> {
+
+    List<ImageEntity> findAllByContentHashAndDeletedAtIsNull(String contentHash);
+
+    List<ImageEntity> findAllByEntityTypeAndEntityIdAndContentHashAndDeletedAtIsNull(
+            String entityType,
+            Long entityId,
+            String contentHash
+    );
+
+    Optional<ImageEntity> findFirstByEntityTypeAndEntityIdAndVariantAndDeletedAtIsNullOrderByIdDesc(
+            String entityType,
+            Long entityId,
+            ImageVariant variant
+    );
+
+    @Modifying
+    @Query("""
+            UPDATE ImageEntity i SET i.deletedAt = CURRENT_TIMESTAMP
+            WHERE i.entityType = :entityType AND i.entityId = :entityId AND i.variant = :variant
+              AND i.contentHash <> :keptContentHash AND i.deletedAt IS NULL
+            """)
+    int softDeleteVariantsExcept(
+            @Param("entityType") String entityType,
+            @Param("entityId") Long entityId,
+            @Param("variant") ImageVariant variant,
+            @Param("keptContentHash") String keptContentHash
+    );
+}
@@ -1,15 +1,20 @@
 package pl.klastbit.lexpage.infrastructure.adapters.persistence.repository;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import pl.klastbit.lexpage.domain.article.ArticleStatus;
 import pl.klastbit.lexpage.infrastructure.adapters.persistence.entity.ArticleEntity;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
 
 /**
  * Spring Data JPA Repository for ArticleEntity.
@@ -20,34 +25,83 @@ public interface SpringDataArticleRepository extends JpaRepository<ArticleEntity
 
     Optional<ArticleEntity> findByIdAndDeletedAtIsNull(Long id);
 
-    Page<ArticleEntity> findAllByDeletedAtIsNull(Pageable pageable);
-
     Page<ArticleEntity> findAllByStatusAndDeletedAtIsNull(ArticleStatus status, Pageable pageable);
 
-    // Query by author.id (relationship navigation using UUID)
-    Page<ArticleEntity> findAllByAuthor_IdAndDeletedAtIsNull(UUID authorId, Pageable pageable);
+    boolean existsBySlugAndDeletedAtIsNull(String slug);
 
-    Page<ArticleEntity> findAllByStatusAndAuthor_IdAndDeletedAtIsNull(
-            ArticleStatus status,
-            UUID authorId,
-            Pageable pageable
+    Optional<ArticleEntity> findBySlugAndStatusAndDeletedAtIsNull(String slug, ArticleStatus status);
+
+    List<ArticleEntity> findAllByScheduledPublishAtLessThanEqualAndStatusNotAndDeletedAtIsNullOrderByScheduledPublishAtAsc(
+            LocalDateTime until,
+            ArticleStatus status
     );
 
-    boolean existsBySlugAndDeletedAtIsNull(String slug);
+    // Status change without rewriting content; guarded by the expected status against concurrent transitions
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE ArticleEntity a
+            SET a.status = :status, a.publishedAt = :publishedAt, a.scheduledPublishAt = :scheduledPublishAt
+            WHERE a.id = :id AND a.status = :expectedStatus AND a.deletedAt IS NULL
+            """)
+    int transitionStatus(
+            @Param("id") Long id,
+            @Param("expectedStatus") ArticleStatus expectedStatus,
+            @Param("status") ArticleStatus status,
+            @Param("publishedAt") LocalDateTime publishedAt,
+            @Param("scheduledPublishAt") LocalDateTime scheduledPublishAt
+    );
 
-    Optional<ArticleEntity> findBySlugAndStatusAndDeletedAtIsNull(String slug, ArticleStatus status);
+    List<ArticleEntity> findAllByIdInAndDeletedAtIsNull(Collection<Long> ids);
 
-    /**
-     * Full-text search using PostgreSQL's tsvector.
-     * Searches in title and content using the search_vector column.
-     */
-    @Query(value = """
-            SELECT a FROM ArticleEntity a
-            WHERE a.deletedAt IS NULL
-            AND (
-                LOWER(a.title) LIKE LOWER(CONCAT('%', :keyword, '%'))
-                OR LOWER(a.content) LIKE LOWER(CONCAT('%', :keyword, '%'))
-            )
+    // Rows locked in id order, so concurrent batches over overlapping ids cannot deadlock
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM ArticleEntity a WHERE a.id IN :ids AND a.deletedAt IS NULL ORDER BY a.id")
+    List<ArticleEntity> findAllByIdInForUpdate(@Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE ArticleEntity a
+            SET a.status = pl.klastbit.lexpage.domain.article.ArticleStatus.PUBLISHED,
+                a.publishedAt = :publishedAt, a.scheduledPublishAt = NULL
+            WHERE a.id IN :ids AND a.deletedAt IS NULL
             """)
-    Page<ArticleEntity> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
+    int publishAll(@Param("ids") Collection<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE ArticleEntity a
+            SET a.status = pl.klastbit.lexpage.domain.article.ArticleStatus.DRAFT, a.publishedAt = NULL
+            WHERE a.id IN :ids AND a.deletedAt IS NULL
+            """)
+    int unpublishAll(@Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE ArticleEntity a
+            SET a.status = pl.klastbit.lexpage.domain.article.ArticleStatus.ARCHIVED
+            WHERE a.id IN :ids AND a.deletedAt IS NULL
+            """)
+    int archiveAll(@Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ArticleEntity a SET a.deletedAt = CURRENT_TIMESTAMP WHERE a.id IN :ids AND a.deletedAt IS NULL")
+    int softDeleteAllById(@Param("ids") Collection<Long> ids);
+
+    // Soft delete in a single statement; pending changes are flushed first so they are not lost
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ArticleEntity a SET a.deletedAt = CURRENT_TIMESTAMP WHERE a.id = :id AND a.deletedAt IS NULL")
+    int softDeleteById(@Param("id") Long id);
+
+    // Served by the partial index idx_articles_search_lexemes_missing, which is empty once all are indexed
+    @Query(value = """
+            SELECT * FROM articles
+            WHERE search_lexemes IS NULL AND deleted_at IS NULL
+            ORDER BY id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<ArticleEntity> findAllWithoutSearchLexemes(@Param("limit") int limit);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ArticleEntity a SET a.searchLexemes = :searchLexemes WHERE a.id = :id")
+    int updateSearchLexemes(@Param("id") Long id, @Param("searchLexemes") String searchLexemes);
 }
@@ -0,0 +1,9 @@
+package pl.klastbit.lexpage.infrastructure.adapters.persistence.routing;
+
+/**
+ * Target of a routed connection.
+ */
+public enum DataSourceRoute {
+    PRIMARY,
+    REPLICA
+}
@@ -0,0 +1,66 @@
+package pl.klastbit.lexpage.infrastructure.adapters.persistence.routing;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Routes connections of read-only transactions to the replica and everything else to the primary.
+ * <p>
+ * Reads stay on the primary while the replica lags beyond the limit and, for an authenticated user,
+ * for a short window after a read-write transaction of theirs commits (read-your-writes). All reads stay
+ * on the primary while the {@link ReplicaReadFence} is raised after an article change.
+ * Must be wrapped in a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy},
+ * so the connection is chosen only once the transaction's read-only flag is known.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final ReplicaReadFence readFence;
+
+    public ReadWriteRoutingDataSource(
+            ReplicaLagMonitor lagMonitor,
+            ReadYourWritesTracker readYourWritesTracker,
+            ReplicaReadFence readFence
+    ) {
+        this.lagMonitor = lagMonitor;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.readFence = readFence;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String username = currentUsername();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (username != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        readYourWritesTracker.recordWrite(username);
+                    }
+                });
+            }
+            return DataSourceRoute.PRIMARY;
+        }
+        if (readFence.isRaised()) {
+            return DataSourceRoute.PRIMARY;
+        }
+        if (username != null && readYourWritesTracker.hasRecentWrite(username)) {
+            return DataSourceRoute.PRIMARY;
+        }
+        return lagMonitor.isReplicaUsable() ? DataSourceRoute.REPLICA : DataSourceRoute.PRIMARY;
+    }
+
+    private static String currentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
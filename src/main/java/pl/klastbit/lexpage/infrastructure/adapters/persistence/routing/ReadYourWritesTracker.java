@@ -0,0 +1,35 @@
+package pl.klastbit.lexpage.infrastructure.adapters.persistence.routing;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers which users committed a write recently, so their following reads can see it
+ * even while the replica is still catching up.
+ */
+public class ReadYourWritesTracker {
+
+    private final long windowNanos;
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    public void recordWrite(String username) {
+        lastWrites.put(username, System.nanoTime());
+    }
+
+    public boolean hasRecentWrite(String username) {
+        Long writtenAt = lastWrites.get(username);
+        if (writtenAt == null) {
+            return false;
+        }
+        if (System.nanoTime() - writtenAt > windowNanos) {
+            lastWrites.remove(username, writtenAt);
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,106 @@
+package pl.klastbit.lexpage.infrastructure.adapters.persistence.routing;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures replication lag of the read replica and decides whether it may serve reads.
+ * <p>
+ * Lag is zero while the replica has replayed everything it received, otherwise it is the age of the
+ * last replayed transaction. The replica is usable only while the latest measurement succeeded, is
+ * fresh and is within the configured limit; an unreachable replica therefore falls back to the primary
+ * within one check interval.
+ */
+@Slf4j
+public class ReplicaLagMonitor implements SmartLifecycle {
+
+    private static final String LAG_SQL = """
+            SELECT CASE
+                       WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                       ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+                   END::bigint""";
+
+    private final DataSource replica;
+    private final long maxLagMillis;
+    private final Duration checkInterval;
+
+    private ScheduledExecutorService executor;
+    private volatile long lagMillis = Long.MAX_VALUE;
+    private volatile long checkedAtNanos;
+    private volatile boolean usable;
+    private volatile boolean running;
+
+    public ReplicaLagMonitor(DataSource replica, Duration maxLag, Duration checkInterval) {
+        this.replica = replica;
+        this.maxLagMillis = maxLag.toMillis();
+        this.checkInterval = checkInterval;
+    }
+
+    /**
+     * Checks whether read-only transactions may use the replica right now.
+     */
+    public boolean isReplicaUsable() {
+        // A stuck check must not keep an outdated verdict alive
+        return usable && System.nanoTime() - checkedAtNanos < 3 * checkInterval.toNanos();
+    }
+
+    public long getLagMillis() {
+        return lagMillis;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        check();
+        executor = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("replica-lag").daemon().factory());
+        long interval = checkInterval.toMillis();
+        executor.scheduleWithFixedDelay(this::check, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    void check() {
+        boolean wasUsable = usable;
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(LAG_SQL)) {
+            resultSet.next();
+            lagMillis = resultSet.getLong(1);
+            usable = lagMillis <= maxLagMillis;
+        } catch (SQLException | RuntimeException e) {
+            lagMillis = Long.MAX_VALUE;
+            usable = false;
+            if (wasUsable) {
+                log.warn("Replica lag check failed: {}", e.getMessage());
+            }
+        }
+        checkedAtNanos = System.nanoTime();
+        if (wasUsable != usable) {
+            log.info(usable ? "Replica serves reads again (lag {} ms)" : "Replica lagging or unavailable (lag {} ms), reading from primary",
+                    lagMillis == Long.MAX_VALUE ? "unknown" : lagMillis);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package pl.klastbit.lexpage.infrastructure.adapters.persistence.routing;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import pl.klastbit.lexpage.application.article.event.ArticleChangedEvent;
+import pl.klastbit.lexpage.application.article.event.ArticlesImportedEvent;
+import pl.klastbit.lexpage.infrastructure.invalidation.InvalidatableCache;
+
+import java.time.Duration;
+
+/**
+ * Keeps all reads on the primary for a while after an article change, so caches refilled right after
+ * their invalidation do not pick up the old version from a replica that has not replayed the change yet.
+ * <p>
+ * The window covers the largest lag at which the replica still serves reads, so once it ends the replica
+ * has replayed the change. Registered as a cache with the highest precedence: the invalidation bus and
+ * the after-commit listeners raise the fence before any real cache is cleared.
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ReplicaReadFence implements InvalidatableCache {
+
+    private final long windowNanos;
+    private volatile long raisedAtNanos;
+    private volatile boolean raised;
+
+    public ReplicaReadFence(Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    public void raise() {
+        raisedAtNanos = System.nanoTime();
+        raised = true;
+    }
+
+    public boolean isRaised() {
+        return raised && System.nanoTime() - raisedAtNanos <= windowNanos;
+    }
+
+    @Override
+    public void invalidate(ArticleChangedEvent event) {
+        raise();
+    }
+
+    @Override
+    public void invalidateAll() {
+        raise();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        raise();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onArticlesImported(ArticlesImportedEvent event) {
+        raise();
+    }
+}
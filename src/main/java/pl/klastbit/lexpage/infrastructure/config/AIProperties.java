@@ -5,6 +5,8 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 /**
  * Configuration properties for AI article generation.
  * Properties are loaded from application.properties with prefix 'app.ai'.
@@ -19,4 +21,7 @@ public class AIProperties {
     private String modelName;
     private Double temperature = 0.7;
     private Integer maxTokens = 2000;
+    private Integer maxConcurrentRequests = 8;
+    private Duration acquireTimeout = Duration.ofSeconds(30);
+    private Duration readTimeout = Duration.ofSeconds(120);
 }
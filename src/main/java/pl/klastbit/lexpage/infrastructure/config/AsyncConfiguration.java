@@ -0,0 +1,15 @@
+package pl.klastbit.lexpage.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * Enables {@code @Async} execution on Spring Boot's auto-configured {@code applicationTaskExecutor}.
+ * <p>
+ * With {@code spring.threads.virtual.enabled=true} the executor starts a virtual thread per task,
+ * otherwise it is a bounded platform-thread pool configured via {@code spring.task.execution.*}.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfiguration {
+}
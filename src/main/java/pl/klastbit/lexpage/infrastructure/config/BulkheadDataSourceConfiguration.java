@@ -0,0 +1,84 @@
+package pl.klastbit.lexpage.infrastructure.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import pl.klastbit.lexpage.infrastructure.adapters.persistence.bulkhead.Bulkhead;
+import pl.klastbit.lexpage.infrastructure.adapters.persistence.bulkhead.BulkheadRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Splits the primary database pool into bulkheads: public-read, admin and background.
+ * Only active when 'app.datasource.bulkheads.enabled=true'.
+ * <p>
+ * Every bulkhead is a separate Hikari pool against spring.datasource.url with its own size,
+ * connection timeout and statement timeout (spring.datasource.hikari.* no longer applies).
+ * The pools are beans, so Actuator publishes hikaricp.* metrics for each, tagged with the pool name.
+ * Connections held for the application's lifetime (leader election lock, cache invalidation listener)
+ * are opened outside the pools, so the background pool is sized for background work only.
+ * <p>
+ * The bulkhead router is exposed as {@code primaryDataSource}: with the read replica enabled,
+ * {@link DataSourceRoutingConfiguration} wraps it, and read-only transactions still go to the
+ * replica pool regardless of the workload.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.bulkheads", name = "enabled", havingValue = "true")
+public class BulkheadDataSourceConfiguration {
+
+    @Bean
+    public HikariDataSource publicReadDataSource(DataSourceProperties properties, BulkheadProperties bulkheads) {
+        return pool(properties, Bulkhead.PUBLIC_READ, bulkheads.getPublicRead());
+    }
+
+    @Bean
+    public HikariDataSource adminDataSource(DataSourceProperties properties, BulkheadProperties bulkheads) {
+        return pool(properties, Bulkhead.ADMIN, bulkheads.getAdmin());
+    }
+
+    @Bean
+    public HikariDataSource backgroundDataSource(DataSourceProperties properties, BulkheadProperties bulkheads) {
+        return pool(properties, Bulkhead.BACKGROUND, bulkheads.getBackground());
+    }
+
+    @Bean
+    public DataSource primaryDataSource(
+            @Qualifier("publicReadDataSource") DataSource publicReadDataSource,
+            @Qualifier("adminDataSource") DataSource adminDataSource,
+            @Qualifier("backgroundDataSource") DataSource backgroundDataSource
+    ) {
+        BulkheadRoutingDataSource routing = new BulkheadRoutingDataSource();
+        routing.setTargetDataSources(Map.of(
+                Bulkhead.PUBLIC_READ, publicReadDataSource,
+                Bulkhead.ADMIN, adminDataSource,
+                Bulkhead.BACKGROUND, backgroundDataSource
+        ));
+        routing.setDefaultTargetDataSource(backgroundDataSource);
+        routing.afterPropertiesSet();
+        return routing;
+    }
+
+    @Bean
+    @Primary
+    @ConditionalOnProperty(prefix = "app.datasource.replica", name = "enabled", havingValue = "false", matchIfMissing = true)
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource) {
+        return primaryDataSource;
+    }
+
+    private static HikariDataSource pool(DataSourceProperties properties, Bulkhead bulkhead, BulkheadProperties.Pool pool) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName(bulkhead.poolName());
+        dataSource.setMaximumPoolSize(pool.getMaximumPoolSize());
+        dataSource.setMinimumIdle(pool.getMaximumPoolSize());
+        dataSource.setConnectionTimeout(pool.getConnectionTimeout().toMillis());
+        if (pool.getStatementTimeout().isPositive()) {
+            dataSource.setConnectionInitSql("SET statement_timeout = " + pool.getStatementTimeout().toMillis());
+        }
+        return dataSource;
+    }
+}
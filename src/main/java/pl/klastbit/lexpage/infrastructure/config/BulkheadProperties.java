@@ -0,0 +1,85 @@
+package pl.klastbit.lexpage.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration properties for the connection pool bulkheads (public-read, admin, background).
+ * Properties are loaded from application.properties with prefix 'app.datasource.bulkheads'.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.datasource.bulkheads")
+@Getter
+@Setter
+public class BulkheadProperties {
+
+    /**
+     * Whether each workload gets its own connection pool.
+     * When disabled, the single spring.datasource pool serves everything.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Request paths served from the admin pool. Checked after background-paths.
+     */
+    private List<String> adminPaths = new ArrayList<>(List.of("/admin/**", "/api/**", "/login", "/logout"));
+
+    /**
+     * Request paths served from the background pool, e.g. public writes that must not compete with page views,
+     * and bulk transfers whose statements last as long as the upload or download (no statement timeout).
+     */
+    private List<String> backgroundPaths = new ArrayList<>(
+            List.of("/api/contact/**", "/api/articles/import", "/api/articles/export"));
+
+    /**
+     * Pool for anonymous page views (every path not matched by the lists above).
+     */
+    private Pool publicRead = new Pool(10, Duration.ofSeconds(2), Duration.ofSeconds(5));
+
+    /**
+     * Pool for the admin panel and the management API.
+     */
+    private Pool admin = new Pool(4, Duration.ofSeconds(10), Duration.ofSeconds(60));
+
+    /**
+     * Pool for work outside web requests (scheduled jobs, imports, event listeners). The leader election
+     * lock and the cache invalidation listener do not use it: each holds a dedicated connection outside
+     * the pools, so every connection of this pool stays available for background work.
+     */
+    private Pool background = new Pool(4, Duration.ofSeconds(30), Duration.ZERO);
+
+    @Getter
+    @Setter
+    public static class Pool {
+
+        /**
+         * Number of connections; the pool is kept at this size.
+         */
+        private int maximumPoolSize;
+
+        /**
+         * How long a caller waits for a free connection before failing.
+         */
+        private Duration connectionTimeout;
+
+        /**
+         * PostgreSQL statement_timeout of the pool's connections; zero means no limit.
+         */
+        private Duration statementTimeout;
+
+        public Pool() {
+        }
+
+        Pool(int maximumPoolSize, Duration connectionTimeout, Duration statementTimeout) {
+            this.maximumPoolSize = maximumPoolSize;
+            this.connectionTimeout = connectionTimeout;
+            this.statementTimeout = statementTimeout;
+        }
+    }
+}
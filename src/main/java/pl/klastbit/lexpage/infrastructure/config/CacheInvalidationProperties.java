@@ -0,0 +1,40 @@
+package pl.klastbit.lexpage.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for cross-instance cache invalidation over PostgreSQL LISTEN/NOTIFY.
+ * Properties are loaded from application.properties with prefix 'app.cache-invalidation'.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.cache-invalidation")
+@Getter
+@Setter
+public class CacheInvalidationProperties {
+
+    /**
+     * Whether article changes are broadcast to and received from other instances.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Notification channel; instances sharing a database and channel invalidate each other's caches.
+     * Must be a plain lowercase SQL identifier.
+     */
+    private String channel = "lexpage_cache_invalidation";
+
+    /**
+     * How long the listener waits for notifications before checking that its connection is alive.
+     */
+    private Duration heartbeatInterval = Duration.ofSeconds(10);
+
+    /**
+     * Pause before reconnecting after the listener connection was lost.
+     */
+    private Duration reconnectDelay = Duration.ofSeconds(1);
+}
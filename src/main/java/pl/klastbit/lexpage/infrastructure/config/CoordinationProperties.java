@@ -0,0 +1,41 @@
+package pl.klastbit.lexpage.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for coordination of background jobs between application instances.
+ * Properties are loaded from application.properties with prefix 'app.coordination'.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.coordination")
+@Getter
+@Setter
+public class CoordinationProperties {
+
+    /**
+     * Whether leadership is elected through a PostgreSQL advisory lock.
+     * When disabled, every instance considers itself the leader (single-instance deployments).
+     */
+    private boolean enabled = true;
+
+    /**
+     * Name of the leadership lock; instances sharing a database and lock name elect one leader.
+     */
+    private String lockName = "lexpage-leader";
+
+    /**
+     * How often the leader renews its lease and followers try to take over.
+     */
+    private Duration leaseRenewalInterval = Duration.ofSeconds(5);
+
+    /**
+     * How long leadership stays valid after the last successful renewal.
+     * The leader steps down on its own when it cannot reach the database for this long.
+     */
+    private Duration leaseDuration = Duration.ofSeconds(15);
+}
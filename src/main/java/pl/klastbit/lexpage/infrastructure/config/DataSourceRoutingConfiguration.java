@@ -0,0 +1,97 @@
+package pl.klastbit.lexpage.infrastructure.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+import pl.klastbit.lexpage.infrastructure.adapters.persistence.routing.DataSourceRoute;
+import pl.klastbit.lexpage.infrastructure.adapters.persistence.routing.ReadWriteRoutingDataSource;
+import pl.klastbit.lexpage.infrastructure.adapters.persistence.routing.ReadYourWritesTracker;
+import pl.klastbit.lexpage.infrastructure.adapters.persistence.routing.ReplicaReadFence;
+import pl.klastbit.lexpage.infrastructure.adapters.persistence.routing.ReplicaLagMonitor;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Splits database traffic between the primary and a streaming read replica.
+ * Only active when 'app.datasource.replica.enabled=true'; otherwise Spring Boot's single pool is used.
+ * <p>
+ * The primary pool is configured as before (spring.datasource.*, spring.datasource.hikari.*),
+ * unless bulkheads are enabled - then {@link BulkheadDataSourceConfiguration} provides the primary side.
+ * The exposed {@code dataSource} routes read-only transactions to the replica pool, so JPA,
+ * JdbcTemplate and Liquibase need no changes - everything outside a read-only transaction
+ * (including migrations and LISTEN/NOTIFY) keeps using the primary.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.datasource.bulkheads", name = "enabled", havingValue = "false", matchIfMissing = true)
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(DataSourceProperties primary, ReplicaDataSourceProperties replica) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setJdbcUrl(replica.getUrl());
+        dataSource.setUsername(StringUtils.hasText(replica.getUsername()) ? replica.getUsername() : primary.getUsername());
+        dataSource.setPassword(StringUtils.hasText(replica.getPassword()) ? replica.getPassword() : primary.getPassword());
+        dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            ReplicaDataSourceProperties properties
+    ) {
+        return new ReplicaLagMonitor(replicaDataSource, properties.getMaxLag(), properties.getLagCheckInterval());
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(ReplicaDataSourceProperties properties) {
+        return new ReadYourWritesTracker(properties.getReadYourWritesWindow());
+    }
+
+    /**
+     * A lag verdict may be up to three check intervals old, so the fence outlasts max-lag by that much.
+     */
+    @Bean
+    public ReplicaReadFence replicaReadFence(ReplicaDataSourceProperties properties) {
+        return new ReplicaReadFence(properties.getMaxLag().plus(properties.getLagCheckInterval().multipliedBy(3)));
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            ReplicaLagMonitor replicaLagMonitor,
+            ReadYourWritesTracker readYourWritesTracker,
+            ReplicaReadFence replicaReadFence
+    ) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(
+                replicaLagMonitor, readYourWritesTracker, replicaReadFence);
+        routing.setTargetDataSources(Map.of(
+                DataSourceRoute.PRIMARY, primaryDataSource,
+                DataSourceRoute.REPLICA, replicaDataSource
+        ));
+        routing.setDefaultTargetDataSource(primaryDataSource);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
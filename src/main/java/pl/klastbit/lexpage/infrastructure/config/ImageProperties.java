@@ -0,0 +1,60 @@
+package pl.klastbit.lexpage.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuration properties for image upload and processing.
+ * Properties are loaded from application.properties with prefix 'app.images'.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.images")
+@Getter
+@Setter
+public class ImageProperties {
+
+    /**
+     * Root directory of the content-addressed image store (served under /media/**).
+     */
+    private Path storageDir = Path.of("data/media");
+
+    /**
+     * Threads resizing and encoding image variants.
+     */
+    private int workerThreads = 2;
+
+    /**
+     * Variant jobs waiting for a worker; further uploads are rejected with 503.
+     */
+    private int queueCapacity = 32;
+
+    /**
+     * Maximum time an upload waits for its variants.
+     */
+    private Duration processingTimeout = Duration.ofSeconds(60);
+
+    /**
+     * JPEG quality (0.0-1.0) of generated variants.
+     */
+    private float jpegQuality = 0.82f;
+
+    /**
+     * Maximum number of pixels of an uploaded image (protects against decompression bombs).
+     */
+    private long maxPixels = 40_000_000L;
+
+    /**
+     * Articles waiting for Open Graph preview rendering; further requests are dropped until the queue drains.
+     */
+    private int ogRenderQueueCapacity = 100;
+
+    /**
+     * Render missing Open Graph previews of published articles after startup.
+     */
+    private boolean ogBackfillOnStartup = true;
+}
@@ -0,0 +1,133 @@
+package pl.klastbit.lexpage.infrastructure.config;
+
+import liquibase.integration.spring.SpringLiquibase;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Skips Liquibase on startup when the changelog files have not changed since the last migration.
+ * Only active when 'app.liquibase.skip-when-unchanged=true' (fast-start profile).
+ * <p>
+ * A SHA-256 checksum of all changelog resources is stored as the TAG of the most recent
+ * DATABASECHANGELOG row after a successful run. On the next start, if the latest tag equals
+ * the current checksum, Liquibase is disabled and no changelog parsing or validation happens.
+ * Any changelog change (or a missing/foreign tag) falls back to a regular Liquibase run.
+ */
+@Component
+@ConditionalOnProperty(name = "app.liquibase.skip-when-unchanged", havingValue = "true")
+@Slf4j
+public class LiquibaseChecksumGate implements BeanPostProcessor {
+
+    private static final String CHANGELOG_PATTERN = "classpath*:db/changelog/**/*.xml";
+    private static final String TAG_PREFIX = "schema-sha256:";
+
+    private static final String SELECT_LATEST_TAG_SQL =
+            "SELECT tag FROM databasechangelog ORDER BY orderexecuted DESC LIMIT 1";
+    private static final String TAG_LATEST_SQL =
+            "UPDATE databasechangelog SET tag = ? "
+                    + "WHERE orderexecuted = (SELECT MAX(orderexecuted) FROM databasechangelog)";
+
+    private final Set<String> skippedBeans = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof SpringLiquibase liquibase) {
+            String expectedTag = TAG_PREFIX + changelogChecksum();
+            Optional<String> latestTag = readLatestTag(liquibase.getDataSource());
+
+            if (latestTag.filter(expectedTag::equals).isPresent()) {
+                log.info("Liquibase changelog unchanged ({}), skipping migration", expectedTag);
+                liquibase.setShouldRun(false);
+                skippedBeans.add(beanName);
+            }
+        }
+        return bean;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof SpringLiquibase liquibase && !skippedBeans.contains(beanName)) {
+            String tag = TAG_PREFIX + changelogChecksum();
+            tagLatestChangeSet(liquibase.getDataSource(), tag);
+            log.info("Liquibase migration finished, recorded changelog checksum {}", tag);
+        }
+        return bean;
+    }
+
+    private String changelogChecksum() {
+        try {
+            Resource[] resources = new PathMatchingResourcePatternResolver().getResources(CHANGELOG_PATTERN);
+            Arrays.sort(resources, Comparator.comparing(LiquibaseChecksumGate::relativePath));
+
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (Resource resource : resources) {
+                digest.update(relativePath(resource).getBytes(StandardCharsets.UTF_8));
+                try (InputStream in = resource.getInputStream()) {
+                    digest.update(in.readAllBytes());
+                }
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read Liquibase changelog resources", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static String relativePath(Resource resource) {
+        try {
+            String url = resource.getURL().toString();
+            int index = url.indexOf("db/changelog/");
+            return index >= 0 ? url.substring(index) : url;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Optional<String> readLatestTag(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(SELECT_LATEST_TAG_SQL);
+             ResultSet resultSet = statement.executeQuery()) {
+            return resultSet.next() ? Optional.ofNullable(resultSet.getString(1)) : Optional.empty();
+        } catch (SQLException e) {
+            // Fresh database (no DATABASECHANGELOG yet) - let Liquibase run
+            log.debug("Could not read Liquibase changelog tag: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void tagLatestChangeSet(DataSource dataSource, String tag) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(TAG_LATEST_SQL)) {
+            statement.setString(1, tag);
+            statement.executeUpdate();
+            if (!connection.getAutoCommit()) {
+                connection.commit();
+            }
+        } catch (SQLException e) {
+            log.warn("Could not record Liquibase changelog checksum, next start will run Liquibase: {}", e.getMessage());
+        }
+    }
+}
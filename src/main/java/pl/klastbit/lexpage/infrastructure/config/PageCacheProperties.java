@@ -0,0 +1,32 @@
+package pl.klastbit.lexpage.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the rendered page cache.
+ * Properties are loaded from application.properties with prefix 'app.page-cache'.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.page-cache")
+@Getter
+@Setter
+public class PageCacheProperties {
+
+    /**
+     * Whether rendered public pages are cached (disable for template hot-reload).
+     */
+    private boolean enabled = true;
+
+    /**
+     * Maximum number of cached pages; beyond it the least recently used page is evicted.
+     */
+    private int maxEntries = 500;
+
+    /**
+     * Brotli quality (0-11) used when a page is compressed at cache-fill time.
+     */
+    private int brotliQuality = 11;
+}
@@ -0,0 +1,36 @@
+package pl.klastbit.lexpage.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for scheduled article publishing.
+ * Properties are loaded from application.properties with prefix 'app.publication-scheduler'.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.publication-scheduler")
+@Getter
+@Setter
+public class PublicationSchedulerProperties {
+
+    /**
+     * Whether this instance publishes scheduled articles.
+     */
+    private boolean enabled = true;
+
+    /**
+     * How far ahead scheduled publications are loaded into memory.
+     * Must be longer than the sweep interval, otherwise publications can be picked up late.
+     */
+    private Duration lookahead = Duration.ofHours(24);
+
+    /**
+     * Interval of the database consistency sweep, which picks up schedules changed by other
+     * instances, entering the lookahead window or left over after a failed publication.
+     */
+    private Duration sweepInterval = Duration.ofMinutes(10);
+}
@@ -0,0 +1,60 @@
+package pl.klastbit.lexpage.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the read replica used by read-only transactions.
+ * Properties are loaded from application.properties with prefix 'app.datasource.replica'.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.datasource.replica")
+@Getter
+@Setter
+public class ReplicaDataSourceProperties {
+
+    /**
+     * Whether read-only transactions are routed to the replica.
+     * When disabled, the single spring.datasource pool serves everything.
+     */
+    private boolean enabled = false;
+
+    /**
+     * JDBC URL of the streaming replica.
+     */
+    private String url;
+
+    /**
+     * Replica user; defaults to spring.datasource.username when blank.
+     */
+    private String username;
+
+    /**
+     * Replica password; defaults to spring.datasource.password when blank.
+     */
+    private String password;
+
+    /**
+     * Size of the replica connection pool.
+     */
+    private int maximumPoolSize = 10;
+
+    /**
+     * Maximum replication lag at which the replica still serves reads; beyond it reads go to the primary.
+     */
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    /**
+     * How often replication lag is measured.
+     */
+    private Duration lagCheckInterval = Duration.ofSeconds(1);
+
+    /**
+     * How long an authenticated user's reads go to the primary after their own committed write.
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(30);
+}
@@ -0,0 +1,15 @@
+package pl.klastbit.lexpage.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} methods on Spring Boot's auto-configured {@code taskScheduler}.
+ * <p>
+ * Used only for low-frequency housekeeping (e.g. the publication consistency sweep);
+ * time-critical work keeps its own timers.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfiguration {
+}
@@ -0,0 +1,37 @@
+package pl.klastbit.lexpage.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties describing the public site.
+ * Properties are loaded from application.properties with prefix 'app.site'.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.site")
+@Getter
+@Setter
+public class SiteProperties {
+
+    /**
+     * Public base URL used for absolute links (sitemaps, feeds), without trailing slash.
+     */
+    private String baseUrl = "http://localhost:8080";
+
+    /**
+     * Site title used in feeds.
+     */
+    private String title = "Lexpage";
+
+    /**
+     * Site description used in feeds.
+     */
+    private String description = "Blog prawniczy kancelarii Lexpage";
+
+    /**
+     * Number of newest published articles included in the RSS/Atom feeds.
+     */
+    private int feedSize = 20;
+}
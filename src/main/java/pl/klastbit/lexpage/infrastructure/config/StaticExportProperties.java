@@ -0,0 +1,34 @@
+package pl.klastbit.lexpage.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+/**
+ * Configuration properties for the static site export.
+ * Properties are loaded from application.properties with prefix 'app.static-export'.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.static-export")
+@Getter
+@Setter
+public class StaticExportProperties {
+
+    /**
+     * Whether public pages are exported to a directory served by a static web tier.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Root directory of the exported site (document root of the static web tier).
+     */
+    private Path outputDir = Path.of("build/static-site");
+
+    /**
+     * Whether a full export runs once the application is ready.
+     */
+    private boolean exportOnStartup = true;
+}
@@ -0,0 +1,105 @@
+package pl.klastbit.lexpage.infrastructure.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.ContentVersionStrategy;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.ResourceUrlProvider;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resource handler for the frontend build output (/css/**, /js/**).
+ * <p>
+ * Assets are addressed by content-hashed URLs (e.g. /css/output-3f2a...css) which Thymeleaf
+ * {@code @{...}} links receive through ResourceUrlEncodingFilter. A URL carrying the current hash
+ * never changes content, so only such responses are marked {@code public, immutable}. Unversioned
+ * or outdated URLs get the same revalidating policy as the other static resources
+ * (spring.web.resources.cache.*). Precompressed .br/.gz files produced by the npm build are served
+ * instead of compressing on the fly.
+ * <p>
+ * Uploaded images (/media/**) are served by MediaController (zero-copy, byte ranges).
+ * <p>
+ * Other static locations keep Spring Boot's default handler configured via spring.web.resources.*.
+ */
+@Configuration
+public class StaticResourcesConfiguration implements WebMvcConfigurer {
+
+    private static final String[] ASSET_PATTERNS = {"/css/**", "/js/**"};
+    private static final String[] ASSET_LOCATIONS = {"classpath:/static/css/", "classpath:/static/js/"};
+    private static final Duration VERSIONED_MAX_AGE = Duration.ofDays(365);
+    private static final ContentVersionStrategy VERSION_STRATEGY = new ContentVersionStrategy();
+
+    @Value("${spring.web.resources.chain.cache:true}")
+    private boolean cacheResources;
+
+    @Value("${spring.web.resources.cache.period:0}")
+    private long cachePeriodSeconds;
+
+    private final ObjectProvider<ResourceUrlProvider> resourceUrlProvider;
+
+    public StaticResourcesConfiguration(ObjectProvider<ResourceUrlProvider> resourceUrlProvider) {
+        this.resourceUrlProvider = resourceUrlProvider;
+    }
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        // No cache control on the handler: it would overwrite the header set by the interceptor
+        for (int i = 0; i < ASSET_PATTERNS.length; i++) {
+            registry.addResourceHandler(ASSET_PATTERNS[i])
+                    .addResourceLocations(ASSET_LOCATIONS[i])
+                    .resourceChain(cacheResources)
+                    .addResolver(new EncodedResourceResolver())
+                    .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+        }
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new AssetCacheControlInterceptor()).addPathPatterns(ASSET_PATTERNS);
+    }
+
+    private CacheControl revalidatingCacheControl() {
+        if (cachePeriodSeconds <= 0) {
+            return CacheControl.noCache();
+        }
+        return CacheControl.maxAge(cachePeriodSeconds, TimeUnit.SECONDS).mustRevalidate();
+    }
+
+    /**
+     * A URL counts as versioned only when its hash is the one the resource chain currently
+     * generates for the asset; a stale or guessed hash must not be cached for a year.
+     */
+    private boolean isCurrentVersion(String path) {
+        String version = VERSION_STRATEGY.extractVersion(path);
+        if (version == null) {
+            return false;
+        }
+        String unversioned = VERSION_STRATEGY.removeVersion(path, version);
+        return path.equals(resourceUrlProvider.getObject().getForLookupPath(unversioned));
+    }
+
+    private class AssetCacheControlInterceptor implements HandlerInterceptor {
+
+        @Override
+        public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+            String path = request.getRequestURI().substring(request.getContextPath().length());
+            CacheControl cacheControl = cacheResources && isCurrentVersion(path)
+                    ? CacheControl.maxAge(VERSIONED_MAX_AGE).cachePublic().immutable()
+                    : revalidatingCacheControl();
+            response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+            return true;
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package pl.klastbit.lexpage.infrastructure.coordination;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import pl.klastbit.lexpage.infrastructure.adapters.persistence.DedicatedConnectionFactory;
+import pl.klastbit.lexpage.infrastructure.config.CoordinationProperties;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Leader election built on a PostgreSQL session-level advisory lock ({@code pg_try_advisory_lock}).
+ * <p>
+ * Every instance periodically tries to take the lock; the one that gets it is the leader and keeps
+ * the connection that owns the lock. At each renewal the leader checks in {@code pg_locks} that its
+ * session still holds the lock and extends its lease; if the check fails or the lease expires
+ * (database unreachable), it steps down. A crashed leader's session ends and PostgreSQL releases the
+ * lock, so a follower takes over within one renewal interval. On shutdown the lock is released
+ * explicitly for a fast handover.
+ * <p>
+ * Every instance keeps one connection for the election, opened outside the pools: the lock lives
+ * in its session, so it must not be handed back to a pool, and a lifelong lock connection must not
+ * take a slot of a pool sized for request or background work. Followers reuse it for their attempts.
+ */
+@Component
+@Slf4j
+public class AdvisoryLockLeaderElection implements LeaderElection, SmartLifecycle {
+
+    private static final String APPLICATION_NAME = "lexpage-leader-election";
+    private static final String TRY_LOCK_SQL = "SELECT pg_try_advisory_lock(?)";
+    private static final String UNLOCK_SQL = "SELECT pg_advisory_unlock(?)";
+    // A bigint advisory key is reported as classid (high 32 bits), objid (low 32 bits) and objsubid 1
+    private static final String HOLDS_LOCK_SQL = """
+            SELECT EXISTS (
+                SELECT 1 FROM pg_locks
+                WHERE locktype = 'advisory' AND granted AND pid = pg_backend_pid()
+                  AND objsubid = 1
+                  AND classid::bigint = (?::bigint >> 32) & 4294967295
+                  AND objid::bigint = ?::bigint & 4294967295
+            )""";
+
+    private final DedicatedConnectionFactory connectionFactory;
+    private final CoordinationProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long lockKey;
+
+    private ScheduledExecutorService renewer;
+    private Connection lockConnection;
+    private volatile boolean leader;
+    private volatile long leaseExpiresAtNanos;
+    private volatile boolean running;
+
+    public AdvisoryLockLeaderElection(
+            DedicatedConnectionFactory connectionFactory,
+            CoordinationProperties properties,
+            ApplicationEventPublisher eventPublisher
+    ) {
+        this.connectionFactory = connectionFactory;
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+        this.lockKey = lockKey(properties.getLockName());
+    }
+
+    @Override
+    public boolean isLeader() {
+        if (!properties.isEnabled()) {
+            return running;
+        }
+        return leader && leaseExpiresAtNanos - System.nanoTime() > 0;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        if (!properties.isEnabled()) {
+            log.info("Leader election disabled, this instance runs all singleton jobs");
+            eventPublisher.publishEvent(new LeadershipChangedEvent(true));
+            return;
+        }
+        // First attempt runs synchronously so leadership is settled before the application is ready
+        renew();
+        long interval = properties.getLeaseRenewalInterval().toMillis();
+        renewer = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("leader-election").daemon().factory());
+        renewer.scheduleWithFixedDelay(this::renew, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (renewer != null) {
+            renewer.shutdownNow();
+            renewer = null;
+        }
+        synchronized (this) {
+            if (leader) {
+                release();
+                changeLeadership(false);
+            } else {
+                closeLockConnection();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        // Start before and stop after the components that depend on leadership
+        return SmartLifecycle.DEFAULT_PHASE - 1024;
+    }
+
+    synchronized void renew() {
+        if (!running) {
+            return;
+        }
+        try {
+            if (leader) {
+                if (holdsLock()) {
+                    extendLease();
+                    return;
+                }
+                log.warn("Leadership lock '{}' is no longer held", properties.getLockName());
+                closeLockConnection();
+                changeLeadership(false);
+            }
+            if (tryLock()) {
+                extendLease();
+                changeLeadership(true);
+            }
+        } catch (SQLException | RuntimeException e) {
+            log.warn("Leader election for '{}' failed: {}", properties.getLockName(), e.getMessage());
+            // The lock belongs to the session; dropping the connection makes sure it is released
+            closeLockConnection();
+            if (leader) {
+                changeLeadership(false);
+            }
+        }
+    }
+
+    private boolean tryLock() throws SQLException {
+        if (lockConnection == null || lockConnection.isClosed()) {
+            lockConnection = connectionFactory.open(APPLICATION_NAME);
+        }
+        try (PreparedStatement statement = lockConnection.prepareStatement(TRY_LOCK_SQL)) {
+            statement.setLong(1, lockKey);
+            return queryBoolean(statement);
+        }
+    }
+
+    private boolean holdsLock() throws SQLException {
+        if (lockConnection == null || lockConnection.isClosed()) {
+            return false;
+        }
+        try (PreparedStatement statement = lockConnection.prepareStatement(HOLDS_LOCK_SQL)) {
+            statement.setLong(1, lockKey);
+            statement.setLong(2, lockKey);
+            return queryBoolean(statement);
+        }
+    }
+
+    private void release() {
+        if (lockConnection == null) {
+            return;
+        }
+        try (PreparedStatement statement = lockConnection.prepareStatement(UNLOCK_SQL)) {
+            statement.setLong(1, lockKey);
+            queryBoolean(statement);
+            log.info("Released leadership lock '{}'", properties.getLockName());
+        } catch (SQLException e) {
+            log.warn("Failed to release leadership lock '{}': {}", properties.getLockName(), e.getMessage());
+        } finally {
+            closeLockConnection();
+        }
+    }
+
+    private void closeLockConnection() {
+        if (lockConnection == null) {
+            return;
+        }
+        try {
+            lockConnection.close();
+        } catch (SQLException e) {
+            log.debug("Failed to close leadership lock connection", e);
+        }
+        lockConnection = null;
+    }
+
+    private void extendLease() {
+        leaseExpiresAtNanos = System.nanoTime() + properties.getLeaseDuration().toNanos();
+    }
+
+    private void changeLeadership(boolean leader) {
+        this.leader = leader;
+        log.info(leader ? "Acquired leadership '{}'" : "Lost leadership '{}'", properties.getLockName());
+        eventPublisher.publishEvent(new LeadershipChangedEvent(leader));
+    }
+
+    private static boolean queryBoolean(PreparedStatement statement) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery()) {
+            return resultSet.next() && resultSet.getBoolean(1);
+        }
+    }
+
+    private static long lockKey(String lockName) {
+        return UUID.nameUUIDFromBytes(lockName.getBytes(StandardCharsets.UTF_8)).getMostSignificantBits();
+    }
+}
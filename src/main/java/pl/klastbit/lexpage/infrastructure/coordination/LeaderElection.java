@@ -0,0 +1,13 @@
+package pl.klastbit.lexpage.infrastructure.coordination;
+
+/**
+ * Cluster-wide leadership of this application instance.
+ * At most one instance is leader at a time; changes are announced with {@link LeadershipChangedEvent}.
+ */
+public interface LeaderElection {
+
+    /**
+     * Checks whether this instance currently holds a valid leadership lease.
+     */
+    boolean isLeader();
+}
@@ -0,0 +1,9 @@
+package pl.klastbit.lexpage.infrastructure.coordination;
+
+/**
+ * Application event published when this instance gains or loses leadership.
+ *
+ * @param leader whether this instance is now the leader
+ */
+public record LeadershipChangedEvent(boolean leader) {
+}
@@ -0,0 +1,22 @@
+package pl.klastbit.lexpage.infrastructure.coordination;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a background job method that must run on one instance only.
+ * <p>
+ * Calls through the Spring proxy (e.g. from {@code @Scheduled}) proceed only on the instance currently
+ * holding leadership and are silently skipped elsewhere, so annotated methods must return {@code void}.
+ * Self-invocation bypasses the check.
+ *
+ * @see LeaderElection
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface SingletonJob {
+}
@@ -0,0 +1,28 @@
+package pl.klastbit.lexpage.infrastructure.coordination;
+
+import org.springframework.aop.framework.AbstractAdvisingBeanPostProcessor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+
+/**
+ * Proxies beans with {@link SingletonJob} methods, the same way {@code @Async} methods are proxied.
+ * <p>
+ * Runs just before the {@code @Scheduled} post-processor, so scheduled jobs are invoked through the proxy.
+ * Leader election is resolved lazily, keeping the data source out of early post-processor initialization.
+ */
+@Component
+public class SingletonJobAdvisingPostProcessor extends AbstractAdvisingBeanPostProcessor {
+
+    public SingletonJobAdvisingPostProcessor(ObjectProvider<LeaderElection> leaderElection) {
+        this.advisor = new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forMethodAnnotation(SingletonJob.class),
+                new SingletonJobInterceptor(leaderElection)
+        );
+        this.beforeExistingAdvisors = true;
+        setProxyTargetClass(true);
+        setOrder(Ordered.LOWEST_PRECEDENCE - 1);
+    }
+}
@@ -0,0 +1,26 @@
+package pl.klastbit.lexpage.infrastructure.coordination;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Lets {@link SingletonJob} methods proceed only on the leader instance.
+ */
+@RequiredArgsConstructor
+@Slf4j
+class SingletonJobInterceptor implements MethodInterceptor {
+
+    private final ObjectProvider<LeaderElection> leaderElection;
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (leaderElection.getObject().isLeader()) {
+            return invocation.proceed();
+        }
+        log.debug("Skipping singleton job {}: not the leader", invocation.getMethod().getName());
+        return null;
+    }
+}
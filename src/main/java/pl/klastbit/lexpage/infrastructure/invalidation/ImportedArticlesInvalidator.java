@@ -0,0 +1,34 @@
+package pl.klastbit.lexpage.infrastructure.invalidation;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import pl.klastbit.lexpage.application.article.event.ArticlesImportedEvent;
+
+/**
+ * Clears all local caches after a bulk import committed on this instance.
+ * Imports publish no per-article change events, so the caches' own listeners do not see them;
+ * other instances are told by the invalidation bus.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ImportedArticlesInvalidator {
+
+    private final ObjectProvider<InvalidatableCache> caches;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onArticlesImported(ArticlesImportedEvent event) {
+        log.info("{} article(s) imported, clearing local caches", event.importedCount());
+        caches.orderedStream().forEach(cache -> {
+            try {
+                cache.invalidateAll();
+            } catch (RuntimeException e) {
+                log.error("Failed to clear {}", cache.getClass().getSimpleName(), e);
+            }
+        });
+    }
+}
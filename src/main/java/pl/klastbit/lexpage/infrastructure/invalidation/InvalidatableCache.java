@@ -0,0 +1,23 @@
+package pl.klastbit.lexpage.infrastructure.invalidation;
+
+import pl.klastbit.lexpage.application.article.event.ArticleChangedEvent;
+
+/**
+ * Local cache or derived artifact that must follow article changes made on any instance.
+ * <p>
+ * Changes committed on this instance reach the cache through its own after-commit listener;
+ * changes committed elsewhere are delivered by the invalidation bus. Implementations are called
+ * in {@link org.springframework.core.annotation.Order} order.
+ */
+public interface InvalidatableCache {
+
+    /**
+     * Drops entries affected by an article change.
+     */
+    void invalidate(ArticleChangedEvent event);
+
+    /**
+     * Drops all entries; used when changes may have been missed.
+     */
+    void invalidateAll();
+}
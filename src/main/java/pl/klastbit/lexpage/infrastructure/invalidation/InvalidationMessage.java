@@ -0,0 +1,70 @@
+package pl.klastbit.lexpage.infrastructure.invalidation;
+
+import pl.klastbit.lexpage.application.article.event.ArticleChangedEvent;
+
+import java.util.Optional;
+
+/**
+ * Article change as sent over the invalidation channel: {@code origin:articleId:changeType:slug:previousSlug},
+ * or {@code origin:*} when so many articles changed that all caches must be cleared.
+ * Slugs never contain a colon, so no escaping is needed.
+ *
+ * @param origin ID of the instance that committed the change
+ * @param event  the change, or null when everything changed
+ */
+record InvalidationMessage(String origin, ArticleChangedEvent event) {
+
+    private static final char SEPARATOR = ':';
+    private static final String ALL = "*";
+
+    static InvalidationMessage all(String origin) {
+        return new InvalidationMessage(origin, null);
+    }
+
+    boolean isAll() {
+        return event == null;
+    }
+
+    String encode() {
+        if (isAll()) {
+            return origin + SEPARATOR + ALL;
+        }
+        return origin + SEPARATOR
+                + event.articleId() + SEPARATOR
+                + event.changeType().name() + SEPARATOR
+                + nullToEmpty(event.slug()) + SEPARATOR
+                + nullToEmpty(event.previousSlug());
+    }
+
+    /**
+     * Parses a notification payload; malformed payloads (e.g. sent by another application version) are ignored.
+     */
+    static Optional<InvalidationMessage> decode(String payload) {
+        String[] parts = payload.split(String.valueOf(SEPARATOR), -1);
+        if (parts.length == 2 && ALL.equals(parts[1])) {
+            return Optional.of(all(parts[0]));
+        }
+        if (parts.length != 5) {
+            return Optional.empty();
+        }
+        try {
+            ArticleChangedEvent event = new ArticleChangedEvent(
+                    Long.valueOf(parts[1]),
+                    emptyToNull(parts[3]),
+                    emptyToNull(parts[4]),
+                    ArticleChangedEvent.ChangeType.valueOf(parts[2])
+            );
+            return Optional.of(new InvalidationMessage(parts[0], event));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+}
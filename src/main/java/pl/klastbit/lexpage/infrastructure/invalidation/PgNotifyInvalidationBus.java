@@ -0,0 +1,211 @@
+package pl.klastbit.lexpage.infrastructure.invalidation;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import pl.klastbit.lexpage.application.article.event.ArticleChangedEvent;
+import pl.klastbit.lexpage.application.article.event.ArticlesImportedEvent;
+import pl.klastbit.lexpage.infrastructure.adapters.persistence.DedicatedConnectionFactory;
+import pl.klastbit.lexpage.infrastructure.config.CacheInvalidationProperties;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Broadcasts article changes to other instances over PostgreSQL LISTEN/NOTIFY, so their local caches
+ * can be kept aggressively without going stale.
+ * <p>
+ * The notification is issued with {@code pg_notify} inside the transaction that made the change,
+ * so PostgreSQL delivers it exactly when (and only if) the change commits. A dedicated listener
+ * connection receives notifications from all instances, skips its own and hands the change to every
+ * {@link InvalidatableCache}. Notifications sent while the listener is disconnected are lost, so after
+ * reconnecting all caches are cleared.
+ * <p>
+ * The listener uses its own connection opened outside the pools, so the LISTEN registration never
+ * returns to a pool with the connection and no pool slot is taken for the application's lifetime.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.cache-invalidation", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class PgNotifyInvalidationBus implements SmartLifecycle {
+
+    /**
+     * Application name of the listener connection in {@code pg_stat_activity}.
+     */
+    public static final String LISTENER_APPLICATION_NAME = "lexpage-cache-invalidation";
+
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+
+    private final DedicatedConnectionFactory connectionFactory;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectProvider<InvalidatableCache> caches;
+    private final CacheInvalidationProperties properties;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private volatile boolean running;
+    private volatile Connection listenConnection;
+    private volatile int listenerBackendPid;
+    private Thread listener;
+
+    public PgNotifyInvalidationBus(
+            DataSource dataSource,
+            DedicatedConnectionFactory connectionFactory,
+            ObjectProvider<InvalidatableCache> caches,
+            CacheInvalidationProperties properties
+    ) {
+        if (!CHANNEL_NAME.matcher(properties.getChannel()).matches()) {
+            throw new IllegalArgumentException("Invalid cache invalidation channel: " + properties.getChannel());
+        }
+        this.connectionFactory = connectionFactory;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.caches = caches;
+        this.properties = properties;
+    }
+
+    /**
+     * Queues the notification in the current transaction; PostgreSQL sends it on commit.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        send(new InvalidationMessage(instanceId, event));
+    }
+
+    /**
+     * A bulk import changes too many articles to announce one by one; other instances clear everything.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onArticlesImported(ArticlesImportedEvent event) {
+        send(InvalidationMessage.all(instanceId));
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        listener = Thread.ofPlatform().name("cache-invalidation").daemon().start(this::listen);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+            listener = null;
+        }
+        closeQuietly(listenConnection);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Backend process ID of the connected listener, or 0 while disconnected.
+     */
+    int listenerBackendPid() {
+        return listenerBackendPid;
+    }
+
+    private void listen() {
+        boolean reconnecting = false;
+        while (running) {
+            try (Connection connection = connectionFactory.open(LISTENER_APPLICATION_NAME)) {
+                listenConnection = connection;
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + properties.getChannel());
+                }
+                listenerBackendPid = connection.unwrap(PGConnection.class).getBackendPID();
+                if (reconnecting) {
+                    log.info("Cache invalidation listener reconnected, clearing local caches");
+                    caches.orderedStream().forEach(this::invalidateAll);
+                }
+                receive(connection);
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Cache invalidation listener disconnected: {}", e.getMessage());
+            } finally {
+                listenConnection = null;
+                listenerBackendPid = 0;
+            }
+            reconnecting = true;
+            try {
+                Thread.sleep(properties.getReconnectDelay());
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private void receive(Connection connection) throws SQLException {
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        int timeoutMillis = (int) properties.getHeartbeatInterval().toMillis();
+        while (running) {
+            PGNotification[] notifications = pgConnection.getNotifications(timeoutMillis);
+            if (notifications == null || notifications.length == 0) {
+                // A silent channel may hide a dead connection; a round trip detects it
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("SELECT 1");
+                }
+                continue;
+            }
+            for (PGNotification notification : notifications) {
+                InvalidationMessage.decode(notification.getParameter())
+                        .filter(message -> !instanceId.equals(message.origin()))
+                        .ifPresent(this::dispatch);
+            }
+        }
+    }
+
+    private void send(InvalidationMessage message) {
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> null, properties.getChannel(), message.encode());
+    }
+
+    private void dispatch(InvalidationMessage message) {
+        if (message.isAll()) {
+            log.debug("Bulk article change on another instance, clearing local caches");
+            caches.orderedStream().forEach(this::invalidateAll);
+            return;
+        }
+        ArticleChangedEvent event = message.event();
+        log.debug("Article {} {} on another instance, invalidating local caches", event.articleId(), event.changeType());
+        caches.orderedStream().forEach(cache -> {
+            try {
+                cache.invalidate(event);
+            } catch (RuntimeException e) {
+                log.error("Failed to invalidate {}", cache.getClass().getSimpleName(), e);
+            }
+        });
+    }
+
+    private void invalidateAll(InvalidatableCache cache) {
+        try {
+            cache.invalidateAll();
+        } catch (RuntimeException e) {
+            log.error("Failed to clear {}", cache.getClass().getSimpleName(), e);
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.debug("Failed to close cache invalidation connection", e);
+        }
+    }
+}
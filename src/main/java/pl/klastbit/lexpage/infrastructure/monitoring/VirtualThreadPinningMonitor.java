@@ -0,0 +1,104 @@
+package pl.klastbit.lexpage.infrastructure.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Surfaces {@code jdk.VirtualThreadPinned} JFR events as Micrometer metrics.
+ * <p>
+ * A virtual thread is pinned when it blocks while it cannot unmount from its carrier
+ * (native frames, class initialization, some JDK internals). Each event is recorded in the
+ * {@code lexpage.threads.virtual.pinned} timer tagged with the first application frame, and
+ * the first occurrence per site is logged with its stack trace.
+ * Active only when virtual threads are enabled.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String METRIC_NAME = "lexpage.threads.virtual.pinned";
+    private static final String APPLICATION_PACKAGE = "pl.klastbit.";
+    private static final String UNKNOWN_SITE = "unknown";
+
+    private final MeterRegistry meterRegistry;
+    private final Duration threshold;
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+
+    private volatile RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${app.virtual-threads.pinning-threshold:20ms}") Duration threshold) {
+        this.meterRegistry = meterRegistry;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void start() {
+        RecordingStream stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        recordingStream = stream;
+        log.info("Virtual thread pinning monitor started (threshold: {})", threshold);
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream stream = recordingStream;
+        if (stream != null) {
+            stream.close();
+            recordingStream = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return recordingStream != null;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        String site = pinningSite(event.getStackTrace());
+
+        Timer.builder(METRIC_NAME)
+            .description("Virtual thread pinning events longer than the configured threshold")
+            .tag("site", site)
+            .register(meterRegistry)
+            .record(event.getDuration());
+
+        if (reportedSites.add(site)) {
+            log.warn("Virtual thread pinned for {} ms at {}\n{}",
+                event.getDuration().toMillis(), site, event.getStackTrace());
+        }
+    }
+
+    private String pinningSite(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return UNKNOWN_SITE;
+        }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (!frame.isJavaFrame()) {
+                continue;
+            }
+            String className = frame.getMethod().getType().getName();
+            if (className.startsWith(APPLICATION_PACKAGE)) {
+                return className + "." + frame.getMethod().getName();
+            }
+        }
+        return UNKNOWN_SITE;
+    }
+}
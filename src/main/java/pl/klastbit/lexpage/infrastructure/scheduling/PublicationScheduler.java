@@ -0,0 +1,167 @@
+package pl.klastbit.lexpage.infrastructure.scheduling;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import pl.klastbit.lexpage.application.article.PublishScheduledArticlesUseCase;
+import pl.klastbit.lexpage.application.article.dto.ScheduledPublicationDto;
+import pl.klastbit.lexpage.application.article.event.PublicationScheduleChangedEvent;
+import pl.klastbit.lexpage.infrastructure.config.PublicationSchedulerProperties;
+import pl.klastbit.lexpage.infrastructure.coordination.LeadershipChangedEvent;
+import pl.klastbit.lexpage.infrastructure.coordination.SingletonJob;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.stream.Collectors;
+
+/**
+ * Publishes scheduled articles at their publication time.
+ * <p>
+ * Upcoming publications (within the lookahead window) are held in a {@link DelayQueue} served by
+ * a single thread, so an article goes live the moment its time comes instead of on the next poll.
+ * Everything that expires together is drained and published as one batch (one transaction, one round
+ * of cache invalidation). Schedule changes made through this instance arrive as events after commit;
+ * the database is read only when leadership is gained and by a periodic consistency sweep, which
+ * also retries batches that failed.
+ * <p>
+ * Rescheduling does not remove the old queue entry - entries that no longer match the latest
+ * known time are skipped when they expire.
+ * <p>
+ * Only the leader loads the schedule (when it gains leadership) and runs the sweep, but every instance
+ * fires the entries it holds. A schedule change made on a follower therefore goes live on time from
+ * that follower instead of waiting for the leader's next sweep. Firing the same article on two
+ * instances is harmless: the publication re-checks the stored schedule and the status transition
+ * is guarded, so only one of them publishes.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.publication-scheduler", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class PublicationScheduler implements DisposableBean {
+
+    private final PublishScheduledArticlesUseCase publishScheduledArticlesUseCase;
+    private final PublicationSchedulerProperties properties;
+    private final DelayQueue<ScheduledPublication> queue = new DelayQueue<>();
+    private final Map<Long, LocalDateTime> scheduled = new ConcurrentHashMap<>();
+    private final Thread worker;
+
+    public PublicationScheduler(
+            PublishScheduledArticlesUseCase publishScheduledArticlesUseCase,
+            PublicationSchedulerProperties properties
+    ) {
+        this.publishScheduledArticlesUseCase = publishScheduledArticlesUseCase;
+        this.properties = properties;
+        this.worker = Thread.ofPlatform().name("publication-scheduler").daemon().unstarted(this::run);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        worker.start();
+    }
+
+    @EventListener
+    public void onLeadershipChanged(LeadershipChangedEvent event) {
+        if (event.leader()) {
+            sweep();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onScheduleChanged(PublicationScheduleChangedEvent event) {
+        LocalDateTime publishAt = event.scheduledPublishAt();
+        if (publishAt == null || publishAt.isAfter(horizon())) {
+            // Beyond the window the sweep loads it in time; a stale entry already queued is skipped
+            scheduled.remove(event.articleId());
+        } else {
+            schedule(event.articleId(), publishAt);
+        }
+    }
+
+    /**
+     * Reconciles the in-memory schedule with the database.
+     */
+    @Scheduled(
+            initialDelayString = "${app.publication-scheduler.sweep-interval:10m}",
+            fixedDelayString = "${app.publication-scheduler.sweep-interval:10m}"
+    )
+    @SingletonJob
+    public void sweep() {
+        List<ScheduledPublicationDto> upcoming;
+        try {
+            upcoming = publishScheduledArticlesUseCase.findUpcoming(horizon());
+        } catch (RuntimeException e) {
+            log.error("Failed to load scheduled publications", e);
+            return;
+        }
+
+        Set<Long> upcomingIds = upcoming.stream()
+                .map(ScheduledPublicationDto::articleId)
+                .collect(Collectors.toSet());
+        scheduled.keySet().retainAll(upcomingIds);
+        for (ScheduledPublicationDto publication : upcoming) {
+            if (!publication.scheduledPublishAt().equals(scheduled.get(publication.articleId()))) {
+                schedule(publication.articleId(), publication.scheduledPublishAt());
+            }
+        }
+        log.debug("Publication schedule holds {} article(s)", scheduled.size());
+    }
+
+    @Override
+    public void destroy() {
+        worker.interrupt();
+    }
+
+    private void schedule(Long articleId, LocalDateTime publishAt) {
+        scheduled.put(articleId, publishAt);
+        queue.put(ScheduledPublication.of(articleId, publishAt));
+    }
+
+    private LocalDateTime horizon() {
+        return LocalDateTime.now().plus(properties.getLookahead());
+    }
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            List<ScheduledPublication> expired = new ArrayList<>();
+            try {
+                expired.add(queue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            queue.drainTo(expired);
+
+            // Claim entries still matching the latest known time; the rest were rescheduled or cancelled
+            List<ScheduledPublication> due = expired.stream()
+                    .filter(entry -> scheduled.remove(entry.articleId(), entry.publishAt()))
+                    .toList();
+            if (!due.isEmpty()) {
+                publish(due);
+            }
+        }
+    }
+
+    private void publish(List<ScheduledPublication> due) {
+        List<Long> articleIds = due.stream().map(ScheduledPublication::articleId).toList();
+        LocalDateTime asOf = due.stream()
+                .map(ScheduledPublication::publishAt)
+                .max(Comparator.naturalOrder())
+                .orElseThrow();
+        try {
+            publishScheduledArticlesUseCase.execute(articleIds, asOf);
+        } catch (RuntimeException e) {
+            log.error("Failed to publish scheduled articles {}, the next sweep retries them", articleIds, e);
+        }
+    }
+}
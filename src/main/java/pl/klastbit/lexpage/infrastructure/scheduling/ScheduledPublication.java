@@ -0,0 +1,31 @@
+package pl.klastbit.lexpage.infrastructure.scheduling;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delay queue entry of the publication scheduler.
+ * The deadline is taken on the monotonic clock, so wall-clock adjustments do not shift it.
+ */
+record ScheduledPublication(Long articleId, LocalDateTime publishAt, long deadlineNanos) implements Delayed {
+
+    static ScheduledPublication of(Long articleId, LocalDateTime publishAt) {
+        long delay = Duration.between(LocalDateTime.now(), publishAt).toNanos();
+        return new ScheduledPublication(articleId, publishAt, System.nanoTime() + delay);
+    }
+
+    @Override
+    public long getDelay(TimeUnit unit) {
+        return unit.convert(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public int compareTo(Delayed other) {
+        if (other instanceof ScheduledPublication publication) {
+            return Long.signum(deadlineNanos - publication.deadlineNanos);
+        }
+        return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+    }
+}
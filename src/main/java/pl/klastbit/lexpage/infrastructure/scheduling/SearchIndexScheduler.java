@@ -0,0 +1,44 @@
+package pl.klastbit.lexpage.infrastructure.scheduling;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import pl.klastbit.lexpage.application.article.IndexArticlesForSearchUseCase;
+import pl.klastbit.lexpage.infrastructure.coordination.SingletonJob;
+
+/**
+ * Fills missing search lexemes in batches: once after startup for articles stored before lexemes
+ * existed, afterwards for bulk-imported articles. Each batch commits on its own, so a large backlog
+ * does not hold one long transaction.
+ */
+@Component
+@Slf4j
+public class SearchIndexScheduler {
+
+    private final IndexArticlesForSearchUseCase indexArticlesForSearchUseCase;
+    private final int batchSize;
+
+    public SearchIndexScheduler(
+            IndexArticlesForSearchUseCase indexArticlesForSearchUseCase,
+            @Value("${app.search-index.batch-size:100}") int batchSize
+    ) {
+        this.indexArticlesForSearchUseCase = indexArticlesForSearchUseCase;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.search-index.interval:1m}",
+            fixedDelayString = "${app.search-index.interval:1m}"
+    )
+    @SingletonJob
+    public void indexPending() {
+        try {
+            while (indexArticlesForSearchUseCase.execute(batchSize) == batchSize) {
+                log.debug("Search index backlog remains, indexing next batch");
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to index articles for search, the next run retries them", e);
+        }
+    }
+}
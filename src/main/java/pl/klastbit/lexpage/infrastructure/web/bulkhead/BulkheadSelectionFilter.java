@@ -0,0 +1,71 @@
+package pl.klastbit.lexpage.infrastructure.web.bulkhead;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import pl.klastbit.lexpage.infrastructure.adapters.persistence.bulkhead.Bulkhead;
+import pl.klastbit.lexpage.infrastructure.adapters.persistence.bulkhead.BulkheadContext;
+import pl.klastbit.lexpage.infrastructure.config.BulkheadProperties;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Assigns every web request to a connection pool bulkhead by its path.
+ * <p>
+ * Background paths are checked first, then admin paths; everything else is public-read.
+ * Runs ahead of the Spring Security filter chain, so the user lookup on login already uses the admin pool.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 100)
+@ConditionalOnProperty(prefix = "app.datasource.bulkheads", name = "enabled", havingValue = "true")
+public class BulkheadSelectionFilter extends OncePerRequestFilter {
+
+    private final List<PathPattern> backgroundPaths;
+    private final List<PathPattern> adminPaths;
+
+    public BulkheadSelectionFilter(BulkheadProperties properties) {
+        this.backgroundPaths = parse(properties.getBackgroundPaths());
+        this.adminPaths = parse(properties.getAdminPaths());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        BulkheadContext.set(resolve(request));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            BulkheadContext.clear();
+        }
+    }
+
+    Bulkhead resolve(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(
+                request.getRequestURI().substring(request.getContextPath().length()));
+        if (matches(backgroundPaths, path)) {
+            return Bulkhead.BACKGROUND;
+        }
+        if (matches(adminPaths, path)) {
+            return Bulkhead.ADMIN;
+        }
+        return Bulkhead.PUBLIC_READ;
+    }
+
+    private static boolean matches(List<PathPattern> patterns, PathContainer path) {
+        return patterns.stream().anyMatch(pattern -> pattern.matches(path));
+    }
+
+    private static List<PathPattern> parse(List<String> patterns) {
+        return patterns.stream().map(PathPatternParser.defaultInstance::parse).toList();
+    }
+}
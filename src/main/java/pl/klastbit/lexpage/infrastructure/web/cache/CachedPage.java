@@ -0,0 +1,17 @@
+package pl.klastbit.lexpage.infrastructure.web.cache;
+
+import pl.klastbit.lexpage.infrastructure.web.compression.PrecompressedContent;
+
+/**
+ * Rendered page stored in {@link RenderedPageCache}.
+ *
+ * @param contentType response Content-Type (including charset)
+ * @param etag        strong entity tag of the uncompressed body (quoted)
+ * @param content     body in all precompressed encodings
+ */
+public record CachedPage(
+        String contentType,
+        String etag,
+        PrecompressedContent content
+) {
+}
@@ -0,0 +1,134 @@
+package pl.klastbit.lexpage.infrastructure.web.cache;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+import pl.klastbit.lexpage.application.article.event.ArticleChangedEvent;
+import pl.klastbit.lexpage.infrastructure.config.PageCacheProperties;
+import pl.klastbit.lexpage.infrastructure.invalidation.InvalidatableCache;
+import pl.klastbit.lexpage.infrastructure.web.compression.ContentCompressor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory cache of rendered public pages ({@code /}, {@code /blog}, {@code /blog/{slug}}).
+ * <p>
+ * Pages are compressed (gzip + brotli) once when stored, so cache hits cost no rendering
+ * and no compression. The cache is a bounded LRU, so rarely visited pages make room for new ones.
+ * Every committed article change clears the cache, because a single article appears on the
+ * home page, the blog index pages and in related-article lists. A generation counter prevents
+ * storing pages rendered before an invalidation.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Slf4j
+public class RenderedPageCache implements InvalidatableCache {
+
+    private static final Pattern ARTICLE_PATH = Pattern.compile("^/blog/[a-z0-9-]+$");
+    private static final Pattern PAGE_QUERY = Pattern.compile("^page=\\d{1,5}$");
+
+    private final PageCacheProperties properties;
+    private final ContentCompressor compressor;
+
+    private final Map<String, CachedPage> pages;
+    private final AtomicLong generation = new AtomicLong();
+
+    public RenderedPageCache(PageCacheProperties properties, ContentCompressor compressor) {
+        this.properties = properties;
+        this.compressor = compressor;
+        int maxEntries = properties.getMaxEntries();
+        this.pages = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedPage> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Returns the cache key for a cacheable page request, or null when the request must not be cached.
+     * Only parameters that influence the rendered page are accepted, so arbitrary query strings
+     * cannot be used to fill the cache.
+     */
+    public String cacheKey(HttpServletRequest request) {
+        if (!properties.isEnabled() || !"GET".equals(request.getMethod())) {
+            return null;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String query = request.getQueryString();
+
+        if ("/".equals(path) || ARTICLE_PATH.matcher(path).matches()) {
+            return query == null ? path : null;
+        }
+        if ("/blog".equals(path)) {
+            if (query == null) {
+                return path;
+            }
+            return PAGE_QUERY.matcher(query).matches() ? path + "?" + query : null;
+        }
+        return null;
+    }
+
+    public CachedPage get(String key) {
+        synchronized (pages) {
+            return pages.get(key);
+        }
+    }
+
+    public long currentGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * Compresses and stores a rendered page.
+     * The page is returned but not stored when the cache was invalidated after rendering
+     * started ({@code renderGeneration} is stale). A full cache evicts its least recently used page.
+     */
+    public CachedPage put(String key, String contentType, byte[] body, long renderGeneration) {
+        CachedPage page = new CachedPage(
+                contentType,
+                "\"" + DigestUtils.md5DigestAsHex(body) + "\"",
+                compressor.compress(body)
+        );
+        synchronized (pages) {
+            if (renderGeneration == generation.get()) {
+                pages.put(key, page);
+                log.debug("Cached rendered page {} ({} bytes)", key, body.length);
+            }
+        }
+        return page;
+    }
+
+    @Override
+    public void invalidateAll() {
+        synchronized (pages) {
+            generation.incrementAndGet();
+            pages.clear();
+        }
+    }
+
+    @Override
+    public void invalidate(ArticleChangedEvent event) {
+        log.debug("Article {} {}, clearing rendered page cache", event.articleId(), event.changeType());
+        invalidateAll();
+    }
+
+    /**
+     * Runs before other after-commit listeners, so derived artifacts rendered through the web
+     * layer (static export) never pick up pages cached before the change. For changes from other
+     * instances the same ordering comes from the class-level {@code @Order}.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        invalidate(event);
+    }
+}
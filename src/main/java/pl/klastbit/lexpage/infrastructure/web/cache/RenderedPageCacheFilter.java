@@ -0,0 +1,92 @@
+package pl.klastbit.lexpage.infrastructure.web.cache;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import pl.klastbit.lexpage.infrastructure.web.compression.ContentEncoding;
+
+import java.io.IOException;
+
+/**
+ * Serves public pages from {@link RenderedPageCache} for anonymous visitors.
+ * <p>
+ * On a miss the page is rendered, compressed once (gzip + brotli) and stored; on a hit the
+ * variant matching Accept-Encoding is written directly, with an ETag of its own per encoding.
+ * Only responses that are safe to share
+ * are stored: 200 text/html, no session created and no cookies set during rendering.
+ * Everything else (admin, API, static assets) is untouched and compressed by the servlet
+ * container on the fly ({@code server.compression.*}).
+ */
+@Component
+@RequiredArgsConstructor
+public class RenderedPageCacheFilter extends OncePerRequestFilter {
+
+    private final RenderedPageCache pageCache;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return pageCache.cacheKey(request) == null || request.getSession(false) != null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String key = pageCache.cacheKey(request);
+
+        CachedPage cached = pageCache.get(key);
+        if (cached != null) {
+            writePage(cached, request, response);
+            return;
+        }
+
+        long renderGeneration = pageCache.currentGeneration();
+        var responseWrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, responseWrapper);
+
+        if (isShareable(request, responseWrapper)) {
+            CachedPage page = pageCache.put(
+                    key, responseWrapper.getContentType(), responseWrapper.getContentAsByteArray(), renderGeneration);
+            writePage(page, request, response);
+        } else {
+            responseWrapper.copyBodyToResponse();
+        }
+    }
+
+    private boolean isShareable(HttpServletRequest request, ContentCachingResponseWrapper response) {
+        String contentType = response.getContentType();
+        return response.getStatus() == HttpServletResponse.SC_OK
+                && contentType != null
+                && MediaType.TEXT_HTML.isCompatibleWith(MediaType.parseMediaType(contentType))
+                && request.getSession(false) == null
+                && !response.containsHeader(HttpHeaders.SET_COOKIE);
+    }
+
+    private void writePage(CachedPage page, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ContentEncoding encoding = ContentEncoding.negotiate(
+                request.getHeader(HttpHeaders.ACCEPT_ENCODING), page.content().hasBrotli());
+        String etag = encoding.etag(page.etag());
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        response.setHeader(HttpHeaders.ETAG, etag);
+        if (new ServletWebRequest(request, response).checkNotModified(etag)) {
+            return;
+        }
+
+        byte[] body = page.content().variant(encoding);
+        response.setContentType(page.contentType());
+        if (encoding != ContentEncoding.IDENTITY) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, encoding.token());
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+}
@@ -0,0 +1,79 @@
+package pl.klastbit.lexpage.infrastructure.web.compression;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import pl.klastbit.lexpage.infrastructure.config.PageCacheProperties;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compresses response bodies into gzip and brotli variants.
+ * Meant for content compressed once and served many times (cached pages, feeds, sitemaps),
+ * therefore both encoders run at maximum compression level.
+ * <p>
+ * Brotli uses the native brotli4j encoder; when the native library is not available for the
+ * current platform, only gzip variants are produced.
+ */
+@Component
+@Slf4j
+public class ContentCompressor {
+
+    private final boolean brotliAvailable;
+    private final Encoder.Parameters brotliParameters;
+
+    public ContentCompressor(PageCacheProperties pageCacheProperties) {
+        this.brotliAvailable = loadBrotli();
+        this.brotliParameters = new Encoder.Parameters()
+                .setQuality(pageCacheProperties.getBrotliQuality())
+                .setMode(Encoder.Mode.TEXT);
+    }
+
+    public boolean isBrotliAvailable() {
+        return brotliAvailable;
+    }
+
+    public PrecompressedContent compress(byte[] content) {
+        return new PrecompressedContent(content, gzip(content), brotliAvailable ? brotli(content) : null);
+    }
+
+    public byte[] gzip(byte[] content) {
+        var buffer = new ByteArrayOutputStream(Math.max(64, content.length / 4));
+        try (var gzip = new GZIPOutputStream(buffer) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException("gzip compression failed", e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private byte[] brotli(byte[] content) {
+        try {
+            return Encoder.compress(content, brotliParameters);
+        } catch (IOException e) {
+            throw new UncheckedIOException("brotli compression failed", e);
+        }
+    }
+
+    private static boolean loadBrotli() {
+        try {
+            if (Brotli4jLoader.isAvailable()) {
+                return true;
+            }
+            log.warn("Brotli native library not available, serving gzip only: {}",
+                    Brotli4jLoader.getUnavailabilityCause().getMessage());
+        } catch (LinkageError e) {
+            log.warn("Brotli native library could not be loaded, serving gzip only: {}", e.getMessage());
+        }
+        return false;
+    }
+}
@@ -0,0 +1,87 @@
+package pl.klastbit.lexpage.infrastructure.web.compression;
+
+import java.util.Locale;
+
+/**
+ * HTTP content codings supported for precompressed responses, in server preference order.
+ */
+public enum ContentEncoding {
+
+    BROTLI("br"),
+    GZIP("gzip"),
+    IDENTITY("identity");
+
+    private final String token;
+
+    ContentEncoding(String token) {
+        this.token = token;
+    }
+
+    public String token() {
+        return token;
+    }
+
+    /**
+     * Derives the entity tag of this encoding's body from the strong tag of the uncompressed body.
+     * Each encoding is a different representation, so each needs its own strong tag; otherwise a
+     * cache could answer a range or conditional request with bytes of another encoding.
+     *
+     * @param identityEtag quoted entity tag of the uncompressed body
+     */
+    public String etag(String identityEtag) {
+        if (this == IDENTITY) {
+            return identityEtag;
+        }
+        return identityEtag.substring(0, identityEtag.length() - 1) + "-" + token + "\"";
+    }
+
+    /**
+     * Selects the preferred encoding accepted by the client.
+     * Codings with {@code q=0} are treated as refused; {@code *} accepts any coding.
+     *
+     * @param acceptEncoding  value of the Accept-Encoding request header (may be null)
+     * @param brotliAvailable whether a brotli variant can be served
+     */
+    public static ContentEncoding negotiate(String acceptEncoding, boolean brotliAvailable) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return IDENTITY;
+        }
+        boolean br = false;
+        boolean gzip = false;
+        boolean wildcard = false;
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().split(";");
+            String coding = tokens[0].trim().toLowerCase(Locale.ROOT);
+            if (isRefused(tokens)) {
+                continue;
+            }
+            switch (coding) {
+                case "br" -> br = true;
+                case "gzip", "x-gzip" -> gzip = true;
+                case "*" -> wildcard = true;
+                default -> { }
+            }
+        }
+        if (brotliAvailable && (br || wildcard)) {
+            return BROTLI;
+        }
+        if (gzip || wildcard) {
+            return GZIP;
+        }
+        return IDENTITY;
+    }
+
+    private static boolean isRefused(String[] tokens) {
+        for (int i = 1; i < tokens.length; i++) {
+            String parameter = tokens[i].trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2)) <= 0.0;
+                } catch (NumberFormatException e) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
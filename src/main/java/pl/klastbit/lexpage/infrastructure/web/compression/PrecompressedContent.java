@@ -0,0 +1,27 @@
+package pl.klastbit.lexpage.infrastructure.web.compression;
+
+/**
+ * Response body compressed once into all supported encodings.
+ *
+ * @param identity uncompressed bytes
+ * @param gzip     gzip-compressed bytes
+ * @param brotli   brotli-compressed bytes, or null when brotli is not available
+ */
+public record PrecompressedContent(
+        byte[] identity,
+        byte[] gzip,
+        byte[] brotli
+) {
+
+    public boolean hasBrotli() {
+        return brotli != null;
+    }
+
+    public byte[] variant(ContentEncoding encoding) {
+        return switch (encoding) {
+            case BROTLI -> brotli != null ? brotli : identity;
+            case GZIP -> gzip;
+            case IDENTITY -> identity;
+        };
+    }
+}
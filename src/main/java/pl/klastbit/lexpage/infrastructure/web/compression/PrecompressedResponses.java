@@ -0,0 +1,54 @@
+package pl.klastbit.lexpage.infrastructure.web.compression;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Instant;
+
+/**
+ * Builds responses from {@link PrecompressedContent}, choosing the variant by Accept-Encoding.
+ */
+public final class PrecompressedResponses {
+
+    private PrecompressedResponses() {
+    }
+
+    public static ResponseEntity<byte[]> of(PrecompressedContent content,
+                                            String acceptEncoding,
+                                            MediaType mediaType,
+                                            CacheControl cacheControl) {
+        return of(content, acceptEncoding, mediaType, cacheControl, null, null);
+    }
+
+    /**
+     * Variant carrying validators. For GET requests Spring MVC compares them against
+     * If-None-Match / If-Modified-Since and turns the response into a bodiless 304.
+     * The ETag is derived per encoding, see {@link ContentEncoding#etag(String)}.
+     *
+     * @param etag quoted strong entity tag of the uncompressed body (may be null)
+     */
+    public static ResponseEntity<byte[]> of(PrecompressedContent content,
+                                            String acceptEncoding,
+                                            MediaType mediaType,
+                                            CacheControl cacheControl,
+                                            String etag,
+                                            Instant lastModified) {
+        ContentEncoding encoding = ContentEncoding.negotiate(acceptEncoding, content.hasBrotli());
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(mediaType)
+                .cacheControl(cacheControl)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (etag != null) {
+            response.eTag(encoding.etag(etag));
+        }
+        if (lastModified != null) {
+            response.lastModified(lastModified);
+        }
+        if (encoding != ContentEncoding.IDENTITY) {
+            response.header(HttpHeaders.CONTENT_ENCODING, encoding.token());
+        }
+        return response.body(content.variant(encoding));
+    }
+}
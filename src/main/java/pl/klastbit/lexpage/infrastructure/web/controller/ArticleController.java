@@ -6,26 +6,47 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import pl.klastbit.lexpage.application.article.*;
 import pl.klastbit.lexpage.application.article.dto.ArticleDetailDto;
+import pl.klastbit.lexpage.application.article.dto.ArticleFacetsDto;
+import pl.klastbit.lexpage.application.article.dto.ArticleImportResultDto;
+import pl.klastbit.lexpage.application.article.dto.ArticleTransferRecord;
+import pl.klastbit.lexpage.application.article.dto.BatchArticleResultDto;
 import pl.klastbit.lexpage.application.article.dto.ArticleListItemDto;
 import pl.klastbit.lexpage.application.article.dto.PageDto;
+import pl.klastbit.lexpage.domain.article.ArticleSearchCriteria;
+import pl.klastbit.lexpage.domain.article.ArticleSortKey;
 import pl.klastbit.lexpage.domain.article.ArticleStatus;
 import pl.klastbit.lexpage.domain.user.UserId;
 import pl.klastbit.lexpage.infrastructure.adapters.security.UserPrincipal;
 import pl.klastbit.lexpage.infrastructure.web.controller.dto.*;
-
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.MappingIterator;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.List;
 import java.util.UUID;
 
 /**
  * REST Controller for Article management API.
  * Inbound adapter (Primary/Driving) in Hexagonal Architecture.
- * Provides 8 endpoints for CRUD operations and status management.
+ * Provides 15 endpoints for CRUD operations, status management, batch operations, scheduled publishing,
+ * faceted counts and bulk export/import.
  */
 @RestController
 @RequestMapping("/api/articles")
@@ -39,8 +60,14 @@ public class ArticleController {
     private final PublishArticleUseCase publishArticleUseCase;
     private final ArchiveArticleUseCase archiveArticleUseCase;
     private final UnpublishArticleUseCase unpublishArticleUseCase;
+    private final SchedulePublicationUseCase schedulePublicationUseCase;
     private final GetArticleUseCase getArticleUseCase;
     private final ListArticlesUseCase listArticlesUseCase;
+    private final BatchArticleUseCase batchArticleUseCase;
+    private final ExportArticlesUseCase exportArticlesUseCase;
+    private final ImportArticlesUseCase importArticlesUseCase;
+    private final GetArticleFacetsUseCase getArticleFacetsUseCase;
+    private final JsonMapper jsonMapper;
 
     /**
      * GET /api/articles - Lista artykułów z filtrowaniem, sortowaniem i paginacją.
@@ -50,7 +77,10 @@ public class ArticleController {
      * @param status   Filtr po statusie (DRAFT, PUBLISHED, ARCHIVED)
      * @param authorId Filtr po autorze (UUID)
      * @param keyword  Wyszukiwanie full-text w tytule i treści
-     * @param sort     Sortowanie: field,direction (np. "createdAt,desc")
+     * @param from     Data utworzenia od (włącznie, yyyy-MM-dd)
+     * @param to       Data utworzenia do (włącznie, yyyy-MM-dd)
+     * @param keywords Słowa kluczowe SEO (artykuł ma co najmniej jedno z nich)
+     * @param sort     Sortowanie: field,direction (createdAt lub publishedAt, np. "createdAt,desc")
      * @return Paginowana lista artykułów
      */
     @GetMapping
@@ -60,10 +90,13 @@ public class ArticleController {
             @RequestParam(required = false) String status,
             @RequestParam(required = false) String authorId,
             @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) List<String> keywords,
             @RequestParam(defaultValue = "createdAt,desc") String sort
     ) {
-        log.info("GET /api/articles - page: {}, size: {}, status: {}, authorId: {}, keyword: {}",
-                page, size, status, authorId, keyword);
+        log.info("GET /api/articles - page: {}, size: {}, status: {}, authorId: {}, keyword: {}, from: {}, to: {}, keywords: {}",
+                page, size, status, authorId, keyword, from, to, keywords);
 
         // Validate page size
         if (size > 100) {
@@ -75,21 +108,105 @@ public class ArticleController {
         Sort.Direction direction = sortParams.length > 1 && sortParams[1].equalsIgnoreCase("asc")
                 ? Sort.Direction.ASC
                 : Sort.Direction.DESC;
-        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortParams[0]));
-
-        // Parse status
-        ArticleStatus articleStatus = status != null ? ArticleStatus.valueOf(status.toUpperCase()) : null;
+        // Only indexed fields are sortable; others are rejected with 400
+        ArticleSortKey sortKey = ArticleSortKey.fromProperty(sortParams[0]);
+        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortKey.property()));
 
-        // Parse authorId
-        UserId authorUserId = authorId != null ? UserId.of(UUID.fromString(authorId)) : null;
+        ArticleSearchCriteria criteria = toCriteria(status, authorId, keyword, from, to, keywords);
 
-        PageDto<ArticleListItemDto> result = listArticlesUseCase.execute(
-                articleStatus, authorUserId, keyword, pageable
-        );
+        PageDto<ArticleListItemDto> result = listArticlesUseCase.search(criteria, pageable);
 
         return ResponseEntity.ok(ArticleListResponse.from(result));
     }
 
+    /**
+     * GET /api/articles/facets - Liczba artykułów dla każdej wartości filtrów (status, autor,
+     * słowo kluczowe SEO, miesiąc utworzenia) przy aktualnie wybranych filtrach.
+     *
+     * @param status   Filtr po statusie (DRAFT, PUBLISHED, ARCHIVED)
+     * @param authorId Filtr po autorze (UUID)
+     * @param keyword  Wyszukiwanie full-text w tytule i treści
+     * @param from     Data utworzenia od (włącznie, yyyy-MM-dd)
+     * @param to       Data utworzenia do (włącznie, yyyy-MM-dd)
+     * @param keywords Słowa kluczowe SEO (artykuł ma co najmniej jedno z nich)
+     * @return Liczniki dla każdej wartości filtrów
+     */
+    @GetMapping("/facets")
+    public ResponseEntity<ArticleFacetsResponse> getArticleFacets(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String authorId,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) List<String> keywords
+    ) {
+        log.info("GET /api/articles/facets - status: {}, authorId: {}, keyword: {}, from: {}, to: {}, keywords: {}",
+                status, authorId, keyword, from, to, keywords);
+
+        ArticleSearchCriteria criteria = toCriteria(status, authorId, keyword, from, to, keywords);
+
+        ArticleFacetsDto facets = getArticleFacetsUseCase.execute(criteria);
+
+        return ResponseEntity.ok(ArticleFacetsResponse.from(facets));
+    }
+
+    /**
+     * GET /api/articles?ids=1,2,3 - Wiele artykułów po ID w jednym zapytaniu.
+     *
+     * @param ids Lista ID artykułów (max 100)
+     * @return Znalezione artykuły w kolejności ID oraz lista ID nieznalezionych
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<ArticleBatchGetResponse> getArticlesByIds(@RequestParam List<Long> ids) {
+        log.info("GET /api/articles?ids - count: {}", ids.size());
+
+        if (ids.size() > 100) {
+            throw new IllegalArgumentException("Cannot request more than 100 articles at once");
+        }
+
+        List<ArticleListItemDto> articles = listArticlesUseCase.findByIds(ids);
+
+        return ResponseEntity.ok(ArticleBatchGetResponse.from(ids, articles));
+    }
+
+    /**
+     * GET /api/articles/export - Eksport wszystkich artykułów jako NDJSON (jeden artykuł w linii).
+     * Odpowiedź jest strumieniowana wprost z kursora bazy danych, więc zużycie pamięci nie zależy
+     * od liczby artykułów.
+     *
+     * @return Strumień NDJSON do pobrania
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportArticles() {
+        log.info("GET /api/articles/export");
+
+        StreamingResponseBody body = out -> exportArticlesUseCase.execute(article -> writeLine(out, article));
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"articles.ndjson\"")
+                .body(body);
+    }
+
+    /**
+     * POST /api/articles/import - Import wielu artykułów z NDJSON (format eksportu).
+     * Artykuły są tworzone w jednej transakcji jako artykuły zalogowanego użytkownika;
+     * niepoprawne rekordy są pomijane, zajęte slugi dostają sufiks.
+     *
+     * @param body Strumień NDJSON
+     * @return Liczba odczytanych, zaimportowanych i pominiętych rekordów
+     */
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ArticleImportResponse> importArticles(InputStream body) {
+        log.info("POST /api/articles/import");
+
+        UUID userId = getCurrentUserId();
+
+        ArticleImportResultDto result = importArticlesUseCase.execute(readLines(body), userId);
+
+        return ResponseEntity.ok(ArticleImportResponse.from(result));
+    }
+
     /**
      * GET /api/articles/{id} - Szczegóły pojedynczego artykułu.
      *
@@ -205,6 +322,119 @@ public class ArticleController {
         return ResponseEntity.ok(ArticleResponse.from(unpublished));
     }
 
+    /**
+     * POST /api/articles/batch - Publikacja, archiwizacja, cofnięcie publikacji lub usunięcie wielu artykułów.
+     * Wszystkie zmiany w jednej transakcji; artykuły, dla których akcja jest niedozwolona, są pomijane.
+     *
+     * @param request Akcja i lista ID artykułów
+     * @return Wynik dla każdego artykułu
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<BatchArticleResponse> batchArticles(@Valid @RequestBody BatchArticleRequest request) {
+        log.info("POST /api/articles/batch - action: {}, count: {}", request.action(), request.ids().size());
+
+        List<BatchArticleResultDto> results = batchArticleUseCase.execute(request.toCommand());
+
+        return ResponseEntity.ok(BatchArticleResponse.from(request.action(), results));
+    }
+
+    /**
+     * PATCH /api/articles/{id}/schedule - Zaplanowanie publikacji artykułu na wskazany czas.
+     * Ponowne wywołanie zmienia zaplanowany czas.
+     *
+     * @param id      ID artykułu
+     * @param request Czas publikacji (w przyszłości)
+     * @return Artykuł z zaplanowaną publikacją
+     */
+    @PatchMapping("/{id}/schedule")
+    public ResponseEntity<ArticleResponse> schedulePublication(
+            @PathVariable Long id,
+            @Valid @RequestBody SchedulePublicationRequest request
+    ) {
+        log.info("PATCH /api/articles/{}/schedule - publishAt: {}", id, request.publishAt());
+
+        ArticleDetailDto scheduled = schedulePublicationUseCase.execute(id, request.publishAt());
+
+        return ResponseEntity.ok(ArticleResponse.from(scheduled));
+    }
+
+    /**
+     * DELETE /api/articles/{id}/schedule - Anulowanie zaplanowanej publikacji.
+     *
+     * @param id ID artykułu
+     * @return Artykuł bez zaplanowanej publikacji
+     */
+    @DeleteMapping("/{id}/schedule")
+    public ResponseEntity<ArticleResponse> cancelScheduledPublication(@PathVariable Long id) {
+        log.info("DELETE /api/articles/{}/schedule", id);
+
+        ArticleDetailDto article = schedulePublicationUseCase.cancel(id);
+
+        return ResponseEntity.ok(ArticleResponse.from(article));
+    }
+
+    /**
+     * Builds search criteria from the shared list/facet filter parameters; the end date is inclusive.
+     */
+    private ArticleSearchCriteria toCriteria(
+            String status,
+            String authorId,
+            String keyword,
+            LocalDate from,
+            LocalDate to,
+            List<String> keywords
+    ) {
+        // Parse status
+        ArticleStatus articleStatus = status != null ? ArticleStatus.valueOf(status.toUpperCase()) : null;
+
+        // Parse authorId
+        UserId authorUserId = authorId != null ? UserId.of(UUID.fromString(authorId)) : null;
+
+        return new ArticleSearchCriteria(
+                articleStatus,
+                authorUserId,
+                keyword,
+                from != null ? from.atStartOfDay() : null,
+                to != null ? to.plusDays(1).atStartOfDay() : null,
+                keywords
+        );
+    }
+
+    private void writeLine(OutputStream out, ArticleTransferRecord article) {
+        try {
+            out.write(jsonMapper.writeValueAsBytes(article));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Parses the request body lazily, one record per line; a malformed line fails the import with 400.
+     */
+    private Iterator<ArticleTransferRecord> readLines(InputStream body) {
+        MappingIterator<ArticleTransferRecord> records = jsonMapper.readerFor(ArticleTransferRecord.class).readValues(body);
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                try {
+                    return records.hasNext();
+                } catch (JacksonException e) {
+                    throw new IllegalArgumentException("Invalid NDJSON: " + e.getOriginalMessage(), e);
+                }
+            }
+
+            @Override
+            public ArticleTransferRecord next() {
+                try {
+                    return records.next();
+                } catch (JacksonException e) {
+                    throw new IllegalArgumentException("Invalid NDJSON: " + e.getOriginalMessage(), e);
+                }
+            }
+        };
+    }
+
     /**
      * Helper method to get currently authenticated user's ID from Spring Security context.
      *
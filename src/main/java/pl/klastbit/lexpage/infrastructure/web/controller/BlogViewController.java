@@ -15,8 +15,10 @@ import pl.klastbit.lexpage.application.article.ListArticlesUseCase;
 import pl.klastbit.lexpage.application.article.dto.ArticleDetailDto;
 import pl.klastbit.lexpage.application.article.dto.ArticleListItemDto;
 import pl.klastbit.lexpage.application.article.dto.PageDto;
+import pl.klastbit.lexpage.application.image.GetOgImageUseCase;
 import pl.klastbit.lexpage.domain.article.ArticleStatus;
 import pl.klastbit.lexpage.domain.article.exception.ArticleNotFoundException;
+import pl.klastbit.lexpage.infrastructure.config.SiteProperties;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -34,8 +36,20 @@ import java.util.Map;
 @Slf4j
 public class BlogViewController {
 
+    /**
+     * Articles per blog listing page.
+     */
+    public static final int ARTICLES_PER_PAGE = 9;
+
+    /**
+     * Related articles shown below an article (newest published, excluding the article itself).
+     */
+    public static final int RELATED_ARTICLES = 3;
+
     private final ListArticlesUseCase listArticlesUseCase;
     private final GetArticleUseCase getArticleUseCase;
+    private final GetOgImageUseCase getOgImageUseCase;
+    private final SiteProperties siteProperties;
 
     /**
      * Displays paginated list of published articles (3x3 grid, 9 per page).
@@ -58,7 +72,7 @@ public class BlogViewController {
         int pageIndex = page - 1;
 
         // Fetch published articles (9 per page, sorted by publishedAt DESC)
-        PageRequest pageable = PageRequest.of(pageIndex, 9, Sort.by(Sort.Direction.DESC, "publishedAt"));
+        PageRequest pageable = PageRequest.of(pageIndex, ARTICLES_PER_PAGE, Sort.by(Sort.Direction.DESC, "publishedAt"));
         PageDto<ArticleListItemDto> articles = listArticlesUseCase.execute(
                 ArticleStatus.PUBLISHED,
                 null,  // no author filter
@@ -107,7 +121,7 @@ public class BlogViewController {
             ArticleDetailDto article = getArticleUseCase.executeBySlug(slug);
 
             // Get related articles (4 newest, then exclude current and take 3)
-            PageRequest relatedPageable = PageRequest.of(0, 4, Sort.by(Sort.Direction.DESC, "publishedAt"));
+            PageRequest relatedPageable = PageRequest.of(0, RELATED_ARTICLES + 1, Sort.by(Sort.Direction.DESC, "publishedAt"));
             PageDto<ArticleListItemDto> allRecent = listArticlesUseCase.execute(
                     ArticleStatus.PUBLISHED,
                     null,
@@ -118,7 +132,7 @@ public class BlogViewController {
             // Filter out current article and take 3
             List<ArticleListItemDto> relatedArticles = allRecent.content().stream()
                     .filter(a -> !a.slug().equals(slug))
-                    .limit(3)
+                    .limit(RELATED_ARTICLES)
                     .toList();
 
             // Format published date
@@ -148,8 +162,13 @@ public class BlogViewController {
             model.addAttribute("keywords", keywords);
             model.addAttribute("canonicalUrl", canonicalUrl);
 
-            // Open Graph metadata
-            model.addAttribute("ogImageUrl", article.ogImageUrl());
+            // Open Graph metadata (generated preview when the article has no image of its own)
+            String ogImageUrl = article.ogImageUrl() != null && !article.ogImageUrl().isBlank()
+                    ? article.ogImageUrl()
+                    : getOgImageUseCase.execute(article.id())
+                            .map(url -> siteProperties.getBaseUrl() + url)
+                            .orElse(null);
+            model.addAttribute("ogImageUrl", ogImageUrl);
             model.addAttribute("ogType", "article");
             model.addAttribute("publishedAt", article.publishedAt());
             model.addAttribute("updatedAt", article.updatedAt());
@@ -0,0 +1,50 @@
+package pl.klastbit.lexpage.infrastructure.web.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import pl.klastbit.lexpage.infrastructure.web.compression.PrecompressedResponses;
+import pl.klastbit.lexpage.infrastructure.web.feed.CachedFeed;
+import pl.klastbit.lexpage.infrastructure.web.feed.FeedFormat;
+import pl.klastbit.lexpage.infrastructure.web.feed.FeedService;
+
+import java.time.Duration;
+
+/**
+ * Controller serving the blog's RSS and Atom feeds.
+ * Feeds are served precompressed from FeedService's cache with ETag and Last-Modified,
+ * so polling feed readers get 304 Not Modified until an article changes.
+ * Inbound adapter in Hexagonal Architecture.
+ */
+@RestController
+@RequiredArgsConstructor
+public class FeedController {
+
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic();
+
+    private final FeedService feedService;
+
+    @GetMapping("/blog/feed.xml")
+    public ResponseEntity<byte[]> rss(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        return feed(FeedFormat.RSS, acceptEncoding);
+    }
+
+    @GetMapping("/blog/atom.xml")
+    public ResponseEntity<byte[]> atom(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        return feed(FeedFormat.ATOM, acceptEncoding);
+    }
+
+    private ResponseEntity<byte[]> feed(FeedFormat format, String acceptEncoding) {
+        CachedFeed feed = feedService.feed(format);
+        return PrecompressedResponses.of(
+                feed.content(), acceptEncoding, format.mediaType(), CACHE_CONTROL, feed.etag(), feed.lastModified());
+    }
+}
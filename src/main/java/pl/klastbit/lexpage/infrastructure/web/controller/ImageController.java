@@ -0,0 +1,69 @@
+package pl.klastbit.lexpage.infrastructure.web.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import pl.klastbit.lexpage.application.image.UploadImageUseCase;
+import pl.klastbit.lexpage.application.image.command.UploadImageCommand;
+import pl.klastbit.lexpage.application.image.dto.UploadedImageDto;
+import pl.klastbit.lexpage.infrastructure.web.controller.dto.ImageUploadResponse;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * REST Controller for article image uploads.
+ * Inbound adapter (Primary/Driving) in Hexagonal Architecture.
+ */
+@RestController
+@RequestMapping("/api/articles/{articleId}/images")
+@RequiredArgsConstructor
+@Slf4j
+public class ImageController {
+
+    private final UploadImageUseCase uploadImageUseCase;
+
+    /**
+     * POST /api/articles/{articleId}/images - Przesłanie obrazu do artykułu.
+     * Zwraca oryginał oraz wygenerowane warianty (thumb, card, full) z adresami URL do srcset.
+     *
+     * @param articleId ID artykułu
+     * @param file      Plik obrazu (JPEG, PNG)
+     * @param altText   Tekst alternatywny (opcjonalny)
+     * @return 201 Created z listą zapisanych plików
+     */
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImageUploadResponse> uploadImage(
+            @PathVariable Long articleId,
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) String altText
+    ) {
+        log.info("POST /api/articles/{}/images - file: {}, size: {}", articleId, file.getOriginalFilename(), file.getSize());
+
+        UploadImageCommand command = new UploadImageCommand(
+                articleId,
+                file.getOriginalFilename(),
+                readBytes(file),
+                altText
+        );
+        UploadedImageDto result = uploadImageUseCase.execute(command);
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(ImageUploadResponse.from(result));
+    }
+
+    private static byte[] readBytes(MultipartFile file) {
+        try {
+            return file.getBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read uploaded file", e);
+        }
+    }
+}
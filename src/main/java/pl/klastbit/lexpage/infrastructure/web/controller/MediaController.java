@@ -0,0 +1,86 @@
+package pl.klastbit.lexpage.infrastructure.web.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import pl.klastbit.lexpage.infrastructure.web.media.HttpByteRange;
+import pl.klastbit.lexpage.infrastructure.web.media.MediaFile;
+import pl.klastbit.lexpage.infrastructure.web.media.MediaFileResolver;
+import pl.klastbit.lexpage.infrastructure.web.media.ZeroCopyFileTransfer;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Controller serving uploaded images from the content-addressed image store.
+ * <p>
+ * Files are never read into memory: bodies go out through sendfile or FileChannel.transferTo.
+ * URLs contain the content hash, so responses are immutable and carry a strong ETag
+ * (If-None-Match answers 304). Single byte ranges are supported (206/416), guarded by If-Range.
+ * Inbound adapter in Hexagonal Architecture.
+ */
+@RestController
+@RequiredArgsConstructor
+public class MediaController {
+
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+
+    private final MediaFileResolver mediaFileResolver;
+
+    @GetMapping("/media/{prefix}/{infix}/{fileName}")
+    public void media(
+            @PathVariable String prefix,
+            @PathVariable String infix,
+            @PathVariable String fileName,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            @RequestHeader(value = HttpHeaders.IF_RANGE, required = false) String ifRange,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        MediaFile file = mediaFileResolver.resolve(prefix + "/" + infix + "/" + fileName)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL.getHeaderValue());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.ETAG, file.etag());
+        if (new ServletWebRequest(request, response).checkNotModified(file.etag())) {
+            return;
+        }
+
+        Optional<HttpByteRange> requested = ifRange == null || ifRange.equals(file.etag())
+                ? HttpByteRange.parse(range, file.length())
+                : Optional.empty();
+        if (requested.isPresent() && !requested.get().isSatisfiable()) {
+            response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, HttpByteRange.unsatisfiedContentRange(file.length()));
+            return;
+        }
+
+        long start = 0;
+        long length = file.length();
+        if (requested.isPresent()) {
+            HttpByteRange byteRange = requested.get();
+            start = byteRange.start();
+            length = byteRange.length();
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, byteRange.contentRange(file.length()));
+        }
+        response.setContentType(file.mediaType().toString());
+        response.setContentLengthLong(length);
+
+        if (!HttpMethod.HEAD.matches(request.getMethod())) {
+            ZeroCopyFileTransfer.send(request, response, file.path(), start, length);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package pl.klastbit.lexpage.infrastructure.web.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import pl.klastbit.lexpage.infrastructure.web.compression.PrecompressedContent;
+import pl.klastbit.lexpage.infrastructure.web.compression.PrecompressedResponses;
+import pl.klastbit.lexpage.infrastructure.web.sitemap.SitemapService;
+
+import java.time.Duration;
+
+/**
+ * Controller serving the sitemap index and its shards for search engine crawlers.
+ * Documents are served precompressed (br/gzip) from SitemapService's cache.
+ * Inbound adapter in Hexagonal Architecture.
+ */
+@RestController
+@RequiredArgsConstructor
+public class SitemapController {
+
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(Duration.ofHours(1)).cachePublic();
+
+    private final SitemapService sitemapService;
+
+    @GetMapping("/sitemap.xml")
+    public ResponseEntity<byte[]> sitemapIndex(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        return xml(sitemapService.index(), acceptEncoding);
+    }
+
+    @GetMapping("/sitemap-pages.xml")
+    public ResponseEntity<byte[]> pagesSitemap(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        return xml(sitemapService.pages(), acceptEncoding);
+    }
+
+    @GetMapping("/sitemap-articles-{shard:\\d+}.xml")
+    public ResponseEntity<byte[]> articlesSitemap(
+            @PathVariable int shard,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        PrecompressedContent content = sitemapService.articleShard(shard)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+        return xml(content, acceptEncoding);
+    }
+
+    private ResponseEntity<byte[]> xml(PrecompressedContent content, String acceptEncoding) {
+        return PrecompressedResponses.of(content, acceptEncoding, MediaType.APPLICATION_XML, CACHE_CONTROL);
+    }
+}
@@ -0,0 +1,37 @@
+package pl.klastbit.lexpage.infrastructure.web.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import pl.klastbit.lexpage.infrastructure.web.export.StaticSiteExporter;
+
+/**
+ * REST Controller for the static site export.
+ * Available only when {@code app.static-export.enabled=true}.
+ * Inbound adapter in Hexagonal Architecture.
+ */
+@RestController
+@RequestMapping("/api/static-export")
+@ConditionalOnProperty(prefix = "app.static-export", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class StaticExportController {
+
+    private final StaticSiteExporter staticSiteExporter;
+
+    /**
+     * POST /api/static-export - Zleca pełny eksport statycznej wersji strony.
+     *
+     * @return 202 Accepted; eksport wykonywany jest w tle
+     */
+    @PostMapping
+    public ResponseEntity<Void> exportAll() {
+        log.info("Full static export requested");
+        staticSiteExporter.requestFullExport();
+        return ResponseEntity.accepted().build();
+    }
+}
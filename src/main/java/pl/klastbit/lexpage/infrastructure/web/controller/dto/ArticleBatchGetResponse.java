@@ -0,0 +1,36 @@
+package pl.klastbit.lexpage.infrastructure.web.controller.dto;
+
+import pl.klastbit.lexpage.application.article.dto.ArticleListItemDto;
+import pl.klastbit.lexpage.infrastructure.web.controller.dto.ArticleListResponse.ArticleListItem;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Response DTO for articles requested by ID.
+ * Immutable Record for REST API responses.
+ *
+ * @param content  Found articles in request order
+ * @param notFound Requested IDs without a (non-deleted) article
+ */
+public record ArticleBatchGetResponse(
+        List<ArticleListItem> content,
+        List<Long> notFound
+) {
+
+    /**
+     * Factory method to create response from application DTOs.
+     *
+     * @param ids   Requested IDs
+     * @param found Found articles
+     * @return ArticleBatchGetResponse
+     */
+    public static ArticleBatchGetResponse from(List<Long> ids, List<ArticleListItemDto> found) {
+        Set<Long> foundIds = found.stream().map(ArticleListItemDto::id).collect(Collectors.toSet());
+        return new ArticleBatchGetResponse(
+                found.stream().map(ArticleListItem::from).toList(),
+                ids.stream().distinct().filter(id -> !foundIds.contains(id)).toList()
+        );
+    }
+}
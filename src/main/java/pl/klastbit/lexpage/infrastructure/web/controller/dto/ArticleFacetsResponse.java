@@ -0,0 +1,55 @@
+package pl.klastbit.lexpage.infrastructure.web.controller.dto;
+
+import pl.klastbit.lexpage.application.article.dto.ArticleFacetsDto;
+
+import java.util.List;
+
+/**
+ * Response DTO for article facet counts.
+ * Immutable Record for REST API responses.
+ */
+public record ArticleFacetsResponse(
+        long total,
+        List<FacetValue> statuses,
+        List<FacetValue> authors,
+        List<FacetValue> keywords,
+        List<FacetValue> months
+) {
+
+    /**
+     * Single filter value with the number of matching articles.
+     */
+    public record FacetValue(
+            String value,
+            String label,
+            long count
+    ) {
+
+        /**
+         * Factory method to create value from application DTO.
+         */
+        public static FacetValue from(ArticleFacetsDto.FacetValue dto) {
+            return new FacetValue(dto.value(), dto.label(), dto.count());
+        }
+    }
+
+    /**
+     * Factory method to create response from application DTO.
+     *
+     * @param dto Facet counts
+     * @return ArticleFacetsResponse
+     */
+    public static ArticleFacetsResponse from(ArticleFacetsDto dto) {
+        return new ArticleFacetsResponse(
+                dto.total(),
+                toValues(dto.statuses()),
+                toValues(dto.authors()),
+                toValues(dto.keywords()),
+                toValues(dto.months())
+        );
+    }
+
+    private static List<FacetValue> toValues(List<ArticleFacetsDto.FacetValue> values) {
+        return values.stream().map(FacetValue::from).toList();
+    }
+}
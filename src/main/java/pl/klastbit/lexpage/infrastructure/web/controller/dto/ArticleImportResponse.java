@@ -0,0 +1,25 @@
+package pl.klastbit.lexpage.infrastructure.web.controller.dto;
+
+import pl.klastbit.lexpage.application.article.dto.ArticleImportResultDto;
+
+/**
+ * Response DTO for a bulk article import.
+ * Immutable Record for REST API responses.
+ */
+public record ArticleImportResponse(
+        long received,
+        long imported,
+        long skipped,
+        long renamedSlugs
+) {
+
+    /**
+     * Factory method to create response from application DTO.
+     *
+     * @param dto Import result
+     * @return ArticleImportResponse
+     */
+    public static ArticleImportResponse from(ArticleImportResultDto dto) {
+        return new ArticleImportResponse(dto.received(), dto.imported(), dto.skipped(), dto.renamedSlugs());
+    }
+}
@@ -19,6 +19,7 @@ public record ArticleResponse(
         String authorId,
         String authorName,
         LocalDateTime publishedAt,
+        LocalDateTime scheduledPublishAt,
         String metaTitle,
         String metaDescription,
         String ogImageUrl,
@@ -49,6 +50,7 @@ public record ArticleResponse(
                 dto.authorId(),
                 dto.authorName(),
                 dto.publishedAt(),
+                dto.scheduledPublishAt(),
                 dto.metaTitle(),
                 dto.metaDescription(),
                 dto.ogImageUrl(),
@@ -0,0 +1,31 @@
+package pl.klastbit.lexpage.infrastructure.web.controller.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import pl.klastbit.lexpage.application.article.command.BatchArticleCommand;
+
+import java.util.List;
+
+/**
+ * Request DTO for applying one action to several articles.
+ * Immutable Record with Bean Validation annotations.
+ */
+public record BatchArticleRequest(
+        @NotNull(message = "Akcja jest wymagana")
+        BatchArticleCommand.Action action,
+
+        @NotEmpty(message = "Lista artykułów jest wymagana")
+        @Size(max = 500, message = "Maksymalnie 500 artykułów w jednym żądaniu")
+        List<@NotNull(message = "ID artykułu jest wymagane") Long> ids
+) {
+
+    /**
+     * Converts request DTO to application command.
+     *
+     * @return BatchArticleCommand
+     */
+    public BatchArticleCommand toCommand() {
+        return new BatchArticleCommand(action, ids);
+    }
+}
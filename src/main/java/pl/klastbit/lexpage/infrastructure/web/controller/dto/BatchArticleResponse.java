@@ -0,0 +1,58 @@
+package pl.klastbit.lexpage.infrastructure.web.controller.dto;
+
+import pl.klastbit.lexpage.application.article.command.BatchArticleCommand;
+import pl.klastbit.lexpage.application.article.dto.BatchArticleResultDto;
+
+import java.util.List;
+
+/**
+ * Response DTO for a batch article action with one result per article.
+ * Immutable Record for REST API responses.
+ */
+public record BatchArticleResponse(
+        String action,
+        int succeeded,
+        int failed,
+        List<Result> results
+) {
+
+    /**
+     * Outcome for a single article.
+     */
+    public record Result(
+            Long id,
+            boolean success,
+            String status,
+            String error
+    ) {
+
+        /**
+         * Factory method to create result from application DTO.
+         */
+        public static Result from(BatchArticleResultDto dto) {
+            return new Result(
+                    dto.articleId(),
+                    dto.success(),
+                    dto.status() != null ? dto.status().name() : null,
+                    dto.error()
+            );
+        }
+    }
+
+    /**
+     * Factory method to create response from application results.
+     *
+     * @param action  Applied action
+     * @param results Per-article results
+     * @return BatchArticleResponse
+     */
+    public static BatchArticleResponse from(BatchArticleCommand.Action action, List<BatchArticleResultDto> results) {
+        int succeeded = (int) results.stream().filter(BatchArticleResultDto::success).count();
+        return new BatchArticleResponse(
+                action.name(),
+                succeeded,
+                results.size() - succeeded,
+                results.stream().map(Result::from).toList()
+        );
+    }
+}
@@ -0,0 +1,51 @@
+package pl.klastbit.lexpage.infrastructure.web.controller.dto;
+
+import pl.klastbit.lexpage.application.image.dto.UploadedImageDto;
+
+import java.util.List;
+
+/**
+ * Response DTO for an uploaded image with its generated variants.
+ * Immutable Record for REST API responses.
+ */
+public record ImageUploadResponse(
+        String contentHash,
+        String url,
+        List<ImageFileResponse> files
+) {
+
+    public record ImageFileResponse(
+            Long id,
+            String variant,
+            String mimeType,
+            String url,
+            int width,
+            int height,
+            long fileSize
+    ) {
+    }
+
+    /**
+     * Factory method to create response from application DTO.
+     *
+     * @param dto Application layer DTO
+     * @return ImageUploadResponse
+     */
+    public static ImageUploadResponse from(UploadedImageDto dto) {
+        return new ImageUploadResponse(
+                dto.contentHash(),
+                dto.url(),
+                dto.files().stream()
+                        .map(file -> new ImageFileResponse(
+                                file.id(),
+                                file.variant().name(),
+                                file.mimeType(),
+                                file.url(),
+                                file.width(),
+                                file.height(),
+                                file.fileSize()
+                        ))
+                        .toList()
+        );
+    }
+}
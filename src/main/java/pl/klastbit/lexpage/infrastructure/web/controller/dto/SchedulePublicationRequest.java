@@ -0,0 +1,17 @@
+package pl.klastbit.lexpage.infrastructure.web.controller.dto;
+
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDateTime;
+
+/**
+ * Request DTO for scheduling publication of an article.
+ * Immutable Record with Bean Validation annotations.
+ */
+public record SchedulePublicationRequest(
+        @NotNull(message = "Data publikacji jest wymagana")
+        @Future(message = "Data publikacji musi być w przyszłości")
+        LocalDateTime publishAt
+) {
+}
@@ -9,9 +9,13 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 import org.springframework.web.servlet.resource.NoResourceFoundException;
 import pl.klastbit.lexpage.application.article.exception.AIGenerationException;
+import pl.klastbit.lexpage.application.image.exception.ImageProcessingException;
+import pl.klastbit.lexpage.application.image.exception.InvalidImageException;
 import pl.klastbit.lexpage.domain.article.exception.ArticleNotFoundException;
+import pl.klastbit.lexpage.domain.article.exception.InvalidArticleStatusTransitionException;
 import pl.klastbit.lexpage.domain.contact.exception.RateLimitExceededException;
 
 import java.net.URI;
@@ -105,6 +109,26 @@ public class GlobalExceptionApiHandler {
         return problemDetail;
     }
 
+    /**
+     * Handles status transitions that lost a race with a concurrent change.
+     * Returns 409 Conflict.
+     */
+    @ExceptionHandler(InvalidArticleStatusTransitionException.class)
+    public ProblemDetail handleInvalidStatusTransition(InvalidArticleStatusTransitionException ex) {
+        log.warn("Conflicting status transition: {}", ex.getMessage());
+
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
+                HttpStatus.CONFLICT,
+                ex.getMessage()
+        );
+
+        problemDetail.setTitle("Invalid Article Status Transition");
+        problemDetail.setType(URI.create("https://klastbit.pl/errors/invalid-status-transition"));
+        problemDetail.setProperty("timestamp", Instant.now());
+
+        return problemDetail;
+    }
+
     /**
      * Handles AI generation failures.
      * Returns 503 Service Unavailable.
@@ -125,6 +149,66 @@ public class GlobalExceptionApiHandler {
         return problemDetail;
     }
 
+    /**
+     * Handles uploads that are not supported images.
+     * Returns 400 Bad Request.
+     */
+    @ExceptionHandler(InvalidImageException.class)
+    public ProblemDetail handleInvalidImage(InvalidImageException ex) {
+        log.warn("Invalid image upload: {}", ex.getMessage());
+
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
+                HttpStatus.BAD_REQUEST,
+                "Nieprawidłowy plik obrazu. Obsługiwane formaty: JPEG, PNG."
+        );
+
+        problemDetail.setTitle("Invalid Image");
+        problemDetail.setType(URI.create("https://klastbit.pl/errors/invalid-image"));
+        problemDetail.setProperty("timestamp", Instant.now());
+
+        return problemDetail;
+    }
+
+    /**
+     * Handles image processing failures (worker pool saturated, timeout, storage errors).
+     * Returns 503 Service Unavailable.
+     */
+    @ExceptionHandler(ImageProcessingException.class)
+    public ProblemDetail handleImageProcessing(ImageProcessingException ex) {
+        log.warn("Image processing failed: {}", ex.getMessage());
+
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
+                HttpStatus.SERVICE_UNAVAILABLE,
+                "Nie udało się przetworzyć obrazu. Spróbuj ponownie."
+        );
+
+        problemDetail.setTitle("Image Processing Failed");
+        problemDetail.setType(URI.create("https://klastbit.pl/errors/image-processing-failed"));
+        problemDetail.setProperty("timestamp", Instant.now());
+
+        return problemDetail;
+    }
+
+    /**
+     * Handles uploads exceeding spring.servlet.multipart.max-file-size.
+     * Returns 413 Content Too Large.
+     */
+    @ExceptionHandler(MaxUploadSizeExceededException.class)
+    public ProblemDetail handleMaxUploadSizeExceeded(MaxUploadSizeExceededException ex) {
+        log.warn("Upload too large: {}", ex.getMessage());
+
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
+                HttpStatus.CONTENT_TOO_LARGE,
+                "Plik jest zbyt duży."
+        );
+
+        problemDetail.setTitle("Upload Too Large");
+        problemDetail.setType(URI.create("https://klastbit.pl/errors/upload-too-large"));
+        problemDetail.setProperty("timestamp", Instant.now());
+
+        return problemDetail;
+    }
+
     /**
      * Handles invalid article status transition exceptions.
      * Returns 400 Bad Request.
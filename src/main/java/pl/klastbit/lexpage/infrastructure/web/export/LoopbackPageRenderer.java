@@ -0,0 +1,55 @@
+package pl.klastbit.lexpage.infrastructure.web.export;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Renders public pages by requesting them from the running application over the loopback
+ * interface, so exported HTML goes through exactly the same controllers, Thymeleaf templates
+ * and filters as live traffic. Requests are anonymous, like visitors of the static site.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.static-export", name = "enabled", havingValue = "true")
+public class LoopbackPageRenderer {
+
+    private final Environment environment;
+    private final RestClient restClient;
+
+    public LoopbackPageRenderer(Environment environment) {
+        this.environment = environment;
+        HttpClient httpClient = HttpClient.newBuilder()
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.restClient = RestClient.builder()
+                .requestFactory(new JdkClientHttpRequestFactory(httpClient))
+                .build();
+    }
+
+    /**
+     * Renders the page at {@code pathAndQuery} (e.g. {@code /blog?page=2}).
+     *
+     * @return page HTML, or empty when the application does not answer with 200 OK
+     *         (missing article, out-of-range page redirect)
+     */
+    public Optional<byte[]> render(String pathAndQuery) {
+        URI uri = URI.create("http://127.0.0.1:" + environment.getRequiredProperty("local.server.port")
+                + environment.getProperty("server.servlet.context-path", "") + pathAndQuery);
+        return restClient.get()
+                .uri(uri)
+                .accept(MediaType.TEXT_HTML)
+                .<Optional<byte[]>>exchange((request, response) -> response.getStatusCode().isSameCodeAs(HttpStatus.OK)
+                        ? Optional.of(response.getBody().readAllBytes())
+                        : Optional.empty());
+    }
+}
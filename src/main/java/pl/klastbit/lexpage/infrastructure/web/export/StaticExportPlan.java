@@ -0,0 +1,136 @@
+package pl.klastbit.lexpage.infrastructure.web.export;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * Pages to (re)render and to remove in one static export run.
+ * <p>
+ * An incremental plan compares the blog listing order of the previous export with the current
+ * one. It selects the changed articles, every listing page whose slice of articles moved or
+ * contains a changed article, and - when the newest articles changed - every article page,
+ * since all of them show the newest articles in their related-articles section.
+ *
+ * @param homePage           whether the home page is rendered
+ * @param indexPages         blog listing pages (1-based) to render
+ * @param obsoleteIndexPages blog listing pages (1-based) that no longer exist
+ * @param articles           slugs of article pages to render
+ * @param obsoleteArticles   slugs of article pages that are no longer published
+ */
+public record StaticExportPlan(
+        boolean homePage,
+        SortedSet<Integer> indexPages,
+        SortedSet<Integer> obsoleteIndexPages,
+        Set<String> articles,
+        Set<String> obsoleteArticles
+) {
+
+    /**
+     * Plan exporting the whole site and removing pages left over from earlier exports.
+     *
+     * @param current          published slugs in listing order
+     * @param existingArticles article slugs present in the output directory
+     * @param existingPages    listing pages present in the output directory
+     */
+    public static StaticExportPlan full(List<String> current,
+                                        Collection<String> existingArticles,
+                                        Collection<Integer> existingPages,
+                                        int pageSize) {
+        SortedSet<Integer> indexPages = pageRange(1, pageCount(current.size(), pageSize));
+
+        SortedSet<Integer> obsoletePages = new TreeSet<>(existingPages);
+        obsoletePages.removeAll(indexPages);
+
+        Set<String> obsoleteArticles = new LinkedHashSet<>(existingArticles);
+        current.forEach(obsoleteArticles::remove);
+
+        return new StaticExportPlan(true, indexPages, obsoletePages, new LinkedHashSet<>(current), obsoleteArticles);
+    }
+
+    /**
+     * Plan covering only the pages affected by changes since the previous export.
+     *
+     * @param previous        published slugs in listing order at the previous export
+     * @param current         published slugs in listing order now
+     * @param changed         slugs of changed articles (including previous slugs of renamed articles)
+     * @param pageSize        articles per listing page
+     * @param relatedArticles number of related articles shown on an article page
+     */
+    public static StaticExportPlan incremental(List<String> previous,
+                                               List<String> current,
+                                               Set<String> changed,
+                                               int pageSize,
+                                               int relatedArticles) {
+        Set<String> previousSet = new HashSet<>(previous);
+        Set<String> currentSet = new HashSet<>(current);
+
+        SortedSet<Integer> indexPages = new TreeSet<>();
+        int currentPages = pageCount(current.size(), pageSize);
+        for (int page = 1; page <= currentPages; page++) {
+            List<String> slice = slice(current, page, pageSize);
+            if (!slice.equals(slice(previous, page, pageSize)) || containsAny(slice, changed)) {
+                indexPages.add(page);
+            }
+        }
+        SortedSet<Integer> obsoletePages = pageRange(currentPages + 1, pageCount(previous.size(), pageSize));
+
+        // Related articles are the newest published ones, excluding the viewed article.
+        int relatedWindow = relatedArticles + 1;
+        List<String> previousNewest = previous.subList(0, Math.min(relatedWindow, previous.size()));
+        List<String> currentNewest = current.subList(0, Math.min(relatedWindow, current.size()));
+        boolean relatedChanged = !previousNewest.equals(currentNewest)
+                || containsAny(previousNewest, changed)
+                || containsAny(currentNewest, changed);
+
+        Set<String> articles = new LinkedHashSet<>();
+        if (relatedChanged) {
+            articles.addAll(current);
+        } else {
+            changed.stream().filter(currentSet::contains).forEach(articles::add);
+            current.stream().filter(slug -> !previousSet.contains(slug)).forEach(articles::add);
+        }
+
+        Set<String> obsoleteArticles = new LinkedHashSet<>(previous);
+        obsoleteArticles.addAll(changed);
+        obsoleteArticles.removeAll(currentSet);
+
+        return new StaticExportPlan(false, indexPages, obsoletePages, articles, obsoleteArticles);
+    }
+
+    public boolean isEmpty() {
+        return !homePage && indexPages.isEmpty() && obsoleteIndexPages.isEmpty()
+                && articles.isEmpty() && obsoleteArticles.isEmpty();
+    }
+
+    /**
+     * Number of listing pages; the first page exists even without articles.
+     */
+    static int pageCount(int articles, int pageSize) {
+        return Math.max(1, (articles + pageSize - 1) / pageSize);
+    }
+
+    private static List<String> slice(List<String> slugs, int page, int pageSize) {
+        int from = (page - 1) * pageSize;
+        if (from >= slugs.size()) {
+            return List.of();
+        }
+        return slugs.subList(from, Math.min(from + pageSize, slugs.size()));
+    }
+
+    private static boolean containsAny(List<String> slugs, Set<String> candidates) {
+        return slugs.stream().anyMatch(candidates::contains);
+    }
+
+    private static SortedSet<Integer> pageRange(int fromInclusive, int toInclusive) {
+        SortedSet<Integer> pages = new TreeSet<>();
+        for (int page = fromInclusive; page <= toInclusive; page++) {
+            pages.add(page);
+        }
+        return pages;
+    }
+}
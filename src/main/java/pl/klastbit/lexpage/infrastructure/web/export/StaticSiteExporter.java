@@ -0,0 +1,176 @@
+package pl.klastbit.lexpage.infrastructure.web.export;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import pl.klastbit.lexpage.application.article.event.ArticleChangedEvent;
+import pl.klastbit.lexpage.application.ports.PublishedArticleCatalog;
+import pl.klastbit.lexpage.infrastructure.config.StaticExportProperties;
+import pl.klastbit.lexpage.infrastructure.invalidation.InvalidatableCache;
+import pl.klastbit.lexpage.infrastructure.web.controller.BlogViewController;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Exports the public site ({@code /}, {@code /blog}, {@code /blog?page=n}, {@code /blog/{slug}})
+ * into a directory of precompressed HTML served by a static web tier.
+ * <p>
+ * A full export runs on startup and on demand. After that, committed article changes trigger
+ * incremental exports that regenerate only the affected pages (see {@link StaticExportPlan}).
+ * Exports run on a single background thread; changes arriving while an export is running are
+ * coalesced into the next run.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.static-export", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class StaticSiteExporter implements InvalidatableCache {
+
+    private final PublishedArticleCatalog publishedArticleCatalog;
+    private final LoopbackPageRenderer renderer;
+    private final StaticSiteWriter writer;
+    private final StaticExportProperties properties;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("static-export").daemon().factory());
+    private final Set<String> pendingSlugs = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean fullExportRequested = new AtomicBoolean();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    /**
+     * Listing order at the last successful export; null until a full export completed.
+     * Accessed only from the export thread.
+     */
+    private List<String> exportedOrder;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (properties.isExportOnStartup()) {
+            requestFullExport();
+        }
+    }
+
+    /**
+     * Changes may have been missed, so everything is exported again.
+     */
+    @Override
+    public void invalidateAll() {
+        requestFullExport();
+    }
+
+    /**
+     * Schedules a full export of the site.
+     */
+    public void requestFullExport() {
+        fullExportRequested.set(true);
+        schedule();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        invalidate(event);
+    }
+
+    /**
+     * Drafts are not exported; every other change may alter published pages.
+     */
+    @Override
+    public void invalidate(ArticleChangedEvent event) {
+        if (event.changeType() == ArticleChangedEvent.ChangeType.CREATED) {
+            return;
+        }
+        pendingSlugs.add(event.slug());
+        if (event.previousSlug() != null) {
+            pendingSlugs.add(event.previousSlug());
+        }
+        schedule();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            executor.execute(this::runExport);
+        }
+    }
+
+    private void runExport() {
+        scheduled.set(false);
+        boolean full = fullExportRequested.getAndSet(false) || exportedOrder == null;
+        Set<String> changed = new HashSet<>();
+        for (String slug : pendingSlugs) {
+            pendingSlugs.remove(slug);
+            changed.add(slug);
+        }
+
+        try {
+            List<String> current = loadListingOrder();
+            StaticExportPlan plan = full
+                    ? StaticExportPlan.full(current, writer.existingArticles(), writer.existingIndexPages(),
+                            BlogViewController.ARTICLES_PER_PAGE)
+                    : StaticExportPlan.incremental(exportedOrder, current, changed,
+                            BlogViewController.ARTICLES_PER_PAGE, BlogViewController.RELATED_ARTICLES);
+
+            long start = System.nanoTime();
+            apply(plan);
+            exportedOrder = current;
+            log.info("Static export ({}) finished in {} ms: {} listing pages, {} articles, {} removed",
+                    full ? "full" : "incremental",
+                    (System.nanoTime() - start) / 1_000_000,
+                    plan.indexPages().size(),
+                    plan.articles().size(),
+                    plan.obsoleteIndexPages().size() + plan.obsoleteArticles().size());
+        } catch (RuntimeException e) {
+            // The output may now be partially updated; the next run rebuilds everything.
+            exportedOrder = null;
+            log.error("Static export failed, next export will be a full one", e);
+        }
+    }
+
+    private void apply(StaticExportPlan plan) {
+        if (plan.homePage()) {
+            render("/").ifPresent(writer::writeHomePage);
+        }
+        for (int page : plan.indexPages()) {
+            render(page == 1 ? "/blog" : "/blog?page=" + page)
+                    .ifPresentOrElse(html -> writer.writeIndexPage(page, html), () -> writer.deleteIndexPage(page));
+        }
+        plan.obsoleteIndexPages().forEach(writer::deleteIndexPage);
+        for (String slug : plan.articles()) {
+            render("/blog/" + slug)
+                    .ifPresentOrElse(html -> writer.writeArticle(slug, html), () -> writer.deleteArticle(slug));
+        }
+        plan.obsoleteArticles().forEach(writer::deleteArticle);
+    }
+
+    private Optional<byte[]> render(String pathAndQuery) {
+        Optional<byte[]> html = renderer.render(pathAndQuery);
+        if (html.isEmpty()) {
+            log.warn("Static export skipped {}: page not available", pathAndQuery);
+        }
+        return html;
+    }
+
+    private List<String> loadListingOrder() {
+        List<String> slugs = new ArrayList<>();
+        publishedArticleCatalog.forEachPublishedNewestFirst(article -> slugs.add(article.slug()));
+        return slugs;
+    }
+}
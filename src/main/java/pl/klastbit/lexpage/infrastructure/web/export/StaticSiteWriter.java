@@ -0,0 +1,177 @@
+package pl.klastbit.lexpage.infrastructure.web.export;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import pl.klastbit.lexpage.infrastructure.config.StaticExportProperties;
+import pl.klastbit.lexpage.infrastructure.web.compression.ContentCompressor;
+import pl.klastbit.lexpage.infrastructure.web.compression.PrecompressedContent;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Writes exported pages into the static site directory.
+ * <p>
+ * Layout (relative to {@code app.static-export.output-dir}):
+ * <ul>
+ *   <li>{@code index.html} - home page</li>
+ *   <li>{@code blog/index.html} - first blog listing page</li>
+ *   <li>{@code blog/page-{n}.html} - listing page n (served for {@code /blog?page=n})</li>
+ *   <li>{@code blog/{slug}/index.html} - article page</li>
+ * </ul>
+ * Every page is accompanied by {@code .gz} and {@code .br} siblings for the web tier's
+ * precompressed file support. Each file is written to a temporary file in the target directory
+ * and atomically renamed, so the web tier never serves a partially written page.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.static-export", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class StaticSiteWriter {
+
+    private static final String INDEX_FILE = "index.html";
+    private static final Pattern INDEX_PAGE_FILE = Pattern.compile("^page-(\\d+)\\.html$");
+
+    private final StaticExportProperties properties;
+    private final ContentCompressor compressor;
+
+    public void writeHomePage(byte[] html) {
+        write(root().resolve(INDEX_FILE), html);
+    }
+
+    public void writeIndexPage(int page, byte[] html) {
+        write(indexPagePath(page), html);
+    }
+
+    public void deleteIndexPage(int page) {
+        delete(indexPagePath(page));
+    }
+
+    public void writeArticle(String slug, byte[] html) {
+        write(articlePath(slug), html);
+    }
+
+    public void deleteArticle(String slug) {
+        Path page = articlePath(slug);
+        delete(page);
+        try {
+            Files.deleteIfExists(page.getParent());
+        } catch (IOException e) {
+            log.warn("Could not remove exported article directory {}: {}", page.getParent(), e.getMessage());
+        }
+    }
+
+    /**
+     * Returns slugs of article pages present in the output directory.
+     */
+    public Set<String> existingArticles() {
+        Set<String> slugs = new TreeSet<>();
+        Path blog = blogDir();
+        if (!Files.isDirectory(blog)) {
+            return slugs;
+        }
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(blog, Files::isDirectory)) {
+            entries.forEach(entry -> slugs.add(entry.getFileName().toString()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list " + blog, e);
+        }
+        return slugs;
+    }
+
+    /**
+     * Returns numbers of listing pages present in the output directory.
+     */
+    public Set<Integer> existingIndexPages() {
+        Set<Integer> pages = new TreeSet<>();
+        Path blog = blogDir();
+        if (!Files.isDirectory(blog)) {
+            return pages;
+        }
+        if (Files.exists(blog.resolve(INDEX_FILE))) {
+            pages.add(1);
+        }
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(blog, "page-*.html")) {
+            for (Path entry : entries) {
+                Matcher matcher = INDEX_PAGE_FILE.matcher(entry.getFileName().toString());
+                if (matcher.matches()) {
+                    pages.add(Integer.parseInt(matcher.group(1)));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list " + blog, e);
+        }
+        return pages;
+    }
+
+    private void write(Path file, byte[] html) {
+        PrecompressedContent content = compressor.compress(html);
+        try {
+            Files.createDirectories(file.getParent());
+            // Variants first: once the new HTML is visible its encodings are in place too.
+            writeAtomically(variantPath(file, ".gz"), content.gzip());
+            if (content.hasBrotli()) {
+                writeAtomically(variantPath(file, ".br"), content.brotli());
+            } else {
+                Files.deleteIfExists(variantPath(file, ".br"));
+            }
+            writeAtomically(file, content.identity());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write exported page " + file, e);
+        }
+    }
+
+    private void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(variantPath(file, ".gz"));
+            Files.deleteIfExists(variantPath(file, ".br"));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to delete exported page " + file, e);
+        }
+    }
+
+    private static void writeAtomically(Path target, byte[] bytes) throws IOException {
+        Path temp = Files.createTempFile(target.getParent(), "." + target.getFileName(), ".tmp");
+        try {
+            Files.write(temp, bytes);
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private Path indexPagePath(int page) {
+        return page == 1 ? blogDir().resolve(INDEX_FILE) : blogDir().resolve("page-" + page + ".html");
+    }
+
+    private Path articlePath(String slug) {
+        return blogDir().resolve(slug).resolve(INDEX_FILE);
+    }
+
+    private Path blogDir() {
+        return root().resolve("blog");
+    }
+
+    private Path root() {
+        return properties.getOutputDir().toAbsolutePath().normalize();
+    }
+
+    private static Path variantPath(Path file, String extension) {
+        return file.resolveSibling(file.getFileName() + extension);
+    }
+}
@@ -0,0 +1,19 @@
+package pl.klastbit.lexpage.infrastructure.web.feed;
+
+import pl.klastbit.lexpage.infrastructure.web.compression.PrecompressedContent;
+
+import java.time.Instant;
+
+/**
+ * Serialized feed document held in {@link FeedService}'s cache.
+ *
+ * @param content      feed bytes in all supported encodings
+ * @param etag         strong entity tag of the uncompressed body (quoted)
+ * @param lastModified modification time of the newest entry, truncated to seconds
+ */
+public record CachedFeed(
+        PrecompressedContent content,
+        String etag,
+        Instant lastModified
+) {
+}
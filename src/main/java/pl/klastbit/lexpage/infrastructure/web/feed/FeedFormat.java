@@ -0,0 +1,22 @@
+package pl.klastbit.lexpage.infrastructure.web.feed;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Syndication formats served for the blog.
+ */
+public enum FeedFormat {
+
+    RSS(MediaType.parseMediaType("application/rss+xml;charset=UTF-8")),
+    ATOM(MediaType.parseMediaType("application/atom+xml;charset=UTF-8"));
+
+    private final MediaType mediaType;
+
+    FeedFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+}
@@ -0,0 +1,233 @@
+package pl.klastbit.lexpage.infrastructure.web.feed;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+import pl.klastbit.lexpage.application.article.GetLatestPublishedArticlesUseCase;
+import pl.klastbit.lexpage.application.article.dto.ArticleDetailDto;
+import pl.klastbit.lexpage.application.article.event.ArticleChangedEvent;
+import pl.klastbit.lexpage.infrastructure.config.SiteProperties;
+import pl.klastbit.lexpage.infrastructure.invalidation.InvalidatableCache;
+import pl.klastbit.lexpage.infrastructure.web.compression.ContentCompressor;
+import pl.klastbit.lexpage.infrastructure.web.compression.PrecompressedContent;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.ByteArrayOutputStream;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Builds the blog's RSS 2.0 and Atom 1.0 feeds from the newest published articles.
+ * <p>
+ * Each feed is serialized once, compressed (gzip + brotli) and cached together with its
+ * ETag and Last-Modified until a published article changes. Conditional requests from feed
+ * readers are then answered from the cache without touching the database.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FeedService implements InvalidatableCache {
+
+    private static final String ATOM_NS = "http://www.w3.org/2005/Atom";
+    private static final String CONTENT_NS = "http://purl.org/rss/1.0/modules/content/";
+    private static final XMLOutputFactory XML_OUTPUT_FACTORY = XMLOutputFactory.newFactory();
+
+    private final GetLatestPublishedArticlesUseCase getLatestPublishedArticlesUseCase;
+    private final ContentCompressor compressor;
+    private final SiteProperties siteProperties;
+
+    private final Map<FeedFormat, CachedFeed> feeds = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public CachedFeed feed(FeedFormat format) {
+        CachedFeed feed = feeds.get(format);
+        if (feed != null) {
+            return feed;
+        }
+
+        long renderGeneration = generation.get();
+        List<ArticleDetailDto> articles = getLatestPublishedArticlesUseCase.execute(siteProperties.getFeedSize());
+        Instant lastModified = lastModified(articles);
+
+        var buffer = new ByteArrayOutputStream(16384);
+        try {
+            XMLStreamWriter xml = XML_OUTPUT_FACTORY.createXMLStreamWriter(buffer, StandardCharsets.UTF_8.name());
+            xml.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+            switch (format) {
+                case RSS -> writeRss(xml, articles, lastModified);
+                case ATOM -> writeAtom(xml, articles, lastModified);
+            }
+            xml.writeEndDocument();
+            xml.flush();
+            xml.close();
+        } catch (XMLStreamException e) {
+            throw new IllegalStateException("Failed to write " + format + " feed", e);
+        }
+
+        byte[] body = buffer.toByteArray();
+        PrecompressedContent content = compressor.compress(body);
+        feed = new CachedFeed(content, "\"" + DigestUtils.md5DigestAsHex(body) + "\"", lastModified);
+
+        if (renderGeneration == generation.get()) {
+            feeds.put(format, feed);
+        }
+        log.debug("Generated {} feed with {} entries ({} bytes)", format, articles.size(), body.length);
+        return feed;
+    }
+
+    @Override
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        feeds.clear();
+    }
+
+    /**
+     * Drafts and generated media never appear in the feed, every other change may alter its entries.
+     */
+    @Override
+    public void invalidate(ArticleChangedEvent event) {
+        if (event.changeType() != ArticleChangedEvent.ChangeType.CREATED
+                && event.changeType() != ArticleChangedEvent.ChangeType.MEDIA_UPDATED) {
+            invalidateAll();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        invalidate(event);
+    }
+
+    private void writeRss(XMLStreamWriter xml, List<ArticleDetailDto> articles, Instant lastModified)
+            throws XMLStreamException {
+        String baseUrl = siteProperties.getBaseUrl();
+
+        xml.writeStartElement("rss");
+        xml.writeAttribute("version", "2.0");
+        xml.writeNamespace("atom", ATOM_NS);
+        xml.writeNamespace("content", CONTENT_NS);
+        xml.writeStartElement("channel");
+        writeElement(xml, "title", siteProperties.getTitle());
+        writeElement(xml, "link", baseUrl + "/blog");
+        writeElement(xml, "description", siteProperties.getDescription());
+        writeElement(xml, "language", "pl");
+        writeElement(xml, "lastBuildDate", DateTimeFormatter.RFC_1123_DATE_TIME.format(lastModified.atOffset(ZoneOffset.UTC)));
+        xml.writeEmptyElement("atom", "link", ATOM_NS);
+        xml.writeAttribute("href", baseUrl + "/blog/feed.xml");
+        xml.writeAttribute("rel", "self");
+        xml.writeAttribute("type", "application/rss+xml");
+
+        for (ArticleDetailDto article : articles) {
+            String link = articleUrl(article);
+            xml.writeStartElement("item");
+            writeElement(xml, "title", article.title());
+            writeElement(xml, "link", link);
+            xml.writeStartElement("guid");
+            xml.writeAttribute("isPermaLink", "true");
+            xml.writeCharacters(link);
+            xml.writeEndElement();
+            if (article.publishedAt() != null) {
+                writeElement(xml, "pubDate", DateTimeFormatter.RFC_1123_DATE_TIME.format(toInstant(article.publishedAt()).atOffset(ZoneOffset.UTC)));
+            }
+            if (article.excerpt() != null) {
+                writeElement(xml, "description", article.excerpt());
+            }
+            xml.writeStartElement("content", "encoded", CONTENT_NS);
+            xml.writeCharacters(article.content());
+            xml.writeEndElement();
+            xml.writeEndElement();
+        }
+
+        xml.writeEndElement();
+        xml.writeEndElement();
+    }
+
+    private void writeAtom(XMLStreamWriter xml, List<ArticleDetailDto> articles, Instant lastModified)
+            throws XMLStreamException {
+        String baseUrl = siteProperties.getBaseUrl();
+
+        xml.writeStartElement("feed");
+        xml.writeDefaultNamespace(ATOM_NS);
+        writeElement(xml, "id", baseUrl + "/blog");
+        writeElement(xml, "title", siteProperties.getTitle());
+        writeElement(xml, "subtitle", siteProperties.getDescription());
+        writeElement(xml, "updated", DateTimeFormatter.ISO_INSTANT.format(lastModified));
+        writeLink(xml, baseUrl + "/blog", "alternate");
+        writeLink(xml, baseUrl + "/blog/atom.xml", "self");
+
+        for (ArticleDetailDto article : articles) {
+            String link = articleUrl(article);
+            xml.writeStartElement("entry");
+            writeElement(xml, "id", link);
+            writeElement(xml, "title", article.title());
+            writeLink(xml, link, "alternate");
+            if (article.publishedAt() != null) {
+                writeElement(xml, "published", DateTimeFormatter.ISO_INSTANT.format(toInstant(article.publishedAt())));
+            }
+            writeElement(xml, "updated", DateTimeFormatter.ISO_INSTANT.format(toInstant(entryUpdated(article))));
+            xml.writeStartElement("author");
+            writeElement(xml, "name", article.authorName());
+            xml.writeEndElement();
+            if (article.excerpt() != null) {
+                writeElement(xml, "summary", article.excerpt());
+            }
+            xml.writeStartElement("content");
+            xml.writeAttribute("type", "html");
+            xml.writeCharacters(article.content());
+            xml.writeEndElement();
+            xml.writeEndElement();
+        }
+
+        xml.writeEndElement();
+    }
+
+    private String articleUrl(ArticleDetailDto article) {
+        return siteProperties.getBaseUrl() + "/blog/" + URLEncoder.encode(article.slug(), StandardCharsets.UTF_8);
+    }
+
+    private static void writeLink(XMLStreamWriter xml, String href, String rel) throws XMLStreamException {
+        xml.writeEmptyElement("link");
+        xml.writeAttribute("href", href);
+        xml.writeAttribute("rel", rel);
+    }
+
+    private static void writeElement(XMLStreamWriter xml, String name, String value) throws XMLStreamException {
+        xml.writeStartElement(name);
+        xml.writeCharacters(value);
+        xml.writeEndElement();
+    }
+
+    private static Instant lastModified(List<ArticleDetailDto> articles) {
+        return articles.stream()
+                .map(FeedService::entryUpdated)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .map(FeedService::toInstant)
+                .orElse(Instant.EPOCH)
+                .truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    private static LocalDateTime entryUpdated(ArticleDetailDto article) {
+        return article.updatedAt() != null ? article.updatedAt() : article.publishedAt();
+    }
+
+    private static Instant toInstant(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant();
+    }
+}
@@ -0,0 +1,89 @@
+package pl.klastbit.lexpage.infrastructure.web.media;
+
+import java.util.Optional;
+
+/**
+ * A single byte range of a representation, resolved against its length (RFC 9110 section 14).
+ * <p>
+ * Only single-range requests are honoured; multipart/byteranges is not worth the complexity for
+ * images, so malformed and multi-range headers are ignored and the full representation is sent.
+ * A syntactically valid range that does not overlap the content is not satisfiable (416).
+ *
+ * @param start first byte position (inclusive)
+ * @param end   last byte position (inclusive), already clamped to the content length
+ */
+public record HttpByteRange(long start, long end) {
+
+    private static final String BYTES_UNIT = "bytes=";
+
+    /**
+     * Parses a Range header value.
+     *
+     * @param header        Range header value, may be null
+     * @param contentLength length of the full representation
+     * @return the requested range, or empty when the header should be ignored
+     */
+    public static Optional<HttpByteRange> parse(String header, long contentLength) {
+        if (header == null || !header.regionMatches(true, 0, BYTES_UNIT, 0, BYTES_UNIT.length())) {
+            return Optional.empty();
+        }
+        String spec = header.substring(BYTES_UNIT.length()).trim();
+        if (spec.indexOf(',') >= 0) {
+            return Optional.empty();
+        }
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return Optional.empty();
+        }
+
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            if (first.isEmpty()) {
+                // Suffix range: the last N bytes
+                long suffixLength = Long.parseLong(last);
+                if (suffixLength < 0) {
+                    return Optional.empty();
+                }
+                return Optional.of(new HttpByteRange(Math.max(0, contentLength - suffixLength), contentLength - 1));
+            }
+
+            long start = Long.parseLong(first);
+            long end = last.isEmpty() ? Long.MAX_VALUE : Long.parseLong(last);
+            if (start < 0 || end < start) {
+                return Optional.empty();
+            }
+            return Optional.of(new HttpByteRange(start, Math.min(end, contentLength - 1)));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Whether the range overlaps the content; otherwise the response is 416.
+     */
+    public boolean isSatisfiable() {
+        return start <= end;
+    }
+
+    /**
+     * Number of bytes in the range.
+     */
+    public long length() {
+        return end - start + 1;
+    }
+
+    /**
+     * Content-Range header value for a 206 response.
+     */
+    public String contentRange(long contentLength) {
+        return "bytes " + start + "-" + end + "/" + contentLength;
+    }
+
+    /**
+     * Content-Range header value for a 416 response.
+     */
+    public static String unsatisfiedContentRange(long contentLength) {
+        return "bytes */" + contentLength;
+    }
+}
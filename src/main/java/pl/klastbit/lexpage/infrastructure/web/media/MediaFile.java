@@ -0,0 +1,16 @@
+package pl.klastbit.lexpage.infrastructure.web.media;
+
+import org.springframework.http.MediaType;
+
+import java.nio.file.Path;
+
+/**
+ * A stored image file resolved from a /media key.
+ *
+ * @param path      real path of the file
+ * @param length    file size in bytes
+ * @param etag      strong entity tag derived from the content hash
+ * @param mediaType content type of the file
+ */
+public record MediaFile(Path path, long length, String etag, MediaType mediaType) {
+}
@@ -0,0 +1,84 @@
+package pl.klastbit.lexpage.infrastructure.web.media;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import pl.klastbit.lexpage.domain.image.ImageFormat;
+import pl.klastbit.lexpage.domain.image.ImageVariant;
+import pl.klastbit.lexpage.infrastructure.config.ImageProperties;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Resolves /media keys to files of the content-addressed image store.
+ * <p>
+ * Only keys with the exact layout written by the image storage are accepted
+ * ({@code {ab}/{cd}/{hash}[-{variant}].{ext}}, where ab/cd are the first characters of the hash),
+ * which rules out path traversal without touching the database. Because the key embeds the
+ * content hash, the file name is a stable strong ETag.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MediaFileResolver {
+
+    private static final Pattern KEY_PATTERN = Pattern.compile(
+            "([0-9a-f]{2})/([0-9a-f]{2})/(\\1\\2[0-9a-f]{60}(?:-(?:" + variantNames() + "))?)\\.(" + extensions() + ")");
+
+    private final ImageProperties properties;
+
+    /**
+     * @param key path below /media/
+     * @return the stored file, or empty if the key is malformed or no such file exists
+     */
+    public Optional<MediaFile> resolve(String key) {
+        Matcher matcher = KEY_PATTERN.matcher(key);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        ImageFormat format = ImageFormat.fromExtension(matcher.group(4)).orElseThrow();
+
+        Path path = properties.getStorageDir().resolve(key);
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            if (!attributes.isRegularFile()) {
+                return Optional.empty();
+            }
+            return Optional.of(new MediaFile(
+                    path.toRealPath(),
+                    attributes.size(),
+                    "\"" + matcher.group(3) + "." + format.getExtension() + "\"",
+                    MediaType.parseMediaType(format.getMimeType())
+            ));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            log.warn("Failed to read media file {}: {}", key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static String variantNames() {
+        return Arrays.stream(ImageVariant.values())
+                .filter(variant -> variant != ImageVariant.ORIGINAL)
+                .map(variant -> variant.name().toLowerCase(Locale.ROOT))
+                .collect(Collectors.joining("|"));
+    }
+
+    private static String extensions() {
+        return Arrays.stream(ImageFormat.values())
+                .map(ImageFormat::getExtension)
+                .collect(Collectors.joining("|"));
+    }
+}
@@ -0,0 +1,61 @@
+package pl.klastbit.lexpage.infrastructure.web.media;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes a file region to the response without staging it on the heap.
+ * <p>
+ * On Tomcat's NIO connector (plain HTTP) the region is handed to the connector through its sendfile
+ * request attributes, so the kernel copies the file straight to the socket after the servlet returns.
+ * Otherwise (TLS, other containers) the region is streamed with {@link FileChannel#transferTo},
+ * which uses a small transfer buffer instead of loading the file.
+ */
+public final class ZeroCopyFileTransfer {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private ZeroCopyFileTransfer() {
+    }
+
+    /**
+     * Sends {@code length} bytes of the file starting at {@code start}.
+     * Content-Length must already be set on the response.
+     */
+    public static void send(HttpServletRequest request, HttpServletResponse response, Path file, long start, long length)
+            throws IOException {
+        if (length == 0) {
+            return;
+        }
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + length);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = length;
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, out);
+                if (transferred <= 0) {
+                    throw new IOException("File truncated while sending: " + file);
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package pl.klastbit.lexpage.infrastructure.web.sitemap;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import pl.klastbit.lexpage.application.article.dto.PublishedArticlesSummary;
+import pl.klastbit.lexpage.application.article.event.ArticleChangedEvent;
+import pl.klastbit.lexpage.application.ports.PublishedArticleCatalog;
+import pl.klastbit.lexpage.infrastructure.config.SiteProperties;
+import pl.klastbit.lexpage.infrastructure.invalidation.InvalidatableCache;
+import pl.klastbit.lexpage.infrastructure.web.compression.ContentCompressor;
+import pl.klastbit.lexpage.infrastructure.web.compression.PrecompressedContent;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates the sitemap index and its shards (sitemaps.org protocol).
+ * <p>
+ * Layout:
+ * <ul>
+ *   <li>{@code /sitemap.xml} - sitemap index</li>
+ *   <li>{@code /sitemap-pages.xml} - static public pages</li>
+ *   <li>{@code /sitemap-articles-{n}.xml} - published articles, up to {@value #URLS_PER_SHARD} URLs each</li>
+ * </ul>
+ * Article shards are written by streaming rows from a JDBC cursor into an XMLStreamWriter.
+ * Each document is compressed once (gzip + brotli) and cached until the set of published
+ * articles changes. The article count deciding which shards exist is cached alongside,
+ * so requests for cached or non-existent shards never query the database.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SitemapService implements InvalidatableCache {
+
+    public static final int URLS_PER_SHARD = 50_000;
+
+    private static final String SITEMAP_NS = "http://www.sitemaps.org/schemas/sitemap/0.9";
+    private static final List<String> STATIC_PAGES = List.of("/", "/blog", "/contact");
+    private static final DateTimeFormatter W3C_DATETIME = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
+    private static final XMLOutputFactory XML_OUTPUT_FACTORY = XMLOutputFactory.newFactory();
+
+    private static final String INDEX_KEY = "index";
+    private static final String PAGES_KEY = "pages";
+
+    private final PublishedArticleCatalog publishedArticleCatalog;
+    private final ContentCompressor compressor;
+    private final SiteProperties siteProperties;
+
+    private final Map<String, PrecompressedContent> documents = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private volatile CachedSummary cachedSummary;
+
+    public PrecompressedContent index() {
+        return cached(INDEX_KEY, this::writeIndex);
+    }
+
+    public PrecompressedContent pages() {
+        return cached(PAGES_KEY, this::writePages);
+    }
+
+    /**
+     * Returns article shard {@code shard} (1-based), or empty when the shard does not exist.
+     */
+    public Optional<PrecompressedContent> articleShard(int shard) {
+        String key = "articles-" + shard;
+        PrecompressedContent content = documents.get(key);
+        if (content != null) {
+            return Optional.of(content);
+        }
+        if (shard < 1 || shard > shardCount(summary().count())) {
+            return Optional.empty();
+        }
+        return Optional.of(cached(key, xml -> writeArticleShard(shard, xml)));
+    }
+
+    @Override
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        documents.clear();
+    }
+
+    /**
+     * Drafts and generated media do not appear in the sitemap, every other change may alter its URLs
+     * or lastmod values.
+     */
+    @Override
+    public void invalidate(ArticleChangedEvent event) {
+        if (event.changeType() != ArticleChangedEvent.ChangeType.CREATED
+                && event.changeType() != ArticleChangedEvent.ChangeType.MEDIA_UPDATED) {
+            invalidateAll();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        invalidate(event);
+    }
+
+    /**
+     * A summary read before an invalidation carries an older generation and is never returned.
+     */
+    private PublishedArticlesSummary summary() {
+        long currentGeneration = generation.get();
+        CachedSummary cached = cachedSummary;
+        if (cached != null && cached.generation() == currentGeneration) {
+            return cached.summary();
+        }
+        PublishedArticlesSummary summary = publishedArticleCatalog.summary();
+        cachedSummary = new CachedSummary(currentGeneration, summary);
+        return summary;
+    }
+
+    private PrecompressedContent cached(String key, XmlDocument document) {
+        PrecompressedContent content = documents.get(key);
+        if (content != null) {
+            return content;
+        }
+
+        long renderGeneration = generation.get();
+        var buffer = new ByteArrayOutputStream(8192);
+        write(document, buffer);
+        content = compressor.compress(buffer.toByteArray());
+
+        if (renderGeneration == generation.get()) {
+            documents.put(key, content);
+        }
+        log.debug("Generated sitemap document {} ({} bytes)", key, buffer.size());
+        return content;
+    }
+
+    private void write(XmlDocument document, OutputStream out) {
+        try {
+            XMLStreamWriter xml = XML_OUTPUT_FACTORY.createXMLStreamWriter(out, StandardCharsets.UTF_8.name());
+            xml.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+            document.write(xml);
+            xml.writeEndDocument();
+            xml.flush();
+            xml.close();
+        } catch (XMLStreamException e) {
+            throw new IllegalStateException("Failed to write sitemap", e);
+        }
+    }
+
+    private void writeIndex(XMLStreamWriter xml) throws XMLStreamException {
+        PublishedArticlesSummary summary = summary();
+
+        xml.writeStartElement("sitemapindex");
+        xml.writeDefaultNamespace(SITEMAP_NS);
+        writeSitemapEntry(xml, "/sitemap-pages.xml", summary.lastModified());
+        for (int shard = 1; shard <= shardCount(summary.count()); shard++) {
+            writeSitemapEntry(xml, "/sitemap-articles-" + shard + ".xml", summary.lastModified());
+        }
+        xml.writeEndElement();
+    }
+
+    private void writePages(XMLStreamWriter xml) throws XMLStreamException {
+        xml.writeStartElement("urlset");
+        xml.writeDefaultNamespace(SITEMAP_NS);
+        for (String path : STATIC_PAGES) {
+            writeUrl(xml, path, null);
+        }
+        xml.writeEndElement();
+    }
+
+    private void writeArticleShard(int shard, XMLStreamWriter xml) throws XMLStreamException {
+        xml.writeStartElement("urlset");
+        xml.writeDefaultNamespace(SITEMAP_NS);
+        try {
+            publishedArticleCatalog.forEachPublished((long) (shard - 1) * URLS_PER_SHARD, URLS_PER_SHARD, article -> {
+                try {
+                    writeUrl(xml, "/blog/" + URLEncoder.encode(article.slug(), StandardCharsets.UTF_8), article.updatedAt());
+                } catch (XMLStreamException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        } catch (IllegalStateException e) {
+            if (e.getCause() instanceof XMLStreamException xmlException) {
+                throw xmlException;
+            }
+            throw e;
+        }
+        xml.writeEndElement();
+    }
+
+    private void writeSitemapEntry(XMLStreamWriter xml, String path, LocalDateTime lastModified) throws XMLStreamException {
+        xml.writeStartElement("sitemap");
+        writeElement(xml, "loc", siteProperties.getBaseUrl() + path);
+        if (lastModified != null) {
+            writeElement(xml, "lastmod", formatDate(lastModified));
+        }
+        xml.writeEndElement();
+    }
+
+    private void writeUrl(XMLStreamWriter xml, String path, LocalDateTime lastModified) throws XMLStreamException {
+        xml.writeStartElement("url");
+        writeElement(xml, "loc", siteProperties.getBaseUrl() + path);
+        if (lastModified != null) {
+            writeElement(xml, "lastmod", formatDate(lastModified));
+        }
+        xml.writeEndElement();
+    }
+
+    private static void writeElement(XMLStreamWriter xml, String name, String value) throws XMLStreamException {
+        xml.writeStartElement(name);
+        xml.writeCharacters(value);
+        xml.writeEndElement();
+    }
+
+    private static String formatDate(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).format(W3C_DATETIME);
+    }
+
+    private static int shardCount(long urls) {
+        return (int) ((urls + URLS_PER_SHARD - 1) / URLS_PER_SHARD);
+    }
+
+    private record CachedSummary(long generation, PublishedArticlesSummary summary) {
+    }
+
+    @FunctionalInterface
+    private interface XmlDocument {
+        void write(XMLStreamWriter xml) throws XMLStreamException;
+    }
+}
@@ -0,0 +1,69 @@
+package pl.klastbit.lexpage.infrastructure.web.thymeleaf;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import pl.klastbit.lexpage.application.article.event.ArticleChangedEvent;
+import pl.klastbit.lexpage.infrastructure.invalidation.InvalidatableCache;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded LRU cache of pre-rendered Thymeleaf fragment markup, keyed by {@code lx:cache-key}.
+ * Cleared after every committed article change, so fragments derived from article data
+ * never outlive the data even when a key does not include a version component.
+ */
+@Component
+@Slf4j
+public class FragmentCache implements InvalidatableCache {
+
+    private final boolean enabled;
+    private final Map<String, String> fragments;
+
+    public FragmentCache(@Value("${spring.thymeleaf.cache:true}") boolean enabled,
+                         @Value("${app.fragment-cache.max-entries:2000}") int maxEntries) {
+        this.enabled = enabled;
+        this.fragments = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    /**
+     * Fragment caching follows template caching, so fragments are re-rendered
+     * on every request when templates are hot-reloaded (dev profile).
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String get(String key) {
+        return fragments.get(key);
+    }
+
+    public void put(String key, String markup) {
+        fragments.put(key, markup);
+    }
+
+    @Override
+    public void invalidateAll() {
+        fragments.clear();
+    }
+
+    @Override
+    public void invalidate(ArticleChangedEvent event) {
+        log.debug("Article {} {}, clearing fragment cache", event.articleId(), event.changeType());
+        invalidateAll();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        invalidate(event);
+    }
+}
@@ -0,0 +1,93 @@
+package pl.klastbit.lexpage.infrastructure.web.thymeleaf;
+
+import org.thymeleaf.context.ITemplateContext;
+import org.thymeleaf.engine.AttributeName;
+import org.thymeleaf.engine.TemplateManager;
+import org.thymeleaf.engine.TemplateModel;
+import org.thymeleaf.model.IModel;
+import org.thymeleaf.model.IModelFactory;
+import org.thymeleaf.model.IProcessableElementTag;
+import org.thymeleaf.processor.element.AbstractAttributeModelProcessor;
+import org.thymeleaf.processor.element.IElementModelStructureHandler;
+import org.thymeleaf.standard.expression.IStandardExpression;
+import org.thymeleaf.standard.expression.StandardExpressions;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.util.FastStringWriter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Processor for {@code lx:cache-key="${expression}"}.
+ * <p>
+ * Runs before fragment inclusion ({@code th:replace}/{@code th:insert}), so the whole host element,
+ * including the fragment it pulls in, is rendered once and stored as markup. Subsequent renders with
+ * the same key splice the stored markup in as a single text event, skipping fragment resolution
+ * and expression evaluation entirely.
+ * <p>
+ * The key must capture everything the fragment output depends on (e.g. article id and updatedAt).
+ * The current locale is appended automatically.
+ */
+public class FragmentCacheAttributeProcessor extends AbstractAttributeModelProcessor {
+
+    public static final String ATTRIBUTE_NAME = "cache-key";
+
+    // Must be lower than th:insert/th:replace (100) to wrap the included fragment
+    private static final int PRECEDENCE = 50;
+
+    private final FragmentCache fragmentCache;
+
+    public FragmentCacheAttributeProcessor(String dialectPrefix, FragmentCache fragmentCache) {
+        super(TemplateMode.HTML, dialectPrefix, null, false, ATTRIBUTE_NAME, true, PRECEDENCE, false);
+        this.fragmentCache = fragmentCache;
+    }
+
+    @Override
+    protected void doProcess(ITemplateContext context, IModel model, AttributeName attributeName,
+                             String attributeValue, IElementModelStructureHandler structureHandler) {
+        IModelFactory modelFactory = context.getModelFactory();
+        IProcessableElementTag hostTag = (IProcessableElementTag) model.get(0);
+        model.replace(0, modelFactory.removeAttribute(hostTag, attributeName));
+
+        if (!fragmentCache.isEnabled()) {
+            return;
+        }
+
+        String key = evaluateKey(context, attributeValue) + "|" + context.getLocale();
+        String markup = fragmentCache.get(key);
+        if (markup == null) {
+            markup = render(context, model);
+            fragmentCache.put(key, markup);
+        }
+
+        model.reset();
+        model.add(modelFactory.createText(markup));
+    }
+
+    private String evaluateKey(ITemplateContext context, String attributeValue) {
+        IStandardExpression expression = StandardExpressions.getExpressionParser(context.getConfiguration())
+                .parseExpression(context, attributeValue);
+        Object key = expression.execute(context);
+        if (key == null) {
+            throw new IllegalArgumentException("lx:cache-key evaluated to null: " + attributeValue);
+        }
+        return key.toString();
+    }
+
+    private String render(ITemplateContext context, IModel model) {
+        FastStringWriter source = new FastStringWriter(512);
+        try {
+            model.write(source);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        TemplateManager templateManager = context.getConfiguration().getTemplateManager();
+        TemplateModel templateModel = templateManager.parseString(
+                context.getTemplateData(), source.toString(), 0, 0, getTemplateMode(), true);
+
+        FastStringWriter output = new FastStringWriter(2048);
+        templateManager.process(templateModel, context, output);
+        return output.toString();
+    }
+}
@@ -0,0 +1,36 @@
+package pl.klastbit.lexpage.infrastructure.web.thymeleaf;
+
+import org.springframework.stereotype.Component;
+import org.thymeleaf.dialect.AbstractProcessorDialect;
+import org.thymeleaf.processor.IProcessor;
+import org.thymeleaf.standard.StandardDialect;
+
+import java.util.Set;
+
+/**
+ * Thymeleaf dialect with application-specific attributes (prefix {@code lx}).
+ * Registered automatically with Spring Boot's template engine as an IDialect bean.
+ * <p>
+ * Attributes:
+ * <ul>
+ *   <li>{@code lx:cache-key} - renders the element (and the fragment it includes) once per key,
+ *       see {@link FragmentCacheAttributeProcessor}</li>
+ * </ul>
+ */
+@Component
+public class LexpageDialect extends AbstractProcessorDialect {
+
+    public static final String PREFIX = "lx";
+
+    private final FragmentCache fragmentCache;
+
+    public LexpageDialect(FragmentCache fragmentCache) {
+        super("Lexpage Dialect", PREFIX, StandardDialect.PROCESSOR_PRECEDENCE);
+        this.fragmentCache = fragmentCache;
+    }
+
+    @Override
+    public Set<IProcessor> getProcessors(String dialectPrefix) {
+        return Set.of(new FragmentCacheAttributeProcessor(dialectPrefix, fragmentCache));
+    }
+}
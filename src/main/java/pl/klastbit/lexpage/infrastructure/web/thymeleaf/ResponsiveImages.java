@@ -0,0 +1,118 @@
+package pl.klastbit.lexpage.infrastructure.web.thymeleaf;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
+import pl.klastbit.lexpage.application.image.GetResponsiveImageUseCase;
+import pl.klastbit.lexpage.application.image.dto.ResponsiveImageDto;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Template helper emitting responsive markup for uploaded images, available in templates
+ * as {@code @responsiveImages}.
+ * <p>
+ * Only URLs of the content-addressed image store ({@code /media/ab/cd/{sha256}...}) are
+ * recognized; any other URL is left untouched. Variants of a stored image never change, so
+ * resolved images are kept in a bounded LRU cache.
+ */
+@Component("responsiveImages")
+@Slf4j
+public class ResponsiveImages {
+
+    private static final Pattern MEDIA_URL = Pattern.compile("^/media/[0-9a-f]{2}/[0-9a-f]{2}/([0-9a-f]{64})(?:-[a-z]+)?\\.[a-z]+$");
+    private static final Pattern IMG_TAG = Pattern.compile("<img\\b([^>]*?)\\bsrc=\"(/media/[^\"]+)\"([^>]*?)/?>", Pattern.CASE_INSENSITIVE);
+
+    private final GetResponsiveImageUseCase getResponsiveImageUseCase;
+    private final Map<String, ResponsiveImageDto> images;
+
+    public ResponsiveImages(GetResponsiveImageUseCase getResponsiveImageUseCase,
+                            @Value("${app.images.responsive-cache-entries:1000}") int maxEntries) {
+        this.getResponsiveImageUseCase = getResponsiveImageUseCase;
+        this.images = Collections.synchronizedMap(new LinkedHashMap<>(128, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ResponsiveImageDto> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    /**
+     * Resolves variants for an image URL.
+     *
+     * @return responsive image data, or null for external URLs and unknown images
+     */
+    public ResponsiveImageDto forUrl(String url) {
+        if (url == null) {
+            return null;
+        }
+        Matcher matcher = MEDIA_URL.matcher(url);
+        if (!matcher.matches()) {
+            return null;
+        }
+        String contentHash = matcher.group(1);
+        ResponsiveImageDto image = images.get(contentHash);
+        if (image == null) {
+            image = getResponsiveImageUseCase.execute(contentHash).orElse(null);
+            if (image != null) {
+                images.put(contentHash, image);
+            }
+        }
+        return image;
+    }
+
+    /**
+     * Rewrites {@code <img>} tags pointing at uploaded images in article HTML: adds srcset,
+     * sizes, intrinsic dimensions and lazy loading, and wraps the image in {@code <picture>}
+     * with a WebP source when WebP variants exist.
+     */
+    public String enhance(String html, String sizes) {
+        if (html == null || !html.contains("/media/")) {
+            return html;
+        }
+        Matcher matcher = IMG_TAG.matcher(html);
+        StringBuilder result = new StringBuilder(html.length() + 512);
+        while (matcher.find()) {
+            ResponsiveImageDto image = forUrl(HtmlUtils.htmlUnescape(matcher.group(2)));
+            String replacement = image != null
+                    ? picture(image, matcher.group(1) + matcher.group(3), sizes)
+                    : matcher.group();
+            matcher.appendReplacement(result, Matcher.quoteReplacement(replacement));
+        }
+        matcher.appendTail(result);
+        return result.toString();
+    }
+
+    private static String picture(ResponsiveImageDto image, String attributes, String sizes) {
+        String otherAttributes = attributes
+                .replaceAll("(?i)\\s(?:srcset|sizes|width|height|loading|decoding)=\"[^\"]*\"", "")
+                .trim();
+        StringBuilder markup = new StringBuilder(256);
+        if (image.hasWebp()) {
+            markup.append("<picture><source type=\"image/webp\" srcset=\"")
+                    .append(HtmlUtils.htmlEscape(image.webpSrcset()))
+                    .append("\" sizes=\"").append(HtmlUtils.htmlEscape(sizes)).append("\">");
+        }
+        markup.append("<img src=\"").append(HtmlUtils.htmlEscape(image.src())).append('"');
+        if (image.srcset() != null) {
+            markup.append(" srcset=\"").append(HtmlUtils.htmlEscape(image.srcset()))
+                    .append("\" sizes=\"").append(HtmlUtils.htmlEscape(sizes)).append('"');
+        }
+        markup.append(" width=\"").append(image.width())
+                .append("\" height=\"").append(image.height())
+                .append("\" loading=\"lazy\" decoding=\"async\"");
+        if (!otherAttributes.isEmpty()) {
+            markup.append(' ').append(otherAttributes);
+        }
+        markup.append('>');
+        if (image.hasWebp()) {
+            markup.append("</picture>");
+        }
+        return markup.toString();
+    }
+}
@@ -7,7 +7,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import pl.klastbit.lexpage.application.article.dto.ArticleDetailDto;
+import pl.klastbit.lexpage.application.article.event.ArticleChangedEvent;
 import pl.klastbit.lexpage.application.user.ports.UserRepository;
 import pl.klastbit.lexpage.domain.article.Article;
 import pl.klastbit.lexpage.domain.article.ArticleRepository;
@@ -38,6 +40,9 @@ class ArchiveArticleUseCaseImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ArchiveArticleUseCaseImpl useCase;
 
@@ -69,7 +74,6 @@ class ArchiveArticleUseCaseImplTest {
 
         when(articleRepository.findByIdAndDeletedAtIsNull(articleId))
                 .thenReturn(Optional.of(article));
-        when(articleRepository.save(any(Article.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // when
         ArticleDetailDto result = useCase.execute(articleId);
@@ -79,7 +83,8 @@ class ArchiveArticleUseCaseImplTest {
         assertThat(result.publishedAt()).isNotNull(); // Should remain
 
         verify(articleRepository).findByIdAndDeletedAtIsNull(articleId);
-        verify(articleRepository).save(article);
+        verify(articleRepository).transitionStatus(article, ArticleStatus.PUBLISHED);
+        verify(eventPublisher).publishEvent(any(ArticleChangedEvent.class));
     }
 
     @Test
@@ -104,6 +109,6 @@ class ArchiveArticleUseCaseImplTest {
                 .hasMessageContaining("Cannot archive article that is not in PUBLISHED status");
 
         verify(articleRepository).findByIdAndDeletedAtIsNull(articleId);
-        verify(articleRepository, never()).save(any(Article.class));
+        verify(articleRepository, never()).transitionStatus(any(Article.class), any(ArticleStatus.class));
     }
 }
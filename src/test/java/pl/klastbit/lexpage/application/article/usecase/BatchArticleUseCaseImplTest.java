@@ -0,0 +1,117 @@
+package pl.klastbit.lexpage.application.article.usecase;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import pl.klastbit.lexpage.application.article.command.BatchArticleCommand;
+import pl.klastbit.lexpage.application.article.dto.BatchArticleResultDto;
+import pl.klastbit.lexpage.application.article.event.ArticleChangedEvent;
+import pl.klastbit.lexpage.domain.article.Article;
+import pl.klastbit.lexpage.domain.article.ArticleRepository;
+import pl.klastbit.lexpage.domain.article.ArticleStatus;
+import pl.klastbit.lexpage.domain.user.UserId;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for BatchArticleUseCaseImpl.
+ * Tests per-article results and the single set-based write.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BatchArticleUseCaseImpl Tests")
+class BatchArticleUseCaseImplTest {
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private BatchArticleUseCaseImpl useCase;
+
+    @Test
+    @DisplayName("should publish allowed articles with one write and report the rest as failed")
+    void shouldPublishAllowedArticlesAndReportFailures() {
+        // given
+        Article draft = article(1L, ArticleStatus.DRAFT);
+        Article published = article(2L, ArticleStatus.PUBLISHED);
+        when(articleRepository.findAllByIdInForUpdate(List.of(1L, 2L, 3L))).thenReturn(List.of(published, draft));
+
+        // when
+        List<BatchArticleResultDto> results = useCase.execute(
+                new BatchArticleCommand(BatchArticleCommand.Action.PUBLISH, List.of(1L, 2L, 3L, 1L)));
+
+        // then
+        assertThat(results).extracting(BatchArticleResultDto::articleId).containsExactly(1L, 2L, 3L);
+        assertThat(results).extracting(BatchArticleResultDto::success).containsExactly(true, false, false);
+        assertThat(results.get(0).status()).isEqualTo(ArticleStatus.PUBLISHED);
+        assertThat(results.get(1).error()).contains("already published");
+        assertThat(results.get(2).status()).isNull();
+
+        assertThat(draft.getPublishedAt()).isNotNull();
+        verify(articleRepository).publishAll(List.of(1L), draft.getPublishedAt());
+        ArgumentCaptor<ArticleChangedEvent> event = ArgumentCaptor.forClass(ArticleChangedEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(event.capture());
+        assertThat(event.getValue().articleId()).isEqualTo(1L);
+        assertThat(event.getValue().changeType()).isEqualTo(ArticleChangedEvent.ChangeType.PUBLISHED);
+    }
+
+    @Test
+    @DisplayName("should soft delete all found articles with one write")
+    void shouldDeleteFoundArticles() {
+        // given
+        when(articleRepository.findAllByIdInForUpdate(List.of(1L, 2L)))
+                .thenReturn(List.of(article(1L, ArticleStatus.DRAFT), article(2L, ArticleStatus.ARCHIVED)));
+
+        // when
+        List<BatchArticleResultDto> results = useCase.execute(
+                new BatchArticleCommand(BatchArticleCommand.Action.DELETE, List.of(1L, 2L)));
+
+        // then
+        assertThat(results).allMatch(BatchArticleResultDto::success);
+        verify(articleRepository).softDeleteAll(List.of(1L, 2L));
+        verify(eventPublisher, times(2)).publishEvent(any(ArticleChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("should not write when no article allows the action")
+    void shouldNotWriteWhenNothingChanges() {
+        // given
+        when(articleRepository.findAllByIdInForUpdate(List.of(1L)))
+                .thenReturn(List.of(article(1L, ArticleStatus.DRAFT)));
+
+        // when
+        List<BatchArticleResultDto> results = useCase.execute(
+                new BatchArticleCommand(BatchArticleCommand.Action.ARCHIVE, List.of(1L)));
+
+        // then
+        assertThat(results).noneMatch(BatchArticleResultDto::success);
+        verify(articleRepository, never()).archiveAll(anyCollection());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    private static Article article(Long id, ArticleStatus status) {
+        return Article.ofExisting(
+                id, "Title " + id, "slug-" + id, "Test content", null,
+                status, UserId.createNew(), status == ArticleStatus.DRAFT ? null : LocalDateTime.now(), null,
+                null, null, null, null, List.of(),
+                null, null, LocalDateTime.now(), LocalDateTime.now(), null
+        );
+    }
+}
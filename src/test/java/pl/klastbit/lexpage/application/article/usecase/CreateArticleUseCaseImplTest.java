@@ -7,8 +7,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import pl.klastbit.lexpage.application.article.command.CreateArticleCommand;
 import pl.klastbit.lexpage.application.article.dto.ArticleDetailDto;
+import pl.klastbit.lexpage.application.article.event.ArticleChangedEvent;
 import pl.klastbit.lexpage.application.user.ports.UserRepository;
 import pl.klastbit.lexpage.domain.article.Article;
 import pl.klastbit.lexpage.domain.article.ArticleRepository;
@@ -40,6 +42,9 @@ class CreateArticleUseCaseImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CreateArticleUseCaseImpl useCase;
 
@@ -85,6 +90,7 @@ class CreateArticleUseCaseImplTest {
                     article.getStatus(),
                     article.getAuthorId(),
                     article.getPublishedAt(),
+                    article.getScheduledPublishAt(),
                     article.getMetaTitle(),
                     article.getMetaDescription(),
                     article.getOgImageUrl(),
@@ -112,6 +118,9 @@ class CreateArticleUseCaseImplTest {
 
         verify(articleRepository).existsBySlugAndDeletedAtIsNull("test-article-title");
         verify(articleRepository).save(any(Article.class));
+        verify(articleRepository).save(argThat(article ->
+                "test articl titl test content for the articl".equals(article.getSearchLexemes())));
+        verify(eventPublisher).publishEvent(any(ArticleChangedEvent.class));
     }
 
     @Test
@@ -134,7 +143,7 @@ class CreateArticleUseCaseImplTest {
             return Article.ofExisting(
                     1L, article.getTitle(), article.getSlug(), article.getContent(),
                     article.getExcerpt(), article.getStatus(), article.getAuthorId(),
-                    article.getPublishedAt(), article.getMetaTitle(), article.getMetaDescription(),
+                    article.getPublishedAt(), article.getScheduledPublishAt(), article.getMetaTitle(), article.getMetaDescription(),
                     article.getOgImageUrl(), article.getCanonicalUrl(), article.getKeywords(),
                     article.getCreatedBy(), article.getUpdatedBy(),
                     article.getCreatedAt(), article.getUpdatedAt(), article.getDeletedAt()
@@ -172,7 +181,7 @@ class CreateArticleUseCaseImplTest {
             return Article.ofExisting(
                     1L, article.getTitle(), article.getSlug(), article.getContent(),
                     article.getExcerpt(), article.getStatus(), article.getAuthorId(),
-                    article.getPublishedAt(), article.getMetaTitle(), article.getMetaDescription(),
+                    article.getPublishedAt(), article.getScheduledPublishAt(), article.getMetaTitle(), article.getMetaDescription(),
                     article.getOgImageUrl(), article.getCanonicalUrl(), article.getKeywords(),
                     article.getCreatedBy(), article.getUpdatedBy(),
                     article.getCreatedAt(), article.getUpdatedAt(), article.getDeletedAt()
@@ -206,7 +215,7 @@ class CreateArticleUseCaseImplTest {
             return Article.ofExisting(
                     1L, article.getTitle(), article.getSlug(), article.getContent(),
                     article.getExcerpt(), article.getStatus(), article.getAuthorId(),
-                    article.getPublishedAt(), article.getMetaTitle(), article.getMetaDescription(),
+                    article.getPublishedAt(), article.getScheduledPublishAt(), article.getMetaTitle(), article.getMetaDescription(),
                     article.getOgImageUrl(), article.getCanonicalUrl(), article.getKeywords(),
                     article.getCreatedBy(), article.getUpdatedBy(),
                     article.getCreatedAt(), article.getUpdatedAt(), article.getDeletedAt()
@@ -7,6 +7,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import pl.klastbit.lexpage.application.article.event.ArticleChangedEvent;
 import pl.klastbit.lexpage.domain.article.Article;
 import pl.klastbit.lexpage.domain.article.ArticleRepository;
 import pl.klastbit.lexpage.domain.article.exception.ArticleNotFoundException;
@@ -30,6 +32,9 @@ class DeleteArticleUseCaseImplTest {
     @Mock
     private ArticleRepository articleRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private DeleteArticleUseCaseImpl useCase;
 
@@ -55,7 +60,6 @@ class DeleteArticleUseCaseImplTest {
 
         when(articleRepository.findByIdAndDeletedAtIsNull(articleId))
                 .thenReturn(Optional.of(article));
-        when(articleRepository.save(any(Article.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // when
         useCase.execute(articleId);
@@ -65,7 +69,9 @@ class DeleteArticleUseCaseImplTest {
         assertThat(article.getDeletedAt()).isNotNull();
 
         verify(articleRepository).findByIdAndDeletedAtIsNull(articleId);
-        verify(articleRepository).save(article);
+        verify(articleRepository).delete(article);
+        verify(articleRepository, never()).update(any(Article.class));
+        verify(eventPublisher).publishEvent(any(ArticleChangedEvent.class));
     }
 
     @Test
@@ -83,6 +89,6 @@ class DeleteArticleUseCaseImplTest {
                 .hasMessageContaining("999");
 
         verify(articleRepository).findByIdAndDeletedAtIsNull(articleId);
-        verify(articleRepository, never()).save(any(Article.class));
+        verify(articleRepository, never()).delete(any(Article.class));
     }
 }
@@ -0,0 +1,120 @@
+package pl.klastbit.lexpage.application.article.usecase;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import pl.klastbit.lexpage.application.article.dto.ArticleFacetsDto;
+import pl.klastbit.lexpage.application.article.dto.ArticleFacetsDto.FacetValue;
+import pl.klastbit.lexpage.application.user.ports.UserRepository;
+import pl.klastbit.lexpage.domain.article.ArticleFacets;
+import pl.klastbit.lexpage.domain.article.ArticleRepository;
+import pl.klastbit.lexpage.domain.article.ArticleSearchCriteria;
+import pl.klastbit.lexpage.domain.article.ArticleStatus;
+import pl.klastbit.lexpage.domain.user.Email;
+import pl.klastbit.lexpage.domain.user.User;
+import pl.klastbit.lexpage.domain.user.UserId;
+
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for GetArticleFacetsUseCaseImpl.
+ * Tests mapping of repository facet counts to DTO values with author labels.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetArticleFacetsUseCaseImpl Tests")
+class GetArticleFacetsUseCaseImplTest {
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private GetArticleFacetsUseCaseImpl useCase;
+
+    @Test
+    @DisplayName("should map facet counts in repository order and label authors with usernames")
+    void shouldMapFacetCounts() {
+        // given
+        UserId knownAuthor = UserId.createNew();
+        UserId removedAuthor = UserId.createNew();
+        ArticleSearchCriteria criteria = ArticleSearchCriteria.of(null, null, "najem");
+
+        Map<UserId, Long> authors = new LinkedHashMap<>();
+        authors.put(knownAuthor, 3L);
+        authors.put(removedAuthor, 1L);
+        Map<YearMonth, Long> months = new LinkedHashMap<>();
+        months.put(YearMonth.of(2025, 2), 1L);
+        months.put(YearMonth.of(2025, 1), 3L);
+
+        when(articleRepository.facets(criteria)).thenReturn(new ArticleFacets(
+                4,
+                Map.of(ArticleStatus.PUBLISHED, 4L),
+                authors,
+                Map.of("prawo", 2L),
+                months
+        ));
+        when(userRepository.findById(knownAuthor)).thenReturn(Optional.of(
+                User.ofExisting(knownAuthor, "jkowalski", Email.of("jk@example.com"), "encoded_password", true)));
+        when(userRepository.findById(removedAuthor)).thenReturn(Optional.empty());
+
+        // when
+        ArticleFacetsDto result = useCase.execute(criteria);
+
+        // then
+        assertThat(result.total()).isEqualTo(4);
+        assertThat(result.statuses()).containsExactly(new FacetValue("PUBLISHED", "PUBLISHED", 4));
+        assertThat(result.authors()).containsExactly(
+                new FacetValue(knownAuthor.userid().toString(), "jkowalski", 3),
+                new FacetValue(removedAuthor.userid().toString(), "Unknown User", 1)
+        );
+        assertThat(result.keywords()).containsExactly(new FacetValue("prawo", "prawo", 2));
+        assertThat(result.months()).extracting(FacetValue::value).containsExactly("2025-02", "2025-01");
+        verify(articleRepository).facets(criteria);
+    }
+
+    @Test
+    @DisplayName("should count typo-tolerant matches when full-text search finds too few, like the listing")
+    void shouldFallBackToSimilarFacets() {
+        // given
+        ArticleSearchCriteria criteria = ArticleSearchCriteria.of(null, null, "alimeny");
+        when(articleRepository.facets(criteria)).thenReturn(new ArticleFacets(0, Map.of(), Map.of(), Map.of(), Map.of()));
+        when(articleRepository.facetsSimilar(criteria)).thenReturn(new ArticleFacets(
+                2, Map.of(ArticleStatus.PUBLISHED, 2L), Map.of(), Map.of("alimenty", 2L), Map.of()));
+
+        // when
+        ArticleFacetsDto result = useCase.execute(criteria);
+
+        // then
+        assertThat(result.total()).isEqualTo(2);
+        assertThat(result.keywords()).containsExactly(new FacetValue("alimenty", "alimenty", 2));
+    }
+
+    @Test
+    @DisplayName("should not fall back without a keyword")
+    void shouldNotFallBackWithoutKeyword() {
+        // given
+        ArticleSearchCriteria criteria = ArticleSearchCriteria.of(ArticleStatus.DRAFT, null, null);
+        when(articleRepository.facets(criteria)).thenReturn(new ArticleFacets(0, Map.of(), Map.of(), Map.of(), Map.of()));
+
+        // when
+        ArticleFacetsDto result = useCase.execute(criteria);
+
+        // then
+        assertThat(result.total()).isZero();
+        verify(articleRepository, never()).facetsSimilar(any());
+    }
+}
@@ -0,0 +1,110 @@
+package pl.klastbit.lexpage.application.article.usecase;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import pl.klastbit.lexpage.application.article.dto.ArticleDetailDto;
+import pl.klastbit.lexpage.application.user.ports.UserRepository;
+import pl.klastbit.lexpage.domain.article.Article;
+import pl.klastbit.lexpage.domain.article.ArticleRepository;
+import pl.klastbit.lexpage.domain.article.ArticleStatus;
+import pl.klastbit.lexpage.domain.user.Email;
+import pl.klastbit.lexpage.domain.user.User;
+import pl.klastbit.lexpage.domain.user.UserId;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for GetLatestPublishedArticlesUseCaseImpl.
+ * Tests retrieval of newest published articles for feeds.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetLatestPublishedArticlesUseCaseImpl Tests")
+class GetLatestPublishedArticlesUseCaseImplTest {
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private GetLatestPublishedArticlesUseCaseImpl useCase;
+
+    private UserId testUserId;
+
+    @BeforeEach
+    void setUp() {
+        testUserId = UserId.createNew();
+        User testUser = User.ofExisting(testUserId, "testuser", Email.of("test@example.com"), "encoded_password", true);
+        lenient().when(userRepository.findById(any(UserId.class))).thenReturn(Optional.of(testUser));
+    }
+
+    @Test
+    @DisplayName("should return newest published articles sorted by publishedAt")
+    void shouldReturnNewestPublishedArticles() {
+        // given
+        Article first = publishedArticle("First", "first");
+        Article second = publishedArticle("Second", "second");
+        when(articleRepository.findAllByStatusAndDeletedAtIsNull(eq(ArticleStatus.PUBLISHED), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(first, second)));
+
+        // when
+        List<ArticleDetailDto> result = useCase.execute(20);
+
+        // then
+        assertThat(result).extracting(ArticleDetailDto::slug).containsExactly("first", "second");
+        assertThat(result).allSatisfy(article -> assertThat(article.authorName()).isEqualTo("testuser"));
+
+        ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+        verify(articleRepository).findAllByStatusAndDeletedAtIsNull(eq(ArticleStatus.PUBLISHED), pageableCaptor.capture());
+        assertThat(pageableCaptor.getValue().getPageSize()).isEqualTo(20);
+        assertThat(pageableCaptor.getValue().getSort().getOrderFor("publishedAt").getDirection())
+                .isEqualTo(Sort.Direction.DESC);
+    }
+
+    @Test
+    @DisplayName("should resolve each user name only once")
+    void shouldResolveEachUserNameOnce() {
+        // given
+        when(articleRepository.findAllByStatusAndDeletedAtIsNull(eq(ArticleStatus.PUBLISHED), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(publishedArticle("First", "first"), publishedArticle("Second", "second"))));
+
+        // when
+        useCase.execute(10);
+
+        // then
+        verify(userRepository, times(1)).findById(testUserId);
+    }
+
+    @Test
+    @DisplayName("should reject non-positive limit")
+    void shouldRejectNonPositiveLimit() {
+        assertThatThrownBy(() -> useCase.execute(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Article publishedArticle(String title, String slug) {
+        Article article = Article.createDraft(title, slug, "<p>Content</p>", null, null, null, null, null, null, testUserId);
+        article.publish();
+        return article;
+    }
+}
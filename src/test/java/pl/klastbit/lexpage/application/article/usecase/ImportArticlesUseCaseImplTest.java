@@ -0,0 +1,102 @@
+package pl.klastbit.lexpage.application.article.usecase;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import pl.klastbit.lexpage.application.article.dto.ArticleImportResultDto;
+import pl.klastbit.lexpage.application.article.dto.ArticleImportRow;
+import pl.klastbit.lexpage.application.article.dto.ArticleTransferRecord;
+import pl.klastbit.lexpage.application.article.event.ArticlesImportedEvent;
+import pl.klastbit.lexpage.application.ports.ArticleTransferStore;
+import pl.klastbit.lexpage.domain.user.UserId;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for ImportArticlesUseCaseImpl.
+ * Tests record validation and completion before the records reach the store.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ImportArticlesUseCaseImpl Tests")
+class ImportArticlesUseCaseImplTest {
+
+    private static final UUID USER_ID = UUID.randomUUID();
+
+    @Mock
+    private ArticleTransferStore articleTransferStore;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private ImportArticlesUseCaseImpl useCase;
+
+    @Test
+    @DisplayName("should skip invalid records, complete the rest and publish one import event")
+    void shouldSkipInvalidRecordsAndCompleteValidOnes() {
+        // given
+        List<ArticleImportRow> rows = new ArrayList<>();
+        when(articleTransferStore.importAll(any(), eq(UserId.of(USER_ID)))).thenAnswer(invocation -> {
+            Iterator<ArticleImportRow> imported = invocation.getArgument(0);
+            imported.forEachRemaining(rows::add);
+            return new ArticleImportResultDto(rows.size(), rows.size(), 0, 1);
+        });
+
+        // when
+        ArticleImportResultDto result = useCase.execute(List.of(
+                record("Prawo pracy w 2025", null, "PUBLISHED"),
+                record("  ", null, null),
+                record("Umowa najmu", "umowa-najmu", null),
+                record("Spadki", "Niepoprawny Slug!", "ARCHIVED"),
+                record("Rozwód", null, "DELETED")
+        ).iterator(), USER_ID);
+
+        // then
+        List<ArticleTransferRecord> stored = rows.stream().map(ArticleImportRow::article).toList();
+        assertThat(result).isEqualTo(new ArticleImportResultDto(5, 3, 2, 1));
+        assertThat(stored).extracting(ArticleTransferRecord::slug)
+                .containsExactly("prawo-pracy-w-2025", "umowa-najmu", "spadki");
+        assertThat(stored).extracting(ArticleTransferRecord::status)
+                .containsExactly("PUBLISHED", "DRAFT", "ARCHIVED");
+        assertThat(stored.get(0).publishedAt()).isNotNull();
+        assertThat(stored.get(1).publishedAt()).isNull();
+        assertThat(rows).extracting(ArticleImportRow::searchLexemes)
+                .containsExactly("praw prac w 2025 tres", "umow najm tres", "spadk tres");
+        verify(eventPublisher).publishEvent(new ArticlesImportedEvent(3, 1));
+    }
+
+    @Test
+    @DisplayName("should not publish an event when nothing was imported")
+    void shouldNotPublishEventWhenNothingImported() {
+        // given
+        when(articleTransferStore.importAll(any(), any())).thenReturn(new ArticleImportResultDto(0, 0, 0, 0));
+
+        // when
+        ArticleImportResultDto result = useCase.execute(List.<ArticleTransferRecord>of().iterator(), USER_ID);
+
+        // then
+        assertThat(result.imported()).isZero();
+        verifyNoInteractions(eventPublisher);
+    }
+
+    private static ArticleTransferRecord record(String title, String slug, String status) {
+        return new ArticleTransferRecord(
+                title, slug, "<p>Treść</p>", null, status, null,
+                null, null, null, null, List.of("prawo"), null, null
+        );
+    }
+}
@@ -4,6 +4,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -16,6 +17,7 @@ import pl.klastbit.lexpage.application.article.dto.PageDto;
 import pl.klastbit.lexpage.application.user.ports.UserRepository;
 import pl.klastbit.lexpage.domain.article.Article;
 import pl.klastbit.lexpage.domain.article.ArticleRepository;
+import pl.klastbit.lexpage.domain.article.ArticleSearchCriteria;
 import pl.klastbit.lexpage.domain.article.ArticleStatus;
 import pl.klastbit.lexpage.domain.user.Email;
 import pl.klastbit.lexpage.domain.user.User;
@@ -32,6 +34,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 
 /**
  * Unit tests for ListArticlesUseCaseImpl.
@@ -71,7 +74,7 @@ class ListArticlesUseCaseImplTest {
         List<Article> articles = Arrays.asList(article1, article2);
         Page<Article> page = new PageImpl<>(articles, PageRequest.of(0, 10), 2);
 
-        when(articleRepository.findAllByDeletedAtIsNull(any(Pageable.class)))
+        when(articleRepository.search(eq(ArticleSearchCriteria.of(null, null, null)), any(Pageable.class)))
                 .thenReturn(page);
 
         // when
@@ -86,7 +89,7 @@ class ListArticlesUseCaseImplTest {
         assertThat(result.page().size()).isEqualTo(10);
         assertThat(result.page().totalElements()).isEqualTo(2);
 
-        verify(articleRepository).findAllByDeletedAtIsNull(any(Pageable.class));
+        verify(articleRepository).search(eq(ArticleSearchCriteria.of(null, null, null)), any(Pageable.class));
     }
 
     @Test
@@ -97,8 +100,8 @@ class ListArticlesUseCaseImplTest {
         List<Article> articles = Collections.singletonList(article);
         Page<Article> page = new PageImpl<>(articles, PageRequest.of(0, 10), 1);
 
-        when(articleRepository.findAllByStatusAndDeletedAtIsNull(
-                eq(ArticleStatus.PUBLISHED), any(Pageable.class)
+        when(articleRepository.search(
+                eq(ArticleSearchCriteria.of(ArticleStatus.PUBLISHED, null, null)), any(Pageable.class)
         )).thenReturn(page);
 
         // when
@@ -108,8 +111,8 @@ class ListArticlesUseCaseImplTest {
 
         // then
         assertThat(result.content()).hasSize(1);
-        verify(articleRepository).findAllByStatusAndDeletedAtIsNull(
-                eq(ArticleStatus.PUBLISHED), any(Pageable.class)
+        verify(articleRepository).search(
+                eq(ArticleSearchCriteria.of(ArticleStatus.PUBLISHED, null, null)), any(Pageable.class)
         );
     }
 
@@ -122,8 +125,8 @@ class ListArticlesUseCaseImplTest {
         List<Article> articles = Collections.singletonList(article);
         Page<Article> page = new PageImpl<>(articles, PageRequest.of(0, 10), 1);
 
-        when(articleRepository.findAllByAuthorIdAndDeletedAtIsNull(
-                eq(authorId), any(Pageable.class)
+        when(articleRepository.search(
+                eq(ArticleSearchCriteria.of(null, authorId, null)), any(Pageable.class)
         )).thenReturn(page);
 
         // when
@@ -133,8 +136,8 @@ class ListArticlesUseCaseImplTest {
 
         // then
         assertThat(result.content()).hasSize(1);
-        verify(articleRepository).findAllByAuthorIdAndDeletedAtIsNull(
-                eq(authorId), any(Pageable.class)
+        verify(articleRepository).search(
+                eq(ArticleSearchCriteria.of(null, authorId, null)), any(Pageable.class)
         );
     }
 
@@ -147,8 +150,8 @@ class ListArticlesUseCaseImplTest {
         List<Article> articles = Collections.singletonList(article);
         Page<Article> page = new PageImpl<>(articles, PageRequest.of(0, 10), 1);
 
-        when(articleRepository.findAllByStatusAndAuthorIdAndDeletedAtIsNull(
-                eq(ArticleStatus.PUBLISHED), eq(authorId), any(Pageable.class)
+        when(articleRepository.search(
+                eq(ArticleSearchCriteria.of(ArticleStatus.PUBLISHED, authorId, null)), any(Pageable.class)
         )).thenReturn(page);
 
         // when
@@ -158,8 +161,8 @@ class ListArticlesUseCaseImplTest {
 
         // then
         assertThat(result.content()).hasSize(1);
-        verify(articleRepository).findAllByStatusAndAuthorIdAndDeletedAtIsNull(
-                eq(ArticleStatus.PUBLISHED), eq(authorId), any(Pageable.class)
+        verify(articleRepository).search(
+                eq(ArticleSearchCriteria.of(ArticleStatus.PUBLISHED, authorId, null)), any(Pageable.class)
         );
     }
 
@@ -172,8 +175,12 @@ class ListArticlesUseCaseImplTest {
         List<Article> articles = Collections.singletonList(article);
         Page<Article> page = new PageImpl<>(articles, PageRequest.of(0, 10), 1);
 
-        when(articleRepository.searchByKeywordAndDeletedAtIsNull(
-                eq(keyword), any(Pageable.class)
+        when(articleRepository.search(
+                eq(ArticleSearchCriteria.of(null, null, keyword)), any(Pageable.class)
+        )).thenReturn(page);
+        // A single full-text hit is below the threshold, so the similarity search runs as well
+        when(articleRepository.searchSimilar(
+                eq(ArticleSearchCriteria.of(null, null, keyword)), any(Pageable.class)
         )).thenReturn(page);
 
         // when
@@ -183,18 +190,79 @@ class ListArticlesUseCaseImplTest {
 
         // then
         assertThat(result.content()).hasSize(1);
-        verify(articleRepository).searchByKeywordAndDeletedAtIsNull(
-                eq(keyword), any(Pageable.class)
+        verify(articleRepository).search(
+                eq(ArticleSearchCriteria.of(null, null, keyword)), any(Pageable.class)
         );
     }
 
+    @Test
+    @DisplayName("should pass keyword together with status and author filters")
+    void shouldCombineKeywordWithStatusAndAuthor() {
+        // given
+        UserId authorId = UserId.createNew();
+        Page<Article> page = new PageImpl<>(List.of(createTestArticle("Umowa", "umowa")), PageRequest.of(0, 10), 1);
+        when(articleRepository.search(any(ArticleSearchCriteria.class), any(Pageable.class))).thenReturn(page);
+        when(articleRepository.searchSimilar(any(ArticleSearchCriteria.class), any(Pageable.class))).thenReturn(page);
+
+        // when
+        useCase.execute(ArticleStatus.DRAFT, authorId, "umowa", PageRequest.of(0, 10));
+
+        // then
+        ArgumentCaptor<ArticleSearchCriteria> criteria = ArgumentCaptor.forClass(ArticleSearchCriteria.class);
+        verify(articleRepository).search(criteria.capture(), any(Pageable.class));
+        assertThat(criteria.getValue().status()).isEqualTo(ArticleStatus.DRAFT);
+        assertThat(criteria.getValue().authorId()).isEqualTo(authorId);
+        assertThat(criteria.getValue().keyword()).isEqualTo("umowa");
+    }
+
+    @Test
+    @DisplayName("should fall back to similarity search when full-text search finds almost nothing")
+    void shouldFallBackToSimilaritySearchForMisspelledKeyword() {
+        // given
+        ArticleSearchCriteria criteria = ArticleSearchCriteria.of(null, null, "alimeny");
+        Page<Article> noHits = new PageImpl<>(Collections.emptyList(), PageRequest.of(0, 10), 0);
+        Page<Article> similar = new PageImpl<>(
+                List.of(createTestArticle("Alimenty na dziecko", "alimenty-na-dziecko")), PageRequest.of(0, 10), 1);
+
+        when(articleRepository.search(eq(criteria), any(Pageable.class))).thenReturn(noHits);
+        when(articleRepository.searchSimilar(eq(criteria), any(Pageable.class))).thenReturn(similar);
+
+        // when
+        PageDto<ArticleListItemDto> result = useCase.search(criteria, PageRequest.of(0, 10));
+
+        // then
+        assertThat(result.content()).extracting(ArticleListItemDto::title).containsExactly("Alimenty na dziecko");
+        assertThat(result.page().totalElements()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should not run similarity search when full-text search finds enough articles")
+    void shouldNotFallBackWhenFullTextFindsEnough() {
+        // given
+        ArticleSearchCriteria criteria = ArticleSearchCriteria.of(null, null, "umowa");
+        Page<Article> page = new PageImpl<>(List.of(
+                createTestArticle("Umowa najmu", "umowa-najmu"),
+                createTestArticle("Umowa o dzieło", "umowa-o-dzielo"),
+                createTestArticle("Umowa zlecenia", "umowa-zlecenia")
+        ), PageRequest.of(0, 10), 3);
+
+        when(articleRepository.search(eq(criteria), any(Pageable.class))).thenReturn(page);
+
+        // when
+        PageDto<ArticleListItemDto> result = useCase.search(criteria, PageRequest.of(0, 10));
+
+        // then
+        assertThat(result.content()).hasSize(3);
+        verify(articleRepository, never()).searchSimilar(any(ArticleSearchCriteria.class), any(Pageable.class));
+    }
+
     @Test
     @DisplayName("should return empty list when no articles found")
     void shouldReturnEmptyListWhenNoArticlesFound() {
         // given
         Page<Article> emptyPage = new PageImpl<>(Collections.emptyList(), PageRequest.of(0, 10), 0);
 
-        when(articleRepository.findAllByDeletedAtIsNull(any(Pageable.class)))
+        when(articleRepository.search(eq(ArticleSearchCriteria.of(null, null, null)), any(Pageable.class)))
                 .thenReturn(emptyPage);
 
         // when
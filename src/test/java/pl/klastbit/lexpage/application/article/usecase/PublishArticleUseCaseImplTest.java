@@ -7,12 +7,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import pl.klastbit.lexpage.application.article.dto.ArticleDetailDto;
+import pl.klastbit.lexpage.application.article.event.ArticleChangedEvent;
 import pl.klastbit.lexpage.application.user.ports.UserRepository;
 import pl.klastbit.lexpage.domain.article.Article;
 import pl.klastbit.lexpage.domain.article.ArticleRepository;
 import pl.klastbit.lexpage.domain.article.ArticleStatus;
 import pl.klastbit.lexpage.domain.article.exception.ArticleNotFoundException;
+import pl.klastbit.lexpage.domain.article.exception.InvalidArticleStatusTransitionException;
 import pl.klastbit.lexpage.domain.user.Email;
 import pl.klastbit.lexpage.domain.user.User;
 import pl.klastbit.lexpage.domain.user.UserId;
@@ -39,6 +42,9 @@ class PublishArticleUseCaseImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private PublishArticleUseCaseImpl useCase;
 
@@ -69,7 +75,6 @@ class PublishArticleUseCaseImplTest {
 
         when(articleRepository.findByIdAndDeletedAtIsNull(articleId))
                 .thenReturn(Optional.of(article));
-        when(articleRepository.save(any(Article.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // when
         ArticleDetailDto result = useCase.execute(articleId);
@@ -79,7 +84,33 @@ class PublishArticleUseCaseImplTest {
         assertThat(result.publishedAt()).isNotNull();
 
         verify(articleRepository).findByIdAndDeletedAtIsNull(articleId);
-        verify(articleRepository).save(article);
+        verify(articleRepository).transitionStatus(article, ArticleStatus.DRAFT);
+        verify(eventPublisher).publishEvent(any(ArticleChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("should reject publication when article status changed concurrently")
+    void shouldRejectPublicationWhenStatusChangedConcurrently() {
+        // given
+        Long articleId = 1L;
+        Article article = Article.createDraft(
+                "Test Title",
+                "test-slug",
+                "Test content",
+                null, null, null, null, null, null,
+                testUserId
+        );
+
+        when(articleRepository.findByIdAndDeletedAtIsNull(articleId))
+                .thenReturn(Optional.of(article));
+        doThrow(new InvalidArticleStatusTransitionException("Article 1 is no longer DRAFT"))
+                .when(articleRepository).transitionStatus(article, ArticleStatus.DRAFT);
+
+        // when/then
+        assertThatThrownBy(() -> useCase.execute(articleId))
+                .isInstanceOf(InvalidArticleStatusTransitionException.class);
+
+        verify(eventPublisher, never()).publishEvent(any(ArticleChangedEvent.class));
     }
 
     @Test
@@ -105,7 +136,7 @@ class PublishArticleUseCaseImplTest {
                 .hasMessageContaining("already published");
 
         verify(articleRepository).findByIdAndDeletedAtIsNull(articleId);
-        verify(articleRepository, never()).save(any(Article.class));
+        verify(articleRepository, never()).transitionStatus(any(Article.class), any(ArticleStatus.class));
     }
 
     @Test
@@ -0,0 +1,129 @@
+package pl.klastbit.lexpage.application.article.usecase;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import pl.klastbit.lexpage.application.article.event.ArticleChangedEvent;
+import pl.klastbit.lexpage.domain.article.Article;
+import pl.klastbit.lexpage.domain.article.ArticleRepository;
+import pl.klastbit.lexpage.domain.article.ArticleStatus;
+import pl.klastbit.lexpage.domain.user.UserId;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for PublishScheduledArticlesUseCaseImpl.
+ * Tests batch publication of due articles and skipping of stale schedules.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PublishScheduledArticlesUseCaseImpl Tests")
+class PublishScheduledArticlesUseCaseImplTest {
+
+    private static final LocalDateTime PUBLISH_AT = LocalDateTime.of(2030, 1, 1, 9, 0);
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private PublishScheduledArticlesUseCaseImpl useCase;
+
+    @Test
+    @DisplayName("should publish all due articles and emit one event per article")
+    void shouldPublishDueArticles() {
+        // given
+        Article first = scheduledArticle(1L, "Title", PUBLISH_AT);
+        Article second = scheduledArticle(2L, "Title", PUBLISH_AT);
+        when(articleRepository.findByIdAndDeletedAtIsNull(1L)).thenReturn(Optional.of(first));
+        when(articleRepository.findByIdAndDeletedAtIsNull(2L)).thenReturn(Optional.of(second));
+
+        // when
+        List<Long> published = useCase.execute(List.of(1L, 2L), PUBLISH_AT);
+
+        // then
+        assertThat(published).containsExactly(1L, 2L);
+        assertThat(first.getStatus()).isEqualTo(ArticleStatus.PUBLISHED);
+        assertThat(second.getScheduledPublishAt()).isNull();
+
+        ArgumentCaptor<ArticleChangedEvent> events = ArgumentCaptor.forClass(ArticleChangedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        assertThat(events.getAllValues())
+                .extracting(ArticleChangedEvent::changeType)
+                .containsOnly(ArticleChangedEvent.ChangeType.PUBLISHED);
+    }
+
+    @Test
+    @DisplayName("should skip articles rescheduled to a later time")
+    void shouldSkipRescheduledArticle() {
+        // given
+        Article article = scheduledArticle(1L, "Title", PUBLISH_AT.plusHours(1));
+        when(articleRepository.findByIdAndDeletedAtIsNull(1L)).thenReturn(Optional.of(article));
+
+        // when
+        List<Long> published = useCase.execute(List.of(1L), PUBLISH_AT);
+
+        // then
+        assertThat(published).isEmpty();
+        assertThat(article.getStatus()).isEqualTo(ArticleStatus.DRAFT);
+        verify(articleRepository, never()).update(any(Article.class));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("should skip deleted articles")
+    void shouldSkipDeletedArticle() {
+        // given
+        when(articleRepository.findByIdAndDeletedAtIsNull(1L)).thenReturn(Optional.empty());
+
+        // when
+        List<Long> published = useCase.execute(List.of(1L), PUBLISH_AT);
+
+        // then
+        assertThat(published).isEmpty();
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("should cancel schedule of article that cannot be published")
+    void shouldCancelScheduleOfInvalidArticle() {
+        // given
+        Article article = scheduledArticle(1L, " ", PUBLISH_AT);
+        when(articleRepository.findByIdAndDeletedAtIsNull(1L)).thenReturn(Optional.of(article));
+
+        // when
+        List<Long> published = useCase.execute(List.of(1L), PUBLISH_AT);
+
+        // then
+        assertThat(published).isEmpty();
+        assertThat(article.getStatus()).isEqualTo(ArticleStatus.DRAFT);
+        assertThat(article.getScheduledPublishAt()).isNull();
+        verify(articleRepository).update(article);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    private static Article scheduledArticle(Long id, String title, LocalDateTime scheduledPublishAt) {
+        return Article.ofExisting(
+                id, title, "slug-" + id, "Test content", null,
+                ArticleStatus.DRAFT, UserId.createNew(), null, scheduledPublishAt,
+                null, null, null, null, List.of(),
+                null, null, LocalDateTime.now(), LocalDateTime.now(), null
+        );
+    }
+}
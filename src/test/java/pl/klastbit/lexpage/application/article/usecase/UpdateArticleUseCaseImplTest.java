@@ -7,8 +7,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import pl.klastbit.lexpage.application.article.command.UpdateArticleCommand;
 import pl.klastbit.lexpage.application.article.dto.ArticleDetailDto;
+import pl.klastbit.lexpage.application.article.event.ArticleChangedEvent;
 import pl.klastbit.lexpage.application.user.ports.UserRepository;
 import pl.klastbit.lexpage.domain.article.Article;
 import pl.klastbit.lexpage.domain.article.ArticleRepository;
@@ -40,6 +42,9 @@ class UpdateArticleUseCaseImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UpdateArticleUseCaseImpl useCase;
 
@@ -98,6 +103,7 @@ class UpdateArticleUseCaseImplTest {
 
         verify(articleRepository).findByIdAndDeletedAtIsNull(articleId);
         verify(articleRepository).save(existingArticle);
+        verify(eventPublisher).publishEvent(any(ArticleChangedEvent.class));
     }
 
     @Test
@@ -0,0 +1,177 @@
+package pl.klastbit.lexpage.application.image.usecase;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionOperations;
+import pl.klastbit.lexpage.application.article.event.ArticleChangedEvent;
+import pl.klastbit.lexpage.application.ports.ImageStorage;
+import pl.klastbit.lexpage.application.ports.OgImageRenderer;
+import pl.klastbit.lexpage.application.user.ports.UserRepository;
+import pl.klastbit.lexpage.domain.article.Article;
+import pl.klastbit.lexpage.domain.article.ArticleRepository;
+import pl.klastbit.lexpage.domain.image.ContentHash;
+import pl.klastbit.lexpage.domain.image.Image;
+import pl.klastbit.lexpage.domain.image.ImageFormat;
+import pl.klastbit.lexpage.domain.image.ImageRepository;
+import pl.klastbit.lexpage.domain.image.ImageVariant;
+import pl.klastbit.lexpage.domain.user.Email;
+import pl.klastbit.lexpage.domain.user.User;
+import pl.klastbit.lexpage.domain.user.UserId;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for RenderOgImageUseCaseImpl.
+ * Tests rendering, change detection and replacement of previews.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RenderOgImageUseCaseImpl Tests")
+class RenderOgImageUseCaseImplTest {
+
+    private static final byte[] PNG = {7, 7, 7};
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ImageRepository imageRepository;
+
+    @Mock
+    private ImageStorage imageStorage;
+
+    @Mock
+    private OgImageRenderer ogImageRenderer;
+
+    @Mock
+    private TransactionOperations transactionOperations;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private RenderOgImageUseCaseImpl useCase;
+
+    @Test
+    @DisplayName("should render, store and replace preview of published article")
+    @SuppressWarnings("unchecked")
+    void shouldRenderPreviewOfPublishedArticle() {
+        // given
+        UserId authorId = UserId.createNew();
+        Article article = publishedArticle(authorId);
+        String hash = ContentHash.of(PNG);
+        when(articleRepository.findByIdAndDeletedAtIsNull(1L)).thenReturn(Optional.of(article));
+        when(userRepository.findById(authorId))
+                .thenReturn(Optional.of(User.ofExisting(authorId, "Anna Kowalska", Email.of("anna@example.com"), "hash", true)));
+        when(ogImageRenderer.render("Test Title", "Anna Kowalska")).thenReturn(PNG);
+        when(imageRepository.findByArticleIdAndContentHash(1L, hash)).thenReturn(List.of());
+        when(imageStorage.store(hash, ImageVariant.OG, ImageFormat.PNG, PNG)).thenReturn("ab/cd/" + hash + "-og.png");
+        doAnswer(invocation -> {
+            invocation.<Consumer<Object>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionOperations).executeWithoutResult(any());
+
+        // when
+        boolean stored = useCase.execute(1L);
+
+        // then - rendered before the transaction, rows written inside it
+        assertThat(stored).isTrue();
+        InOrder order = inOrder(ogImageRenderer, transactionOperations, imageRepository);
+        order.verify(ogImageRenderer).render("Test Title", "Anna Kowalska");
+        order.verify(transactionOperations).executeWithoutResult(any());
+        order.verify(imageRepository).saveAll(anyList());
+        ArgumentCaptor<List<Image>> captor = ArgumentCaptor.forClass(List.class);
+        verify(imageRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).singleElement().satisfies(image -> {
+            assertThat(image.getVariant()).isEqualTo(ImageVariant.OG);
+            assertThat(image.getWidth()).isEqualTo(OgImageRenderer.WIDTH);
+            assertThat(image.getHeight()).isEqualTo(OgImageRenderer.HEIGHT);
+            assertThat(image.getFileName()).isEqualTo(hash + "-og.png");
+        });
+        verify(imageRepository).deleteByArticleIdAndVariantExcept(1L, ImageVariant.OG, hash);
+
+        ArgumentCaptor<ArticleChangedEvent> event = ArgumentCaptor.forClass(ArticleChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().changeType()).isEqualTo(ArticleChangedEvent.ChangeType.MEDIA_UPDATED);
+    }
+
+    @Test
+    @DisplayName("should not store preview when it did not change")
+    void shouldSkipUnchangedPreview() {
+        // given
+        Article article = publishedArticle(null);
+        String hash = ContentHash.of(PNG);
+        when(articleRepository.findByIdAndDeletedAtIsNull(1L)).thenReturn(Optional.of(article));
+        when(ogImageRenderer.render("Test Title", null)).thenReturn(PNG);
+        when(imageRepository.findByArticleIdAndContentHash(1L, hash)).thenReturn(List.of(mock(Image.class)));
+
+        // when
+        boolean stored = useCase.execute(1L);
+
+        // then
+        assertThat(stored).isFalse();
+        verify(imageStorage, never()).store(anyString(), any(), any(), any());
+        verify(imageRepository, never()).saveAll(anyList());
+        verifyNoInteractions(transactionOperations, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("should skip articles that are not published")
+    void shouldSkipDraft() {
+        // given
+        Article draft = Article.createDraft("Test Title", "test-slug", "Test content",
+                null, null, null, null, null, null, UserId.createNew());
+        when(articleRepository.findByIdAndDeletedAtIsNull(1L)).thenReturn(Optional.of(draft));
+
+        // when
+        boolean stored = useCase.execute(1L);
+
+        // then
+        assertThat(stored).isFalse();
+        verifyNoInteractions(ogImageRenderer, imageStorage, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("should skip missing articles")
+    void shouldSkipMissingArticle() {
+        // given
+        when(articleRepository.findByIdAndDeletedAtIsNull(2L)).thenReturn(Optional.empty());
+
+        // when
+        boolean stored = useCase.execute(2L);
+
+        // then
+        assertThat(stored).isFalse();
+        verifyNoInteractions(ogImageRenderer, imageRepository);
+    }
+
+    private static Article publishedArticle(UserId authorId) {
+        Article article = Article.createDraft("Test Title", "test-slug", "Test content",
+                null, null, null, null, null, null, authorId != null ? authorId : UserId.createNew());
+        article.publish();
+        return article;
+    }
+}
@@ -0,0 +1,280 @@
+package pl.klastbit.lexpage.application.image.usecase;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+import pl.klastbit.lexpage.application.article.event.ArticleChangedEvent;
+import pl.klastbit.lexpage.application.image.command.UploadImageCommand;
+import pl.klastbit.lexpage.application.image.dto.ImageFileDto;
+import pl.klastbit.lexpage.application.image.dto.UploadedImageDto;
+import pl.klastbit.lexpage.application.image.exception.InvalidImageException;
+import pl.klastbit.lexpage.application.ports.ImageProcessor;
+import pl.klastbit.lexpage.application.ports.ImageStorage;
+import pl.klastbit.lexpage.application.ports.ImageWorkerPool;
+import pl.klastbit.lexpage.domain.article.Article;
+import pl.klastbit.lexpage.domain.article.ArticleRepository;
+import pl.klastbit.lexpage.domain.article.exception.ArticleNotFoundException;
+import pl.klastbit.lexpage.domain.image.Image;
+import pl.klastbit.lexpage.domain.image.ImageFormat;
+import pl.klastbit.lexpage.domain.image.ImageRepository;
+import pl.klastbit.lexpage.domain.image.ImageVariant;
+import pl.klastbit.lexpage.domain.user.UserId;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for UploadImageUseCaseImpl.
+ * Tests storing originals and generating variants.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UploadImageUseCaseImpl Tests")
+class UploadImageUseCaseImplTest {
+
+    private static final byte[] IMAGE_DATA = {1, 2, 3, 4};
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    @Mock
+    private ImageRepository imageRepository;
+
+    @Mock
+    private ImageStorage imageStorage;
+
+    @Mock
+    private ImageProcessor imageProcessor;
+
+    @Mock
+    private ImageWorkerPool imageWorkerPool;
+
+    @Mock
+    private TransactionOperations transactionOperations;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ImageProcessor.DecodedImage decodedImage;
+
+    @InjectMocks
+    private UploadImageUseCaseImpl useCase;
+
+    @BeforeEach
+    void setUp() {
+        Article article = Article.createDraft("Title", "title", "<p>Content</p>", null, null, null, null, null, null, UserId.createNew());
+        lenient().when(articleRepository.findByIdAndDeletedAtIsNull(1L)).thenReturn(Optional.of(article));
+        lenient().when(imageStorage.store(anyString(), any(ImageVariant.class), any(ImageFormat.class), any(byte[].class)))
+                .thenAnswer(invocation -> "ab/cd/" + invocation.getArgument(1, ImageVariant.class).name().toLowerCase()
+                        + "." + invocation.getArgument(2, ImageFormat.class).getExtension());
+        lenient().when(imageStorage.publicUrl(anyString())).thenAnswer(invocation -> "/media/" + invocation.getArgument(0));
+        lenient().when(imageRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(imageWorkerPool.runAll(anyList())).thenAnswer(invocation -> {
+            List<Supplier<?>> tasks = invocation.getArgument(0);
+            return tasks.stream().map(Supplier::get).toList();
+        });
+        lenient().when(transactionOperations.execute(any())).thenAnswer(invocation ->
+                invocation.getArgument(0, TransactionCallback.class).doInTransaction(null));
+        lenient().when(imageProcessor.decode(IMAGE_DATA)).thenReturn(decodedImage);
+        lenient().when(decodedImage.resize(anyInt(), any(ImageFormat.class)))
+                .thenAnswer(invocation -> {
+                    int width = invocation.getArgument(0);
+                    return new ImageProcessor.ProcessedImage(new byte[]{9}, invocation.getArgument(1), width, width / 2);
+                });
+    }
+
+    @Test
+    @DisplayName("should store original and generate thumb, card and full variants")
+    void shouldGenerateAllVariants() {
+        // given
+        when(imageProcessor.inspect(IMAGE_DATA)).thenReturn(new ImageProcessor.ImageInfo(ImageFormat.JPEG, 4000, 2000));
+        when(imageProcessor.canWrite(ImageFormat.WEBP)).thenReturn(false);
+
+        // when
+        UploadedImageDto result = useCase.execute(new UploadImageCommand(1L, "photo.jpg", IMAGE_DATA, "Alt"));
+
+        // then
+        assertThat(result.contentHash()).hasSize(64);
+        assertThat(result.url()).isEqualTo("/media/ab/cd/original.jpg");
+        assertThat(result.files())
+                .extracting(ImageFileDto::variant, ImageFileDto::width)
+                .containsExactly(
+                        tuple(ImageVariant.ORIGINAL, 4000),
+                        tuple(ImageVariant.THUMB, 320),
+                        tuple(ImageVariant.CARD, 640),
+                        tuple(ImageVariant.FULL, 1280)
+                );
+        verify(imageProcessor).decode(IMAGE_DATA);
+    }
+
+    @Test
+    @DisplayName("should add WebP variants when encoder is available")
+    void shouldAddWebpVariants() {
+        // given
+        when(imageProcessor.inspect(IMAGE_DATA)).thenReturn(new ImageProcessor.ImageInfo(ImageFormat.PNG, 2000, 1000));
+        when(imageProcessor.canWrite(ImageFormat.WEBP)).thenReturn(true);
+
+        // when
+        UploadedImageDto result = useCase.execute(new UploadImageCommand(1L, "logo.png", IMAGE_DATA, null));
+
+        // then
+        assertThat(result.files()).hasSize(7);
+        assertThat(result.files())
+                .filteredOn(file -> file.variant() != ImageVariant.ORIGINAL)
+                .extracting(ImageFileDto::mimeType)
+                .containsOnly("image/png", "image/webp");
+    }
+
+    @Test
+    @DisplayName("should not upscale images narrower than variant widths")
+    void shouldNotUpscaleSmallImages() {
+        // given
+        when(imageProcessor.inspect(IMAGE_DATA)).thenReturn(new ImageProcessor.ImageInfo(ImageFormat.JPEG, 500, 300));
+        when(imageProcessor.canWrite(ImageFormat.WEBP)).thenReturn(false);
+
+        // when
+        UploadedImageDto result = useCase.execute(new UploadImageCommand(1L, "small.jpg", IMAGE_DATA, null));
+
+        // then
+        assertThat(result.files())
+                .extracting(ImageFileDto::variant)
+                .containsExactly(ImageVariant.ORIGINAL, ImageVariant.THUMB, ImageVariant.CARD);
+        verify(decodedImage).resize(500, ImageFormat.JPEG);
+    }
+
+    @Test
+    @DisplayName("should decode the upload on the worker pool")
+    void shouldDecodeOnWorkerPool() {
+        // given
+        AtomicBoolean inPool = new AtomicBoolean();
+        when(imageWorkerPool.runAll(anyList())).thenAnswer(invocation -> {
+            List<Supplier<?>> tasks = invocation.getArgument(0);
+            inPool.set(true);
+            try {
+                return tasks.stream().map(Supplier::get).toList();
+            } finally {
+                inPool.set(false);
+            }
+        });
+        when(imageProcessor.decode(IMAGE_DATA)).thenAnswer(invocation -> {
+            assertThat(inPool).isTrue();
+            return decodedImage;
+        });
+        when(imageProcessor.inspect(IMAGE_DATA)).thenReturn(new ImageProcessor.ImageInfo(ImageFormat.JPEG, 800, 600));
+        when(imageProcessor.canWrite(ImageFormat.WEBP)).thenReturn(false);
+
+        // when
+        useCase.execute(new UploadImageCommand(1L, "photo.jpg", IMAGE_DATA, null));
+
+        // then
+        verify(imageProcessor).decode(IMAGE_DATA);
+        verify(imageWorkerPool, times(2)).runAll(anyList());
+    }
+
+    @Test
+    @DisplayName("should return already stored image without processing")
+    void shouldReturnExistingImage() {
+        // given
+        when(imageProcessor.inspect(IMAGE_DATA)).thenReturn(new ImageProcessor.ImageInfo(ImageFormat.JPEG, 800, 600));
+        Image stored = Image.ofExisting(5L, Image.ENTITY_TYPE_ARTICLE, 1L, "hash", ImageVariant.ORIGINAL,
+                "photo.jpg", "ab/cd/original.jpg", 4, ImageFormat.JPEG, 800, 600, null, 0, null);
+        when(imageRepository.findByArticleIdAndContentHash(eq(1L), anyString())).thenReturn(List.of(stored));
+
+        // when
+        UploadedImageDto result = useCase.execute(new UploadImageCommand(1L, "photo.jpg", IMAGE_DATA, null));
+
+        // then
+        assertThat(result.files()).extracting(ImageFileDto::id).containsExactly(5L);
+        verify(imageWorkerPool, never()).runAll(anyList());
+        verify(imageRepository, never()).saveAll(anyList());
+        verify(eventPublisher, never()).publishEvent(any(ArticleChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("should publish media change of the article after storing a new image")
+    void shouldPublishMediaUpdatedEvent() {
+        // given
+        when(imageProcessor.inspect(IMAGE_DATA)).thenReturn(new ImageProcessor.ImageInfo(ImageFormat.JPEG, 800, 600));
+        when(imageProcessor.canWrite(ImageFormat.WEBP)).thenReturn(false);
+
+        // when
+        useCase.execute(new UploadImageCommand(1L, "photo.jpg", IMAGE_DATA, null));
+
+        // then
+        ArgumentCaptor<ArticleChangedEvent> captor = ArgumentCaptor.forClass(ArticleChangedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().changeType()).isEqualTo(ArticleChangedEvent.ChangeType.MEDIA_UPDATED);
+        assertThat(captor.getValue().slug()).isEqualTo("title");
+    }
+
+    @Test
+    @DisplayName("should persist original and variants with dimensions")
+    @SuppressWarnings("unchecked")
+    void shouldPersistDimensions() {
+        // given
+        when(imageProcessor.inspect(IMAGE_DATA)).thenReturn(new ImageProcessor.ImageInfo(ImageFormat.JPEG, 700, 350));
+        when(imageProcessor.canWrite(ImageFormat.WEBP)).thenReturn(false);
+
+        // when
+        useCase.execute(new UploadImageCommand(1L, "photo.jpg", IMAGE_DATA, "Alt"));
+
+        // then
+        ArgumentCaptor<List<Image>> captor = ArgumentCaptor.forClass(List.class);
+        verify(imageRepository).saveAll(captor.capture());
+        assertThat(captor.getValue())
+                .allSatisfy(image -> {
+                    assertThat(image.getEntityId()).isEqualTo(1L);
+                    assertThat(image.getAltText()).isEqualTo("Alt");
+                    assertThat(image.getWidth()).isPositive();
+                    assertThat(image.getHeight()).isPositive();
+                });
+    }
+
+    @Test
+    @DisplayName("should throw when article does not exist")
+    void shouldThrowWhenArticleNotFound() {
+        // given
+        when(articleRepository.findByIdAndDeletedAtIsNull(2L)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> useCase.execute(new UploadImageCommand(2L, "photo.jpg", IMAGE_DATA, null)))
+                .isInstanceOf(ArticleNotFoundException.class);
+        verify(imageStorage, never()).store(anyString(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("should propagate invalid image error")
+    void shouldRejectInvalidImage() {
+        // given
+        when(imageProcessor.inspect(IMAGE_DATA)).thenThrow(new InvalidImageException("Unsupported image format"));
+
+        // when & then
+        assertThatThrownBy(() -> useCase.execute(new UploadImageCommand(1L, "file.txt", IMAGE_DATA, null)))
+                .isInstanceOf(InvalidImageException.class);
+        verify(imageRepository, never()).saveAll(anyList());
+    }
+}
@@ -197,6 +197,28 @@ class ArticleTest {
                     .isAfterOrEqualTo(beforePublish);
         }
 
+        @Test
+        @DisplayName("should publish with the given publication time")
+        void shouldPublishWithGivenTime() {
+            // given
+            Article article = Article.createDraft(
+                    "Test Title",
+                    "test-slug",
+                    "Test content",
+                    null, null, null, null, null, null,
+                    UserId.createNew()
+            );
+            LocalDateTime publishedAt = LocalDateTime.of(2025, 3, 1, 12, 0);
+
+            // when
+            article.publish(publishedAt);
+
+            // then
+            assertThat(article.getStatus()).isEqualTo(ArticleStatus.PUBLISHED);
+            assertThat(article.getPublishedAt()).isEqualTo(publishedAt);
+            assertThat(article.getUpdatedAt()).isEqualTo(publishedAt);
+        }
+
         @Test
         @DisplayName("should publish archived article")
         void shouldPublishArchivedArticle() {
@@ -230,7 +252,7 @@ class ArticleTest {
             // given
             Article article = Article.ofExisting(
                     1L, null, "test-slug", "Content", null,
-                    ArticleStatus.DRAFT, UserId.createNew(), null,
+                    ArticleStatus.DRAFT, UserId.createNew(), null, null,
                     null, null, null, null, null,
                     UserId.createNew(), UserId.createNew(),
                     LocalDateTime.now(), LocalDateTime.now(), null
@@ -248,7 +270,7 @@ class ArticleTest {
             // given
             Article article = Article.ofExisting(
                     1L, "Title", "test-slug", "", null,
-                    ArticleStatus.DRAFT, UserId.createNew(), null,
+                    ArticleStatus.DRAFT, UserId.createNew(), null, null,
                     null, null, null, null, null,
                     UserId.createNew(), UserId.createNew(),
                     LocalDateTime.now(), LocalDateTime.now(), null
@@ -266,7 +288,7 @@ class ArticleTest {
             // given
             Article article = Article.ofExisting(
                     1L, "Title", "", "Content", null,
-                    ArticleStatus.DRAFT, UserId.createNew(), null,
+                    ArticleStatus.DRAFT, UserId.createNew(), null, null,
                     null, null, null, null, null,
                     UserId.createNew(), UserId.createNew(),
                     LocalDateTime.now(), LocalDateTime.now(), null
@@ -334,6 +356,81 @@ class ArticleTest {
         }
     }
 
+    @Nested
+    @DisplayName("schedulePublication() method")
+    class SchedulePublicationTests {
+
+        @Test
+        @DisplayName("should schedule draft article and publish it when due")
+        void shouldScheduleDraftArticle() {
+            // given
+            Article article = createDraftArticle();
+            LocalDateTime publishAt = LocalDateTime.now().plusHours(1);
+
+            // when
+            article.schedulePublication(publishAt);
+
+            // then
+            assertThat(article.getScheduledPublishAt()).isEqualTo(publishAt);
+            assertThat(article.getStatus()).isEqualTo(ArticleStatus.DRAFT);
+            assertThat(article.isPublicationDue(publishAt.minusSeconds(1))).isFalse();
+            assertThat(article.isPublicationDue(publishAt)).isTrue();
+        }
+
+        @Test
+        @DisplayName("should clear schedule when article is published")
+        void shouldClearScheduleOnPublish() {
+            // given
+            Article article = createDraftArticle();
+            article.schedulePublication(LocalDateTime.now().plusHours(1));
+
+            // when
+            article.publish();
+
+            // then
+            assertThat(article.getScheduledPublishAt()).isNull();
+            assertThat(article.isPublicationDue(LocalDateTime.now().plusDays(1))).isFalse();
+        }
+
+        @Test
+        @DisplayName("should cancel scheduled publication")
+        void shouldCancelScheduledPublication() {
+            // given
+            Article article = createDraftArticle();
+            article.schedulePublication(LocalDateTime.now().plusHours(1));
+
+            // when
+            article.cancelScheduledPublication();
+
+            // then
+            assertThat(article.getScheduledPublishAt()).isNull();
+        }
+
+        @Test
+        @DisplayName("should throw exception when publication time is not in the future")
+        void shouldThrowExceptionWhenTimeIsInThePast() {
+            // given
+            Article article = createDraftArticle();
+
+            // when/then
+            assertThatThrownBy(() -> article.schedulePublication(LocalDateTime.now().minusMinutes(1)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("future");
+        }
+
+        @Test
+        @DisplayName("should throw exception when article is already published")
+        void shouldThrowExceptionWhenArticleIsAlreadyPublished() {
+            // given
+            Article article = createPublishedArticle();
+
+            // when/then
+            assertThatThrownBy(() -> article.schedulePublication(LocalDateTime.now().plusHours(1)))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("already published");
+        }
+    }
+
     @Nested
     @DisplayName("unpublish() method")
     class UnpublishTests {
@@ -629,7 +726,7 @@ class ArticleTest {
             // given
             Article article = Article.ofExisting(
                     1L, "Title", "slug", "", null,
-                    ArticleStatus.DRAFT, UserId.createNew(), null,
+                    ArticleStatus.DRAFT, UserId.createNew(), null, null,
                     null, null, null, null, null,
                     UserId.createNew(), UserId.createNew(),
                     LocalDateTime.now(), LocalDateTime.now(), null
@@ -648,7 +745,7 @@ class ArticleTest {
             // given
             Article article = Article.ofExisting(
                     1L, "Title", "slug", null, null,
-                    ArticleStatus.DRAFT, UserId.createNew(), null,
+                    ArticleStatus.DRAFT, UserId.createNew(), null, null,
                     null, null, null, null, null,
                     UserId.createNew(), UserId.createNew(),
                     LocalDateTime.now(), LocalDateTime.now(), null
@@ -0,0 +1,72 @@
+package pl.klastbit.lexpage.domain.article;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for PolishTextAnalyzer.
+ * Tests that inflected forms share a lexeme and that queries keep their websearch operators.
+ */
+@DisplayName("PolishTextAnalyzer Tests")
+class PolishTextAnalyzerTest {
+
+    @Test
+    @DisplayName("should reduce inflected forms of a noun to one lexeme")
+    void shouldReduceInflectedNounForms() {
+        assertThat(Stream.of("umowa", "umowy", "umowie", "umowę", "umową", "umów", "umowach", "umowami", "Umowom")
+                .map(PolishTextAnalyzer::stem))
+                .containsOnly("umow");
+        assertThat(Stream.of("alimenty", "alimentów", "alimentach", "alimentami").map(PolishTextAnalyzer::stem))
+                .containsOnly("aliment");
+    }
+
+    @Test
+    @DisplayName("should reduce adjective forms and fold diacritics")
+    void shouldReduceAdjectiveFormsAndFoldDiacritics() {
+        assertThat(Stream.of("cywilny", "cywilnego", "cywilnej", "cywilnym", "cywilna").map(PolishTextAnalyzer::stem))
+                .containsOnly("cywiln");
+        assertThat(PolishTextAnalyzer.stem("rozwód")).isEqualTo("rozwod");
+        assertThat(PolishTextAnalyzer.stem("Rozwodu")).isEqualTo("rozwod");
+    }
+
+    @Test
+    @DisplayName("should keep short words and numbers")
+    void shouldKeepShortWordsAndNumbers() {
+        assertThat(PolishTextAnalyzer.stem("sąd")).isEqualTo("sad");
+        assertThat(PolishTextAnalyzer.stem("dom")).isEqualTo("dom");
+        assertThat(PolishTextAnalyzer.stem("2024")).isEqualTo("2024");
+    }
+
+    @Test
+    @DisplayName("should analyze texts into space-separated lexemes")
+    void shouldAnalyzeTexts() {
+        assertThat(PolishTextAnalyzer.analyze("Umowa najmu", null, "Wypowiedzenie umowy (art. 673 k.c.)"))
+                .isEqualTo("umow najm wypowiedz umow art 673 k c");
+        assertThat(PolishTextAnalyzer.analyze("  ")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should analyze only the text of HTML content")
+    void shouldAnalyzeArticleHtmlText() {
+        String content = "<p class=\"media\">Wzór <strong>um&oacute;w</strong>&nbsp;najmu"
+                + " <a href=\"https://example.com/umowy\">tutaj</a></p><!-- szkic --><script>var x;</script>"
+                + "<p>&lt;art. 673&gt; &amp; &#261;&#x15B;</p>";
+
+        assertThat(PolishTextAnalyzer.analyzeArticle("Umowa najmu", content))
+                .isEqualTo("umow najm wzor umow najm tutaj art 673 as");
+        assertThat(PolishTextAnalyzer.analyzeArticle("Tytuł", null)).isEqualTo("tytul");
+    }
+
+    @Test
+    @DisplayName("should stem query words and keep websearch operators")
+    void shouldAnalyzeQueryWithOperators() {
+        assertThat(PolishTextAnalyzer.analyzeQuery("umowy najmu")).isEqualTo("umow najm");
+        assertThat(PolishTextAnalyzer.analyzeQuery("\"umowa najmu\" -alimenty or spadek"))
+                .isEqualTo("\"umow najm\" -aliment or spadek");
+        assertThat(PolishTextAnalyzer.analyzeQuery("e-mail")).isEqualTo("e mail");
+    }
+}
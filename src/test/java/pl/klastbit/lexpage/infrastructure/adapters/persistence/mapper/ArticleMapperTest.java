@@ -210,6 +210,7 @@ class ArticleMapperTest {
                 null,
                 null,
                 null,
+                null,
                 Arrays.asList("keyword1", "keyword2"),
                     UserId.createNew(),
                     UserId.createNew(),
@@ -245,6 +246,7 @@ class ArticleMapperTest {
                 null,
                 null,
                 null,
+                null,
                 null,
                     UserId.createNew(),
                     UserId.createNew(),
@@ -300,6 +302,7 @@ class ArticleMapperTest {
                 pl.klastbit.lexpage.domain.article.ArticleStatus.DRAFT,
                     UserId.createNew(),
                 null,
+                null,
                 "Updated Meta Title",
                 "Updated Meta Description",
                 "https://example.com/new-image.jpg",
@@ -348,6 +351,7 @@ class ArticleMapperTest {
                 pl.klastbit.lexpage.domain.article.ArticleStatus.PUBLISHED,
                     UserId.createNew(),
                 LocalDateTime.now(),
+                null,
                 "Meta Title",
                 "Meta Description",
                 "https://example.com/image.jpg",
@@ -551,6 +555,7 @@ class ArticleMapperTest {
             null,
             null,
             null,
+            null,
             null,
                 UserId.createNew(),
                 UserId.createNew(),
@@ -570,6 +575,7 @@ class ArticleMapperTest {
             pl.klastbit.lexpage.domain.article.ArticleStatus.PUBLISHED,
                 UserId.createNew(),
             LocalDateTime.now(),
+            null,
             "Meta Title",
             "Meta Description",
             "https://example.com/image.jpg",
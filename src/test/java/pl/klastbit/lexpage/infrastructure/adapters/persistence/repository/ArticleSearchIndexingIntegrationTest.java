@@ -0,0 +1,71 @@
+package pl.klastbit.lexpage.infrastructure.adapters.persistence.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import pl.klastbit.lexpage.AbstractIntegrationTest;
+import pl.klastbit.lexpage.application.article.IndexArticlesForSearchUseCase;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test for background search indexing of articles stored without lexemes.
+ * Checks that filling in the lexemes rebuilds the search vector but keeps updated_at.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Article search indexing Integration Tests")
+class ArticleSearchIndexingIntegrationTest extends AbstractIntegrationTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2024, 3, 15, 10, 30);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private IndexArticlesForSearchUseCase indexArticlesForSearchUseCase;
+
+    private final UUID userId = UUID.randomUUID();
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM articles WHERE author_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+    }
+
+    @Test
+    @DisplayName("should index an article without changing updated_at")
+    void shouldKeepUpdatedAtWhenIndexing() {
+        // given - an article stored the way a bulk import stores it
+        jdbcTemplate.update("INSERT INTO users (id, username, password_hash, email) VALUES (?, ?, ?, ?)",
+                userId, "indexer-" + userId, "hash", userId + "@example.com");
+        Long id = jdbcTemplate.queryForObject("""
+                INSERT INTO articles (title, slug, content, status, author_id, created_by, updated_by, created_at, updated_at)
+                VALUES ('Umowa najmu', ?, 'Wypowiedzenie umowy najmu', 'DRAFT', ?, ?, ?, ?, ?)
+                RETURNING id
+                """, Long.class, "umowa-najmu-" + userId, userId, userId, userId,
+                Timestamp.valueOf(UPDATED_AT), Timestamp.valueOf(UPDATED_AT));
+
+        // when
+        while (indexArticlesForSearchUseCase.execute(100) == 100) {
+            // drain articles left by other tests
+        }
+
+        // then
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT search_lexemes, updated_at, search_vector @@ to_tsquery('simple', 'umow') AS found"
+                        + " FROM articles WHERE id = ?", id);
+        assertThat(row.get("search_lexemes")).isEqualTo("umow najm wypowiedz umow najm");
+        assertThat(row.get("found")).isEqualTo(true);
+        assertThat(((Timestamp) row.get("updated_at")).toLocalDateTime()).isEqualTo(UPDATED_AT);
+    }
+}
@@ -0,0 +1,127 @@
+package pl.klastbit.lexpage.infrastructure.adapters.persistence.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import pl.klastbit.lexpage.AbstractIntegrationTest;
+import pl.klastbit.lexpage.domain.article.ArticleSearchCriteria;
+import pl.klastbit.lexpage.domain.article.ArticleStatus;
+import pl.klastbit.lexpage.domain.user.UserId;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test checking with EXPLAIN that the listing SQL built by ArticleSearchQuery can be
+ * served by the intended indexes, including the typo-tolerant variant.
+ * <p>
+ * The test table is nearly empty, where a sequential scan is always cheapest, so sequential scans
+ * are disabled for the transaction: the planner then picks an index only if the query shape allows it.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("ArticleSearchQuery EXPLAIN Integration Tests")
+class ArticleSearchQueryIntegrationTest extends AbstractIntegrationTest {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("should read the default admin listing in index order")
+    void shouldUseCreatedAtIndexForDefaultListing() {
+        String plan = explain(ArticleSearchCriteria.of(null, null, null), Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        assertThat(plan).contains("idx_articles_created_at").doesNotContain("Sort");
+    }
+
+    @Test
+    @DisplayName("should read status listings in index order for both sort keys")
+    void shouldUseStatusIndexes() {
+        assertThat(explain(ArticleSearchCriteria.of(ArticleStatus.DRAFT, null, null), Sort.by("createdAt")))
+                .contains("idx_articles_status_created_at")
+                .doesNotContain("Sort");
+        assertThat(explain(ArticleSearchCriteria.of(ArticleStatus.PUBLISHED, null, null),
+                Sort.by(Sort.Direction.DESC, "publishedAt")))
+                .contains("idx_articles_status_published_at")
+                .doesNotContain("Sort");
+    }
+
+    @Test
+    @DisplayName("should read author listings in index order")
+    void shouldUseAuthorIndex() {
+        String plan = explain(ArticleSearchCriteria.of(null, UserId.createNew(), null), Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        assertThat(plan).contains("idx_articles_author_created_at").doesNotContain("Sort");
+    }
+
+    @Test
+    @DisplayName("should use the GIN indexes for full-text and keyword filters")
+    void shouldUseGinIndexes() {
+        assertThat(explain(ArticleSearchCriteria.of(ArticleStatus.PUBLISHED, null, "umowa najmu"), Sort.unsorted()))
+                .contains("idx_articles_search_vector");
+        assertThat(explain(new ArticleSearchCriteria(null, null, null, null, null, List.of("prawo")), Sort.unsorted()))
+                .contains("idx_articles_keywords");
+    }
+
+    @Test
+    @DisplayName("should never scan the whole table for a combined filter")
+    void shouldNotSeqScanCombinedFilter() {
+        ArticleSearchCriteria criteria = new ArticleSearchCriteria(
+                ArticleStatus.DRAFT,
+                UserId.createNew(),
+                "spadek",
+                LocalDateTime.now().minusDays(30),
+                LocalDateTime.now(),
+                List.of("prawo", "spadki")
+        );
+
+        assertThat(explain(criteria, Sort.by(Sort.Direction.DESC, "createdAt"))).doesNotContain("Seq Scan");
+    }
+
+    @Test
+    @DisplayName("should find similar titles and excerpts through the trigram indexes")
+    void shouldUseTrigramIndexesForSimilaritySearch() {
+        // Without plain index scans the only alternative to a sequential scan is a bitmap OR of the three indexes
+        String plan = explain(
+                ArticleSearchQuery.similar(ArticleSearchCriteria.of(null, null, "alimeny")),
+                "SET LOCAL enable_indexscan = off"
+        );
+
+        assertThat(plan)
+                .contains("idx_articles_search_vector")
+                .contains("idx_articles_title_trgm")
+                .contains("idx_articles_title_excerpt_trgm")
+                .doesNotContain("Seq Scan");
+    }
+
+    private String explain(ArticleSearchCriteria criteria, Sort sort) {
+        return explain(ArticleSearchQuery.of(criteria, sort));
+    }
+
+    private String explain(ArticleSearchQuery query, String... settings) {
+        NamedParameterJdbcTemplate namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+            for (String setting : settings) {
+                jdbcTemplate.execute(setting);
+            }
+            List<String> lines = namedJdbcTemplate.queryForList(
+                    "EXPLAIN " + query.selectSql() + " LIMIT " + PAGE_SIZE, query.parameters(), String.class);
+            return String.join("\n", lines);
+        });
+    }
+}
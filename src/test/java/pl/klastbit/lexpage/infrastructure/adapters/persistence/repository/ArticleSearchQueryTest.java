@@ -0,0 +1,119 @@
+package pl.klastbit.lexpage.infrastructure.adapters.persistence.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import pl.klastbit.lexpage.domain.article.ArticleSearchCriteria;
+import pl.klastbit.lexpage.domain.article.ArticleStatus;
+import pl.klastbit.lexpage.domain.user.UserId;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for ArticleSearchQuery.
+ * Tests that all filters end up in one statement and only indexed sorts are accepted.
+ */
+@DisplayName("ArticleSearchQuery Tests")
+class ArticleSearchQueryTest {
+
+    @Test
+    @DisplayName("should combine all filters in one WHERE clause")
+    void shouldCombineAllFilters() {
+        // given
+        UserId authorId = UserId.createNew();
+        ArticleSearchCriteria criteria = new ArticleSearchCriteria(
+                ArticleStatus.PUBLISHED,
+                authorId,
+                " umowa najmu ",
+                LocalDateTime.of(2025, 1, 1, 0, 0),
+                LocalDateTime.of(2025, 2, 1, 0, 0),
+                List.of("prawo", "najem")
+        );
+
+        // when
+        ArticleSearchQuery query = ArticleSearchQuery.of(criteria, Sort.by(Sort.Direction.ASC, "publishedAt"));
+
+        // then
+        assertThat(query.selectSql()).isEqualTo("SELECT a.* FROM articles a WHERE a.deleted_at IS NULL"
+                + " AND a.status = :status AND a.author_id = :authorId"
+                + " AND a.search_vector @@ websearch_to_tsquery('simple', :keyword)"
+                + " AND a.created_at >= :createdFrom AND a.created_at < :createdTo"
+                + " AND a.keywords && CAST(ARRAY[:tag0, :tag1] AS text[])"
+                + " ORDER BY a.published_at ASC, a.id ASC");
+        assertThat(query.countSql()).startsWith("SELECT COUNT(*) FROM articles a WHERE a.deleted_at IS NULL AND")
+                .doesNotContain("ORDER BY");
+        assertThat(query.parameters())
+                .containsEntry("status", "PUBLISHED")
+                .containsEntry("authorId", authorId.userid())
+                .containsEntry("keyword", "umow najm")
+                .containsEntry("tag0", "prawo")
+                .containsEntry("tag1", "najem");
+    }
+
+    @Test
+    @DisplayName("should list non-deleted articles newest first without filters")
+    void shouldDefaultToNewestFirst() {
+        ArticleSearchQuery query = ArticleSearchQuery.of(ArticleSearchCriteria.of(null, null, "  "), Sort.unsorted());
+
+        assertThat(query.selectSql()).isEqualTo(
+                "SELECT a.* FROM articles a WHERE a.deleted_at IS NULL ORDER BY a.created_at DESC, a.id DESC");
+        assertThat(query.parameters()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should reject sort fields without a supporting index")
+    void shouldRejectUnsupportedSort() {
+        ArticleSearchCriteria criteria = ArticleSearchCriteria.of(null, null, null);
+
+        assertThatThrownBy(() -> ArticleSearchQuery.of(criteria, Sort.by("content")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unsupported sort field: content");
+        assertThatThrownBy(() -> ArticleSearchQuery.of(criteria, Sort.by("createdAt", "publishedAt")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("should count all facets for the current filter in one grouped statement")
+    void shouldBuildFacetQueryWithGroupingSets() {
+        // given
+        ArticleSearchCriteria criteria = ArticleSearchCriteria.of(ArticleStatus.DRAFT, null, null);
+
+        // when
+        String sql = ArticleSearchQuery.of(criteria, Sort.unsorted()).facetSql();
+
+        // then
+        assertThat(sql)
+                .contains("WHERE a.deleted_at IS NULL AND a.status = :status")
+                .contains("GROUP BY GROUPING SETS ((a.status), (a.author_id), (kw.keyword),"
+                        + " (date_trunc('month', a.created_at)), ())")
+                .contains("COUNT(DISTINCT a.id)")
+                .doesNotContain("LIMIT");
+    }
+
+    @Test
+    @DisplayName("should match similar words next to full-text hits and rank full-text hits first")
+    void shouldBuildSimilarityQuery() {
+        // given
+        ArticleSearchCriteria criteria = ArticleSearchCriteria.of(ArticleStatus.PUBLISHED, null, "alimeny");
+
+        // when
+        ArticleSearchQuery query = ArticleSearchQuery.similar(criteria);
+
+        // then
+        assertThat(query.selectSql())
+                .contains("AND (a.search_vector @@ websearch_to_tsquery('simple', :keyword)"
+                        + " OR a.title % :term OR :term <% (a.title || ' ' || COALESCE(a.excerpt, '')))")
+                .endsWith("ORDER BY (a.search_vector @@ websearch_to_tsquery('simple', :keyword)) DESC,"
+                        + " GREATEST(similarity(a.title, :term),"
+                        + " word_similarity(:term, (a.title || ' ' || COALESCE(a.excerpt, '')))) DESC, a.id DESC");
+        assertThat(query.parameters())
+                .containsEntry("keyword", "alimen")
+                .containsEntry("term", "alimeny");
+        assertThatThrownBy(() -> ArticleSearchQuery.similar(ArticleSearchCriteria.of(null, null, null)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,44 @@
+package pl.klastbit.lexpage.infrastructure.adapters.persistence.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import pl.klastbit.lexpage.application.article.dto.ArticleImportRow;
+import pl.klastbit.lexpage.application.article.dto.ArticleTransferRecord;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the CSV rows JdbcArticleTransferStore streams into COPY.
+ */
+@DisplayName("JdbcArticleTransferStore CSV Tests")
+class JdbcArticleTransferStoreTest {
+
+    @Test
+    @DisplayName("should quote text, escape quotes and leave nulls unquoted")
+    void shouldEncodeCsvRow() {
+        ArticleTransferRecord record = new ArticleTransferRecord(
+                "Tytuł \"cytat\", przecinek", "slug", "linia 1\nlinia 2", null, "DRAFT",
+                LocalDateTime.of(2025, 3, 1, 12, 30), null, "", null, null,
+                Arrays.asList("a\"b", "c\\d", null), null, null
+        );
+
+        String row = JdbcArticleTransferStore.csvRow(7, new ArticleImportRow(record, "tytul cytat"));
+
+        assertThat(row).isEqualTo("7,\"Tytuł \"\"cytat\"\", przecinek\",\"slug\",\"linia 1\nlinia 2\",,\"DRAFT\","
+                + "2025-03-01T12:30,,\"\",,,\"{\"\"a\\\"\"b\"\",\"\"c\\\\d\"\",NULL}\",,,\"tytul cytat\"\n");
+    }
+
+    @Test
+    @DisplayName("should encode empty keyword list as empty array")
+    void shouldEncodeEmptyKeywords() {
+        ArticleTransferRecord record = new ArticleTransferRecord(
+                "t", "s", "c", null, null, null, null, null, null, null, List.of(), null, null
+        );
+
+        assertThat(JdbcArticleTransferStore.csvRow(1, new ArticleImportRow(record, ""))).contains(",\"{}\",");
+    }
+}
@@ -0,0 +1,130 @@
+package pl.klastbit.lexpage.infrastructure.adapters.persistence.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import pl.klastbit.lexpage.AbstractIntegrationTest;
+import pl.klastbit.lexpage.application.article.dto.PublishedArticleRef;
+import pl.klastbit.lexpage.application.article.dto.PublishedArticlesSummary;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test for JdbcPublishedArticleCatalog against PostgreSQL.
+ * Other tests share the database, so assertions only look at articles created here.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("JdbcPublishedArticleCatalog Integration Tests")
+class JdbcPublishedArticleCatalogIntegrationTest extends AbstractIntegrationTest {
+
+    private static final LocalDateTime LATEST_UPDATE = LocalDateTime.of(2099, 1, 1, 12, 0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JdbcPublishedArticleCatalog catalog;
+
+    private final UUID userId = UUID.randomUUID();
+    private final String prefix = "catalog-" + userId + "-";
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO users (id, username, password_hash, email) VALUES (?, ?, ?, ?)",
+                userId, "catalog-" + userId, "hash", userId + "@example.com");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM articles WHERE author_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+    }
+
+    @Test
+    @DisplayName("Should count only published, non-deleted articles and report the latest update")
+    void shouldSummarizePublishedArticles() {
+        // given
+        long before = catalog.summary().count();
+        insert("old", "PUBLISHED", LocalDateTime.of(2024, 1, 1, 8, 0), LocalDateTime.of(2024, 1, 2, 8, 0), false);
+        insert("new", "PUBLISHED", LocalDateTime.of(2024, 2, 1, 8, 0), LATEST_UPDATE, false);
+        insert("draft", "DRAFT", null, LATEST_UPDATE.plusDays(1), false);
+        insert("deleted", "PUBLISHED", LocalDateTime.of(2024, 3, 1, 8, 0), LATEST_UPDATE.plusDays(1), true);
+
+        // when
+        PublishedArticlesSummary summary = catalog.summary();
+
+        // then
+        assertThat(summary.count()).isEqualTo(before + 2);
+        assertThat(summary.lastModified()).isEqualTo(LATEST_UPDATE);
+    }
+
+    @Test
+    @DisplayName("Should stream published articles by ID and newest publication first")
+    void shouldStreamPublishedArticles() {
+        // given
+        insert("first", "PUBLISHED", LocalDateTime.of(2024, 2, 1, 8, 0), LATEST_UPDATE, false);
+        insert("second", "PUBLISHED", LocalDateTime.of(2024, 1, 1, 8, 0), LATEST_UPDATE, false);
+        insert("draft", "DRAFT", null, LATEST_UPDATE, false);
+
+        // when
+        List<PublishedArticleRef> byId = new ArrayList<>();
+        catalog.forEachPublished(0, Integer.MAX_VALUE, byId::add);
+        List<PublishedArticleRef> newestFirst = new ArrayList<>();
+        catalog.forEachPublishedNewestFirst(newestFirst::add);
+
+        // then
+        assertThat(ours(byId)).containsExactly(prefix + "first", prefix + "second");
+        assertThat(ours(newestFirst)).containsExactly(prefix + "first", prefix + "second");
+        assertThat(byId).filteredOn(ref -> ref.slug().startsWith(prefix))
+                .extracting(PublishedArticleRef::updatedAt)
+                .containsOnly(LATEST_UPDATE);
+    }
+
+    @Test
+    @DisplayName("Should apply offset and limit in ID order")
+    void shouldPageByOffsetAndLimit() {
+        // given
+        insert("a", "PUBLISHED", LocalDateTime.of(2024, 1, 1, 8, 0), LATEST_UPDATE, false);
+        insert("b", "PUBLISHED", LocalDateTime.of(2024, 1, 2, 8, 0), LATEST_UPDATE, false);
+        insert("c", "PUBLISHED", LocalDateTime.of(2024, 1, 3, 8, 0), LATEST_UPDATE, false);
+        long offset = catalog.summary().count() - 3;
+
+        // when
+        List<PublishedArticleRef> page = new ArrayList<>();
+        catalog.forEachPublished(offset + 1, 1, page::add);
+
+        // then
+        assertThat(page).extracting(PublishedArticleRef::slug).containsExactly(prefix + "b");
+    }
+
+    private void insert(String name, String status, LocalDateTime publishedAt, LocalDateTime updatedAt, boolean deleted) {
+        jdbcTemplate.update("""
+                        INSERT INTO articles (title, slug, content, status, author_id, published_at,
+                                              created_by, updated_by, updated_at, deleted_at)
+                        VALUES (?, ?, 'Content', ?, ?, ?, ?, ?, ?, ?)
+                        """,
+                name, prefix + name, status, userId,
+                publishedAt != null ? Timestamp.valueOf(publishedAt) : null,
+                userId, userId, Timestamp.valueOf(updatedAt),
+                deleted ? Timestamp.valueOf(LocalDateTime.now()) : null);
+    }
+
+    private List<String> ours(List<PublishedArticleRef> refs) {
+        return refs.stream()
+                .map(PublishedArticleRef::slug)
+                .filter(slug -> slug.startsWith(prefix))
+                .toList();
+    }
+}
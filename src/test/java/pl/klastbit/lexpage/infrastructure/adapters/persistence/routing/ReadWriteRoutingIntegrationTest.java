@@ -0,0 +1,236 @@
+package pl.klastbit.lexpage.infrastructure.adapters.persistence.routing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import pl.klastbit.lexpage.application.article.event.ArticleChangedEvent;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test for read/write routing against a primary and a streaming replica.
+ * <p>
+ * Uses its own pair of PostgreSQL containers (Bitnami images set up streaming replication from
+ * environment variables) instead of the single shared container of AbstractIntegrationTest.
+ * Where a statement ran is told apart with {@code pg_is_in_recovery()}, which is true only on the replica.
+ */
+@Testcontainers
+@SpringBootTest(properties = {
+        "app.datasource.replica.enabled=true",
+        "app.datasource.replica.max-lag=1s",
+        "app.datasource.replica.lag-check-interval=100ms",
+        "app.datasource.replica.read-your-writes-window=30s"
+})
+@ActiveProfiles("test")
+@DisplayName("Read/write routing Integration Tests")
+class ReadWriteRoutingIntegrationTest {
+
+    private static final String IMAGE = "bitnami/postgresql:16";
+    private static final String DATABASE = "lexpage_test";
+    private static final String SUPERUSER_PASSWORD = "postgres";
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+    private static final Network NETWORK = Network.newNetwork();
+
+    @Container
+    private static final GenericContainer<?> PRIMARY = new GenericContainer<>(IMAGE)
+            .withNetwork(NETWORK)
+            .withNetworkAliases("primary")
+            .withEnv("POSTGRESQL_REPLICATION_MODE", "master")
+            .withEnv("POSTGRESQL_REPLICATION_USER", "replicator")
+            .withEnv("POSTGRESQL_REPLICATION_PASSWORD", "replicator")
+            .withEnv("POSTGRESQL_POSTGRES_PASSWORD", SUPERUSER_PASSWORD)
+            .withEnv("POSTGRESQL_USERNAME", "test")
+            .withEnv("POSTGRESQL_PASSWORD", "test")
+            .withEnv("POSTGRESQL_DATABASE", DATABASE)
+            .withExposedPorts(5432)
+            .waitingFor(Wait.forLogMessage(".*database system is ready to accept connections.*", 1));
+
+    @Container
+    private static final GenericContainer<?> REPLICA = new GenericContainer<>(IMAGE)
+            .withNetwork(NETWORK)
+            .dependsOn(PRIMARY)
+            .withEnv("POSTGRESQL_REPLICATION_MODE", "slave")
+            .withEnv("POSTGRESQL_MASTER_HOST", "primary")
+            .withEnv("POSTGRESQL_MASTER_PORT_NUMBER", "5432")
+            .withEnv("POSTGRESQL_REPLICATION_USER", "replicator")
+            .withEnv("POSTGRESQL_REPLICATION_PASSWORD", "replicator")
+            .withEnv("POSTGRESQL_POSTGRES_PASSWORD", SUPERUSER_PASSWORD)
+            .withEnv("POSTGRESQL_PASSWORD", "test")
+            .withExposedPorts(5432)
+            .waitingFor(Wait.forLogMessage(".*ready to accept read-only connections.*", 1));
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> jdbcUrl(PRIMARY));
+        registry.add("spring.datasource.username", () -> "test");
+        registry.add("spring.datasource.password", () -> "test");
+        registry.add("spring.liquibase.enabled", () -> true);
+        registry.add("app.datasource.replica.url", () -> jdbcUrl(REPLICA));
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    private ReplicaReadFence replicaReadFence;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        SecurityContextHolder.clearContext();
+        onReplicaAsSuperuser("SELECT pg_wal_replay_resume()");
+    }
+
+    @Test
+    @DisplayName("Should route read-only transactions to the replica and the rest to the primary")
+    void shouldRouteByTransactionReadOnlyFlag() {
+        assertThat(runsOnReplica(true)).isTrue();
+        assertThat(runsOnReplica(false)).isFalse();
+        assertThat(jdbcTemplate.queryForObject("SELECT pg_is_in_recovery()", Boolean.class)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should read from the primary after the user's own write")
+    void shouldReadOwnWritesFromPrimary() {
+        // given
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated("editor", null, List.of()));
+
+        // when
+        runsOnReplica(false);
+
+        // then
+        assertThat(runsOnReplica(true)).isFalse();
+
+        // and - other users keep reading from the replica
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated("reader", null, List.of()));
+        assertThat(runsOnReplica(true)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should fall back to the primary while the replica lags")
+    void shouldFallBackToPrimaryWhenReplicaLags() throws SQLException {
+        // given - replay on the replica stops while the primary keeps committing
+        onReplicaAsSuperuser("SELECT pg_wal_replay_pause()");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS lag_probe (id int)");
+        jdbcTemplate.update("INSERT INTO lag_probe VALUES (1)");
+
+        // when
+        awaitTrue(() -> !replicaLagMonitor.isReplicaUsable());
+
+        // then
+        assertThat(runsOnReplica(true)).isFalse();
+
+        // and - reads return to the replica once it caught up
+        onReplicaAsSuperuser("SELECT pg_wal_replay_resume()");
+        awaitTrue(replicaLagMonitor::isReplicaUsable);
+        assertThat(runsOnReplica(true)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should read from the primary after an article change until the replica must have replayed it")
+    void shouldReadFromPrimaryAfterArticleChange() throws SQLException {
+        // given - the replica is caught up, then stops replaying
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS fence_probe (id int)");
+        jdbcTemplate.update("DELETE FROM fence_probe");
+        awaitTrue(() -> replicaRows("fence_probe") == 0);
+        onReplicaAsSuperuser("SELECT pg_wal_replay_pause()");
+
+        // when - a change is committed together with its invalidation event
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.executeWithoutResult(status -> {
+            jdbcTemplate.update("INSERT INTO fence_probe VALUES (1)");
+            eventPublisher.publishEvent(
+                    new ArticleChangedEvent(1L, "probe", "probe", ArticleChangedEvent.ChangeType.CREATED));
+        });
+
+        // then - a cache refill sees the change although the replica does not have it yet
+        assertThat(replicaRows("fence_probe")).isZero();
+        template.setReadOnly(true);
+        assertThat(template.execute(status ->
+                jdbcTemplate.queryForObject("SELECT count(*) FROM fence_probe", Integer.class))).isEqualTo(1);
+        assertThat(runsOnReplica(true)).isFalse();
+
+        // and - reads return to the replica once it caught up and the fence expired
+        onReplicaAsSuperuser("SELECT pg_wal_replay_resume()");
+        awaitTrue(() -> !replicaReadFence.isRaised() && replicaLagMonitor.isReplicaUsable());
+        assertThat(runsOnReplica(true)).isTrue();
+    }
+
+    private boolean runsOnReplica(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return Boolean.TRUE.equals(template.execute(status ->
+                jdbcTemplate.queryForObject("SELECT pg_is_in_recovery()", Boolean.class)));
+    }
+
+    private static void onReplicaAsSuperuser(String sql) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(jdbcUrl(REPLICA), "postgres", SUPERUSER_PASSWORD);
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static int replicaRows(String table) {
+        try (Connection connection = DriverManager.getConnection(jdbcUrl(REPLICA), "test", "test");
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT count(*) FROM " + table)) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        } catch (SQLException e) {
+            // The table has not been replayed yet
+            return -1;
+        }
+    }
+
+    private static String jdbcUrl(GenericContainer<?> container) {
+        return "jdbc:postgresql://" + container.getHost() + ":" + container.getMappedPort(5432) + "/" + DATABASE;
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met within %s", TIMEOUT).isLessThan(deadline);
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package pl.klastbit.lexpage.infrastructure.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import pl.klastbit.lexpage.AbstractIntegrationTest;
+import pl.klastbit.lexpage.LexpageApplication;
+import pl.klastbit.lexpage.application.article.GetArticleUseCase;
+import pl.klastbit.lexpage.application.article.dto.ArticleDetailDto;
+import pl.klastbit.lexpage.domain.article.exception.ArticleNotFoundException;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * Load test comparing the virtual-thread execution mode with platform threads.
+ * <p>
+ * Every request blocks for {@value #BLOCKING_MILLIS} ms (simulating a slow DB or AI call). The same
+ * {@value #CONCURRENT_REQUESTS} requests are sent to this context (virtual threads, where Tomcat's
+ * thread limit does not apply) and to a second instance on {@value #PLATFORM_THREADS} platform threads.
+ * The platform instance serializes the requests on its threads; the virtual one must finish clearly faster.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.threads.virtual.enabled=true"
+)
+@ActiveProfiles("test")
+@DisplayName("Virtual thread throughput Integration Tests")
+class VirtualThreadThroughputIntegrationTest extends AbstractIntegrationTest {
+
+    private static final int PLATFORM_THREADS = 4;
+    private static final int CONCURRENT_REQUESTS = 40;
+    private static final long BLOCKING_MILLIS = 300;
+
+    @Value("${local.server.port}")
+    private int port;
+
+    @MockitoBean
+    private GetArticleUseCase getArticleUseCase;
+
+    @Test
+    @DisplayName("Should serve blocking requests faster on virtual threads than on a platform thread pool")
+    void shouldServeBlockingRequestsFasterThanPlatformThreads() throws Exception {
+        // given
+        when(getArticleUseCase.executeBySlug(anyString())).thenAnswer(invocation -> slowNotFound());
+
+        long platformMillis;
+        try (ConfigurableApplicationContext platformInstance = startPlatformThreadInstance()) {
+            int platformPort = platformInstance.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            platformMillis = runLoad(platformPort);
+        }
+
+        // when
+        long virtualMillis = runLoad(port);
+
+        // then - the baseline really was capped by the Tomcat threads, and virtual threads beat it
+        assertThat(platformMillis)
+                .as("platform baseline of %d requests on %d threads", CONCURRENT_REQUESTS, PLATFORM_THREADS)
+                .isGreaterThanOrEqualTo((long) CONCURRENT_REQUESTS / PLATFORM_THREADS * BLOCKING_MILLIS);
+        assertThat(virtualMillis)
+                .as("virtual threads took %d ms, platform threads %d ms", virtualMillis, platformMillis)
+                .isLessThan(platformMillis / 2);
+    }
+
+    /**
+     * Sends all requests at once and waits for the responses.
+     *
+     * @return elapsed time in milliseconds
+     */
+    private static long runLoad(int serverPort) throws Exception {
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient client = HttpClient.newBuilder()
+                    .executor(executor)
+                    .followRedirects(HttpClient.Redirect.NEVER)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+
+            long start = System.nanoTime();
+            List<CompletableFuture<HttpResponse<Void>>> responses = IntStream.range(0, CONCURRENT_REQUESTS)
+                    .mapToObj(i -> HttpRequest.newBuilder(URI.create("http://localhost:" + serverPort + "/blog/slow-" + i)).GET().build())
+                    .map(request -> client.sendAsync(request, HttpResponse.BodyHandlers.discarding()))
+                    .toList();
+            CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new)).join();
+            long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+            assertThat(responses)
+                    .allSatisfy(response -> assertThat(response.join().statusCode()).isEqualTo(302));
+            return elapsedMillis;
+        }
+    }
+
+    /**
+     * Starts a second instance on platform threads with the same slow article lookup.
+     * The lookup is registered directly, so no test configuration leaks into component scanning.
+     */
+    private static ConfigurableApplicationContext startPlatformThreadInstance() {
+        return new SpringApplicationBuilder(LexpageApplication.class)
+                .profiles("test")
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=" + POSTGRES_CONTAINER.getJdbcUrl(),
+                        "spring.datasource.username=" + POSTGRES_CONTAINER.getUsername(),
+                        "spring.datasource.password=" + POSTGRES_CONTAINER.getPassword(),
+                        "spring.liquibase.enabled=false",
+                        "spring.threads.virtual.enabled=false",
+                        "server.tomcat.threads.max=" + PLATFORM_THREADS,
+                        "server.tomcat.threads.min-spare=" + PLATFORM_THREADS
+                )
+                .initializers(context -> ((GenericApplicationContext) context).registerBean(
+                        "slowGetArticleUseCase", GetArticleUseCase.class, SlowGetArticleUseCase::new,
+                        definition -> definition.setPrimary(true)))
+                .run();
+    }
+
+    private static ArticleDetailDto slowNotFound() throws InterruptedException {
+        Thread.sleep(BLOCKING_MILLIS);
+        throw new ArticleNotFoundException("Article not found");
+    }
+
+    private static final class SlowGetArticleUseCase implements GetArticleUseCase {
+
+        @Override
+        public ArticleDetailDto execute(Long articleId) {
+            return executeBySlug(null);
+        }
+
+        @Override
+        public ArticleDetailDto executeBySlug(String slug) {
+            try {
+                return slowNotFound();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
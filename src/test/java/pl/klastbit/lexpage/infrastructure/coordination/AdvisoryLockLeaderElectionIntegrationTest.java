@@ -0,0 +1,100 @@
+package pl.klastbit.lexpage.infrastructure.coordination;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+import pl.klastbit.lexpage.AbstractIntegrationTest;
+import pl.klastbit.lexpage.LexpageApplication;
+
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test for AdvisoryLockLeaderElection.
+ * Runs a second application context against the same TestContainers PostgreSQL database
+ * and verifies that exactly one of them leads and that leadership fails over.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "app.coordination.lock-name=" + AdvisoryLockLeaderElectionIntegrationTest.LOCK_NAME,
+                "app.coordination.lease-renewal-interval=" + AdvisoryLockLeaderElectionIntegrationTest.RENEWAL_INTERVAL
+        }
+)
+@ActiveProfiles("test")
+@DisplayName("AdvisoryLockLeaderElection Integration Tests")
+class AdvisoryLockLeaderElectionIntegrationTest extends AbstractIntegrationTest {
+
+    // Own lock name, so cached contexts of other integration tests do not compete for leadership
+    static final String LOCK_NAME = "leader-election-it";
+    static final String RENEWAL_INTERVAL = "200ms";
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Autowired
+    private AdvisoryLockLeaderElection leaderElection;
+
+    @Test
+    @DisplayName("Should elect a single leader across two instances and fail over on shutdown")
+    void shouldElectSingleLeaderAndFailOver() {
+        // given
+        assertThat(leaderElection.isLeader()).isTrue();
+
+        try (ConfigurableApplicationContext secondInstance = startSecondInstance()) {
+            AdvisoryLockLeaderElection secondElection = secondInstance.getBean(AdvisoryLockLeaderElection.class);
+
+            // then - the lock is already held by the first instance
+            assertThat(secondElection.isLeader()).isFalse();
+
+            // when - the leader shuts down its election and releases the lock
+            leaderElection.stop();
+
+            // then - the second instance takes over within a few renewals
+            awaitTrue(secondElection::isLeader);
+            assertThat(leaderElection.isLeader()).isFalse();
+
+            // when - the first instance rejoins
+            leaderElection.start();
+
+            // then - it stays a follower while the second instance leads
+            assertThat(leaderElection.isLeader()).isFalse();
+            assertThat(secondElection.isLeader()).isTrue();
+        }
+
+        // and - leadership returns once the second instance is gone
+        awaitTrue(leaderElection::isLeader);
+    }
+
+    private static ConfigurableApplicationContext startSecondInstance() {
+        return new SpringApplicationBuilder(LexpageApplication.class)
+                .profiles("test")
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=" + POSTGRES_CONTAINER.getJdbcUrl(),
+                        "spring.datasource.username=" + POSTGRES_CONTAINER.getUsername(),
+                        "spring.datasource.password=" + POSTGRES_CONTAINER.getPassword(),
+                        "spring.liquibase.enabled=false",
+                        "app.coordination.lock-name=" + LOCK_NAME,
+                        "app.coordination.lease-renewal-interval=" + RENEWAL_INTERVAL
+                )
+                .run();
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met within %s", TIMEOUT).isLessThan(deadline);
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
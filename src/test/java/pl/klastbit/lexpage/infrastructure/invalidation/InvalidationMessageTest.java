@@ -0,0 +1,57 @@
+package pl.klastbit.lexpage.infrastructure.invalidation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import pl.klastbit.lexpage.application.article.event.ArticleChangedEvent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the invalidation notification payload format.
+ */
+@DisplayName("InvalidationMessage Tests")
+class InvalidationMessageTest {
+
+    @Test
+    @DisplayName("should round-trip renamed article change")
+    void shouldRoundTrip() {
+        ArticleChangedEvent event = new ArticleChangedEvent(42L, "new-slug", "old-slug", ArticleChangedEvent.ChangeType.UPDATED);
+
+        String payload = new InvalidationMessage("node-1", event).encode();
+
+        assertThat(payload).isEqualTo("node-1:42:UPDATED:new-slug:old-slug");
+        assertThat(InvalidationMessage.decode(payload)).contains(new InvalidationMessage("node-1", event));
+    }
+
+    @Test
+    @DisplayName("should round-trip missing previous slug")
+    void shouldRoundTripMissingPreviousSlug() {
+        ArticleChangedEvent event = new ArticleChangedEvent(7L, "slug", null, ArticleChangedEvent.ChangeType.DELETED);
+
+        assertThat(InvalidationMessage.decode(new InvalidationMessage("node-1", event).encode()))
+                .map(InvalidationMessage::event)
+                .contains(event);
+    }
+
+    @Test
+    @DisplayName("should round-trip bulk change")
+    void shouldRoundTripBulkChange() {
+        String payload = InvalidationMessage.all("node-1").encode();
+
+        assertThat(payload).isEqualTo("node-1:*");
+        assertThat(InvalidationMessage.decode(payload)).hasValueSatisfying(message -> {
+            assertThat(message.origin()).isEqualTo("node-1");
+            assertThat(message.isAll()).isTrue();
+        });
+    }
+
+    @Test
+    @DisplayName("should ignore malformed payloads")
+    void shouldIgnoreMalformedPayloads() {
+        assertThat(InvalidationMessage.decode("")).isEmpty();
+        assertThat(InvalidationMessage.decode("node-1:42")).isEmpty();
+        assertThat(InvalidationMessage.decode("node-1:42:UPDATED:slug")).isEmpty();
+        assertThat(InvalidationMessage.decode("node-1:abc:UPDATED:slug:slug")).isEmpty();
+        assertThat(InvalidationMessage.decode("node-1:42:RENAMED:slug:slug")).isEmpty();
+    }
+}
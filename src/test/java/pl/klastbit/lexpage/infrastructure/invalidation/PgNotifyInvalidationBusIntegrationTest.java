@@ -0,0 +1,124 @@
+package pl.klastbit.lexpage.infrastructure.invalidation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import pl.klastbit.lexpage.AbstractIntegrationTest;
+import pl.klastbit.lexpage.application.article.event.ArticleChangedEvent;
+import pl.klastbit.lexpage.infrastructure.config.CacheInvalidationProperties;
+import pl.klastbit.lexpage.infrastructure.web.thymeleaf.FragmentCache;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test for PgNotifyInvalidationBus.
+ * Sends a notification as another instance would and verifies that local caches are cleared.
+ */
+@SpringBootTest(properties = {
+        "app.cache-invalidation.heartbeat-interval=500ms",
+        "app.cache-invalidation.reconnect-delay=100ms"
+})
+@ActiveProfiles("test")
+@DisplayName("PgNotifyInvalidationBus Integration Tests")
+class PgNotifyInvalidationBusIntegrationTest extends AbstractIntegrationTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+    private static final String APPLICATION_NAME_SQL = "SELECT application_name FROM pg_stat_activity WHERE pid = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CacheInvalidationProperties properties;
+
+    @Autowired
+    private FragmentCache fragmentCache;
+
+    @Autowired
+    private RecordingCache recordingCache;
+
+    @Autowired
+    private PgNotifyInvalidationBus invalidationBus;
+
+    @Test
+    @DisplayName("Should clear local caches when another instance commits an article change")
+    void shouldInvalidateOnRemoteChange() throws InterruptedException {
+        // given
+        fragmentCache.put("related:1", "<ul></ul>");
+
+        // when
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> null,
+                properties.getChannel(), "other-instance:1:UPDATED:some-slug:some-slug");
+
+        // then
+        awaitTrue(() -> fragmentCache.get("related:1") == null);
+        assertThat(fragmentCache.get("related:1")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should clear all local caches after the listener connection was killed")
+    void shouldInvalidateAllAfterListenerReconnect() throws InterruptedException {
+        // given - the listener is connected outside the pool, under its own application name
+        awaitTrue(() -> invalidationBus.listenerBackendPid() != 0);
+        int killedPid = invalidationBus.listenerBackendPid();
+        assertThat(jdbcTemplate.queryForObject(APPLICATION_NAME_SQL, String.class, killedPid))
+                .isEqualTo(PgNotifyInvalidationBus.LISTENER_APPLICATION_NAME);
+        fragmentCache.put("related:2", "<ul></ul>");
+        int clearedBefore = recordingCache.clearedAll.get();
+
+        // when
+        jdbcTemplate.queryForObject("SELECT pg_terminate_backend(?)", Boolean.class, killedPid);
+
+        // then
+        awaitTrue(() -> recordingCache.clearedAll.get() > clearedBefore);
+        assertThat(fragmentCache.get("related:2")).isNull();
+        awaitTrue(() -> invalidationBus.listenerBackendPid() != 0);
+        assertThat(invalidationBus.listenerBackendPid()).isNotEqualTo(killedPid);
+
+        // and - notifications are received again on the new connection
+        fragmentCache.put("related:3", "<ul></ul>");
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> null,
+                properties.getChannel(), "other-instance:3:UPDATED:other-slug:other-slug");
+        awaitTrue(() -> fragmentCache.get("related:3") == null);
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(condition.getAsBoolean()).as("condition met within %s", TIMEOUT).isTrue();
+    }
+
+    @TestConfiguration
+    static class RecordingCacheConfiguration {
+
+        @Bean
+        RecordingCache recordingCache() {
+            return new RecordingCache();
+        }
+    }
+
+    static class RecordingCache implements InvalidatableCache {
+
+        private final AtomicInteger clearedAll = new AtomicInteger();
+
+        @Override
+        public void invalidate(ArticleChangedEvent event) {
+        }
+
+        @Override
+        public void invalidateAll() {
+            clearedAll.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package pl.klastbit.lexpage.infrastructure.web.bulkhead;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import pl.klastbit.lexpage.infrastructure.adapters.persistence.bulkhead.Bulkhead;
+import pl.klastbit.lexpage.infrastructure.adapters.persistence.bulkhead.BulkheadContext;
+import pl.klastbit.lexpage.infrastructure.config.BulkheadProperties;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BulkheadSelectionFilter Tests")
+class BulkheadSelectionFilterTest {
+
+    private BulkheadSelectionFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new BulkheadSelectionFilter(new BulkheadProperties());
+    }
+
+    @Test
+    @DisplayName("Should assign public pages to the public-read bulkhead")
+    void shouldAssignPublicPagesToPublicRead() {
+        assertThat(filter.resolve(get("/"))).isEqualTo(Bulkhead.PUBLIC_READ);
+        assertThat(filter.resolve(get("/blog/my-article"))).isEqualTo(Bulkhead.PUBLIC_READ);
+        assertThat(filter.resolve(get("/sitemap.xml"))).isEqualTo(Bulkhead.PUBLIC_READ);
+    }
+
+    @Test
+    @DisplayName("Should assign admin panel, login and API to the admin bulkhead")
+    void shouldAssignAdminPathsToAdmin() {
+        assertThat(filter.resolve(get("/admin"))).isEqualTo(Bulkhead.ADMIN);
+        assertThat(filter.resolve(get("/admin/blogs"))).isEqualTo(Bulkhead.ADMIN);
+        assertThat(filter.resolve(get("/login"))).isEqualTo(Bulkhead.ADMIN);
+        assertThat(filter.resolve(get("/api/articles/1"))).isEqualTo(Bulkhead.ADMIN);
+    }
+
+    @Test
+    @DisplayName("Should check background paths before admin paths")
+    void shouldPreferBackgroundPaths() {
+        assertThat(filter.resolve(get("/api/contact"))).isEqualTo(Bulkhead.BACKGROUND);
+        assertThat(filter.resolve(get("/api/articles/import"))).isEqualTo(Bulkhead.BACKGROUND);
+        assertThat(filter.resolve(get("/api/articles/export"))).isEqualTo(Bulkhead.BACKGROUND);
+    }
+
+    @Test
+    @DisplayName("Should ignore context path when resolving bulkhead")
+    void shouldIgnoreContextPath() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/app/admin/blogs");
+        request.setContextPath("/app");
+
+        // when
+        Bulkhead bulkhead = filter.resolve(request);
+
+        // then
+        assertThat(bulkhead).isEqualTo(Bulkhead.ADMIN);
+    }
+
+    @Test
+    @DisplayName("Should expose bulkhead during the request and reset it afterwards")
+    void shouldSetBulkheadForRequestOnly() throws Exception {
+        // given
+        MockHttpServletRequest request = get("/admin/blogs");
+        AtomicReference<Bulkhead> seen = new AtomicReference<>();
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> seen.set(BulkheadContext.current()));
+
+        // then
+        assertThat(seen.get()).isEqualTo(Bulkhead.ADMIN);
+        assertThat(BulkheadContext.current()).isEqualTo(Bulkhead.BACKGROUND);
+    }
+
+    private static MockHttpServletRequest get(String path) {
+        return new MockHttpServletRequest("GET", path);
+    }
+}
@@ -0,0 +1,124 @@
+package pl.klastbit.lexpage.infrastructure.web.cache;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import pl.klastbit.lexpage.infrastructure.config.PageCacheProperties;
+import pl.klastbit.lexpage.infrastructure.web.compression.ContentCompressor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RenderedPageCacheFilter Tests")
+class RenderedPageCacheFilterTest {
+
+    private static final byte[] PAGE = "<html><body>Blog</body></html>".getBytes(StandardCharsets.UTF_8);
+
+    private RenderedPageCacheFilter filter;
+    private final AtomicInteger renders = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        PageCacheProperties properties = new PageCacheProperties();
+        filter = new RenderedPageCacheFilter(new RenderedPageCache(properties, new ContentCompressor(properties)));
+    }
+
+    @Test
+    @DisplayName("Should render a page once and serve further requests from the cache")
+    void shouldServeRepeatedRequestsFromCache() throws Exception {
+        // when
+        MockHttpServletResponse first = execute(get(null), render());
+        MockHttpServletResponse second = execute(get(null), render());
+
+        // then
+        assertThat(renders).hasValue(1);
+        assertThat(first.getContentAsByteArray()).isEqualTo(PAGE);
+        assertThat(second.getContentAsByteArray()).isEqualTo(PAGE);
+        assertThat(second.getHeader(HttpHeaders.ETAG)).isEqualTo(first.getHeader(HttpHeaders.ETAG));
+        assertThat(second.getHeader(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+    }
+
+    @Test
+    @DisplayName("Should send a different ETag for each content encoding")
+    void shouldTagEachEncodingSeparately() throws Exception {
+        // when
+        MockHttpServletResponse identity = execute(get(null), render());
+        MockHttpServletResponse gzip = execute(get("gzip"), render());
+
+        // then
+        assertThat(gzip.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(identity.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(gzip.getHeader(HttpHeaders.ETAG))
+                .isNotEqualTo(identity.getHeader(HttpHeaders.ETAG))
+                .endsWith("-gzip\"");
+    }
+
+    @Test
+    @DisplayName("Should answer 304 only when the ETag of the negotiated encoding matches")
+    void shouldMatchEtagOfNegotiatedEncoding() throws Exception {
+        // given
+        String gzipEtag = execute(get("gzip"), render()).getHeader(HttpHeaders.ETAG);
+
+        // when
+        MockHttpServletRequest sameEncoding = get("gzip");
+        sameEncoding.addHeader(HttpHeaders.IF_NONE_MATCH, gzipEtag);
+        MockHttpServletResponse notModified = execute(sameEncoding, render());
+
+        MockHttpServletRequest otherEncoding = get(null);
+        otherEncoding.addHeader(HttpHeaders.IF_NONE_MATCH, gzipEtag);
+        MockHttpServletResponse modified = execute(otherEncoding, render());
+
+        // then
+        assertThat(notModified.getStatus()).isEqualTo(HttpServletResponse.SC_NOT_MODIFIED);
+        assertThat(notModified.getContentAsByteArray()).isEmpty();
+        assertThat(modified.getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+        assertThat(modified.getContentAsByteArray()).isEqualTo(PAGE);
+    }
+
+    @Test
+    @DisplayName("Should not cache a response that sets a cookie")
+    void shouldNotCacheResponseWithCookie() throws Exception {
+        // given
+        FilterChain renderWithCookie = (request, response) -> {
+            ((HttpServletResponse) response).addCookie(new Cookie("visitor", "1"));
+            render().doFilter(request, response);
+        };
+
+        // when
+        execute(get(null), renderWithCookie);
+        execute(get(null), renderWithCookie);
+
+        // then
+        assertThat(renders).hasValue(2);
+    }
+
+    private FilterChain render() {
+        return (request, response) -> {
+            renders.incrementAndGet();
+            response.setContentType("text/html;charset=UTF-8");
+            response.getOutputStream().write(PAGE);
+        };
+    }
+
+    private MockHttpServletResponse execute(MockHttpServletRequest request, FilterChain chain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private static MockHttpServletRequest get(String acceptEncoding) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/blog");
+        if (acceptEncoding != null) {
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,95 @@
+package pl.klastbit.lexpage.infrastructure.web.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import pl.klastbit.lexpage.infrastructure.config.PageCacheProperties;
+import pl.klastbit.lexpage.infrastructure.web.compression.ContentCompressor;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RenderedPageCache Tests")
+class RenderedPageCacheTest {
+
+    private static final String HTML = "text/html;charset=UTF-8";
+
+    private PageCacheProperties properties;
+    private RenderedPageCache cache;
+
+    @BeforeEach
+    void setUp() {
+        properties = new PageCacheProperties();
+        properties.setMaxEntries(2);
+        cache = new RenderedPageCache(properties, new ContentCompressor(properties));
+    }
+
+    @Test
+    @DisplayName("Should accept only cacheable page requests as keys")
+    void shouldBuildCacheKeys() {
+        assertThat(cache.cacheKey(get("/", null))).isEqualTo("/");
+        assertThat(cache.cacheKey(get("/blog/my-article", null))).isEqualTo("/blog/my-article");
+        assertThat(cache.cacheKey(get("/blog", "page=2"))).isEqualTo("/blog?page=2");
+        assertThat(cache.cacheKey(get("/blog", "utm_source=x"))).isNull();
+        assertThat(cache.cacheKey(get("/blog/my-article", "page=2"))).isNull();
+        assertThat(cache.cacheKey(get("/admin", null))).isNull();
+        assertThat(cache.cacheKey(new MockHttpServletRequest("POST", "/"))).isNull();
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used page when full")
+    void shouldEvictLeastRecentlyUsedPage() {
+        // given
+        cache.put("/a", HTML, body("a"), cache.currentGeneration());
+        cache.put("/b", HTML, body("b"), cache.currentGeneration());
+        cache.get("/a");
+
+        // when
+        cache.put("/c", HTML, body("c"), cache.currentGeneration());
+
+        // then
+        assertThat(cache.get("/a")).isNotNull();
+        assertThat(cache.get("/b")).isNull();
+        assertThat(cache.get("/c")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should not store a page rendered before an invalidation")
+    void shouldNotStoreStalePage() {
+        // given
+        long renderGeneration = cache.currentGeneration();
+        cache.put("/a", HTML, body("a"), renderGeneration);
+
+        // when
+        cache.invalidateAll();
+        CachedPage page = cache.put("/b", HTML, body("b"), renderGeneration);
+
+        // then
+        assertThat(page.content().identity()).isEqualTo(body("b"));
+        assertThat(cache.get("/a")).isNull();
+        assertThat(cache.get("/b")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should tag a page with a strong ETag of its body")
+    void shouldTagPageByContent() {
+        CachedPage first = cache.put("/a", HTML, body("a"), cache.currentGeneration());
+        CachedPage same = cache.put("/b", HTML, body("a"), cache.currentGeneration());
+        CachedPage other = cache.put("/c", HTML, body("c"), cache.currentGeneration());
+
+        assertThat(first.etag()).startsWith("\"").endsWith("\"").isEqualTo(same.etag());
+        assertThat(other.etag()).isNotEqualTo(first.etag());
+    }
+
+    private static MockHttpServletRequest get(String path, String query) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setQueryString(query);
+        return request;
+    }
+
+    private static byte[] body(String text) {
+        return ("<html>" + text + "</html>").getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,54 @@
+package pl.klastbit.lexpage.infrastructure.web.compression;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for Accept-Encoding negotiation.
+ */
+@DisplayName("ContentEncoding Tests")
+class ContentEncodingTest {
+
+    @Test
+    @DisplayName("should prefer brotli when client accepts it")
+    void shouldPreferBrotli() {
+        assertThat(ContentEncoding.negotiate("gzip, deflate, br, zstd", true)).isEqualTo(ContentEncoding.BROTLI);
+    }
+
+    @Test
+    @DisplayName("should fall back to gzip when brotli variant is not available")
+    void shouldFallBackToGzipWithoutBrotliVariant() {
+        assertThat(ContentEncoding.negotiate("gzip, br", false)).isEqualTo(ContentEncoding.GZIP);
+    }
+
+    @Test
+    @DisplayName("should respect q=0 as refusal")
+    void shouldRespectZeroQuality() {
+        assertThat(ContentEncoding.negotiate("br;q=0, gzip;q=0.5", true)).isEqualTo(ContentEncoding.GZIP);
+        assertThat(ContentEncoding.negotiate("gzip;q=0", true)).isEqualTo(ContentEncoding.IDENTITY);
+    }
+
+    @Test
+    @DisplayName("should accept any coding for wildcard")
+    void shouldAcceptWildcard() {
+        assertThat(ContentEncoding.negotiate("*", true)).isEqualTo(ContentEncoding.BROTLI);
+        assertThat(ContentEncoding.negotiate("*", false)).isEqualTo(ContentEncoding.GZIP);
+    }
+
+    @Test
+    @DisplayName("should use identity when header is missing")
+    void shouldUseIdentityWithoutHeader() {
+        assertThat(ContentEncoding.negotiate(null, true)).isEqualTo(ContentEncoding.IDENTITY);
+        assertThat(ContentEncoding.negotiate("", true)).isEqualTo(ContentEncoding.IDENTITY);
+    }
+
+    @Test
+    @DisplayName("should give every encoding its own entity tag")
+    void shouldDeriveEtagPerEncoding() {
+        assertThat(ContentEncoding.IDENTITY.etag("\"abc\"")).isEqualTo("\"abc\"");
+        assertThat(ContentEncoding.GZIP.etag("\"abc\"")).isEqualTo("\"abc-gzip\"");
+        assertThat(ContentEncoding.BROTLI.etag("\"abc\"")).isEqualTo("\"abc-br\"");
+    }
+}
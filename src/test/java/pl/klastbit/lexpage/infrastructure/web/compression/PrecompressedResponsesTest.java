@@ -0,0 +1,50 @@
+package pl.klastbit.lexpage.infrastructure.web.compression;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for responses built from precompressed content.
+ */
+@DisplayName("PrecompressedResponses Tests")
+class PrecompressedResponsesTest {
+
+    private static final PrecompressedContent CONTENT = new PrecompressedContent(
+            new byte[]{1}, new byte[]{2}, new byte[]{3}
+    );
+
+    @Test
+    @DisplayName("should tag each encoding's body with its own entity tag")
+    void shouldTagEachEncodingSeparately() {
+        assertThat(etag(respond("br"))).isEqualTo("\"abc-br\"");
+        assertThat(etag(respond("gzip"))).isEqualTo("\"abc-gzip\"");
+        assertThat(etag(respond(null))).isEqualTo("\"abc\"");
+    }
+
+    @Test
+    @DisplayName("should send the negotiated variant with its encoding")
+    void shouldSendNegotiatedVariant() {
+        ResponseEntity<byte[]> response = respond("gzip");
+
+        assertThat(response.getBody()).containsExactly(2);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(response.getHeaders().getVary()).containsExactly(HttpHeaders.ACCEPT_ENCODING);
+    }
+
+    private static ResponseEntity<byte[]> respond(String acceptEncoding) {
+        return PrecompressedResponses.of(CONTENT, acceptEncoding, MediaType.APPLICATION_XML,
+                CacheControl.noCache(), "\"abc\"", Instant.parse("2025-03-01T12:00:00Z"));
+    }
+
+    private static String etag(ResponseEntity<byte[]> response) {
+        return response.getHeaders().getETag();
+    }
+}
@@ -0,0 +1,122 @@
+package pl.klastbit.lexpage.infrastructure.web.export;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for StaticExportPlan.
+ * Tests selection of pages affected by article changes.
+ */
+@DisplayName("StaticExportPlan Tests")
+class StaticExportPlanTest {
+
+    private static final int PAGE_SIZE = 3;
+    private static final int RELATED = 1;
+
+    @Test
+    @DisplayName("should render only the article and its listing page when an old article is updated")
+    void shouldRenderOnlyUpdatedArticleAndItsPage() {
+        // given
+        List<String> order = slugs(9);
+
+        // when
+        StaticExportPlan plan = StaticExportPlan.incremental(order, order, Set.of("a7"), PAGE_SIZE, RELATED);
+
+        // then
+        assertThat(plan.homePage()).isFalse();
+        assertThat(plan.indexPages()).containsExactly(3);
+        assertThat(plan.articles()).containsExactly("a7");
+        assertThat(plan.obsoleteIndexPages()).isEmpty();
+        assertThat(plan.obsoleteArticles()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should render all listing pages and related neighbors when a new article is published")
+    void shouldRenderShiftedPagesOnPublish() {
+        // given
+        List<String> previous = slugs(6);
+        List<String> current = prepend("new", previous);
+
+        // when
+        StaticExportPlan plan = StaticExportPlan.incremental(previous, current, Set.of("new"), PAGE_SIZE, RELATED);
+
+        // then
+        assertThat(plan.indexPages()).containsExactly(1, 2, 3);
+        assertThat(plan.articles()).containsExactlyElementsOf(current);
+        assertThat(plan.obsoleteArticles()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should remove archived article and trailing listing page")
+    void shouldRemoveArchivedArticle() {
+        // given
+        List<String> previous = slugs(4);
+        List<String> current = List.of("a0", "a1", "a2");
+
+        // when
+        StaticExportPlan plan = StaticExportPlan.incremental(previous, current, Set.of("a3"), PAGE_SIZE, RELATED);
+
+        // then
+        assertThat(plan.indexPages()).isEmpty();
+        assertThat(plan.obsoleteIndexPages()).containsExactly(2);
+        assertThat(plan.articles()).isEmpty();
+        assertThat(plan.obsoleteArticles()).containsExactly("a3");
+    }
+
+    @Test
+    @DisplayName("should delete previous slug of a renamed article")
+    void shouldDeletePreviousSlugOfRenamedArticle() {
+        // given
+        List<String> previous = slugs(6);
+        List<String> current = List.of("a0", "a1", "a2", "a3", "renamed", "a5");
+
+        // when
+        StaticExportPlan plan = StaticExportPlan.incremental(
+                previous, current, Set.of("renamed", "a4"), PAGE_SIZE, RELATED);
+
+        // then
+        assertThat(plan.indexPages()).containsExactly(2);
+        assertThat(plan.articles()).containsExactly("renamed");
+        assertThat(plan.obsoleteArticles()).containsExactly("a4");
+    }
+
+    @Test
+    @DisplayName("should export everything and clean up leftovers in full plan")
+    void shouldExportEverythingInFullPlan() {
+        // when
+        StaticExportPlan plan = StaticExportPlan.full(slugs(4), Set.of("a1", "gone"), Set.of(1, 2, 5), PAGE_SIZE);
+
+        // then
+        assertThat(plan.homePage()).isTrue();
+        assertThat(plan.indexPages()).containsExactly(1, 2);
+        assertThat(plan.obsoleteIndexPages()).containsExactly(5);
+        assertThat(plan.articles()).containsExactly("a0", "a1", "a2", "a3");
+        assertThat(plan.obsoleteArticles()).containsExactly("gone");
+    }
+
+    @Test
+    @DisplayName("should keep first listing page when no article is published")
+    void shouldKeepFirstListingPageWithoutArticles() {
+        // when
+        StaticExportPlan plan = StaticExportPlan.incremental(List.of("a0"), List.of(), Set.of("a0"), PAGE_SIZE, RELATED);
+
+        // then
+        assertThat(plan.indexPages()).containsExactly(1);
+        assertThat(plan.obsoleteArticles()).containsExactly("a0");
+    }
+
+    private static List<String> slugs(int count) {
+        return IntStream.range(0, count).mapToObj(i -> "a" + i).toList();
+    }
+
+    private static List<String> prepend(String slug, List<String> slugs) {
+        return Stream.concat(Stream.of(slug), slugs.stream()).toList();
+    }
+}
@@ -0,0 +1,61 @@
+package pl.klastbit.lexpage.infrastructure.web.media;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for Range header parsing.
+ */
+@DisplayName("HttpByteRange Tests")
+class HttpByteRangeTest {
+
+    @Test
+    @DisplayName("should parse closed range")
+    void shouldParseClosedRange() {
+        HttpByteRange range = HttpByteRange.parse("bytes=0-99", 1000).orElseThrow();
+
+        assertThat(range).isEqualTo(new HttpByteRange(0, 99));
+        assertThat(range.length()).isEqualTo(100);
+        assertThat(range.contentRange(1000)).isEqualTo("bytes 0-99/1000");
+    }
+
+    @Test
+    @DisplayName("should parse open-ended range up to the last byte")
+    void shouldParseOpenEndedRange() {
+        assertThat(HttpByteRange.parse("bytes=900-", 1000)).contains(new HttpByteRange(900, 999));
+    }
+
+    @Test
+    @DisplayName("should parse suffix range")
+    void shouldParseSuffixRange() {
+        assertThat(HttpByteRange.parse("bytes=-100", 1000)).contains(new HttpByteRange(900, 999));
+        assertThat(HttpByteRange.parse("bytes=-5000", 1000)).contains(new HttpByteRange(0, 999));
+    }
+
+    @Test
+    @DisplayName("should clamp end beyond content length")
+    void shouldClampEnd() {
+        assertThat(HttpByteRange.parse("bytes=500-5000", 1000)).contains(new HttpByteRange(500, 999));
+    }
+
+    @Test
+    @DisplayName("should mark ranges outside the content as not satisfiable")
+    void shouldDetectUnsatisfiableRange() {
+        assertThat(HttpByteRange.parse("bytes=1000-", 1000).orElseThrow().isSatisfiable()).isFalse();
+        assertThat(HttpByteRange.parse("bytes=-0", 1000).orElseThrow().isSatisfiable()).isFalse();
+        assertThat(HttpByteRange.parse("bytes=0-10", 0).orElseThrow().isSatisfiable()).isFalse();
+        assertThat(HttpByteRange.unsatisfiedContentRange(1000)).isEqualTo("bytes */1000");
+    }
+
+    @Test
+    @DisplayName("should ignore missing, malformed and multi-range headers")
+    void shouldIgnoreUnsupportedHeaders() {
+        assertThat(HttpByteRange.parse(null, 1000)).isEmpty();
+        assertThat(HttpByteRange.parse("items=0-10", 1000)).isEmpty();
+        assertThat(HttpByteRange.parse("bytes=abc", 1000)).isEmpty();
+        assertThat(HttpByteRange.parse("bytes=10-5", 1000)).isEmpty();
+        assertThat(HttpByteRange.parse("bytes=0-10,20-30", 1000)).isEmpty();
+    }
+}
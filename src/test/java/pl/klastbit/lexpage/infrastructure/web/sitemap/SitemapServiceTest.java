@@ -0,0 +1,147 @@
+package pl.klastbit.lexpage.infrastructure.web.sitemap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import pl.klastbit.lexpage.application.article.dto.PublishedArticleRef;
+import pl.klastbit.lexpage.application.article.dto.PublishedArticlesSummary;
+import pl.klastbit.lexpage.application.article.event.ArticleChangedEvent;
+import pl.klastbit.lexpage.application.ports.PublishedArticleCatalog;
+import pl.klastbit.lexpage.infrastructure.config.PageCacheProperties;
+import pl.klastbit.lexpage.infrastructure.config.SiteProperties;
+import pl.klastbit.lexpage.infrastructure.web.compression.ContentCompressor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for SitemapService.
+ * Tests document layout and caching of documents and the article count.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SitemapService Tests")
+class SitemapServiceTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2024, 3, 15, 10, 30);
+
+    @Mock
+    private PublishedArticleCatalog publishedArticleCatalog;
+
+    private SitemapService sitemapService;
+
+    @BeforeEach
+    void setUp() {
+        sitemapService = new SitemapService(
+                publishedArticleCatalog, new ContentCompressor(new PageCacheProperties()), new SiteProperties());
+    }
+
+    @Test
+    @DisplayName("should list the pages sitemap and one entry per article shard in the index")
+    void shouldListShardsInIndex() {
+        // given
+        when(publishedArticleCatalog.summary())
+                .thenReturn(new PublishedArticlesSummary(SitemapService.URLS_PER_SHARD + 1L, UPDATED_AT));
+
+        // when
+        String index = text(sitemapService.index().identity());
+
+        // then
+        assertThat(index)
+                .contains("<loc>http://localhost:8080/sitemap-pages.xml</loc>")
+                .contains("<loc>http://localhost:8080/sitemap-articles-1.xml</loc>")
+                .contains("<loc>http://localhost:8080/sitemap-articles-2.xml</loc>")
+                .doesNotContain("sitemap-articles-3.xml")
+                .contains("<lastmod>2024-03-15T10:30:00");
+    }
+
+    @Test
+    @DisplayName("should serve a cached shard without counting articles again")
+    void shouldServeCachedShardWithoutQueries() {
+        // given
+        when(publishedArticleCatalog.summary()).thenReturn(new PublishedArticlesSummary(1, UPDATED_AT));
+        streamArticle("umowa-najmu");
+
+        // when
+        String first = text(sitemapService.articleShard(1).orElseThrow().identity());
+        String second = text(sitemapService.articleShard(1).orElseThrow().identity());
+
+        // then
+        assertThat(first).isEqualTo(second).contains("<loc>http://localhost:8080/blog/umowa-najmu</loc>");
+        verify(publishedArticleCatalog, times(1)).summary();
+        verify(publishedArticleCatalog, times(1)).forEachPublished(anyLong(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("should reject shards beyond the article count using the cached count")
+    void shouldRejectMissingShardsFromCachedCount() {
+        // given
+        when(publishedArticleCatalog.summary()).thenReturn(new PublishedArticlesSummary(1, UPDATED_AT));
+
+        // when & then
+        assertThat(sitemapService.articleShard(0)).isEmpty();
+        assertThat(sitemapService.articleShard(2)).isEmpty();
+        assertThat(sitemapService.articleShard(3)).isEmpty();
+        sitemapService.index();
+        verify(publishedArticleCatalog, times(1)).summary();
+    }
+
+    @Test
+    @DisplayName("should count articles again after a published article changed")
+    void shouldRefreshCountAfterInvalidation() {
+        // given
+        when(publishedArticleCatalog.summary())
+                .thenReturn(new PublishedArticlesSummary(0, null))
+                .thenReturn(new PublishedArticlesSummary(1, UPDATED_AT));
+        streamArticle("umowa-najmu");
+        assertThat(sitemapService.articleShard(1)).isEmpty();
+
+        // when
+        sitemapService.invalidate(new ArticleChangedEvent(1L, "umowa-najmu", "umowa-najmu",
+                ArticleChangedEvent.ChangeType.PUBLISHED));
+
+        // then
+        assertThat(sitemapService.articleShard(1)).isPresent();
+        verify(publishedArticleCatalog, times(2)).summary();
+    }
+
+    @Test
+    @DisplayName("should keep the cache when a draft is created")
+    void shouldIgnoreDraftCreation() {
+        // given
+        when(publishedArticleCatalog.summary()).thenReturn(new PublishedArticlesSummary(0, null));
+        sitemapService.index();
+
+        // when
+        sitemapService.invalidate(new ArticleChangedEvent(2L, "draft", "draft",
+                ArticleChangedEvent.ChangeType.CREATED));
+        sitemapService.index();
+
+        // then
+        verify(publishedArticleCatalog, times(1)).summary();
+    }
+
+    private void streamArticle(String slug) {
+        doAnswer(invocation -> {
+            Consumer<PublishedArticleRef> consumer = invocation.getArgument(2);
+            consumer.accept(new PublishedArticleRef(slug, UPDATED_AT));
+            return null;
+        }).when(publishedArticleCatalog).forEachPublished(anyLong(), anyInt(), any());
+    }
+
+    private static String text(byte[] content) {
+        return new String(content, StandardCharsets.UTF_8);
+    }
+}